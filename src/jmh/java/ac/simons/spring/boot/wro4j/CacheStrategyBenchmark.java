@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Measures reads and writes of the available cache strategies under contention. The
+ * {@code springPerCall} strategy resolves the Spring cache on every call as the
+ * {@link SpringCacheStrategy} did before it held the cache, as a baseline for the latter.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class CacheStrategyBenchmark {
+
+	private static final int NUMBER_OF_GROUPS = 64;
+
+	@Param({ "lru", "weighted", "spring", "springPerCall", "tiered" })
+	public String strategy;
+
+	private CacheStrategy<CacheKey, CacheValue> cacheStrategy;
+
+	private final CacheKey[] keys = new CacheKey[NUMBER_OF_GROUPS];
+
+	private final CacheValue[] values = new CacheValue[NUMBER_OF_GROUPS];
+
+	@Setup
+	public void setup() {
+		this.cacheStrategy = switch (this.strategy) {
+			case "lru" -> new LruMemoryCacheStrategy<>();
+			case "weighted" -> new WeightedMemoryCacheStrategy(64L * 1024 * 1024, true);
+			case "spring" -> new SpringCacheStrategy<>(new ConcurrentMapCacheManager(), "wro4j");
+			case "springPerCall" -> new PerCallSpringCacheStrategy(new ConcurrentMapCacheManager(), "wro4j");
+			case "tiered" -> new TieredCacheStrategy(new WeightedMemoryCacheStrategy(16L * 1024 * 1024, true),
+					new SpringCacheStrategy<>(new ConcurrentMapCacheManager(), "wro4j"));
+			default -> throw new IllegalArgumentException("Unknown strategy " + this.strategy);
+		};
+
+		// Same as the starters default, the gzipped content is computed with the value
+		final WroConfiguration wroConfiguration = new WroConfiguration();
+		wroConfiguration.setCacheGzippedContent(true);
+		CacheWarmer.withContext(wroConfiguration, () -> {
+			for (int i = 0; i < NUMBER_OF_GROUPS; ++i) {
+				this.keys[i] = new CacheKey("group" + i, (i % 2 == 0) ? ResourceType.JS : ResourceType.CSS, true);
+				this.values[i] = CacheValue.valueOf("var group" + i + " = 1;".repeat(1000), "hash" + i);
+				this.cacheStrategy.put(this.keys[i], this.values[i]);
+			}
+			return null;
+		});
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.cacheStrategy.destroy();
+	}
+
+	@Benchmark
+	public CacheValue get(Cursor cursor) {
+		return this.cacheStrategy.get(this.keys[cursor.next()]);
+	}
+
+	@Benchmark
+	public void put(Cursor cursor) {
+		final int i = cursor.next();
+		this.cacheStrategy.put(this.keys[i], this.values[i]);
+	}
+
+	/**
+	 * Looks up the cache through the cache manager and passes it to a lambda on every
+	 * call.
+	 */
+	static class PerCallSpringCacheStrategy implements CacheStrategy<CacheKey, CacheValue> {
+
+		private final CacheManager cacheManager;
+
+		private final String cacheName;
+
+		PerCallSpringCacheStrategy(CacheManager cacheManager, String cacheName) {
+			this.cacheManager = cacheManager;
+			this.cacheName = cacheName;
+		}
+
+		@Override
+		public void put(CacheKey key, CacheValue value) {
+			doWithCache(cache -> {
+				cache.put(key, value);
+				return null;
+			});
+		}
+
+		@Override
+		public CacheValue get(CacheKey key) {
+			return (CacheValue) doWithCache(cache -> {
+				Cache.ValueWrapper w = cache.get(key);
+				return (w != null) ? w.get() : null;
+			});
+		}
+
+		@Override
+		public void clear() {
+			doWithCache(cache -> {
+				cache.clear();
+				return null;
+			});
+		}
+
+		@Override
+		public void destroy() {
+			clear();
+		}
+
+		private Object doWithCache(Function<Cache, Object> consumer) {
+			Cache cache = this.cacheManager.getCache(this.cacheName);
+			if (cache == null) {
+				return null;
+			}
+			return consumer.apply(cache);
+		}
+
+	}
+
+	/**
+	 * Walks through the keys per thread.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int position;
+
+		int next() {
+			this.position = (this.position + 1) % NUMBER_OF_GROUPS;
+			return this.position;
+		}
+
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ro.isdc.wro.http.ConfigurableWroFilter;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.factory.WroModelFactory;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Measures serving a large cached group through the Wro4j filter, either as Wro4j does
+ * or from direct buffers in front of it. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per request.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class OffHeapServingBenchmark {
+
+	@Param({ "heap", "offHeap" })
+	public String serving;
+
+	@Param({ "identity", "gzip" })
+	public String encoding;
+
+	@Param({ "1048576" })
+	public int size;
+
+	private Path directory;
+
+	private ConfigurableApplicationContext context;
+
+	private ConfigurableWroFilter wroFilter;
+
+	private Filter filter;
+
+	@Setup
+	public void setup() throws IOException, ServletException {
+		this.directory = Files.createTempDirectory("wro4j-benchmark");
+		final StringBuilder content = new StringBuilder(this.size);
+		for (int i = 0; content.length() < this.size; ++i) {
+			content.append("var v").append(i).append(" = 'value").append(i).append("';\n");
+		}
+		final Path file = Files.writeString(this.directory.resolve("large.js"), content);
+		final WroModelFactory wroModelFactory = new WroModelFactory() {
+			@Override
+			public WroModel create() {
+				return new WroModel()
+					.addGroup(new Group("large").addResource(Resource.create(file.toUri().toString(), ResourceType.JS)));
+			}
+
+			@Override
+			public void destroy() {
+			}
+		};
+
+		this.context = new SpringApplicationBuilder(Wro4jAutoConfiguration.class).web(WebApplicationType.NONE)
+			.logStartupInfo(false)
+			.initializers(ctx -> ctx.getBeanFactory().registerSingleton("wroModelFactory", wroModelFactory))
+			.run("--wro4j.debug=false", "--wro4j.minimizeEnabled=false",
+					"--wro4j.offHeap.enabled=" + "offHeap".equals(this.serving));
+		this.wroFilter = this.context.getBean(ConfigurableWroFilter.class);
+		this.wroFilter.init(new MockFilterConfig(new MockServletContext(), "wro4jFilter"));
+		this.filter = "offHeap".equals(this.serving) ? this.context
+			.getBean("offHeapContentFilterRegistration", FilterRegistrationBean.class)
+			.getFilter() : this.wroFilter;
+		serve();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.wroFilter.destroy();
+		this.context.close();
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse serve() throws IOException, ServletException {
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/wro4j/large.js");
+		if ("gzip".equals(this.encoding)) {
+			request.addHeader("Accept-Encoding", "gzip");
+		}
+		final MockHttpServletResponse response = new DiscardingResponse();
+		this.filter.doFilter(request, response,
+				(filteredRequest, filteredResponse) -> this.wroFilter.doFilter(filteredRequest, filteredResponse,
+						new MockFilterChain()));
+		return response;
+	}
+
+	/**
+	 * A response discarding its content, so that only the allocations of serving it are
+	 * measured.
+	 */
+	static class DiscardingResponse extends MockHttpServletResponse {
+
+		private final ServletOutputStream outputStream = new ServletOutputStream() {
+			@Override
+			public void write(int b) {
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+			}
+		};
+
+		@Override
+		public ServletOutputStream getOutputStream() {
+			return this.outputStream;
+		}
+
+	}
+
+}
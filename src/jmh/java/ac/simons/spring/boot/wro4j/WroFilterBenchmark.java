@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ro.isdc.wro.http.ConfigurableWroFilter;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+
+/**
+ * Measures serving a cached group end-to-end through the auto configured
+ * {@link ConfigurableWroFilter} on a mock servlet stack.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class WroFilterBenchmark {
+
+	@Param({ "identity", "gzip", "notModified" })
+	public String variant;
+
+	private ConfigurableApplicationContext context;
+
+	private ConfigurableWroFilter wroFilter;
+
+	private String etag;
+
+	@Setup
+	public void setup() throws IOException, ServletException {
+		this.context = new SpringApplicationBuilder(Wro4jAutoConfiguration.class).web(WebApplicationType.NONE)
+			.logStartupInfo(false)
+			.run("--wro4j.model=/groups.xml", "--wro4j.debug=false");
+		this.wroFilter = this.context.getBean(ConfigurableWroFilter.class);
+		this.wroFilter.init(new MockFilterConfig(new MockServletContext(), "wro4jFilter"));
+		this.etag = serve().getHeader("ETag");
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.wroFilter.destroy();
+		this.context.close();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse serve() throws IOException, ServletException {
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/wro4j/app.js");
+		if ("gzip".equals(this.variant)) {
+			request.addHeader("Accept-Encoding", "gzip");
+		}
+		else if ("notModified".equals(this.variant) && this.etag != null) {
+			request.addHeader("If-None-Match", this.etag);
+		}
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+		this.wroFilter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+
+}
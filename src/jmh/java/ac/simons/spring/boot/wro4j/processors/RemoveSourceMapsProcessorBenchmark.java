@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j.processors;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link RemoveSourceMapsProcessor} on large vendor bundles,
+ * either minified into a few very long lines or formatted with many short lines.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RemoveSourceMapsProcessorBenchmark {
+
+	private static final int BUNDLE_SIZE = 4 * 1024 * 1024;
+
+	@Param({ "minified", "formatted", "css" })
+	public String bundle;
+
+	private String content;
+
+	private final RemoveSourceMapsProcessor processor = new RemoveSourceMapsProcessor();
+
+	@Setup
+	public void setup() {
+		final StringBuilder builder = new StringBuilder(BUNDLE_SIZE + 1024);
+		switch (this.bundle) {
+			case "minified" -> {
+				builder.append("/*! vendor v1.0.0 | (c) vendor | MIT License */\n");
+				while (builder.length() < BUNDLE_SIZE) {
+					builder.append("!function(e,t){\"use strict\";var n=e.document,r=[];function i(o){return r.push(o),n}")
+						.append("t.exports=i}(window,module);");
+				}
+				builder.append("\n//# sourceMappingURL=vendor.min.map\n");
+			}
+			case "formatted" -> {
+				while (builder.length() < BUNDLE_SIZE) {
+					builder.append("function vendor(element) {\n")
+						.append("  // Registers the element\n")
+						.append("  return registry.push(element);\n")
+						.append("}\n")
+						.append("/* sourceMappingURL is only recognized at the start of a line */\n");
+				}
+				builder.append("//# sourceMappingURL=vendor.map\n");
+			}
+			default -> {
+				while (builder.length() < BUNDLE_SIZE) {
+					builder.append(".vendor{margin:0;padding:0;color:#333}.vendor a{color:#0366d6}\n");
+				}
+				builder.append("/*# sourceMappingURL=vendor.css.map */\n");
+			}
+		}
+		this.content = builder.toString();
+	}
+
+	@Benchmark
+	public StringWriter process() throws IOException {
+		final StringWriter writer = new StringWriter(this.content.length());
+		this.processor.process(null, new StringReader(this.content), writer);
+		return writer;
+	}
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.group.processor.GroupsProcessor;
+import ro.isdc.wro.model.resource.support.hash.HashStrategy;
+
+import org.springframework.core.log.LogAccessor;
+
+/**
+ * A cache strategy that processes missing groups itself and limits the number of groups
+ * processed at the same time, so that a burst of requests against a cold cache does not
+ * keep all request threads busy in the processors.
+ * <p>
+ * A request that finds all permits taken is served the last value seen for its key, if
+ * that value is still softly reachable. The last values are dropped when they are
+ * collected or evicted from the in memory store, so that they are bounded by the store
+ * and the available memory. Otherwise a request waits for a permit as long as the queue
+ * of waiting requests is not full, but not longer than the configured maximum. Requests
+ * that cannot be admitted fail with a {@link ProcessingRejectedException}. The groups
+ * processor and the hash strategy are injected by Wro4j, as long as they are not
+ * available, loading is left to Wro4j.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class AdmissionCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private static final LogAccessor LOGGER = new LogAccessor(
+			LogFactory.getLog(AdmissionCacheStrategy.class.getName()));
+
+	@Inject
+	private GroupsProcessor groupsProcessor;
+
+	@Inject
+	private HashStrategy hashStrategy;
+
+	private final int maxConcurrency;
+
+	private final int maxQueued;
+
+	private final Duration maxWait;
+
+	private final Duration retryAfter;
+
+	private final Semaphore permits;
+
+	private final AtomicInteger queued = new AtomicInteger();
+
+	/**
+	 * The last value seen for each key, kept after the cache has been cleared.
+	 */
+	private final ConcurrentMap<CacheKey, StaleValue> staleValues = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<CacheValue> collectedValues = new ReferenceQueue<>();
+
+	private final LongAdder rejected = new LongAdder();
+
+	private final LongAdder stale = new LongAdder();
+
+	/**
+	 * Creates a new cache strategy.
+	 * @param cacheStrategy the strategy to decorate
+	 * @param maxConcurrency the maximum number of groups processed at the same time
+	 * @param maxQueued the maximum number of requests waiting for a permit
+	 * @param maxWait the maximum time a request waits for a permit
+	 * @param retryAfter the time after which rejected requests should be retried
+	 */
+	AdmissionCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, int maxConcurrency, int maxQueued,
+			Duration maxWait, Duration retryAfter) {
+		super(cacheStrategy);
+		this.maxConcurrency = maxConcurrency;
+		this.maxQueued = maxQueued;
+		this.maxWait = maxWait;
+		this.retryAfter = retryAfter;
+		this.permits = new Semaphore(maxConcurrency, true);
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		final CacheValue value = super.get(key);
+		if (value != null) {
+			remember(key, value);
+			return value;
+		}
+		return (this.groupsProcessor != null) ? admit(key) : null;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		super.put(key, value);
+		if (value != null) {
+			remember(key, value);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.staleValues.clear();
+	}
+
+	/**
+	 * Processes the group of the given key as soon as a permit is available.
+	 * @param key the key to process
+	 * @return the processed value or a stale value if no permit is available right away
+	 */
+	private CacheValue admit(CacheKey key) {
+		if (!this.permits.tryAcquire()) {
+			final StaleValue staleValue = this.staleValues.get(key);
+			final CacheValue value = (staleValue != null) ? staleValue.get() : null;
+			if (value != null) {
+				this.stale.increment();
+				return value;
+			}
+			awaitPermit(key);
+		}
+		try {
+			// Another request might have processed the group while waiting for a permit
+			CacheValue value = super.get(key);
+			if (value == null) {
+				value = load(key);
+				super.put(key, value);
+			}
+			remember(key, value);
+			return value;
+		}
+		finally {
+			this.permits.release();
+		}
+	}
+
+	private void awaitPermit(CacheKey key) {
+		if (this.queued.incrementAndGet() > this.maxQueued) {
+			this.queued.decrementAndGet();
+			throw reject(key);
+		}
+		try {
+			if (!this.permits.tryAcquire(this.maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw reject(key);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw reject(key);
+		}
+		finally {
+			this.queued.decrementAndGet();
+		}
+	}
+
+	private ProcessingRejectedException reject(CacheKey key) {
+		this.rejected.increment();
+		LOGGER.debug(() -> String.format("Rejecting processing of group '%s' (%s), %d groups are being processed",
+				key.getGroupName(), key.getType(), getActiveCount()));
+		return new ProcessingRejectedException(key, this.retryAfter);
+	}
+
+	/**
+	 * Drops the last value of a key evicted from the store, unless the key has already
+	 * been put again.
+	 * @param key the evicted key
+	 * @param value the evicted value
+	 */
+	void evicted(CacheKey key, CacheValue value) {
+		this.staleValues.computeIfPresent(key, (k, staleValue) -> {
+			final CacheValue current = staleValue.get();
+			return (current == null || Objects.equals(current.getHash(), value.getHash())) ? null : staleValue;
+		});
+	}
+
+	private void remember(CacheKey key, CacheValue value) {
+		expungeCollectedValues();
+		final StaleValue staleValue = this.staleValues.get(key);
+		if (staleValue == null || staleValue.get() != value) {
+			this.staleValues.put(key, new StaleValue(key, value, this.collectedValues));
+		}
+	}
+
+	private void expungeCollectedValues() {
+		Reference<? extends CacheValue> reference;
+		while ((reference = this.collectedValues.poll()) != null) {
+			final StaleValue staleValue = (StaleValue) reference;
+			this.staleValues.remove(staleValue.key, staleValue);
+		}
+	}
+
+	private CacheValue load(CacheKey key) {
+		return CacheWarmer.load(this.groupsProcessor, this.hashStrategy, key);
+	}
+
+	/**
+	 * Returns the number of groups currently processed by this strategy.
+	 * @return the number of taken permits
+	 */
+	int getActiveCount() {
+		return this.maxConcurrency - this.permits.availablePermits();
+	}
+
+	/**
+	 * Returns the number of requests currently waiting for a permit.
+	 * @return the number of queued requests
+	 */
+	int getQueuedCount() {
+		return this.queued.get();
+	}
+
+	/**
+	 * Returns the number of requests that have been rejected.
+	 * @return the number of rejected requests
+	 */
+	long getRejectedCount() {
+		return this.rejected.sum();
+	}
+
+	/**
+	 * Returns the number of requests that have been served a stale value instead of
+	 * waiting for a permit.
+	 * @return the number of stale values served
+	 */
+	long getStaleCount() {
+		return this.stale.sum();
+	}
+
+	/**
+	 * A softly reachable value, remembering its key so that it can be removed once the
+	 * value has been collected.
+	 */
+	private static final class StaleValue extends SoftReference<CacheValue> {
+
+		private final CacheKey key;
+
+		StaleValue(CacheKey key, CacheValue value, ReferenceQueue<CacheValue> queue) {
+			super(value, queue);
+			this.key = key;
+		}
+
+	}
+
+}
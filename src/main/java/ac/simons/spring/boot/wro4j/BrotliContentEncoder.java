@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+/**
+ * Encodes content with Brotli through the native library bundled with Brotli4j.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class BrotliContentEncoder implements ContentEncoder {
+
+	private final Encoder.Parameters parameters;
+
+	/**
+	 * Creates a new encoder, failing if the native library is not available on this
+	 * platform.
+	 * @param quality the compression quality between 0 and 11
+	 */
+	BrotliContentEncoder(int quality) {
+		Brotli4jLoader.ensureAvailability();
+		this.parameters = new Encoder.Parameters().setQuality(quality).setMode(Encoder.Mode.TEXT);
+	}
+
+	@Override
+	public String getName() {
+		return "br";
+	}
+
+	@Override
+	public byte[] encode(byte[] content) throws IOException {
+		return Encoder.compress(content, this.parameters);
+	}
+
+}
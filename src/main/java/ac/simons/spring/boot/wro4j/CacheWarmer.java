@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.group.processor.GroupsProcessor;
+import ro.isdc.wro.model.group.processor.Injector;
+import ro.isdc.wro.model.group.processor.InjectorBuilder;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.support.hash.HashStrategy;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Processes all groups of the model ahead of the first request and thus fills the cache
+ * strategy used by the Wro4j filter. The warm-up runs when the application is ready but
+ * before it reports to accept traffic.
+ * <p>
+ * Each group is processed in a context bound to a request for the group, so that urls in
+ * stylesheets are rewritten as if the group had been requested from the Wro4j filter.
+ * Groups that cannot be processed that way are skipped and processed on their first
+ * request as before.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class CacheWarmer implements ApplicationListener<ApplicationReadyEvent> {
+
+	private static final LogAccessor LOGGER = new LogAccessor(LogFactory.getLog(CacheWarmer.class.getName()));
+
+	private final WroManagerFactory wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final GroupRequests groupRequests;
+
+	private final int parallelism;
+
+	CacheWarmer(WroManagerFactory wroManagerFactory, WroConfiguration wroConfiguration, GroupRequests groupRequests,
+			int parallelism) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.groupRequests = groupRequests;
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		warmUp();
+	}
+
+	/**
+	 * Processes all groups of the model for every resource type they contain.
+	 * @return the time it took to process each successfully warmed up cache key
+	 */
+	Map<CacheKey, Duration> warmUp() {
+
+		final WroManager wroManager = withContext(this.wroManagerFactory::create);
+		final List<CacheKey> cacheKeys = withContext(
+				() -> getCacheKeys(wroManager.getModelFactory().create(), this.wroConfiguration.isMinimizeEnabled()));
+		if (cacheKeys.isEmpty()) {
+			return Map.of();
+		}
+
+		final long start = System.nanoTime();
+		final ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.parallelism, cacheKeys.size()),
+				new CustomizableThreadFactory("wro4j-warmup-"));
+		try {
+			final Map<CacheKey, Future<Duration>> futures = new LinkedHashMap<>();
+			for (CacheKey cacheKey : cacheKeys) {
+				futures.put(cacheKey, executor.submit(() -> this.groupRequests.withContext(this.wroConfiguration,
+						cacheKey, () -> process(wroManager, cacheKey))));
+			}
+			final Map<CacheKey, Duration> result = new LinkedHashMap<>();
+			for (Map.Entry<CacheKey, Future<Duration>> entry : futures.entrySet()) {
+				try {
+					final Duration duration = entry.getValue().get();
+					LOGGER.info(() -> String.format("Warmed up group '%s' (%s) in %dms", entry.getKey().getGroupName(),
+							entry.getKey().getType(), duration.toMillis()));
+					result.put(entry.getKey(), duration);
+				}
+				catch (ExecutionException ex) {
+					LOGGER.warn(ex.getCause(), () -> String.format("Could not warm up group '%s' (%s)",
+							entry.getKey().getGroupName(), entry.getKey().getType()));
+				}
+			}
+			LOGGER.info(() -> String.format("Warmed up %d of %d cache entries in %dms", result.size(), cacheKeys.size(),
+					Duration.ofNanos(System.nanoTime() - start).toMillis()));
+			return result;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return Map.of();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Computes the cache keys of all groups for every resource type they contain.
+	 * @param model the model containing the groups
+	 * @param minimize the minimize flag of the keys
+	 * @return a list of cache keys
+	 */
+	static List<CacheKey> getCacheKeys(WroModel model, boolean minimize) {
+		final List<CacheKey> cacheKeys = new ArrayList<>();
+		for (Group group : model.getGroups()) {
+			for (ResourceType type : ResourceType.values()) {
+				if (group.hasResourcesOfType(type)) {
+					cacheKeys.add(new CacheKey(group.getName(), type, minimize));
+				}
+			}
+		}
+		return cacheKeys;
+	}
+
+	/**
+	 * Processes a single group through the managers synchronized cache strategy, which
+	 * loads and stores missing values. The gzipped content is computed with the value
+	 * when the configuration caches gzipped content.
+	 * @param wroManager the manager to use
+	 * @param cacheKey the key to process
+	 * @return the time it took to process the group
+	 */
+	private static Duration process(WroManager wroManager, CacheKey cacheKey) {
+		final long start = System.nanoTime();
+		wroManager.getCacheStrategy().get(cacheKey);
+		return Duration.ofNanos(System.nanoTime() - start);
+	}
+
+	/**
+	 * Processes a single group next to the managers synchronized cache strategy and puts
+	 * the result into it. Unlike a lookup through that strategy, this doesn't block
+	 * requests for the group while it is processed, they are served the current value
+	 * until the new one has been put. Must be called inside a context.
+	 * @param wroManagerFactory the manager factory to use
+	 * @param cacheKey the key to process
+	 */
+	static void recompute(WroManagerFactory wroManagerFactory, CacheKey cacheKey) {
+		final WroManager wroManager = wroManagerFactory.create();
+		final GroupsProcessor groupsProcessor = new GroupsProcessor();
+		final Injector injector = InjectorBuilder.create(wroManagerFactory).build();
+		injector.inject(groupsProcessor);
+		PreprocessingExecutorService.apply(wroManager.getCacheStrategy(), injector);
+		wroManager.getCacheStrategy().put(cacheKey, load(groupsProcessor, wroManager.getHashStrategy(), cacheKey));
+	}
+
+	/**
+	 * Processes a single group into a cache value the same way the synchronized cache
+	 * strategy of Wro4j does. The content is hashed with the default charset like Wro4j
+	 * hashes it, so that the hash doesn't depend on who loaded the value.
+	 * @param groupsProcessor the processor to use
+	 * @param hashStrategy the strategy to compute the hash with
+	 * @param cacheKey the key to process
+	 * @return the processed value
+	 */
+	static CacheValue load(GroupsProcessor groupsProcessor, HashStrategy hashStrategy, CacheKey cacheKey) {
+		final String content = groupsProcessor.process(cacheKey);
+		try {
+			return CacheValue.valueOf(content,
+					hashStrategy.getHash(new ByteArrayInputStream(content.getBytes(Charset.defaultCharset()))));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Evicts all cache keys of the given groups, in the same way the resource watcher of
+	 * Wro4j does.
+	 * @param cacheStrategy the cache strategy to evict the groups from
+	 * @param groups the names of the groups to evict
+	 */
+	static void evict(CacheStrategy<CacheKey, CacheValue> cacheStrategy, Collection<String> groups) {
+		for (String group : groups) {
+			for (ResourceType type : ResourceType.values()) {
+				cacheStrategy.put(new CacheKey(group, type, true), null);
+				cacheStrategy.put(new CacheKey(group, type, false), null);
+			}
+		}
+	}
+
+	private <T> T withContext(Supplier<T> supplier) {
+		return withContext(this.wroConfiguration, supplier);
+	}
+
+	/**
+	 * Runs the given supplier inside a standalone Wro4j context.
+	 * @param <T> type of the result
+	 * @param wroConfiguration the configuration of the context
+	 * @param supplier the supplier to run
+	 * @return the result of the supplier
+	 */
+	static <T> T withContext(WroConfiguration wroConfiguration, Supplier<T> supplier) {
+		Context.set(Context.standaloneContext(), wroConfiguration);
+		try {
+			return supplier.get();
+		}
+		finally {
+			Context.unset();
+		}
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.support.HttpHeader;
+import ro.isdc.wro.http.support.ResponseHeadersConfigurer;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * A filter in front of the Wro4j filter, serving groups from the cache with the best
+ * content encoding accepted by the client. Requests for groups that are not cached or not
+ * encoded yet, and requests preferring gzip or no encoding at all are passed on to the
+ * Wro4j filter.
+ * <p>
+ * Every encoding gets its own strong {@code ETag}, derived from the hash of the content.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class CachedContentFilter implements Filter {
+
+	private static final String WILDCARD = "*";
+
+	private final ObjectProvider<WroManagerFactory> wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final ContentEncodings contentEncodings;
+
+	CachedContentFilter(ObjectProvider<WroManagerFactory> wroManagerFactory, WroConfiguration wroConfiguration,
+			ContentEncodings contentEncodings) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.contentEncodings = contentEncodings;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		final CachedContent cachedContent = (request instanceof HttpServletRequest httpServletRequest
+				&& "GET".equals(httpServletRequest.getMethod()))
+						? getCachedContent(httpServletRequest,
+								httpServletRequest.getHeader(HttpHeader.ACCEPT_ENCODING.toString()))
+						: null;
+		if (cachedContent == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+		serve((HttpServletRequest) request, (HttpServletResponse) response, cachedContent);
+	}
+
+	/**
+	 * Looks up the content to serve for the given request.
+	 * @param request the current request
+	 * @param acceptEncoding the encodings accepted by the client
+	 * @return the content to serve or {@literal null} if the request should be handled by
+	 * Wro4j
+	 */
+	private CachedContent getCachedContent(HttpServletRequest request, String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return null;
+		}
+		return CacheWarmer.withContext(this.wroConfiguration, () -> {
+			final WroManager wroManager = this.wroManagerFactory.getObject().create();
+			final CacheKey cacheKey = wroManager.getCacheKeyFactory().create(request);
+			// Don't ask the cache for keys that have never been encoded, so that misses
+			// are only recorded once by Wro4j
+			if (cacheKey == null || this.contentEncodings.getEncodedContent(cacheKey) == null) {
+				return null;
+			}
+			final CacheValue value = wroManager.getCacheStrategy().get(cacheKey);
+			final EncodingCacheStrategy.EncodedContent encodedContent = this.contentEncodings
+				.getEncodedContent(cacheKey);
+			if (value == null || encodedContent == null || !Objects.equals(value.getHash(), encodedContent.hash())) {
+				return null;
+			}
+			final String encoding = negotiate(acceptEncoding, encodedContent.variants().keySet());
+			return (encoding != null)
+					? new CachedContent(cacheKey, value.getHash(), encoding, encodedContent.variants().get(encoding))
+					: null;
+		});
+	}
+
+	private void serve(HttpServletRequest request, HttpServletResponse response, CachedContent cachedContent)
+			throws IOException {
+		ResponseHeadersConfigurer.fromConfig(this.wroConfiguration).setHeaders(response);
+		response.setHeader(HttpHeader.VARY.toString(), HttpHeader.ACCEPT_ENCODING.toString());
+		final String etag = String.format("\"%s-%s\"", cachedContent.hash(), cachedContent.encoding());
+		response.setHeader(HttpHeader.ETAG.toString(), etag);
+		if (etag.equals(request.getHeader(HttpHeader.IF_NONE_MATCH.toString()))) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		response.setContentType(cachedContent.cacheKey().getType().getContentType() + ";charset="
+				+ this.wroConfiguration.getEncoding());
+		response.setHeader(HttpHeader.CONTENT_ENCODING.toString(), cachedContent.encoding());
+		response.setContentLength(cachedContent.content().length);
+		response.getOutputStream().write(cachedContent.content());
+	}
+
+	/**
+	 * Picks the encoding with the highest quality value accepted by the client, ties are
+	 * broken by the order of the available encodings. No encoding is picked if the client
+	 * explicitly prefers an encoding that is not available, for example gzip.
+	 * @param acceptEncoding the value of the {@code Accept-Encoding} header
+	 * @param available the available encodings in order of preference
+	 * @return the encoding to use or {@literal null} if none of the available encodings
+	 * should be used
+	 */
+	static String negotiate(String acceptEncoding, Set<String> available) {
+		final Map<String, Double> accepted = new HashMap<>();
+		for (String token : acceptEncoding.split(",")) {
+			final String[] parts = token.split(";");
+			final String name = parts[0].trim().toLowerCase(Locale.ROOT);
+			if (name.isEmpty()) {
+				continue;
+			}
+			double quality = 1.0;
+			for (int i = 1; i < parts.length; ++i) {
+				final String parameter = parts[i].trim();
+				if (parameter.startsWith("q=")) {
+					try {
+						quality = Double.parseDouble(parameter.substring(2));
+					}
+					catch (NumberFormatException ex) {
+						quality = 0.0;
+					}
+				}
+			}
+			accepted.put(name, quality);
+		}
+
+		String rv = null;
+		double best = 0.0;
+		for (String encoding : available) {
+			final double quality = accepted.getOrDefault(encoding, accepted.getOrDefault(WILDCARD, 0.0));
+			if (quality > best) {
+				rv = encoding;
+				best = quality;
+			}
+		}
+		for (Map.Entry<String, Double> entry : accepted.entrySet()) {
+			if (!available.contains(entry.getKey()) && !WILDCARD.equals(entry.getKey()) && entry.getValue() > best) {
+				return null;
+			}
+		}
+		return rv;
+	}
+
+	private record CachedContent(CacheKey cacheKey, String hash, String encoding, byte[] content) {
+	}
+
+}
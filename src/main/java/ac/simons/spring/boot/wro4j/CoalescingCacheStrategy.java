@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.group.processor.GroupsProcessor;
+import ro.isdc.wro.model.resource.support.hash.HashStrategy;
+
+import org.springframework.core.log.LogAccessor;
+
+/**
+ * A cache strategy that processes missing groups itself and lets exactly one thread
+ * process a given cache key, while all other threads asking for the same key wait for the
+ * result. Threads that waited longer than the configured timeout process the group on
+ * their own.
+ * <p>
+ * Wro4j only serializes the processing of a key inside one manager instance and without
+ * any bound on the time waited. The groups processor and the hash strategy are injected
+ * by Wro4j, as long as they are not available, loading is left to Wro4j.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class CoalescingCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private static final LogAccessor LOGGER = new LogAccessor(
+			LogFactory.getLog(CoalescingCacheStrategy.class.getName()));
+
+	@Inject
+	private GroupsProcessor groupsProcessor;
+
+	@Inject
+	private HashStrategy hashStrategy;
+
+	private final Duration timeout;
+
+	private final ConcurrentMap<CacheKey, CompletableFuture<CacheValue>> inFlight = new ConcurrentHashMap<>();
+
+	private final LongAdder loads = new LongAdder();
+
+	private final LongAdder coalesced = new LongAdder();
+
+	private final LongAdder timeouts = new LongAdder();
+
+	CoalescingCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, Duration timeout) {
+		super(cacheStrategy);
+		this.timeout = timeout;
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		final CacheValue value = super.get(key);
+		if (value != null || this.groupsProcessor == null) {
+			return value;
+		}
+
+		final CompletableFuture<CacheValue> flight = new CompletableFuture<>();
+		final CompletableFuture<CacheValue> existingFlight = this.inFlight.putIfAbsent(key, flight);
+		return (existingFlight != null) ? await(key, existingFlight) : lead(key, flight);
+	}
+
+	/**
+	 * Processes the group of the given key and completes the flight other threads are
+	 * waiting on.
+	 * @param key the key to process
+	 * @param flight the flight owned by the current thread
+	 * @return the processed value
+	 */
+	private CacheValue lead(CacheKey key, CompletableFuture<CacheValue> flight) {
+		try {
+			// Another leader might have finished between the first lookup and taking the
+			// lead
+			CacheValue value = super.get(key);
+			if (value == null) {
+				value = load(key);
+				super.put(key, value);
+			}
+			flight.complete(value);
+			return value;
+		}
+		catch (RuntimeException | Error ex) {
+			flight.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * Waits for the given flight or processes the group on its own if waiting takes too
+	 * long.
+	 * @param key the key to process
+	 * @param flight the flight of the leading thread
+	 * @return the processed value or {@literal null} if the current thread has been
+	 * interrupted while waiting
+	 */
+	private CacheValue await(CacheKey key, CompletableFuture<CacheValue> flight) {
+		try {
+			final CacheValue value = flight.get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+			this.coalesced.increment();
+			return value;
+		}
+		catch (TimeoutException ex) {
+			this.timeouts.increment();
+			LOGGER.warn(() -> String.format("Group '%s' (%s) has not been processed within %dms, processing it again",
+					key.getGroupName(), key.getType(), this.timeout.toMillis()));
+			return load(key);
+		}
+		catch (ExecutionException ex) {
+			throw (ex.getCause() instanceof RuntimeException runtimeException) ? runtimeException
+					: new WroRuntimeException("Could not process group " + key.getGroupName(), ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	private CacheValue load(CacheKey key) {
+		this.loads.increment();
+		return CacheWarmer.load(this.groupsProcessor, this.hashStrategy, key);
+	}
+
+	/**
+	 * Returns the number of times a group has been processed by this strategy.
+	 * @return the number of loads
+	 */
+	long getLoadCount() {
+		return this.loads.sum();
+	}
+
+	/**
+	 * Returns the number of requests that have been served by waiting for another thread.
+	 * @return the number of coalesced requests
+	 */
+	long getCoalescedCount() {
+		return this.coalesced.sum();
+	}
+
+	/**
+	 * Returns the number of requests that gave up waiting for another thread.
+	 * @return the number of timed out requests
+	 */
+	long getTimeoutCount() {
+		return this.timeouts.sum();
+	}
+
+}
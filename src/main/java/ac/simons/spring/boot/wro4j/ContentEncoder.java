@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+
+/**
+ * A content encoding as negotiated through the {@code Accept-Encoding} header, used to
+ * compress the content of groups once after they have been processed. Beans of this type
+ * are picked up when {@code wro4j.content-encoding.enabled} is set and their name is
+ * listed in {@code wro4j.content-encoding.encodings}.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+public interface ContentEncoder {
+
+	/**
+	 * Returns the name of the encoding as used in the {@code Content-Encoding} header.
+	 * @return the name of this encoding, for example {@code br}
+	 */
+	String getName();
+
+	/**
+	 * Encodes the given content.
+	 * @param content the content to encode
+	 * @return the encoded content
+	 * @throws IOException if the content cannot be encoded
+	 */
+	byte[] encode(byte[] content) throws IOException;
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.List;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+
+/**
+ * The content encodings used in addition to gzip, in order of preference. Encoded content
+ * is only available for the cache strategy of the auto-configured manager factory.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ContentEncodings {
+
+	private final List<ContentEncoder> encoders;
+
+	private volatile EncodingCacheStrategy encodingCacheStrategy;
+
+	ContentEncodings(List<ContentEncoder> encoders) {
+		this.encoders = List.copyOf(encoders);
+	}
+
+	/**
+	 * Decorates a cache strategy so that all of its values are encoded with the
+	 * configured encodings.
+	 * @param cacheStrategy the cache strategy to decorate
+	 * @return the decorated cache strategy
+	 */
+	CacheStrategy<CacheKey, CacheValue> decorate(CacheStrategy<CacheKey, CacheValue> cacheStrategy) {
+		this.encodingCacheStrategy = new EncodingCacheStrategy(cacheStrategy, this.encoders);
+		return this.encodingCacheStrategy;
+	}
+
+	/**
+	 * Returns the configured encoders in order of preference.
+	 * @return the configured encoders
+	 */
+	List<ContentEncoder> getEncoders() {
+		return this.encoders;
+	}
+
+	/**
+	 * Forgets the encoded content of a value evicted from the underlying store.
+	 * @param key the evicted key
+	 * @param value the evicted value
+	 * @see EncodingCacheStrategy#evicted(CacheKey, CacheValue)
+	 */
+	void evicted(CacheKey key, CacheValue value) {
+		final EncodingCacheStrategy cacheStrategy = this.encodingCacheStrategy;
+		if (cacheStrategy != null) {
+			cacheStrategy.evicted(key, value);
+		}
+	}
+
+	/**
+	 * Returns the encoded content of the given key.
+	 * @param key the key to look up
+	 * @return the encoded content or {@literal null} if the key has not been encoded yet
+	 * @see EncodingCacheStrategy#getEncodedContent(CacheKey)
+	 */
+	EncodingCacheStrategy.EncodedContent getEncodedContent(CacheKey key) {
+		final EncodingCacheStrategy cacheStrategy = this.encodingCacheStrategy;
+		return (cacheStrategy != null) ? cacheStrategy.getEncodedContent(key) : null;
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+
+/**
+ * A cache strategy storing values with identical content only once in the decorated
+ * strategy. Values are addressed by their hash: a value put with the hash and the content
+ * of a value already stored for another key is replaced by the stored value, so that all
+ * keys refer to the same instance. Keys referring to a value are counted, the value is
+ * forgotten as soon as no key refers to it anymore.
+ * <p>
+ * Values are only referenced weakly, so that values evicted by the decorated strategy can
+ * be collected. Those keys are only released when they are missed the next time, until
+ * then they are still counted.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class DeduplicatingCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private final boolean cacheGzippedContent;
+
+	/**
+	 * Stored contents by hash, guarded by this strategy.
+	 */
+	private final Map<String, Content> contents = new HashMap<>();
+
+	/**
+	 * The content each key refers to, modified only while holding the lock of this
+	 * strategy.
+	 */
+	private final ConcurrentMap<CacheKey, Content> references = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new cache strategy.
+	 * @param cacheStrategy the strategy to decorate
+	 * @param cacheGzippedContent whether the gzipped content is kept with each value
+	 */
+	DeduplicatingCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, boolean cacheGzippedContent) {
+		super(cacheStrategy);
+		this.cacheGzippedContent = cacheGzippedContent;
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		final CacheValue value = super.get(key);
+		if (value == null && this.references.containsKey(key)) {
+			synchronized (this) {
+				release(key);
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		super.put(key, deduplicate(key, value));
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		synchronized (this) {
+			this.contents.clear();
+			this.references.clear();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		synchronized (this) {
+			this.contents.clear();
+			this.references.clear();
+		}
+	}
+
+	/**
+	 * Computes the statistics of the contents stored right now.
+	 * @return the current statistics
+	 */
+	synchronized Statistics getStatistics() {
+		int keys = 0;
+		long savedBytes = 0;
+		for (Content content : this.contents.values()) {
+			keys += content.keys.size();
+			savedBytes += (long) (content.keys.size() - 1) * content.weight;
+		}
+		return new Statistics(this.contents.size(), keys, savedBytes);
+	}
+
+	private synchronized CacheValue deduplicate(CacheKey key, CacheValue value) {
+		release(key);
+		if (value == null || value.getHash() == null) {
+			return value;
+		}
+		Content content = this.contents.get(value.getHash());
+		final CacheValue stored = (content != null) ? content.value.get() : null;
+		CacheValue rv = value;
+		if (stored == null) {
+			content = new Content(value.getHash(), new WeakReference<>(value),
+					WeightedMemoryCacheStrategy.weigh(value, this.cacheGzippedContent));
+			this.contents.put(content.hash, content);
+		}
+		else if (hasSameContent(stored, value)) {
+			rv = stored;
+		}
+		else {
+			// Same hash, but different content: Not deduplicated
+			return value;
+		}
+		content.keys.add(key);
+		this.references.put(key, content);
+		return rv;
+	}
+
+	private void release(CacheKey key) {
+		final Content content = this.references.remove(key);
+		if (content != null) {
+			content.keys.remove(key);
+			if (content.keys.isEmpty()) {
+				this.contents.remove(content.hash, content);
+			}
+		}
+	}
+
+	private static boolean hasSameContent(CacheValue stored, CacheValue value) {
+		if (stored.getRawContent() != null || value.getRawContent() != null) {
+			return Objects.equals(stored.getRawContent(), value.getRawContent());
+		}
+		// Both are stored with their gzipped content only
+		return Arrays.equals(stored.getGzippedContent(), value.getGzippedContent());
+	}
+
+	/**
+	 * Statistics of the deduplicated contents.
+	 *
+	 * @param contents the number of distinct contents stored
+	 * @param keys the number of keys referring to those contents
+	 * @param savedBytes the size of the contents not stored again for further keys
+	 */
+	record Statistics(int contents, int keys, long savedBytes) {
+	}
+
+	private static final class Content {
+
+		private final String hash;
+
+		private final WeakReference<CacheValue> value;
+
+		private final int weight;
+
+		private final Set<CacheKey> keys = new HashSet<>();
+
+		Content(String hash, WeakReference<CacheValue> value, int weight) {
+			this.hash = hash;
+			this.value = value;
+			this.weight = weight;
+		}
+
+	}
+
+}
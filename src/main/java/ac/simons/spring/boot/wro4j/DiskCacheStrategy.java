@@ -0,0 +1,433 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.WroModelInspector;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.processor.ResourcePostProcessor;
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.util.AbstractDecorator;
+
+import org.springframework.core.log.LogAccessor;
+
+/**
+ * A cache strategy keeping processed groups in a directory, so that they survive a
+ * restart of the application. Values missing in the decorated strategy are read from the
+ * directory and put into the decorated strategy.
+ * <p>
+ * The content of a group is stored in a file named by the hash of the content, so that
+ * groups with the same content share a file. An index file per cache key points to the
+ * content together with a fingerprint of everything the content has been computed from:
+ * the resources of the group and their content, the names of all processors, the
+ * encoding, the settings of Wro4j affecting processing and the configuration of the
+ * processors. Stored content is only served when the fingerprint computed on a miss still
+ * matches, otherwise the group is processed again. The fingerprint is computed once per
+ * request, even if Wro4j looks up a missing group several times. Files imported by a
+ * stylesheet are not part of the fingerprint unless they are part of the model
+ * themselves.
+ * <p>
+ * Resources referenced through proxy urls in stylesheets read from the directory are
+ * authorized again, as their authorization by the {@code CssUrlRewritingProcessor} does
+ * not survive a restart.
+ * <p>
+ * A content file is deleted as soon as no index file points to it anymore, content files
+ * left over by other instances or earlier runs are deleted on startup. An instance
+ * referring to a content file deleted by another instance sharing the directory processes
+ * the group again and writes the file anew.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class DiskCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private static final LogAccessor LOGGER = new LogAccessor(LogFactory.getLog(DiskCacheStrategy.class.getName()));
+
+	/**
+	 * Part of every fingerprint, to be changed when the layout of the directory changes.
+	 */
+	private static final String FORMAT = "1";
+
+	private static final String CONTENT = "content";
+
+	private static final String INDEX = "index";
+
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+	private final Path directory;
+
+	private final WroManagerFactory wroManagerFactory;
+
+	/**
+	 * Settings the processed content depends on, which are not available through Wro4j.
+	 */
+	private final Map<String, String> settings;
+
+	/**
+	 * The fingerprint computed on the last miss of the current thread, which is stored
+	 * with the value computed afterwards.
+	 */
+	private final ThreadLocal<Fingerprint> fingerprint = new ThreadLocal<>();
+
+	/**
+	 * Creates a new cache strategy.
+	 * @param cacheStrategy the strategy to decorate
+	 * @param directory the directory to store the groups in, created if necessary
+	 * @param wroManagerFactory the manager factory used to compute the fingerprints
+	 * @param settings further settings the processed content depends on, for example the
+	 * configuration of the processors
+	 */
+	DiskCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, Path directory,
+			WroManagerFactory wroManagerFactory, Map<String, String> settings) {
+		super(cacheStrategy);
+		this.directory = directory.toAbsolutePath().normalize();
+		this.wroManagerFactory = wroManagerFactory;
+		this.settings = new TreeMap<>(settings);
+		try {
+			Files.createDirectories(this.directory.resolve(CONTENT));
+			Files.createDirectories(this.directory.resolve(INDEX));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Could not create cache directory " + this.directory, ex);
+		}
+		deleteUnreferencedContents();
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		CacheValue value = super.get(key);
+		if (value != null || !Context.isContextSet()) {
+			return value;
+		}
+
+		// Wro4j looks up a missing key a second time before loading it, the resources are
+		// read only once per request
+		if (getFingerprint(key) != null) {
+			return null;
+		}
+		final String currentFingerprint = computeFingerprint(key);
+		if (currentFingerprint == null) {
+			return null;
+		}
+		value = load(key, currentFingerprint);
+		if (value != null) {
+			super.put(key, value);
+		}
+		else {
+			this.fingerprint.set(new Fingerprint(Context.getCorrelationId(), key, currentFingerprint));
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		super.put(key, value);
+		if (value == null) {
+			final Path indexFile = getIndexFile(key);
+			final String contentFile = getContentFile(indexFile);
+			delete(indexFile);
+			release(contentFile);
+			return;
+		}
+
+		final Fingerprint current = getFingerprint(key);
+		this.fingerprint.remove();
+		String valueFingerprint = null;
+		if (current != null) {
+			valueFingerprint = current.value();
+		}
+		else if (Context.isContextSet()) {
+			valueFingerprint = computeFingerprint(key);
+		}
+		if (valueFingerprint != null) {
+			store(key, value, valueFingerprint);
+		}
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.fingerprint.remove();
+		for (String subdirectory : List.of(INDEX, CONTENT)) {
+			try (Stream<Path> files = Files.list(this.directory.resolve(subdirectory))) {
+				files.forEach(DiskCacheStrategy::delete);
+			}
+			catch (IOException ex) {
+				LOGGER.warn(ex, () -> String.format("Could not clear cache directory '%s'", this.directory));
+			}
+		}
+	}
+
+	/**
+	 * Returns the fingerprint computed on a miss of the given key during the current
+	 * request.
+	 * @param key the key that has been missed
+	 * @return the fingerprint or {@literal null} if the key has not been missed during
+	 * the current request
+	 */
+	private Fingerprint getFingerprint(CacheKey key) {
+		final Fingerprint current = this.fingerprint.get();
+		return (current != null && current.key().equals(key) && Context.isContextSet()
+				&& current.correlationId().equals(Context.getCorrelationId())) ? current : null;
+	}
+
+	/**
+	 * Computes the fingerprint of everything the content of a group is computed from.
+	 * @param key the cache key of the group
+	 * @return the fingerprint or {@literal null} if it cannot be computed, for example
+	 * because a resource is missing
+	 */
+	String computeFingerprint(CacheKey key) {
+		try {
+			final WroManager wroManager = this.wroManagerFactory.create();
+			final Group group = new WroModelInspector(wroManager.getModelFactory().create())
+				.getGroupByName(key.getGroupName());
+			if (group == null) {
+				return null;
+			}
+
+			final MessageDigest digest = newDigest();
+			final WroConfiguration config = Context.get().getConfig();
+			update(digest, FORMAT, key.getType().name(), String.valueOf(key.isMinimize()), config.getEncoding(),
+					String.valueOf(config.isIgnoreMissingResources()), String.valueOf(config.isIgnoreEmptyGroup()),
+					String.valueOf(config.isIgnoreFailingProcessor()));
+			for (Map.Entry<String, String> setting : this.settings.entrySet()) {
+				update(digest, "setting", setting.getKey(), setting.getValue());
+			}
+			for (ResourcePreProcessor processor : wroManager.getProcessorsFactory().getPreProcessors()) {
+				update(digest, "pre", getName(processor));
+			}
+			for (ResourcePostProcessor processor : wroManager.getProcessorsFactory().getPostProcessors()) {
+				update(digest, "post", getName(processor));
+			}
+			for (Resource resource : group.collectResourcesOfType(key.getType()).getResources()) {
+				update(digest, resource.getUri(), String.valueOf(resource.isMinimize()));
+				try (InputStream in = new DigestInputStream(wroManager.getUriLocatorFactory().locate(resource.getUri()),
+						digest)) {
+					in.transferTo(OutputStream.nullOutputStream());
+				}
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		}
+		catch (IOException | RuntimeException ex) {
+			LOGGER.debug(ex, () -> String.format("Could not compute fingerprint of group '%s' (%s)", key.getGroupName(),
+					key.getType()));
+			return null;
+		}
+	}
+
+	private CacheValue load(CacheKey key, String currentFingerprint) {
+		final Path indexFile = getIndexFile(key);
+		try {
+			final List<String> index = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+			if (index.size() != 3 || !index.get(0).equals(currentFingerprint)) {
+				return null;
+			}
+			final Charset charset = Charset.forName(Context.get().getConfig().getEncoding());
+			final String content = new String(Files.readAllBytes(this.directory.resolve(CONTENT).resolve(index.get(2))),
+					charset);
+			if (key.getType() == ResourceType.CSS) {
+				ProxyResources.authorize(this.wroManagerFactory.create().getResourceAuthorizationManager(), content);
+			}
+			LOGGER.debug(() -> String.format("Serving group '%s' (%s) from '%s'", key.getGroupName(), key.getType(),
+					this.directory));
+			return CacheValue.valueOf(content, index.get(1));
+		}
+		catch (NoSuchFileException ex) {
+			return null;
+		}
+		catch (IOException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not read group '%s' (%s) from '%s'", key.getGroupName(),
+					key.getType(), this.directory));
+			return null;
+		}
+	}
+
+	private void store(CacheKey key, CacheValue value, String valueFingerprint) {
+		final Charset charset = Charset.forName(Context.get().getConfig().getEncoding());
+		final byte[] content = value.getRawContent().getBytes(charset);
+		final String contentFile = HexFormat.of().formatHex(newDigest().digest(content));
+		try {
+			final Path contentPath = this.directory.resolve(CONTENT).resolve(contentFile);
+			if (!Files.exists(contentPath)) {
+				write(contentPath, content);
+			}
+			final Path indexFile = getIndexFile(key);
+			final String previousContentFile = getContentFile(indexFile);
+			write(indexFile,
+					String.join("\n", valueFingerprint, value.getHash(), contentFile).getBytes(StandardCharsets.UTF_8));
+			if (!contentFile.equals(previousContentFile)) {
+				release(previousContentFile);
+			}
+		}
+		catch (IOException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not write group '%s' (%s) to '%s'", key.getGroupName(),
+					key.getType(), this.directory));
+		}
+	}
+
+	/**
+	 * Deletes a content file if no index file points to it anymore.
+	 * @param contentFile the name of the content file, may be {@literal null}
+	 */
+	private void release(String contentFile) {
+		if (contentFile != null) {
+			deleteUnreferencedContents(contentFile);
+		}
+	}
+
+	/**
+	 * Deletes the given content files, or all content files if none are given, no index
+	 * file points to.
+	 * @param contentFiles the names of the content files to check
+	 */
+	private void deleteUnreferencedContents(String... contentFiles) {
+		final Path contentDirectory = this.directory.resolve(CONTENT);
+		try (Stream<Path> files = (contentFiles.length != 0) ? Stream.of(contentFiles).map(contentDirectory::resolve)
+				: Files.list(contentDirectory)) {
+			final Set<String> referencedContents = getReferencedContents();
+			files.filter(file -> !isTempFile(file) && !referencedContents.contains(file.getFileName().toString()))
+				.forEach(DiskCacheStrategy::delete);
+		}
+		catch (IOException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not clean up cache directory '%s'", this.directory));
+		}
+	}
+
+	private Set<String> getReferencedContents() throws IOException {
+		try (Stream<Path> files = Files.list(this.directory.resolve(INDEX))) {
+			return files.filter(file -> !isTempFile(file))
+				.map(DiskCacheStrategy::getContentFile)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		}
+	}
+
+	/**
+	 * Reads the name of the content file an index file points to.
+	 * @param indexFile the index file
+	 * @return the name of the content file or {@literal null} if the index file doesn't
+	 * exist or cannot be read
+	 */
+	private static String getContentFile(Path indexFile) {
+		try {
+			final List<String> index = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+			return (index.size() == 3) ? index.get(2) : null;
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Files being written by this or another instance sharing the directory.
+	 * @param file the file to check
+	 * @return {@literal true} if the file is not written completely yet
+	 */
+	private static boolean isTempFile(Path file) {
+		return file.getFileName().toString().endsWith(TEMP_FILE_SUFFIX);
+	}
+
+	/**
+	 * Writes a file atomically, so that concurrent readers and other instances sharing
+	 * the directory never see partial content.
+	 * @param target the file to write
+	 * @param content the content to write
+	 * @throws IOException if the file cannot be written
+	 */
+	private static void write(Path target, byte[] content) throws IOException {
+		final Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), TEMP_FILE_SUFFIX);
+		try {
+			Files.write(temp, content);
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		}
+		catch (IOException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not delete '%s'", file));
+		}
+	}
+
+	private Path getIndexFile(CacheKey key) {
+		final MessageDigest digest = newDigest();
+		update(digest, key.getGroupName(), key.getType().name(), String.valueOf(key.isMinimize()));
+		return this.directory.resolve(INDEX).resolve(HexFormat.of().formatHex(digest.digest()));
+	}
+
+	private static String getName(Object processor) {
+		return AbstractDecorator.getOriginalDecoratedObject(processor).getClass().getName();
+	}
+
+	private static void update(MessageDigest digest, String... values) {
+		for (String value : values) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			// Every implementation of the Java platform is required to support SHA-256
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private record Fingerprint(String correlationId, CacheKey key, String value) {
+	}
+
+}
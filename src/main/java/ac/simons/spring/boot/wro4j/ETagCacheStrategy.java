@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+
+/**
+ * A cache strategy computing the entity tags of every value when it is read or put. The
+ * tags are derived from the hash Wro4j computes while processing a group, so the content
+ * is not read again. Besides the tag Wro4j uses for plain and gzipped content, there is
+ * one tag for every additional content encoding of the value.
+ * <p>
+ * Tags are forgotten when their value is missed, {@link #evicted(CacheKey, CacheValue)
+ * evicted from the store} or the cache is cleared. Values put into a shared cache by
+ * other instances are only noticed when they are read through this strategy.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ETagCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private final ContentEncodings contentEncodings;
+
+	private final ConcurrentMap<CacheKey, Tags> tags = new ConcurrentHashMap<>();
+
+	ETagCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, ContentEncodings contentEncodings) {
+		super(cacheStrategy);
+		this.contentEncodings = contentEncodings;
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		final CacheValue value = super.get(key);
+		if (value == null) {
+			this.tags.remove(key);
+		}
+		else {
+			remember(key, value, false);
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		if (value == null) {
+			super.put(key, value);
+			this.tags.remove(key);
+			return;
+		}
+		// Remembered before the value is put, so that the value cannot be evicted from
+		// the
+		// store before its tags are known, and updated afterwards with the tags of the
+		// encoded content unless the value has been evicted in the meantime
+		remember(key, value, false);
+		super.put(key, value);
+		remember(key, value, true);
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.tags.clear();
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.tags.clear();
+	}
+
+	/**
+	 * Forgets the tags of a value that has been evicted from the underlying store, unless
+	 * the tags of a newer version are known in the meantime.
+	 * @param key the evicted key
+	 * @param value the evicted value
+	 */
+	void evicted(CacheKey key, CacheValue value) {
+		this.tags.computeIfPresent(key, (k, current) -> current.hash().equals(value.getHash()) ? null : current);
+	}
+
+	/**
+	 * Returns the entity tags of the last value read or put.
+	 * @param key the key to look up
+	 * @return the quoted entity tags, starting with the tag of the plain content, or
+	 * {@literal null} if the key is not known
+	 */
+	Set<String> getETags(CacheKey key) {
+		final Tags rv = this.tags.get(key);
+		return (rv != null) ? rv.values() : null;
+	}
+
+	private void remember(CacheKey key, CacheValue value, boolean onlyIfPresent) {
+		final String hash = value.getHash();
+		if (hash == null) {
+			this.tags.remove(key);
+			return;
+		}
+		final EncodingCacheStrategy.EncodedContent encodedContent = (this.contentEncodings != null)
+				? this.contentEncodings.getEncodedContent(key) : null;
+		final Set<String> encodings = (encodedContent != null && hash.equals(encodedContent.hash()))
+				? encodedContent.variants().keySet() : Set.of();
+		// Variants might be added after the value has been read the first time
+		final Tags current = this.tags.get(key);
+		if (current != null && current.hash().equals(hash) && current.values().size() == encodings.size() + 1) {
+			return;
+		}
+		final Set<String> values = new LinkedHashSet<>();
+		values.add(String.format("\"%s\"", hash));
+		for (String encoding : encodings) {
+			values.add(String.format("\"%s-%s\"", hash, encoding));
+		}
+		final Tags tags = new Tags(hash, Collections.unmodifiableSet(values));
+		if (onlyIfPresent) {
+			this.tags.replace(key, tags);
+		}
+		else {
+			this.tags.put(key, tags);
+		}
+	}
+
+	private record Tags(String hash, Set<String> values) {
+	}
+
+}
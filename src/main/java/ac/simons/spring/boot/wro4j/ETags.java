@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.Set;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+
+/**
+ * The entity tags of the cached groups, used to answer conditional requests without
+ * involving Wro4j. Entity tags are only available for the cache strategy of the
+ * auto-configured manager factory.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ETags {
+
+	private final ContentEncodings contentEncodings;
+
+	private volatile ETagCacheStrategy eTagCacheStrategy;
+
+	ETags(ContentEncodings contentEncodings) {
+		this.contentEncodings = contentEncodings;
+	}
+
+	/**
+	 * Decorates a cache strategy so that the entity tags of all of its values are known.
+	 * Must be applied outside the strategy encoding the values.
+	 * @param cacheStrategy the cache strategy to decorate
+	 * @return the decorated cache strategy
+	 */
+	CacheStrategy<CacheKey, CacheValue> decorate(CacheStrategy<CacheKey, CacheValue> cacheStrategy) {
+		this.eTagCacheStrategy = new ETagCacheStrategy(cacheStrategy, this.contentEncodings);
+		return this.eTagCacheStrategy;
+	}
+
+	/**
+	 * Forgets the tags of a value evicted from the underlying store.
+	 * @param key the evicted key
+	 * @param value the evicted value
+	 * @see ETagCacheStrategy#evicted(CacheKey, CacheValue)
+	 */
+	void evicted(CacheKey key, CacheValue value) {
+		final ETagCacheStrategy cacheStrategy = this.eTagCacheStrategy;
+		if (cacheStrategy != null) {
+			cacheStrategy.evicted(key, value);
+		}
+	}
+
+	/**
+	 * Returns the entity tags of the given key.
+	 * @param key the key to look up
+	 * @return the quoted entity tags or {@literal null} if the key is not known
+	 * @see ETagCacheStrategy#getETags(CacheKey)
+	 */
+	Set<String> getETags(CacheKey key) {
+		final ETagCacheStrategy cacheStrategy = this.eTagCacheStrategy;
+		return (cacheStrategy != null) ? cacheStrategy.getETags(key) : null;
+	}
+
+}
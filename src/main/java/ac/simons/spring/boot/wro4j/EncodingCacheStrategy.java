@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.config.Context;
+
+import org.springframework.core.log.LogAccessor;
+
+/**
+ * A cache strategy encoding every value with additional content encodings, once per
+ * version of the content. Values are encoded when they are put or, if they have been put
+ * by an inner strategy, when they are first read with a hash that differs from the hash
+ * of the encoded content.
+ * <p>
+ * Only one thread encodes a given key at a time, other threads keep reading the value
+ * without the encoded content in the meantime. Encodings that don't shrink the content
+ * are not kept. Encoded content is forgotten together with its value, when the value is
+ * missed, evicted through this strategy or {@link #evicted(CacheKey, CacheValue) evicted
+ * from the store}.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class EncodingCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private static final LogAccessor LOGGER = new LogAccessor(LogFactory.getLog(EncodingCacheStrategy.class.getName()));
+
+	private final List<ContentEncoder> encoders;
+
+	private final ConcurrentMap<CacheKey, EncodedContent> encodedContents = new ConcurrentHashMap<>();
+
+	private final Set<CacheKey> encoding = ConcurrentHashMap.newKeySet();
+
+	EncodingCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, List<ContentEncoder> encoders) {
+		super(cacheStrategy);
+		this.encoders = List.copyOf(encoders);
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		final CacheValue value = super.get(key);
+		if (value == null) {
+			this.encodedContents.remove(key);
+		}
+		else {
+			final EncodedContent encodedContent = this.encodedContents.get(key);
+			if (encodedContent == null || !Objects.equals(encodedContent.hash(), value.getHash())) {
+				encode(key, value);
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		// Encoded before the value is put, so that the value cannot be evicted from the
+		// store before its encoded content is known
+		if (value == null) {
+			this.encodedContents.remove(key);
+		}
+		else {
+			encode(key, value);
+		}
+		super.put(key, value);
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.encodedContents.clear();
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.encodedContents.clear();
+	}
+
+	/**
+	 * Forgets the encoded content of a value that has been evicted from the underlying
+	 * store, unless a newer version has been encoded in the meantime.
+	 * @param key the evicted key
+	 * @param value the evicted value
+	 */
+	void evicted(CacheKey key, CacheValue value) {
+		this.encodedContents.computeIfPresent(key,
+				(k, encodedContent) -> Objects.equals(encodedContent.hash(), value.getHash()) ? null : encodedContent);
+	}
+
+	/**
+	 * Returns the encoded content of a key as computed for the last value read or put.
+	 * Callers must compare its hash with the hash of the value they are about to serve.
+	 * @param key the key to look up
+	 * @return the encoded content or {@literal null} if the key has not been encoded yet
+	 */
+	EncodedContent getEncodedContent(CacheKey key) {
+		return this.encodedContents.get(key);
+	}
+
+	private void encode(CacheKey key, CacheValue value) {
+		if (value.getRawContent() == null || !this.encoding.add(key)) {
+			return;
+		}
+		try {
+			final Charset charset = Charset.forName(Context.get().getConfig().getEncoding());
+			final byte[] content = value.getRawContent().getBytes(charset);
+			final Map<String, byte[]> variants = new LinkedHashMap<>();
+			for (ContentEncoder encoder : this.encoders) {
+				try {
+					final byte[] encodedContent = encoder.encode(content);
+					if (encodedContent.length < content.length) {
+						variants.put(encoder.getName(), encodedContent);
+					}
+				}
+				catch (IOException | RuntimeException ex) {
+					LOGGER.warn(ex, () -> String.format("Could not encode group '%s' (%s) with '%s'",
+							key.getGroupName(), key.getType(), encoder.getName()));
+				}
+			}
+			this.encodedContents.put(key, new EncodedContent(value.getHash(), variants));
+		}
+		finally {
+			this.encoding.remove(key);
+		}
+	}
+
+	/**
+	 * The encoded variants of a single version of a value.
+	 *
+	 * @param hash the hash of the value that has been encoded
+	 * @param variants the encoded content by name of the encoding, in order of preference
+	 */
+	record EncodedContent(String hash, Map<String, byte[]> variants) {
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+
+/**
+ * A cache strategy remembering the hash of every value read or put, together with the
+ * time the hash has been seen first. Fingerprints are forgotten when their value is
+ * missed or the cache is cleared.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class FingerprintCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private final Clock clock;
+
+	private final ConcurrentMap<CacheKey, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+	FingerprintCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, Clock clock) {
+		super(cacheStrategy);
+		this.clock = clock;
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		final CacheValue value = super.get(key);
+		if (value == null) {
+			this.fingerprints.remove(key);
+		}
+		else {
+			remember(key, value);
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		super.put(key, value);
+		if (value == null) {
+			this.fingerprints.remove(key);
+		}
+		else {
+			remember(key, value);
+		}
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.fingerprints.clear();
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.fingerprints.clear();
+	}
+
+	/**
+	 * Returns the fingerprint of the last value read or put.
+	 * @param key the key to look up
+	 * @return the fingerprint or {@literal null} if the key is not known
+	 */
+	Fingerprint getFingerprint(CacheKey key) {
+		return this.fingerprints.get(key);
+	}
+
+	private void remember(CacheKey key, CacheValue value) {
+		final String hash = value.getHash();
+		if (hash == null) {
+			return;
+		}
+		final Fingerprint fingerprint = this.fingerprints.get(key);
+		if (fingerprint == null || !fingerprint.hash().equals(hash)) {
+			this.fingerprints.compute(key,
+					(k, v) -> (v != null && v.hash().equals(hash)) ? v : new Fingerprint(hash, this.clock.instant()));
+		}
+	}
+
+	/**
+	 * The hash of a value.
+	 *
+	 * @param hash the hash of the value
+	 * @param since the time the hash has been seen first
+	 */
+	record Fingerprint(String hash, Instant since) {
+	}
+
+}
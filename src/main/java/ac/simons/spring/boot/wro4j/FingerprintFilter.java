@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import ro.isdc.wro.http.support.HttpHeader;
+import ro.isdc.wro.model.resource.ResourceType;
+
+/**
+ * A filter in front of the Wro4j filter, resolving urls rendered by {@link Wro4jUrls}.
+ * Requests for the current hash of a group are served with an immutable
+ * {@code Cache-Control} header. Requests for any other hash are served with the current
+ * content for a grace period after the current hash has been seen first, so that pages
+ * rendered by other instances during a rolling deployment keep working. Those responses
+ * must be revalidated by clients.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class FingerprintFilter implements Filter {
+
+	private static final Pattern FINGERPRINTED_URI = Pattern.compile("(.*/)([^/]+)\\.([^./]+)\\.([^./]+)");
+
+	private static final String NO_CACHE = "no-cache";
+
+	private final Wro4jUrls wro4jUrls;
+
+	private final String immutable;
+
+	private final Duration gracePeriod;
+
+	FingerprintFilter(Wro4jUrls wro4jUrls, Duration maxAge, Duration gracePeriod) {
+		this.wro4jUrls = wro4jUrls;
+		this.immutable = String.format("public, max-age=%d, immutable", maxAge.toSeconds());
+		this.gracePeriod = gracePeriod;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		final Matcher matcher = (request instanceof HttpServletRequest httpServletRequest)
+				? FINGERPRINTED_URI.matcher(httpServletRequest.getRequestURI()) : null;
+		final ResourceType type = (matcher != null && matcher.matches()) ? getResourceType(matcher.group(4)) : null;
+		final String group = (type != null) ? matcher.group(2) : null;
+		final String hash = (type != null) ? matcher.group(3) : null;
+		if (type == null || this.wro4jUrls.isGroup(group + "." + hash) || !this.wro4jUrls.isGroup(group)) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		final HttpServletRequest unfingerprintedRequest = new UnfingerprintedRequest((HttpServletRequest) request,
+				matcher.group(1) + group + "." + matcher.group(4));
+		final HttpServletResponse httpServletResponse = (HttpServletResponse) response;
+		final FingerprintCacheStrategy.Fingerprint fingerprint = this.wro4jUrls.getFingerprint(group, type);
+		if (fingerprint != null && fingerprint.hash().equals(hash)) {
+			chain.doFilter(unfingerprintedRequest, new CacheControlledResponse(httpServletResponse, this.immutable));
+		}
+		else if (fingerprint == null
+				|| this.wro4jUrls.getClock().instant().isBefore(fingerprint.since().plus(this.gracePeriod))) {
+			chain.doFilter(unfingerprintedRequest, new CacheControlledResponse(httpServletResponse, NO_CACHE));
+		}
+		else {
+			httpServletResponse.sendError(HttpServletResponse.SC_NOT_FOUND);
+		}
+	}
+
+	private static ResourceType getResourceType(String extension) {
+		for (ResourceType type : ResourceType.values()) {
+			if (type.name().toLowerCase(Locale.ROOT).equals(extension)) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * A request for the url of a group without its hash.
+	 */
+	private static final class UnfingerprintedRequest extends HttpServletRequestWrapper {
+
+		private final String requestURI;
+
+		UnfingerprintedRequest(HttpServletRequest request, String requestURI) {
+			super(request);
+			this.requestURI = requestURI;
+		}
+
+		@Override
+		public String getRequestURI() {
+			return this.requestURI;
+		}
+
+		@Override
+		public StringBuffer getRequestURL() {
+			final StringBuffer requestURL = super.getRequestURL();
+			return requestURL.replace(requestURL.length() - super.getRequestURI().length(), requestURL.length(),
+					this.requestURI);
+		}
+
+	}
+
+	/**
+	 * A response with a fixed {@code Cache-Control} header, ignoring all caching headers
+	 * set by Wro4j.
+	 */
+	private static final class CacheControlledResponse extends HttpServletResponseWrapper {
+
+		CacheControlledResponse(HttpServletResponse response, String cacheControl) {
+			super(response);
+			response.setHeader(HttpHeader.CACHE_CONTROL.toString(), cacheControl);
+		}
+
+		@Override
+		public void setHeader(String name, String value) {
+			if (!isCachingHeader(name)) {
+				super.setHeader(name, value);
+			}
+		}
+
+		@Override
+		public void addHeader(String name, String value) {
+			if (!isCachingHeader(name)) {
+				super.addHeader(name, value);
+			}
+		}
+
+		@Override
+		public void setDateHeader(String name, long date) {
+			if (!isCachingHeader(name)) {
+				super.setDateHeader(name, date);
+			}
+		}
+
+		@Override
+		public void addDateHeader(String name, long date) {
+			if (!isCachingHeader(name)) {
+				super.addDateHeader(name, date);
+			}
+		}
+
+		private static boolean isCachingHeader(String name) {
+			return HttpHeader.CACHE_CONTROL.toString().equalsIgnoreCase(name)
+					|| HttpHeader.EXPIRES.toString().equalsIgnoreCase(name) || "Pragma".equalsIgnoreCase(name);
+		}
+
+	}
+
+}
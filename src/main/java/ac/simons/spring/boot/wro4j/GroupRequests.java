@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.Locale;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+
+/**
+ * Requests for groups as the Wro4j filter receives them, for processing groups outside of
+ * such a request. Some processors depend on the request of a group, for example the
+ * {@code CssUrlRewritingProcessor} rewrites the urls in stylesheets relative to it and
+ * fails without a request.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+final class GroupRequests {
+
+	private final String filterUrl;
+
+	private final Supplier<ServletContext> servletContext;
+
+	private final String basePath;
+
+	/**
+	 * Creates requests for the groups served under the given url.
+	 * @param filterUrl the url the Wro4j filter is mapped to
+	 * @param servletContext the servlet context of the application, resolved when a
+	 * request is created, might be {@literal null} outside servlet based applications
+	 * @param basePath the context path used without a servlet context
+	 */
+	GroupRequests(String filterUrl, Supplier<ServletContext> servletContext, String basePath) {
+		this.filterUrl = filterUrl;
+		this.servletContext = servletContext;
+		this.basePath = (basePath != null) ? basePath : "";
+	}
+
+	/**
+	 * Computes the uri under which a group is requested, including the context path.
+	 * @param cacheKey the key of the group
+	 * @return the uri of the group
+	 */
+	String getRequestUri(CacheKey cacheKey) {
+		return String.format("%s%s/%s.%s", getContextPath(), this.filterUrl, cacheKey.getGroupName(),
+				cacheKey.getType().name().toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * Runs the given supplier inside a Wro4j context bound to a request for the given
+	 * group.
+	 * @param <T> type of the result
+	 * @param wroConfiguration the configuration of the context
+	 * @param cacheKey the key of the group
+	 * @param supplier the supplier to run
+	 * @return the result of the supplier
+	 */
+	<T> T withContext(WroConfiguration wroConfiguration, CacheKey cacheKey, Supplier<T> supplier) {
+		return withContext(wroConfiguration, this.servletContext.get(), getContextPath(), getRequestUri(cacheKey),
+				(name) -> null, supplier);
+	}
+
+	private String getContextPath() {
+		final ServletContext resolvedServletContext = this.servletContext.get();
+		return (resolvedServletContext != null) ? resolvedServletContext.getContextPath() : this.basePath;
+	}
+
+	/**
+	 * Runs the given supplier inside a Wro4j context bound to a request for the given
+	 * uri. The folder relative to which urls are rewritten is derived from the uri in the
+	 * same way Wro4j derives it from a request.
+	 * @param <T> type of the result
+	 * @param wroConfiguration the configuration of the context
+	 * @param servletContext the servlet context, might be {@literal null}
+	 * @param contextPath the context path of the request
+	 * @param requestUri the uri of the request, including the context path
+	 * @param headers the headers of the request by name, answering {@literal null} for
+	 * missing headers
+	 * @param supplier the supplier to run
+	 * @return the result of the supplier
+	 */
+	static <T> T withContext(WroConfiguration wroConfiguration, ServletContext servletContext, String contextPath,
+			String requestUri, Function<String, String> headers, Supplier<T> supplier) {
+		final HttpServletRequest request = proxy(HttpServletRequest.class, (name, args) -> switch (name) {
+			case "getMethod" -> "GET";
+			case "getHeader" -> headers.apply((String) args[0]);
+			case "getRequestURI" -> requestUri;
+			case "getRequestURL" -> new StringBuffer(requestUri);
+			case "getContextPath" -> contextPath;
+			case "getServletPath" -> requestUri.substring(contextPath.length());
+			case "getServletContext" -> servletContext;
+			default -> null;
+		});
+		final FilterConfig filterConfig = (servletContext != null)
+				? proxy(FilterConfig.class, (name, args) -> "getServletContext".equals(name) ? servletContext : null)
+				: null;
+		final Context context = Context.webContext(request, proxy(HttpServletResponse.class, (name, args) -> null),
+				filterConfig);
+		context.setAggregatedFolderPath(requestUri.substring(contextPath.length(), requestUri.lastIndexOf('/') + 1));
+		Context.set(context, wroConfiguration);
+		try {
+			return supplier.get();
+		}
+		finally {
+			Context.unset();
+		}
+	}
+
+	/**
+	 * Creates a proxy answering calls by name and arguments, primitive results default to
+	 * their initial values.
+	 * @param <T> type of the proxy
+	 * @param type the interface to implement
+	 * @param answers answers by method name and arguments
+	 * @return the proxy
+	 */
+	private static <T> T proxy(Class<T> type, BiFunction<String, Object[], Object> answers) {
+		return type.cast(Proxy.newProxyInstance(GroupRequests.class.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> switch (method.getName()) {
+					case "equals" -> proxy == args[0];
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "toString" -> type.getSimpleName() + " for a group";
+					default -> {
+						final Object answer = answers.apply(method.getName(), args);
+						yield (answer == null && method.getReturnType().isPrimitive()
+								&& method.getReturnType() != void.class)
+										? Array.get(Array.newInstance(method.getReturnType(), 1), 0) : answer;
+					}
+				}));
+	}
+
+}
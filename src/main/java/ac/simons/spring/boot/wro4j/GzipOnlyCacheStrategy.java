@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.zip.GZIPInputStream;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.util.ObjectDecorator;
+
+/**
+ * A cache strategy storing only the gzipped content of values in the decorated strategy.
+ * Values read from the decorated strategy are returned as stored, without their raw
+ * content. Wro4j cannot serve those values, they have to be served by a
+ * {@link GzipOnlyContentFilter} in front of it, which inflates the content for requests
+ * not accepting gzip.
+ * <p>
+ * Values are only stored without their raw content if the gzipped content is cached by
+ * Wro4j, as it would be computed from the raw content on every read otherwise. The
+ * gzipped content is computed again when a value is put, as the value put is still served
+ * with its raw content.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class GzipOnlyCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	/**
+	 * Creates a new cache strategy.
+	 * @param cacheStrategy the strategy to decorate
+	 */
+	GzipOnlyCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy) {
+		super(cacheStrategy);
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		super.put(key, compact(value));
+	}
+
+	/**
+	 * Returns whether a value has been stored without its raw content.
+	 * @param value the value to check
+	 * @return {@literal true} if only the gzipped content is available
+	 */
+	static boolean isCompact(CacheValue value) {
+		return value != null && value.getRawContent() == null;
+	}
+
+	/**
+	 * Looks up a value stored without its raw content in the given cache strategy or the
+	 * strategies it decorates. Only the strategies below this one are asked, so that a
+	 * missing group is never processed by the lookup.
+	 * @param cacheStrategy the cache strategy of a manager
+	 * @param key the key to look up
+	 * @return the value or {@literal null} if there is no value stored without its raw
+	 * content
+	 */
+	static CacheValue getCompactValue(CacheStrategy<CacheKey, CacheValue> cacheStrategy, CacheKey key) {
+		Object current = cacheStrategy;
+		while (current instanceof ObjectDecorator<?> decorator) {
+			if (current instanceof GzipOnlyCacheStrategy gzipOnlyCacheStrategy) {
+				final CacheValue value = gzipOnlyCacheStrategy.get(key);
+				return isCompact(value) ? value : null;
+			}
+			current = decorator.getDecoratedObject();
+		}
+		return null;
+	}
+
+	/**
+	 * Opens a stream on the raw content of a value, inflating its gzipped content if it
+	 * has been stored without its raw content.
+	 * @param value the value to read
+	 * @param charset the charset to encode the raw content with
+	 * @return a stream on the raw content
+	 * @throws IOException if the gzipped content cannot be read
+	 */
+	static InputStream getRawContent(CacheValue value, Charset charset) throws IOException {
+		return isCompact(value) ? new GZIPInputStream(new ByteArrayInputStream(value.getGzippedContent()))
+				: new ByteArrayInputStream(value.getRawContent().getBytes(charset));
+	}
+
+	private static CacheValue compact(CacheValue value) {
+		if (value == null || value.getRawContent() == null || !Context.isContextSet()
+				|| !Context.get().getConfig().isCacheGzippedContent()) {
+			return value;
+		}
+		final CacheValue rv = CacheValue.valueOf(value.getRawContent(), value.getHash());
+		rv.setRawContent(null);
+		return rv;
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.support.HttpHeader;
+import ro.isdc.wro.http.support.ResponseHeadersConfigurer;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.util.WroUtil;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * A filter in front of the Wro4j filter, serving groups stored without their raw content
+ * by the {@link GzipOnlyCacheStrategy} with the same headers as Wro4j. Requests accepting
+ * gzip are served with the stored content, for all other requests the content is inflated
+ * while it is written. Optionally, a few inflated copies are kept, so that groups
+ * requested frequently by clients not accepting gzip are not inflated on every request.
+ * Requests for all other groups, including groups not cached yet, are passed on to the
+ * Wro4j filter.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class GzipOnlyContentFilter implements Filter {
+
+	private final ObjectProvider<WroManagerFactory> wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final Cache<CacheKey, InflatedContent> inflatedCopies;
+
+	GzipOnlyContentFilter(ObjectProvider<WroManagerFactory> wroManagerFactory, WroConfiguration wroConfiguration,
+			int inflatedCopies) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.inflatedCopies = (inflatedCopies > 0) ? Caffeine.newBuilder().maximumSize(inflatedCopies).build() : null;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		final CachedContent cachedContent = (request instanceof HttpServletRequest httpServletRequest
+				&& "GET".equals(httpServletRequest.getMethod())) ? getCachedContent(httpServletRequest) : null;
+		if (cachedContent == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+		serve((HttpServletRequest) request, (HttpServletResponse) response, cachedContent);
+	}
+
+	/**
+	 * Looks up the content to serve for the given request.
+	 * @param request the current request
+	 * @return the content to serve or {@literal null} if the request should be handled by
+	 * Wro4j
+	 */
+	private CachedContent getCachedContent(HttpServletRequest request) {
+		return GroupRequests.withContext(this.wroConfiguration, request.getServletContext(), request.getContextPath(),
+				request.getRequestURI(), request::getHeader, () -> {
+					final WroManager wroManager = this.wroManagerFactory.getObject().create();
+					final CacheKey cacheKey = wroManager.getCacheKeyFactory().create(request);
+					// Missing groups are left to Wro4j, which processes them
+					if (cacheKey == null
+							|| GzipOnlyCacheStrategy.getCompactValue(wroManager.getCacheStrategy(), cacheKey) == null) {
+						return null;
+					}
+					final CacheValue value = wroManager.getCacheStrategy().get(cacheKey);
+					return GzipOnlyCacheStrategy.isCompact(value) ? new CachedContent(cacheKey, value) : null;
+				});
+	}
+
+	private void serve(HttpServletRequest request, HttpServletResponse response, CachedContent cachedContent)
+			throws IOException {
+		ResponseHeadersConfigurer.fromConfig(this.wroConfiguration).setHeaders(response);
+		response.setHeader(HttpHeader.VARY.toString(), HttpHeader.ACCEPT_ENCODING.toString());
+		final String etag = String.format("\"%s\"", cachedContent.value().getHash());
+		response.setHeader(HttpHeader.ETAG.toString(), etag);
+		if (etag.equals(request.getHeader(HttpHeader.IF_NONE_MATCH.toString()))) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		response.setContentType(cachedContent.cacheKey().getType().getContentType() + ";charset="
+				+ this.wroConfiguration.getEncoding());
+
+		final byte[] content;
+		if (this.wroConfiguration.isGzipEnabled() && WroUtil.isGzipSupported(request)) {
+			response.setHeader(HttpHeader.CONTENT_ENCODING.toString(), "gzip");
+			content = cachedContent.value().getGzippedContent();
+		}
+		else if (this.inflatedCopies != null) {
+			content = getInflatedCopy(cachedContent);
+		}
+		else {
+			try (InputStream in = inflate(cachedContent.value()); OutputStream out = response.getOutputStream()) {
+				in.transferTo(out);
+			}
+			return;
+		}
+		response.setContentLength(content.length);
+		response.getOutputStream().write(content);
+	}
+
+	private byte[] getInflatedCopy(CachedContent cachedContent) throws IOException {
+		final String hash = cachedContent.value().getHash();
+		final InflatedContent inflatedContent = this.inflatedCopies.getIfPresent(cachedContent.cacheKey());
+		if (inflatedContent != null && inflatedContent.hash().equals(hash)) {
+			return inflatedContent.content();
+		}
+		final byte[] content;
+		try (InputStream in = inflate(cachedContent.value())) {
+			content = in.readAllBytes();
+		}
+		this.inflatedCopies.put(cachedContent.cacheKey(), new InflatedContent(hash, content));
+		return content;
+	}
+
+	private InputStream inflate(CacheValue value) throws IOException {
+		return GzipOnlyCacheStrategy.getRawContent(value, Charset.forName(this.wroConfiguration.getEncoding()));
+	}
+
+	private record CachedContent(CacheKey cacheKey, CacheValue value) {
+	}
+
+	private record InflatedContent(String hash, byte[] content) {
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.processor.ResourcePostProcessor;
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.decorator.ProcessorDecorator;
+import ro.isdc.wro.model.resource.processor.factory.ProcessorsFactory;
+
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * A processors factory memoizing the output of the pre-processors of another factory. The
+ * output is keyed by the processor, the uri of the resource and the hash of the content
+ * passed to the processor. When a single resource of a group changes, all other resources
+ * are therefore not processed again, only the content of the group is merged and
+ * post-processed.
+ * <p>
+ * Import aware processors are not memoized, as their output depends on the content of
+ * other resources. Neither are excluded processors, whose output depends on more than the
+ * content of the resource, for example on images inlined as data uri, or which have side
+ * effects like authorizing rewritten urls. The memoized output is bounded by its size,
+ * output used less frequently is evicted first.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class MemoizingProcessorsFactory implements ProcessorsFactory {
+
+	private final ProcessorsFactory processorsFactory;
+
+	private final Collection<Class<?>> excludedProcessors;
+
+	private final Cache<Key, String> outputs;
+
+	/**
+	 * Creates a new processors factory.
+	 * @param processorsFactory the factory providing the processors
+	 * @param maxBytes the maximum size of all memoized output
+	 * @param excludedProcessors processors that are never memoized, including their
+	 * subclasses
+	 */
+	MemoizingProcessorsFactory(ProcessorsFactory processorsFactory, long maxBytes,
+			Collection<? extends Class<?>> excludedProcessors) {
+		this.processorsFactory = processorsFactory;
+		this.excludedProcessors = List.copyOf(excludedProcessors);
+		this.outputs = Caffeine.newBuilder()
+			.maximumWeight(maxBytes)
+			.weigher((Key key, String output) -> weigh(key, output))
+			.build();
+	}
+
+	/**
+	 * Computes the weight of a memoized output, which includes its key.
+	 * @param key the key of the output
+	 * @param output the output
+	 * @return the weight of the output in bytes
+	 */
+	static int weigh(Key key, String output) {
+		final long weight = 2L * (key.uri().length() + key.hash().length()
+				+ ((key.aggregatedFolderPath() != null) ? key.aggregatedFolderPath().length() : 0) + output.length());
+		return (int) Math.min(Integer.MAX_VALUE, weight);
+	}
+
+	@Override
+	public Collection<ResourcePreProcessor> getPreProcessors() {
+		final List<ResourcePreProcessor> rv = new ArrayList<>();
+		for (ResourcePreProcessor processor : this.processorsFactory.getPreProcessors()) {
+			final MemoizingProcessor memoizingProcessor = new MemoizingProcessor(processor, this.outputs);
+			rv.add((memoizingProcessor.isImportAware() || isExcluded(memoizingProcessor.getOriginalDecoratedObject()))
+					? processor : memoizingProcessor);
+		}
+		return rv;
+	}
+
+	private boolean isExcluded(Object processor) {
+		return this.excludedProcessors.stream().anyMatch((type) -> type.isInstance(processor));
+	}
+
+	@Override
+	public Collection<ResourcePostProcessor> getPostProcessors() {
+		return this.processorsFactory.getPostProcessors();
+	}
+
+	/**
+	 * Returns the number of memoized outputs.
+	 * @return the number of memoized outputs
+	 */
+	long size() {
+		this.outputs.cleanUp();
+		return this.outputs.estimatedSize();
+	}
+
+	/**
+	 * Computes the hash of a content used as part of the key.
+	 * @param content the content to hash
+	 * @return the hash as hex string
+	 */
+	static String hash(String content) {
+		try {
+			return HexFormat.of()
+				.formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			// Every implementation of the Java platform is required to support SHA-256
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Identifies the output of a processor. The processor is compared by identity, the
+	 * aggregated folder path of the current request is part of the key, as processors
+	 * rewriting urls depend on it.
+	 *
+	 * @param processor the processor
+	 * @param uri the uri of the processed resource
+	 * @param minimize whether the resource may be minimized
+	 * @param hash the hash of the content passed to the processor
+	 * @param aggregatedFolderPath the aggregated folder path of the current request
+	 */
+	record Key(Object processor, String uri, boolean minimize, String hash, String aggregatedFolderPath) {
+	}
+
+	private static final class MemoizingProcessor extends ProcessorDecorator {
+
+		private final Object processor;
+
+		private final Cache<Key, String> outputs;
+
+		MemoizingProcessor(Object processor, Cache<Key, String> outputs) {
+			super(processor);
+			this.processor = processor;
+			this.outputs = outputs;
+		}
+
+		@Override
+		public void process(Resource resource, Reader reader, Writer writer) throws IOException {
+			if (resource == null) {
+				super.process(resource, reader, writer);
+				return;
+			}
+			final String content = FileCopyUtils.copyToString(reader);
+			final Key key = new Key(this.processor, resource.getUri(), resource.isMinimize(), hash(content),
+					Context.isContextSet() ? Context.get().getAggregatedFolderPath() : null);
+			String output = this.outputs.getIfPresent(key);
+			if (output == null) {
+				final StringWriter result = new StringWriter();
+				super.process(resource, new StringReader(content), result);
+				output = result.toString();
+				this.outputs.put(key, output);
+			}
+			writer.write(output);
+		}
+
+	}
+
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.servlet.http.HttpServletRequest;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.model.WroModelInspector;
+import ro.isdc.wro.model.factory.WroModelFactory;
+import ro.isdc.wro.model.group.Inject;
+
+/**
+ * A cache strategy counting hits and misses per group and recording the size of the
+ * content served. A request missing a key is counted once, even if it looks up the key
+ * again while waiting for the value, and not counted as a hit when another thread loaded
+ * the value in the meantime. The gauge {@code wro4j.cache.size} reports the size of all
+ * values put through this strategy that have not been evicted, missed or cleared since.
+ * Evictions are only known from an in memory store that reports them to
+ * {@link #evicted(CacheKey, CacheValue)}, values evicted by other stores are subtracted
+ * when they are missed the next time.
+ * <p>
+ * The size of the content served is the size of the gzipped content if the request of the
+ * current Wro4j context accepts it and gzip is enabled. Gzipped content is only recorded
+ * if it is cached, otherwise it would be compressed again just for measuring.
+ * <p>
+ * The model factory is injected by Wro4j and used to check whether a requested group
+ * exists. As long as it is not available, all groups are tagged as unknown.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class MeteredCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	@Inject
+	private WroModelFactory modelFactory;
+
+	private final Wro4jMetrics metrics;
+
+	private final boolean cacheGzippedContent;
+
+	private final Set<String> groupNames = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Meters of keys belonging to groups in the model, keys of unknown groups are never
+	 * added.
+	 */
+	private final ConcurrentMap<CacheKey, Meters> meters = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<CacheKey, Size> sizes = new ConcurrentHashMap<>();
+
+	MeteredCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, Wro4jMetrics metrics,
+			boolean cacheGzippedContent) {
+		super(cacheStrategy);
+		this.metrics = metrics;
+		this.cacheGzippedContent = cacheGzippedContent;
+		Gauge.builder("wro4j.cache.size", this.sizes, MeteredCacheStrategy::sum)
+			.description("Size of the raw and gzipped content of all cached groups")
+			.baseUnit(BaseUnits.BYTES)
+			.register(metrics.getMeterRegistry());
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		final CacheValue value = super.get(key);
+		final Meters keyMeters = getMeters(key);
+		// Wro4j looks up a missing key a second time before loading it, a request is
+		// counted only once as long as the current thread is processing its key
+		final boolean missed = this.metrics.isProcessing(key);
+		if (value != null) {
+			if (!missed) {
+				keyMeters.hits().increment();
+			}
+			recordServed(keyMeters, value);
+			this.metrics.cancelProcessing();
+		}
+		else if (!missed) {
+			keyMeters.misses().increment();
+			this.sizes.remove(key);
+			this.metrics.startProcessing(key, keyMeters.group());
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		if (value == null) {
+			super.put(key, null);
+			this.sizes.remove(key);
+			return;
+		}
+		try {
+			super.put(key, value);
+		}
+		finally {
+			this.metrics.stopProcessing(key);
+		}
+		this.sizes.put(key,
+				new Size(value.getHash(), WeightedMemoryCacheStrategy.weigh(value, this.cacheGzippedContent)));
+	}
+
+	/**
+	 * Subtracts the size of a value evicted from the store, unless the key has already
+	 * been put again.
+	 * @param key the evicted key
+	 * @param value the evicted value
+	 */
+	void evicted(CacheKey key, CacheValue value) {
+		this.sizes.computeIfPresent(key, (k, size) -> Objects.equals(size.hash(), value.getHash()) ? null : size);
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.sizes.clear();
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.sizes.clear();
+	}
+
+	private void recordServed(Meters keyMeters, CacheValue value) {
+		if (!isGzipAccepted()) {
+			keyMeters.served().record(WeightedMemoryCacheStrategy.weigh(value, false));
+		}
+		else if (this.cacheGzippedContent) {
+			final byte[] gzippedContent = value.getGzippedContent();
+			keyMeters.served().record((gzippedContent != null) ? gzippedContent.length : 0);
+		}
+	}
+
+	private static boolean isGzipAccepted() {
+		if (!Context.isContextSet() || !Context.get().getConfig().isGzipEnabled()) {
+			return false;
+		}
+		final HttpServletRequest request = Context.get().getRequest();
+		final String acceptEncoding = (request != null) ? request.getHeader("Accept-Encoding") : null;
+		return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+	}
+
+	private Meters getMeters(CacheKey key) {
+		final Meters keyMeters = this.meters.get(key);
+		if (keyMeters != null) {
+			return keyMeters;
+		}
+		if (!isGroup(key.getGroupName())) {
+			return newMeters(Wro4jMetrics.UNKNOWN_GROUP, key);
+		}
+		return this.meters.computeIfAbsent(key, k -> newMeters(k.getGroupName(), k));
+	}
+
+	private boolean isGroup(String name) {
+		if (this.groupNames.contains(name)) {
+			return true;
+		}
+		if (this.modelFactory == null) {
+			return false;
+		}
+		// Groups might have been added by reloading the model
+		this.groupNames.addAll(new WroModelInspector(this.modelFactory.create()).getGroupNames());
+		return this.groupNames.contains(name);
+	}
+
+	private Meters newMeters(String group, CacheKey key) {
+		final MeterRegistry meterRegistry = this.metrics.getMeterRegistry();
+		final String type = key.getType().name();
+		return new Meters(group,
+				Counter.builder("wro4j.cache.gets")
+					.description("Number of groups looked up in the cache")
+					.tag("group", group)
+					.tag("type", type)
+					.tag("result", "hit")
+					.register(meterRegistry),
+				Counter.builder("wro4j.cache.gets")
+					.description("Number of groups looked up in the cache")
+					.tag("group", group)
+					.tag("type", type)
+					.tag("result", "miss")
+					.register(meterRegistry),
+				DistributionSummary.builder("wro4j.cache.served")
+					.description("Size of the content of groups served from the cache")
+					.baseUnit(BaseUnits.BYTES)
+					.tag("group", group)
+					.tag("type", type)
+					.register(meterRegistry));
+	}
+
+	private static double sum(Map<CacheKey, Size> sizes) {
+		long sum = 0;
+		for (Size size : sizes.values()) {
+			sum += size.size();
+		}
+		return sum;
+	}
+
+	private record Size(String hash, int size) {
+	}
+
+	private record Meters(String group, Counter hits, Counter misses, DistributionSummary served) {
+	}
+
+}
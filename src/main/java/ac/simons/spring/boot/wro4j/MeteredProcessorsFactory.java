@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import io.micrometer.core.instrument.Timer;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.processor.ResourcePostProcessor;
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.decorator.ProcessorDecorator;
+import ro.isdc.wro.model.resource.processor.factory.ProcessorsFactory;
+import ro.isdc.wro.util.AbstractDecorator;
+
+/**
+ * A processors factory decorating all processors of another factory with a timer. The
+ * decorators keep the minimize flag, the supported resource type and the import awareness
+ * of the processors, so that Wro4j applies them exactly as before.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class MeteredProcessorsFactory implements ProcessorsFactory {
+
+	private final ProcessorsFactory processorsFactory;
+
+	private final Wro4jMetrics metrics;
+
+	MeteredProcessorsFactory(ProcessorsFactory processorsFactory, Wro4jMetrics metrics) {
+		this.processorsFactory = processorsFactory;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public Collection<ResourcePreProcessor> getPreProcessors() {
+		final List<ResourcePreProcessor> rv = new ArrayList<>();
+		for (ResourcePreProcessor processor : this.processorsFactory.getPreProcessors()) {
+			rv.add(new MeteredProcessor(processor, "pre", this.metrics));
+		}
+		return rv;
+	}
+
+	@Override
+	public Collection<ResourcePostProcessor> getPostProcessors() {
+		final List<ResourcePostProcessor> rv = new ArrayList<>();
+		for (ResourcePostProcessor processor : this.processorsFactory.getPostProcessors()) {
+			rv.add(new MeteredProcessor(processor, "post", this.metrics));
+		}
+		return rv;
+	}
+
+	/**
+	 * Returns the name of a processor used as tag value, which is the simple name of the
+	 * class of the original processor.
+	 * @param processor the processor, possibly decorated
+	 * @return the name of the processor
+	 */
+	static String getName(Object processor) {
+		final Class<?> type = AbstractDecorator.getOriginalDecoratedObject(processor).getClass();
+		return type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+	}
+
+	private static final class MeteredProcessor extends ProcessorDecorator {
+
+		private final String name;
+
+		private final String phase;
+
+		private final Wro4jMetrics metrics;
+
+		MeteredProcessor(Object processor, String phase, Wro4jMetrics metrics) {
+			super(processor);
+			this.name = getName(processor);
+			this.phase = phase;
+			this.metrics = metrics;
+		}
+
+		@Override
+		public void process(Resource resource, Reader reader, Writer writer) throws IOException {
+			final Timer.Sample sample = Timer.start(this.metrics.getMeterRegistry());
+			try {
+				super.process(resource, reader, writer);
+			}
+			finally {
+				sample.stop(this.metrics.getProcessorTimer(this.name, this.phase));
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.factory.WroModelFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Reloads the model periodically in the background instead of Wro4j discarding it and
+ * letting the next request create it again. The new model replaces the current one only
+ * if the definition of any group changed, and only the cache keys of the changed groups
+ * are evicted. All other groups are still served from the cache.
+ * <p>
+ * Reloading is only available for the model factory of the auto-configured manager
+ * factory.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ModelReloader implements SmartLifecycle {
+
+	private static final LogAccessor LOGGER = new LogAccessor(LogFactory.getLog(ModelReloader.class.getName()));
+
+	private final ObjectProvider<WroManagerFactory> wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final Duration period;
+
+	private final Object lifecycleMonitor = new Object();
+
+	private volatile ReloadingModelFactory reloadingModelFactory;
+
+	private ScheduledExecutorService executor;
+
+	/**
+	 * Creates a new reloader.
+	 * @param wroManagerFactory the manager factory whose cache strategy is evicted
+	 * @param wroConfiguration the configuration of the context the model is reloaded in
+	 * @param period the period in which the model is reloaded, reloading is disabled if
+	 * it is zero
+	 */
+	ModelReloader(ObjectProvider<WroManagerFactory> wroManagerFactory, WroConfiguration wroConfiguration,
+			Duration period) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.period = period;
+	}
+
+	/**
+	 * Decorates a model factory so that its model can be reloaded by this reloader.
+	 * @param modelFactory the model factory to decorate
+	 * @return the decorated model factory
+	 */
+	WroModelFactory decorate(WroModelFactory modelFactory) {
+		this.reloadingModelFactory = new ReloadingModelFactory(modelFactory);
+		return this.reloadingModelFactory;
+	}
+
+	@Override
+	public void start() {
+		synchronized (this.lifecycleMonitor) {
+			if (this.executor != null || this.period.isZero()) {
+				return;
+			}
+			this.executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("wro4j-model-"));
+			this.executor.scheduleWithFixedDelay(this::reload, this.period.toMillis(), this.period.toMillis(),
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void stop() {
+		synchronized (this.lifecycleMonitor) {
+			if (this.executor != null) {
+				this.executor.shutdownNow();
+				this.executor = null;
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		synchronized (this.lifecycleMonitor) {
+			return this.executor != null;
+		}
+	}
+
+	/**
+	 * Reloads the model and evicts all groups whose definition changed.
+	 * @return the names of the evicted groups
+	 */
+	Set<String> reload() {
+		final ReloadingModelFactory modelFactory = this.reloadingModelFactory;
+		if (modelFactory == null) {
+			return Set.of();
+		}
+		try {
+			return CacheWarmer.withContext(this.wroConfiguration, () -> {
+				final Set<String> changedGroups = modelFactory.reload();
+				if (changedGroups.isEmpty()) {
+					return changedGroups;
+				}
+				final WroManager wroManager = this.wroManagerFactory.getObject().create();
+				// Wro4j keeps its own reference to the model, which is replaced right
+				// away
+				// by the model just reloaded
+				wroManager.getModelFactory().destroy();
+				wroManager.getModelFactory().create();
+				CacheWarmer.evict(wroManager.getCacheStrategy(), changedGroups);
+				LOGGER.info(() -> String.format("Reloaded the model and evicted changed groups %s", changedGroups));
+				return changedGroups;
+			});
+		}
+		catch (RuntimeException ex) {
+			LOGGER.warn(ex, "Could not reload the model, keeping the current one");
+			return Set.of();
+		}
+	}
+
+}
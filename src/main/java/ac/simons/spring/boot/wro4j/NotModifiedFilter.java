@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.util.Set;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.support.HttpHeader;
+import ro.isdc.wro.http.support.ResponseHeadersConfigurer;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * A filter in front of the Wro4j filter, answering conditional requests with
+ * {@code 304 Not Modified} if one of the entity tags sent by the client is current. Only
+ * the cache key is computed for such requests, neither the cache nor the processors are
+ * involved. All other requests are passed on.
+ * <p>
+ * Requests are always passed on while the resource watcher is enabled, as it is only
+ * triggered by reading the cache.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class NotModifiedFilter implements Filter {
+
+	private static final String WILDCARD = "*";
+
+	private static final String WEAK_PREFIX = "W/";
+
+	private final ObjectProvider<WroManagerFactory> wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final ETags eTags;
+
+	NotModifiedFilter(ObjectProvider<WroManagerFactory> wroManagerFactory, WroConfiguration wroConfiguration,
+			ETags eTags) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.eTags = eTags;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		final String eTag = (request instanceof HttpServletRequest httpServletRequest
+				&& ("GET".equals(httpServletRequest.getMethod()) || "HEAD".equals(httpServletRequest.getMethod()))
+				&& this.wroConfiguration.getResourceWatcherUpdatePeriod() <= 0) ? getMatchingETag(httpServletRequest)
+						: null;
+		if (eTag == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+		final HttpServletResponse httpServletResponse = (HttpServletResponse) response;
+		ResponseHeadersConfigurer.fromConfig(this.wroConfiguration).setHeaders(httpServletResponse);
+		httpServletResponse.setHeader(HttpHeader.ETAG.toString(), eTag);
+		httpServletResponse.setHeader(HttpHeader.VARY.toString(), HttpHeader.ACCEPT_ENCODING.toString());
+		httpServletResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+	}
+
+	/**
+	 * Looks up the current entity tag matching the {@code If-None-Match} header of the
+	 * given request.
+	 * @param request the current request
+	 * @return the matching entity tag or {@literal null} if the request should be handled
+	 * by Wro4j
+	 */
+	private String getMatchingETag(HttpServletRequest request) {
+		final String ifNoneMatch = request.getHeader(HttpHeader.IF_NONE_MATCH.toString());
+		if (ifNoneMatch == null) {
+			return null;
+		}
+		final CacheKey cacheKey = CacheWarmer.withContext(this.wroConfiguration,
+				() -> this.wroManagerFactory.getObject().create().getCacheKeyFactory().create(request));
+		final Set<String> current = (cacheKey != null) ? this.eTags.getETags(cacheKey) : null;
+		return (current != null) ? match(ifNoneMatch, current) : null;
+	}
+
+	/**
+	 * Matches the value of an {@code If-None-Match} header against the current entity
+	 * tags, using the weak comparison required for that header.
+	 * @param ifNoneMatch the value of the {@code If-None-Match} header
+	 * @param current the current quoted entity tags
+	 * @return the matching entity tag or {@literal null} if none matches
+	 */
+	static String match(String ifNoneMatch, Set<String> current) {
+		for (String token : ifNoneMatch.split(",")) {
+			String eTag = token.trim();
+			if (WILDCARD.equals(eTag)) {
+				return current.stream().findFirst().orElse(null);
+			}
+			if (eTag.startsWith(WEAK_PREFIX)) {
+				eTag = eTag.substring(WEAK_PREFIX.length());
+			}
+			if (current.contains(eTag)) {
+				return eTag;
+			}
+		}
+		return null;
+	}
+
+}
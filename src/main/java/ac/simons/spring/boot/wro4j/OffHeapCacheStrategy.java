@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.config.Context;
+
+/**
+ * A cache strategy copying the raw content of large values into direct buffers, once per
+ * version of the content. Those buffers are written to the response as they are, without
+ * encoding the raw content into a new array on every request as Wro4j does. The gzipped
+ * content is not copied, as Wro4j already writes the array it caches as it is. Values are
+ * copied when they are put or, if they have been put by an inner strategy, when they are
+ * first read with a hash that differs from the hash of the copied content.
+ * <p>
+ * Values smaller than the threshold are only remembered by their hash, so that they are
+ * not encoded again on every read. Content is released when its value is missed,
+ * {@link #evicted(CacheKey, CacheValue) evicted from the store} or the cache is cleared.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class OffHeapCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private final long threshold;
+
+	private final ConcurrentMap<CacheKey, OffHeapContent> contents = new ConcurrentHashMap<>();
+
+	private final Set<CacheKey> copying = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Creates a new cache strategy.
+	 * @param cacheStrategy the strategy to decorate
+	 * @param threshold the minimum size of the raw content in bytes to be kept in direct
+	 * buffers
+	 */
+	OffHeapCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, long threshold) {
+		super(cacheStrategy);
+		this.threshold = threshold;
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		final CacheValue value = super.get(key);
+		if (value == null) {
+			this.contents.remove(key);
+		}
+		else {
+			final OffHeapContent content = this.contents.get(key);
+			if (content == null || !Objects.equals(content.hash(), value.getHash())) {
+				copy(key, value);
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		// Copied before the value is put, so that the value cannot be evicted from the
+		// store before its content has been copied
+		if (value == null) {
+			this.contents.remove(key);
+		}
+		else {
+			copy(key, value);
+		}
+		super.put(key, value);
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.contents.clear();
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.contents.clear();
+	}
+
+	/**
+	 * Releases the content of a value that has been evicted from the underlying store,
+	 * unless a newer version has been copied in the meantime.
+	 * @param key the evicted key
+	 * @param value the evicted value
+	 */
+	void evicted(CacheKey key, CacheValue value) {
+		this.contents.computeIfPresent(key,
+				(k, current) -> Objects.equals(current.hash(), value.getHash()) ? null : current);
+	}
+
+	/**
+	 * Returns the content of a key as copied for the last value read or put. Callers must
+	 * compare its hash with the hash of the value they are about to serve.
+	 * @param key the key to look up
+	 * @return the content or {@literal null} if the key has not been copied yet or is
+	 * smaller than the threshold
+	 */
+	OffHeapContent getContent(CacheKey key) {
+		final OffHeapContent content = this.contents.get(key);
+		return (content != null && content.content() != null) ? content : null;
+	}
+
+	private void copy(CacheKey key, CacheValue value) {
+		if (value.getRawContent() == null || !this.copying.add(key)) {
+			return;
+		}
+		try {
+			final Charset charset = Charset.forName(Context.get().getConfig().getEncoding());
+			final byte[] raw = value.getRawContent().getBytes(charset);
+			this.contents.put(key,
+					new OffHeapContent(value.getHash(), (raw.length < this.threshold) ? null : toDirectBuffer(raw)));
+		}
+		finally {
+			this.copying.remove(key);
+		}
+	}
+
+	private static ByteBuffer toDirectBuffer(byte[] content) {
+		final ByteBuffer rv = ByteBuffer.allocateDirect(content.length);
+		rv.put(content).flip();
+		return rv.asReadOnlyBuffer();
+	}
+
+	/**
+	 * A single version of a value held in a direct buffer. The buffer is shared, callers
+	 * must write {@link ByteBuffer#duplicate() duplicates} of it.
+	 *
+	 * @param hash the hash of the value that has been copied
+	 * @param content the raw content encoded with the configured encoding
+	 */
+	record OffHeapContent(String hash, ByteBuffer content) {
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.support.HttpHeader;
+import ro.isdc.wro.http.support.ResponseHeadersConfigurer;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.util.WroUtil;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * A filter in front of the Wro4j filter, serving large groups from direct buffers with
+ * the same headers as Wro4j. Requests for groups that are not cached or below the
+ * threshold and requests accepting gzip, for which Wro4j already writes its cached
+ * content without copying it, are passed on to the Wro4j filter.
+ * <p>
+ * Containers supporting {@link ServletOutputStream#write(ByteBuffer)}, for example
+ * Tomcat, copy the buffers straight into their network buffers. For all other containers
+ * the buffers are written in small chunks, so that no array the size of the group is
+ * allocated per request.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class OffHeapContentFilter implements Filter {
+
+	private static final int CHUNK_SIZE = 8192;
+
+	/**
+	 * Whether an output stream overrides the default implementation of
+	 * {@link ServletOutputStream#write(ByteBuffer)}, which copies the whole buffer into a
+	 * new array.
+	 */
+	private static final ClassValue<Boolean> WRITES_BUFFERS = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return !ServletOutputStream.class
+				.equals(ReflectionUtils.findMethod(type, "write", ByteBuffer.class).getDeclaringClass());
+		}
+	};
+
+	private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+	private final ObjectProvider<WroManagerFactory> wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final OffHeapContents offHeapContents;
+
+	OffHeapContentFilter(ObjectProvider<WroManagerFactory> wroManagerFactory, WroConfiguration wroConfiguration,
+			OffHeapContents offHeapContents) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.offHeapContents = offHeapContents;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		final CachedContent cachedContent = (request instanceof HttpServletRequest httpServletRequest
+				&& "GET".equals(httpServletRequest.getMethod())
+				&& !(this.wroConfiguration.isGzipEnabled() && WroUtil.isGzipSupported(httpServletRequest)))
+						? getCachedContent(httpServletRequest) : null;
+		if (cachedContent == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+		serve((HttpServletRequest) request, (HttpServletResponse) response, cachedContent);
+	}
+
+	/**
+	 * Looks up the content to serve for the given request.
+	 * @param request the current request
+	 * @return the content to serve or {@literal null} if the request should be handled by
+	 * Wro4j
+	 */
+	private CachedContent getCachedContent(HttpServletRequest request) {
+		return CacheWarmer.withContext(this.wroConfiguration, () -> {
+			final WroManager wroManager = this.wroManagerFactory.getObject().create();
+			final CacheKey cacheKey = wroManager.getCacheKeyFactory().create(request);
+			// Don't ask the cache for keys that are not held off-heap, so that misses are
+			// only recorded once by Wro4j
+			if (cacheKey == null || this.offHeapContents.getContent(cacheKey) == null) {
+				return null;
+			}
+			final CacheValue value = wroManager.getCacheStrategy().get(cacheKey);
+			final OffHeapCacheStrategy.OffHeapContent content = this.offHeapContents.getContent(cacheKey);
+			if (value == null || content == null || !Objects.equals(value.getHash(), content.hash())) {
+				return null;
+			}
+			return new CachedContent(cacheKey, value.getHash(), content.content().duplicate());
+		});
+	}
+
+	private void serve(HttpServletRequest request, HttpServletResponse response, CachedContent cachedContent)
+			throws IOException {
+		ResponseHeadersConfigurer.fromConfig(this.wroConfiguration).setHeaders(response);
+		response.setHeader(HttpHeader.VARY.toString(), HttpHeader.ACCEPT_ENCODING.toString());
+		final String etag = String.format("\"%s\"", cachedContent.hash());
+		response.setHeader(HttpHeader.ETAG.toString(), etag);
+		if (etag.equals(request.getHeader(HttpHeader.IF_NONE_MATCH.toString()))) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		response.setContentType(cachedContent.cacheKey().getType().getContentType() + ";charset="
+				+ this.wroConfiguration.getEncoding());
+		response.setContentLength(cachedContent.content().remaining());
+		write(cachedContent.content(), response.getOutputStream());
+	}
+
+	/**
+	 * Writes a buffer to an output stream with as few copies as the output stream
+	 * supports.
+	 * @param content the buffer to write
+	 * @param outputStream the output stream to write to
+	 * @throws IOException if writing fails
+	 */
+	static void write(ByteBuffer content, ServletOutputStream outputStream) throws IOException {
+		if (WRITES_BUFFERS.get(outputStream.getClass())) {
+			outputStream.write(content);
+			return;
+		}
+		final byte[] chunk = CHUNK.get();
+		while (content.hasRemaining()) {
+			final int length = Math.min(chunk.length, content.remaining());
+			content.get(chunk, 0, length);
+			outputStream.write(chunk, 0, length);
+		}
+	}
+
+	private record CachedContent(CacheKey cacheKey, String hash, ByteBuffer content) {
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+
+/**
+ * Large groups held in direct buffers. Content is only available for the cache strategy
+ * of the auto-configured manager factory.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class OffHeapContents {
+
+	private final long threshold;
+
+	private volatile OffHeapCacheStrategy offHeapCacheStrategy;
+
+	OffHeapContents(long threshold) {
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Decorates a cache strategy so that all of its values reaching the threshold are
+	 * copied into direct buffers.
+	 * @param cacheStrategy the cache strategy to decorate
+	 * @return the decorated cache strategy
+	 */
+	CacheStrategy<CacheKey, CacheValue> decorate(CacheStrategy<CacheKey, CacheValue> cacheStrategy) {
+		this.offHeapCacheStrategy = new OffHeapCacheStrategy(cacheStrategy, this.threshold);
+		return this.offHeapCacheStrategy;
+	}
+
+	/**
+	 * Releases the content of a value evicted from the store.
+	 * @param key the evicted key
+	 * @param value the evicted value
+	 * @see OffHeapCacheStrategy#evicted(CacheKey, CacheValue)
+	 */
+	void evicted(CacheKey key, CacheValue value) {
+		final OffHeapCacheStrategy cacheStrategy = this.offHeapCacheStrategy;
+		if (cacheStrategy != null) {
+			cacheStrategy.evicted(key, value);
+		}
+	}
+
+	/**
+	 * Returns the content of the given key held in direct buffers.
+	 * @param key the key to look up
+	 * @return the content or {@literal null} if the key is not held in direct buffers
+	 * @see OffHeapCacheStrategy#getContent(CacheKey)
+	 */
+	OffHeapCacheStrategy.OffHeapContent getContent(CacheKey key) {
+		final OffHeapCacheStrategy cacheStrategy = this.offHeapCacheStrategy;
+		return (cacheStrategy != null) ? cacheStrategy.getContent(key) : null;
+	}
+
+}
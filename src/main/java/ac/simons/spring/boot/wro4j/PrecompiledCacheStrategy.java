@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
+import ro.isdc.wro.model.resource.support.hash.HashStrategy;
+import ro.isdc.wro.model.resource.support.hash.SHA1HashStrategy;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.core.log.LogAccessor;
+
+/**
+ * A cache strategy serving groups that have been processed at build time through the
+ * {@link Wro4jPrecompiler}. Groups not present in the precompiled location are left to
+ * the decorated strategy and thus processed at runtime as before. The files available in
+ * the precompiled location are resolved once on creation.
+ * <p>
+ * The hash of precompiled content is computed with the hash strategy injected by Wro4j,
+ * so that it matches the hash of content processed at runtime. Resources referenced
+ * through proxy urls in precompiled stylesheets are authorized with the injected
+ * authorization manager when the stylesheet is loaded, as the
+ * {@code CssUrlRewritingProcessor} authorizing them at runtime does not run for
+ * precompiled content.
+ * <p>
+ * Groups evicted through {@code put(key, null)}, for example by the
+ * {@link ResourceFileWatcher} or the {@link ModelReloader}, are considered to be changed
+ * since the build and are not served from the precompiled location anymore.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class PrecompiledCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private static final LogAccessor LOGGER = new LogAccessor(
+			LogFactory.getLog(PrecompiledCacheStrategy.class.getName()));
+
+	/**
+	 * Same strategy as the default one used by Wro4j to compute the hash of a group, used
+	 * as long as no strategy has been injected.
+	 */
+	private static final HashStrategy DEFAULT_HASH_STRATEGY = new SHA1HashStrategy();
+
+	@Inject
+	private HashStrategy hashStrategy;
+
+	@Inject
+	private ResourceAuthorizationManager authorizationManager;
+
+	/**
+	 * The precompiled files by their name.
+	 */
+	private final Map<String, Resource> resources;
+
+	/**
+	 * Groups evicted since startup, whose precompiled content is considered stale.
+	 */
+	private final Set<CacheKey> evicted = ConcurrentHashMap.newKeySet();
+
+	PrecompiledCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, String location,
+			ResourceLoader resourceLoader) {
+		super(cacheStrategy);
+		this.resources = resolve(location.endsWith("/") ? location : location + "/", resourceLoader);
+	}
+
+	private static Map<String, Resource> resolve(String location, ResourceLoader resourceLoader) {
+		final Map<String, Resource> rv = new HashMap<>();
+		try {
+			for (Resource resource : ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+				.getResources(location + "*")) {
+				if (resource.isReadable()) {
+					rv.put(resource.getFilename(), resource);
+				}
+			}
+		}
+		catch (IOException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not resolve precompiled groups in '%s'", location));
+		}
+		return rv;
+	}
+
+	/**
+	 * Computes the name of the file containing the precompiled content of a group.
+	 * @param cacheKey the cache key of the group
+	 * @return the name of the file
+	 */
+	static String getFileName(CacheKey cacheKey) {
+		return cacheKey.getGroupName() + "." + cacheKey.getType().name().toLowerCase(Locale.ROOT);
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		CacheValue value = super.get(key);
+		if (value == null) {
+			value = load(key, Context.get().getConfig());
+			if (value != null) {
+				super.put(key, value);
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		if (value == null) {
+			this.evicted.add(key);
+		}
+		super.put(key, value);
+	}
+
+	private CacheValue load(CacheKey key, WroConfiguration configuration) {
+		// Only minimized content is precompiled when minimizing is enabled
+		if (key.isMinimize() != configuration.isMinimizeEnabled() || this.evicted.contains(key)) {
+			return null;
+		}
+
+		final Resource resource = this.resources.get(getFileName(key));
+		if (resource == null) {
+			return null;
+		}
+
+		final Charset charset = Charset.forName(configuration.getEncoding());
+		try (InputStream in = resource.getInputStream()) {
+			final String content = new String(in.readAllBytes(), charset);
+			final String hash = ((this.hashStrategy != null) ? this.hashStrategy : DEFAULT_HASH_STRATEGY)
+				.getHash(new ByteArrayInputStream(content.getBytes(charset)));
+			if (key.getType() == ResourceType.CSS) {
+				ProxyResources.authorize(this.authorizationManager, content);
+			}
+			LOGGER.debug(() -> String.format("Serving precompiled content for group '%s' from '%s'", key.getGroupName(),
+					resource.getDescription()));
+			return CacheValue.valueOf(content, hash);
+		}
+		catch (IOException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not read precompiled content for group '%s', processing it",
+					key.getGroupName()));
+			return null;
+		}
+	}
+
+}
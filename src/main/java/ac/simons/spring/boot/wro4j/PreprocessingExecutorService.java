@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.group.processor.Injector;
+import ro.isdc.wro.model.group.processor.PreProcessorExecutor;
+import ro.isdc.wro.util.ObjectDecorator;
+
+import org.springframework.core.log.LogAccessor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Runs the parallel pre-processing of Wro4j on a task executor managed by Spring. Wro4j
+ * otherwise creates a fixed pool of platform threads for every injector it builds, which
+ * is neither visible to the application nor shut down for injectors created to process a
+ * single group.
+ * <p>
+ * Wro4j offers no way to configure that pool, so this executor service is set on the
+ * {@link PreProcessorExecutor} of each injector. The one of the manager is set before the
+ * first group is processed through the cache strategy returned by
+ * {@link #decorate(CacheStrategy)}, all other injectors must be passed to
+ * {@link #apply(CacheStrategy, Injector)}. The field holding the pool is looked up when
+ * it is set for the first time, if a version of Wro4j doesn't have it, resources are
+ * pre-processed on the pool of Wro4j. Shutting down this executor service has no effect,
+ * the task executor is shut down by Spring.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class PreprocessingExecutorService extends AbstractExecutorService {
+
+	private static final LogAccessor LOGGER = new LogAccessor(
+			LogFactory.getLog(PreprocessingExecutorService.class.getName()));
+
+	private final TaskExecutor taskExecutor;
+
+	private final String executorFieldName;
+
+	private volatile Field executorField;
+
+	private volatile boolean executorFieldMissing;
+
+	PreprocessingExecutorService(TaskExecutor taskExecutor) {
+		this(taskExecutor, "executor");
+	}
+
+	/**
+	 * Creates a new executor service.
+	 * @param taskExecutor the task executor to run the pre-processing on
+	 * @param executorFieldName the name of the field of the {@link PreProcessorExecutor}
+	 * holding its pool
+	 */
+	PreprocessingExecutorService(TaskExecutor taskExecutor, String executorFieldName) {
+		this.taskExecutor = taskExecutor;
+		this.executorFieldName = executorFieldName;
+	}
+
+	/**
+	 * Decorates the cache strategy of a manager, so that the manager pre-processes
+	 * resources on this executor service.
+	 * @param cacheStrategy the cache strategy to decorate
+	 * @return the decorated cache strategy
+	 */
+	CacheStrategy<CacheKey, CacheValue> decorate(CacheStrategy<CacheKey, CacheValue> cacheStrategy) {
+		return new ApplyingCacheStrategy(cacheStrategy, this);
+	}
+
+	/**
+	 * Lets an injector pre-process resources on the executor service of the given cache
+	 * strategy, if it has been {@link #decorate(CacheStrategy) decorated}.
+	 * @param cacheStrategy the cache strategy of the manager the injector has been
+	 * created for
+	 * @param injector the injector to configure
+	 */
+	static void apply(CacheStrategy<CacheKey, CacheValue> cacheStrategy, Injector injector) {
+		Object current = cacheStrategy;
+		while (current instanceof ObjectDecorator<?> decorator) {
+			if (current instanceof ApplyingCacheStrategy applyingCacheStrategy) {
+				applyingCacheStrategy.executorService
+					.apply(injector.inject(new InjectionTarget()).preProcessorExecutor);
+				return;
+			}
+			current = decorator.getDecoratedObject();
+		}
+	}
+
+	/**
+	 * Sets this executor service on the given pre-processor executor, shutting down the
+	 * pool it has created on its own, if any.
+	 * @param preProcessorExecutor the pre-processor executor to configure
+	 */
+	void apply(PreProcessorExecutor preProcessorExecutor) {
+		final Field field = getExecutorField();
+		if (field == null) {
+			return;
+		}
+		final Object previous = ReflectionUtils.getField(field, preProcessorExecutor);
+		ReflectionUtils.setField(field, preProcessorExecutor, this);
+		if (previous instanceof ExecutorService executorService && previous != this) {
+			executorService.shutdown();
+		}
+	}
+
+	private Field getExecutorField() {
+		Field rv = this.executorField;
+		if (rv != null || this.executorFieldMissing) {
+			return rv;
+		}
+		rv = ReflectionUtils.findField(PreProcessorExecutor.class, this.executorFieldName, ExecutorService.class);
+		if (rv == null) {
+			this.executorFieldMissing = true;
+			LOGGER.warn("The executor of this version of Wro4j cannot be configured, resources are pre-processed "
+					+ "on the pool of Wro4j");
+			return null;
+		}
+		ReflectionUtils.makeAccessible(rv);
+		this.executorField = rv;
+		return rv;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		this.taskExecutor.execute(command);
+	}
+
+	@Override
+	public void shutdown() {
+		// The task executor is shut down by Spring
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		return List.of();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return false;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return false;
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) {
+		return false;
+	}
+
+	/**
+	 * Injected by Wro4j together with the synchronized cache strategy of the manager and
+	 * applies the executor service before the first value is loaded.
+	 */
+	private static final class ApplyingCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+		private final PreprocessingExecutorService executorService;
+
+		@Inject
+		private PreProcessorExecutor preProcessorExecutor;
+
+		private volatile PreProcessorExecutor applied;
+
+		ApplyingCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy,
+				PreprocessingExecutorService executorService) {
+			super(cacheStrategy);
+			this.executorService = executorService;
+		}
+
+		@Override
+		public CacheValue get(CacheKey key) {
+			final PreProcessorExecutor current = this.preProcessorExecutor;
+			if (current != null && current != this.applied) {
+				this.executorService.apply(current);
+				this.applied = current;
+			}
+			return super.get(key);
+		}
+
+	}
+
+	private static final class InjectionTarget {
+
+		@Inject
+		private PreProcessorExecutor preProcessorExecutor;
+
+	}
+
+}
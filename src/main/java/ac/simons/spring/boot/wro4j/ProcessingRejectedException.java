@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.Serial;
+import java.time.Duration;
+
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.cache.CacheKey;
+
+/**
+ * Thrown when a group is missing in the cache and cannot be processed because all permits
+ * for processing groups are taken and the queue of waiting requests is full or the
+ * maximum time to wait has passed.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ProcessingRejectedException extends WroRuntimeException {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final Duration retryAfter;
+
+	ProcessingRejectedException(CacheKey key, Duration retryAfter) {
+		super(String.format("Processing of group '%s' (%s) has been rejected", key.getGroupName(), key.getType()));
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * Returns the value of a {@code Retry-After} header for this rejection.
+	 * @return the time after which to retry in whole seconds, at least one
+	 */
+	String getRetryAfterHeaderValue() {
+		return String.valueOf(Math.max(1, this.retryAfter.toSeconds()));
+	}
+
+}
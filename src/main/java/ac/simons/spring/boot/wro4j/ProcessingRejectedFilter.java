@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * A filter in front of the Wro4j filter and all other filters in front of it, answering
+ * requests whose group could not be processed because of the limit of groups processed at
+ * the same time with {@code 503 Service Unavailable} and a {@code Retry-After} header.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ProcessingRejectedFilter implements Filter {
+
+	static final String RETRY_AFTER = "Retry-After";
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		try {
+			chain.doFilter(request, response);
+		}
+		catch (ProcessingRejectedException ex) {
+			if (response.isCommitted()) {
+				throw ex;
+			}
+			final HttpServletResponse httpServletResponse = (HttpServletResponse) response;
+			httpServletResponse.reset();
+			httpServletResponse.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+			httpServletResponse.setHeader(RETRY_AFTER, ex.getRetryAfterHeaderValue());
+		}
+	}
+
+}
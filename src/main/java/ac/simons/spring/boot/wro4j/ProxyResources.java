@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import ro.isdc.wro.http.handler.RequestHandlerSupport;
+import ro.isdc.wro.http.handler.ResourceProxyRequestHandler;
+import ro.isdc.wro.model.resource.support.MutableResourceAuthorizationManager;
+import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
+
+/**
+ * Support for the proxy urls the {@code CssUrlRewritingProcessor} rewrites urls in
+ * stylesheets to. The processor authorizes those urls while processing a group, the
+ * resource proxy of Wro4j refuses to serve all others. Content not processed in the
+ * current run of the application, for example content read from disk or precompiled at
+ * build time, has to be authorized again before the urls in it are requested.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+final class ProxyResources {
+
+	/**
+	 * Matches the id of the resource in proxy urls, which ends with the url.
+	 */
+	private static final Pattern PROXY_URL = Pattern
+		.compile(Pattern.quote("?" + RequestHandlerSupport.PATH_API + "=" + ResourceProxyRequestHandler.PATH_RESOURCES
+				+ "&" + ResourceProxyRequestHandler.PARAM_RESOURCE_ID + "=") + "([^)'\"\\s]+)");
+
+	private ProxyResources() {
+	}
+
+	/**
+	 * Authorizes all resources referenced through proxy urls in the given content.
+	 * Nothing is authorized if the authorization manager is not mutable.
+	 * @param authorizationManager the authorization manager used by the resource proxy
+	 * @param content the processed content of a group
+	 * @return the number of authorized resources
+	 */
+	static int authorize(ResourceAuthorizationManager authorizationManager, String content) {
+		if (!(authorizationManager instanceof MutableResourceAuthorizationManager mutableAuthorizationManager)) {
+			return 0;
+		}
+		int rv = 0;
+		final Matcher matcher = PROXY_URL.matcher(content);
+		while (matcher.find()) {
+			mutableAuthorizationManager.add(matcher.group(1));
+			++rv;
+		}
+		return rv;
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.factory.WroModelFactory;
+import ro.isdc.wro.model.factory.WroModelFactoryDecorator;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.ResourceType;
+
+/**
+ * A model factory keeping the model created by the decorated factory until it is
+ * explicitly reloaded. Reloading creates a new model next to the current one and only
+ * replaces the current one if the definition of any group changed, so that requests are
+ * never blocked by creating the model again, apart from the very first request.
+ * <p>
+ * Destroying this factory, as Wro4j does when its model is reloaded, keeps the current
+ * model.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ReloadingModelFactory extends WroModelFactoryDecorator {
+
+	private volatile WroModel model;
+
+	ReloadingModelFactory(WroModelFactory modelFactory) {
+		super(modelFactory);
+	}
+
+	@Override
+	public WroModel create() {
+		WroModel rv = this.model;
+		if (rv == null) {
+			synchronized (this) {
+				if (this.model == null) {
+					this.model = super.create();
+				}
+				rv = this.model;
+			}
+		}
+		return rv;
+	}
+
+	/**
+	 * Creates a new model through the decorated factory and replaces the current model
+	 * with it if the definition of any group changed. Must be called inside a context.
+	 * @return the names of all groups that have been added, removed or changed
+	 */
+	Set<String> reload() {
+		final WroModel current = this.model;
+		if (current == null) {
+			// Not created yet, the first request will create the current model anyway
+			return Set.of();
+		}
+		final WroModel reloaded = super.create();
+		final Set<String> changedGroups = getChangedGroups(current, reloaded);
+		if (!changedGroups.isEmpty()) {
+			this.model = reloaded;
+		}
+		return changedGroups;
+	}
+
+	/**
+	 * Compares the groups of two models by their resources.
+	 * @param current the current model
+	 * @param reloaded the reloaded model
+	 * @return the names of all groups that have been added, removed or changed
+	 */
+	static Set<String> getChangedGroups(WroModel current, WroModel reloaded) {
+		final Map<String, List<ResourceDefinition>> currentGroups = getDefinitions(current);
+		final Map<String, List<ResourceDefinition>> reloadedGroups = getDefinitions(reloaded);
+		final Set<String> rv = new TreeSet<>();
+		currentGroups.forEach((name, resources) -> {
+			if (!resources.equals(reloadedGroups.get(name))) {
+				rv.add(name);
+			}
+		});
+		reloadedGroups.keySet().stream().filter(name -> !currentGroups.containsKey(name)).forEach(rv::add);
+		return rv;
+	}
+
+	private static Map<String, List<ResourceDefinition>> getDefinitions(WroModel model) {
+		return model.getGroups()
+			.stream()
+			.collect(Collectors.toMap(Group::getName, group -> group.getResources()
+				.stream()
+				.map(resource -> new ResourceDefinition(resource.getUri(), resource.getType(), resource.isMinimize()))
+				.toList()));
+	}
+
+	private record ResourceDefinition(String uri, ResourceType type, boolean minimize) {
+	}
+
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.Resource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.log.LogAccessor;
+
+/**
+ * Watches the files backing the resources of the model and evicts the groups containing a
+ * file as soon as it changes. Only the changed groups are processed again, instead of all
+ * groups being checked periodically as done by the resource watcher of Wro4j.
+ * <p>
+ * Resources are resolved through the {@link ResourceLoader} of the application. Resources
+ * that are not available as files, for example resources inside jar files or remote
+ * resources, are not watched. Use {@code wro4j.resourceWatcherUpdatePeriod} for those.
+ * Wildcard resources are watched through their base directory. Files imported by
+ * stylesheets are only watched if they are resources of the model themselves.
+ * <p>
+ * The model is checked for changes in a fixed interval, so that resources added by
+ * reloading the model are watched as well.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ResourceFileWatcher implements SmartLifecycle {
+
+	/**
+	 * The interval in which the model is checked for changes by default.
+	 */
+	static final Duration DEFAULT_MODEL_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+	private static final LogAccessor LOGGER = new LogAccessor(LogFactory.getLog(ResourceFileWatcher.class.getName()));
+
+	private final ObjectProvider<WroManagerFactory> wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final ResourceLoader resourceLoader;
+
+	private final Duration modelCheckInterval;
+
+	private final Object lifecycleMonitor = new Object();
+
+	/**
+	 * Registered directories, only modified by the thread watching them once it has been
+	 * started.
+	 */
+	private final Map<Path, WatchKey> watchKeys = new ConcurrentHashMap<>();
+
+	private volatile Index index = Index.EMPTY;
+
+	private Thread watcher;
+
+	ResourceFileWatcher(ObjectProvider<WroManagerFactory> wroManagerFactory, WroConfiguration wroConfiguration,
+			ResourceLoader resourceLoader, Duration modelCheckInterval) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.resourceLoader = resourceLoader;
+		this.modelCheckInterval = modelCheckInterval;
+	}
+
+	@Override
+	public void start() {
+		synchronized (this.lifecycleMonitor) {
+			if (this.watcher != null) {
+				return;
+			}
+			final WatchService watchService;
+			try {
+				watchService = FileSystems.getDefault().newWatchService();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Could not watch the resources of the model", ex);
+			}
+			this.watcher = new Thread(() -> watch(watchService), "wro4j-file-watcher");
+			this.watcher.setDaemon(true);
+			this.watcher.start();
+		}
+	}
+
+	@Override
+	public void stop() {
+		final Thread stoppedWatcher;
+		synchronized (this.lifecycleMonitor) {
+			if (this.watcher == null) {
+				return;
+			}
+			stoppedWatcher = this.watcher;
+			this.watcher = null;
+		}
+		stoppedWatcher.interrupt();
+		try {
+			stoppedWatcher.join(TimeUnit.SECONDS.toMillis(10));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		synchronized (this.lifecycleMonitor) {
+			return this.watcher != null;
+		}
+	}
+
+	private void watch(WatchService watchService) {
+		try (watchService) {
+			while (!Thread.currentThread().isInterrupted()) {
+				try {
+					refresh(watchService);
+					final WatchKey watchKey = watchService.poll(this.modelCheckInterval.toMillis(),
+							TimeUnit.MILLISECONDS);
+					if (watchKey != null) {
+						evict(getChangedGroups(watchService, watchKey));
+					}
+				}
+				catch (RuntimeException ex) {
+					LOGGER.warn(ex, "Could not handle changed resources");
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (IOException ex) {
+			LOGGER.debug(ex, "Could not close the watch service");
+		}
+		this.watchKeys.clear();
+		this.index = Index.EMPTY;
+	}
+
+	/**
+	 * Indexes the resources of the model and registers their directories, if the model
+	 * has changed since the last call.
+	 * @param watchService the watch service to register the directories with
+	 */
+	private void refresh(WatchService watchService) {
+		final WroModel model = CacheWarmer.withContext(this.wroConfiguration,
+				() -> this.wroManagerFactory.getObject().create().getModelFactory().create());
+		if (model == this.index.model()) {
+			return;
+		}
+
+		final Map<Path, Set<String>> files = new HashMap<>();
+		final Map<Path, Set<String>> directories = new HashMap<>();
+		final Map<Path, Set<String>> trees = new HashMap<>();
+		final List<String> unwatched = new ArrayList<>();
+		for (Group group : model.getGroups()) {
+			for (Resource resource : group.getResources()) {
+				final String uri = resource.getUri();
+				final int wildcard = indexOfWildcard(uri);
+				final Path path = resolve((wildcard < 0) ? uri : uri.substring(0, uri.lastIndexOf('/', wildcard) + 1));
+				if (path == null) {
+					unwatched.add(uri);
+					continue;
+				}
+				final Map<Path, Set<String>> target;
+				if (wildcard < 0) {
+					target = files;
+				}
+				else {
+					target = uri.contains("**") ? trees : directories;
+				}
+				target.computeIfAbsent(path, k -> new HashSet<>()).add(group.getName());
+			}
+		}
+		this.index = new Index(model, files, directories, trees, unwatched);
+
+		final Set<Path> watched = new HashSet<>();
+		files.keySet().forEach(file -> watched.add(file.getParent()));
+		watched.addAll(directories.keySet());
+		for (Path tree : trees.keySet()) {
+			watched.addAll(getDirectories(tree));
+		}
+		this.watchKeys.entrySet().removeIf(entry -> {
+			if (watched.contains(entry.getKey())) {
+				return false;
+			}
+			entry.getValue().cancel();
+			return true;
+		});
+		watched.forEach(directory -> register(watchService, directory));
+
+		LOGGER.info(() -> String.format("Watching %d directories for changes of %d resources", this.watchKeys.size(),
+				files.size() + directories.size() + trees.size()));
+		if (!unwatched.isEmpty()) {
+			LOGGER.info(() -> String.format("%d resources are not available as files and not watched: %s",
+					unwatched.size(), unwatched));
+		}
+	}
+
+	/**
+	 * Computes the groups affected by the events of a watch key and registers new
+	 * directories of recursively watched trees. All groups are affected if events have
+	 * been lost.
+	 * @param watchService the watch service to register new directories with
+	 * @param watchKey the signalled watch key
+	 * @return the names of the affected groups
+	 */
+	private Set<String> getChangedGroups(WatchService watchService, WatchKey watchKey) {
+		final Path directory = (Path) watchKey.watchable();
+		final Index currentIndex = this.index;
+		final Set<String> rv = new LinkedHashSet<>();
+		for (WatchEvent<?> event : watchKey.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+				rv.addAll(currentIndex.getGroups());
+				continue;
+			}
+			final Path path = directory.resolve((Path) event.context());
+			rv.addAll(currentIndex.getGroups(path));
+			if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)
+					&& currentIndex.isInTree(path)) {
+				getDirectories(path).forEach(newDirectory -> register(watchService, newDirectory));
+			}
+		}
+		if (!watchKey.reset()) {
+			this.watchKeys.remove(directory, watchKey);
+		}
+		return rv;
+	}
+
+	/**
+	 * Evicts all cache keys of the given groups through the cache strategy of the
+	 * manager.
+	 * @param groups the groups to evict
+	 */
+	private void evict(Set<String> groups) {
+		if (groups.isEmpty()) {
+			return;
+		}
+		CacheWarmer.withContext(this.wroConfiguration, () -> {
+			CacheWarmer.evict(this.wroManagerFactory.getObject().create().getCacheStrategy(), groups);
+			return null;
+		});
+		LOGGER.info(() -> String.format("Evicted groups %s after their resources changed", groups));
+	}
+
+	private void register(WatchService watchService, Path directory) {
+		if (this.watchKeys.containsKey(directory)) {
+			return;
+		}
+		try {
+			this.watchKeys.put(directory, directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE));
+		}
+		catch (IOException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not watch directory '%s'", directory));
+		}
+	}
+
+	/**
+	 * Resolves a location to a file or directory.
+	 * @param location the location to resolve
+	 * @return the absolute path or {@literal null} if the location is not a file
+	 */
+	private Path resolve(String location) {
+		try {
+			final org.springframework.core.io.Resource resource = this.resourceLoader.getResource(location);
+			return resource.isFile() ? resource.getFile().toPath().toAbsolutePath().normalize() : null;
+		}
+		catch (IOException | RuntimeException ex) {
+			return null;
+		}
+	}
+
+	private static int indexOfWildcard(String uri) {
+		final int star = uri.indexOf('*');
+		final int questionMark = uri.indexOf('?');
+		if (star < 0 || questionMark < 0) {
+			return Math.max(star, questionMark);
+		}
+		return Math.min(star, questionMark);
+	}
+
+	private static List<Path> getDirectories(Path root) {
+		try (Stream<Path> paths = Files.walk(root)) {
+			return paths.filter(Files::isDirectory).toList();
+		}
+		catch (IOException | RuntimeException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not list directories below '%s'", root));
+			return List.of();
+		}
+	}
+
+	/**
+	 * Returns the resources of the model that are not available as files.
+	 * @return the uris of resources that are not watched
+	 */
+	List<String> getUnwatchedResources() {
+		return this.index.unwatched();
+	}
+
+	/**
+	 * Returns the directories currently watched.
+	 * @return the watched directories
+	 */
+	Set<Path> getWatchedDirectories() {
+		return Set.copyOf(this.watchKeys.keySet());
+	}
+
+	/**
+	 * Maps files and directories to the groups of the model containing them.
+	 *
+	 * @param model the indexed model
+	 * @param files groups by file
+	 * @param directories groups by directory of wildcard resources
+	 * @param trees groups by root of recursive wildcard resources
+	 * @param unwatched uris of resources that are not available as files
+	 */
+	private record Index(WroModel model, Map<Path, Set<String>> files, Map<Path, Set<String>> directories,
+			Map<Path, Set<String>> trees, List<String> unwatched) {
+
+		static final Index EMPTY = new Index(null, Map.of(), Map.of(), Map.of(), List.of());
+
+		Set<String> getGroups(Path path) {
+			final Set<String> rv = new HashSet<>(this.files.getOrDefault(path, Set.of()));
+			rv.addAll(this.directories.getOrDefault(path.getParent(), Set.of()));
+			this.trees.forEach((root, groups) -> {
+				if (path.startsWith(root)) {
+					rv.addAll(groups);
+				}
+			});
+			return rv;
+		}
+
+		Set<String> getGroups() {
+			final Set<String> rv = new HashSet<>();
+			Stream.of(this.files, this.directories, this.trees).forEach(map -> map.values().forEach(rv::addAll));
+			return rv;
+		}
+
+		boolean isInTree(Path path) {
+			return this.trees.keySet().stream().anyMatch(path::startsWith);
+		}
+
+	}
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+
+import org.springframework.core.log.LogAccessor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * A cache strategy replacing the periodic clearing of the whole cache by Wro4j with a
+ * refresh per value. Values older than the refresh period are still served, while they
+ * are processed again in the background and replaced once the new value has been put.
+ * Values older than the refresh period plus the maximum staleness are not served anymore,
+ * they are missed and processed again while the request waits, as before.
+ * <p>
+ * The age of a value counts from the time it has been put, or, for values put by inner
+ * strategies, from the time it has first been read.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class RevalidatingCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private static final LogAccessor LOGGER = new LogAccessor(
+			LogFactory.getLog(RevalidatingCacheStrategy.class.getName()));
+
+	private final WroManagerFactory wroManagerFactory;
+
+	private final GroupRequests groupRequests;
+
+	private final Duration refreshPeriod;
+
+	private final Duration maxStaleness;
+
+	private final Clock clock;
+
+	private final ConcurrentMap<CacheKey, Instant> computed = new ConcurrentHashMap<>();
+
+	private final Set<CacheKey> revalidating = ConcurrentHashMap.newKeySet();
+
+	private final ExecutorService executor;
+
+	/**
+	 * Creates a new cache strategy.
+	 * @param cacheStrategy the strategy to decorate
+	 * @param wroManagerFactory the manager factory used to process stale values again
+	 * @param groupRequests the requests for the groups processed again
+	 * @param refreshPeriod the age after which values are processed again
+	 * @param maxStaleness the time stale values are still served after the refresh period
+	 * @param clock the clock to determine the age of values with
+	 */
+	RevalidatingCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, WroManagerFactory wroManagerFactory,
+			GroupRequests groupRequests, Duration refreshPeriod, Duration maxStaleness, Clock clock) {
+		super(cacheStrategy);
+		this.wroManagerFactory = wroManagerFactory;
+		this.groupRequests = groupRequests;
+		this.refreshPeriod = refreshPeriod;
+		this.maxStaleness = maxStaleness;
+		this.clock = clock;
+		final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("wro4j-revalidation-");
+		threadFactory.setDaemon(true);
+		this.executor = Executors.newSingleThreadExecutor(threadFactory);
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		final CacheValue value = super.get(key);
+		if (value == null) {
+			this.computed.remove(key);
+			return null;
+		}
+		final Instant now = this.clock.instant();
+		final Duration age = Duration.between(this.computed.computeIfAbsent(key, k -> now), now);
+		if (age.compareTo(this.refreshPeriod) < 0) {
+			return value;
+		}
+		if (age.compareTo(this.refreshPeriod.plus(this.maxStaleness)) >= 0) {
+			return null;
+		}
+		if (Context.isContextSet()) {
+			revalidate(key, Context.get().getConfig());
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		super.put(key, value);
+		if (value == null) {
+			this.computed.remove(key);
+		}
+		else {
+			this.computed.put(key, this.clock.instant());
+		}
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.computed.clear();
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.computed.clear();
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Processes the given key again in the background, unless it is already being
+	 * processed. The key is processed in a context bound to a request for its group, as
+	 * the request which triggered the revalidation has already been answered.
+	 * @param key the key to process
+	 * @param wroConfiguration the configuration of the current context
+	 */
+	private void revalidate(CacheKey key, WroConfiguration wroConfiguration) {
+		if (!this.revalidating.add(key)) {
+			return;
+		}
+		try {
+			this.executor.execute(() -> {
+				try {
+					this.groupRequests.withContext(wroConfiguration, key, () -> recompute(key));
+				}
+				finally {
+					this.revalidating.remove(key);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			this.revalidating.remove(key);
+		}
+	}
+
+	private Void recompute(CacheKey key) {
+		try {
+			CacheWarmer.recompute(this.wroManagerFactory, key);
+			LOGGER.debug(() -> String.format("Revalidated group '%s' (%s)", key.getGroupName(), key.getType()));
+		}
+		catch (RuntimeException ex) {
+			LOGGER.warn(ex,
+					() -> String.format("Could not revalidate group '%s' (%s)", key.getGroupName(), key.getType()));
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.locator.factory.UriLocatorFactory;
+
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.log.LogAccessor;
+
+/**
+ * A model factory keeping an immutable snapshot of the last parsed model, keyed by the
+ * hash of the XML model and all of its imports. As long as that hash doesn't change, a
+ * new model is created from the snapshot without parsing and validating the XML again,
+ * for example when Wro4j or the {@link ModelReloader} reloads the model.
+ * <p>
+ * Imports are found through a streaming scan of the XML and located through the same
+ * locators Wro4j uses. A snapshot written by the {@link Wro4jPrecompiler} is read from
+ * the configured location on the first creation of the model, so that a restart with an
+ * unchanged model doesn't parse the XML at all.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class SnapshottingXmlModelFactory extends ConfigurableXmlModelFactory {
+
+	/**
+	 * Name of the snapshot written by the {@link Wro4jPrecompiler}.
+	 */
+	static final String SNAPSHOT_FILE_NAME = "model.snapshot";
+
+	private static final LogAccessor LOGGER = new LogAccessor(
+			LogFactory.getLog(SnapshottingXmlModelFactory.class.getName()));
+
+	private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+
+	static {
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+	}
+
+	@Inject
+	private UriLocatorFactory uriLocatorFactory;
+
+	private final String snapshotLocation;
+
+	private final ResourceLoader resourceLoader;
+
+	/**
+	 * The content of the model while it is parsed by Wro4j.
+	 */
+	private byte[] parsedContent;
+
+	private volatile Snapshot snapshot;
+
+	/**
+	 * Creates a new model factory.
+	 * @param xmlModelResource fully qualified path to the XML model resource
+	 * @param snapshotLocation optional location of a precompiled snapshot
+	 * @param resourceLoader the loader used to read the precompiled snapshot
+	 */
+	SnapshottingXmlModelFactory(String xmlModelResource, String snapshotLocation, ResourceLoader resourceLoader) {
+		super(xmlModelResource);
+		this.snapshotLocation = snapshotLocation;
+		this.resourceLoader = resourceLoader;
+	}
+
+	@Override
+	public synchronized WroModel create() {
+		final byte[] content = readModel();
+		final String hash = (content != null) ? computeHash(content) : null;
+		if (hash == null) {
+			return parse(content);
+		}
+
+		Snapshot current = this.snapshot;
+		if (current == null || !current.hash().equals(hash)) {
+			current = loadSnapshot(hash);
+		}
+		if (current == null) {
+			current = Snapshot.of(hash, parse(content));
+			LOGGER.debug(() -> String.format("Parsed model with hash %s", hash));
+		}
+		this.snapshot = current;
+		return current.toModel();
+	}
+
+	@Override
+	protected InputStream getModelResourceAsStream() {
+		return (this.parsedContent != null) ? new ByteArrayInputStream(this.parsedContent)
+				: super.getModelResourceAsStream();
+	}
+
+	/**
+	 * Returns the snapshot of the last created model.
+	 * @return the snapshot or {@literal null} if no model has been created yet
+	 */
+	Snapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+	private byte[] readModel() {
+		try (InputStream in = super.getModelResourceAsStream()) {
+			return (in != null) ? in.readAllBytes() : null;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private WroModel parse(byte[] content) {
+		this.parsedContent = content;
+		try {
+			return super.create();
+		}
+		finally {
+			this.parsedContent = null;
+		}
+	}
+
+	/**
+	 * Computes the hash of the model and all of its imports.
+	 * @param content the content of the model
+	 * @return the hash or {@literal null} if an import cannot be read, in which case the
+	 * model is parsed and Wro4j reports the problem
+	 */
+	private String computeHash(byte[] content) {
+		final MessageDigest digest = newDigest();
+		try {
+			update(digest, content, new HashSet<>());
+			return HexFormat.of().formatHex(digest.digest());
+		}
+		catch (IOException | XMLStreamException | RuntimeException ex) {
+			LOGGER.debug(ex, "Could not compute the hash of the model");
+			return null;
+		}
+	}
+
+	private void update(MessageDigest digest, byte[] content, Set<String> imports)
+			throws IOException, XMLStreamException {
+		digest.update(content);
+		for (String uri : findImports(content)) {
+			// Recursive imports are detected by Wro4j while parsing
+			if (imports.add(uri)) {
+				digest.update(uri.getBytes(StandardCharsets.UTF_8));
+				try (InputStream in = this.uriLocatorFactory.locate(uri)) {
+					update(digest, in.readAllBytes(), imports);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the imports of a model without building a document.
+	 * @param content the content of the model
+	 * @return the locations of all imported models
+	 * @throws XMLStreamException if the model is not well-formed
+	 */
+	static List<String> findImports(byte[] content) throws XMLStreamException {
+		final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(content));
+		try {
+			final List<String> rv = new ArrayList<>();
+			while (reader.hasNext()) {
+				if (reader.next() == XMLStreamConstants.START_ELEMENT && TAG_IMPORT.equals(reader.getLocalName())) {
+					rv.add(reader.getElementText().trim());
+				}
+			}
+			return rv;
+		}
+		finally {
+			reader.close();
+		}
+	}
+
+	private Snapshot loadSnapshot(String hash) {
+		if (this.snapshotLocation == null) {
+			return null;
+		}
+		final org.springframework.core.io.Resource resource = this.resourceLoader.getResource(this.snapshotLocation);
+		if (!resource.exists()) {
+			return null;
+		}
+		try (InputStream in = resource.getInputStream()) {
+			final Snapshot rv = Snapshot.read(in);
+			if (!rv.hash().equals(hash)) {
+				LOGGER.debug(() -> String.format("Ignoring outdated snapshot '%s'", this.snapshotLocation));
+				return null;
+			}
+			LOGGER.debug(() -> String.format("Using model snapshot '%s'", this.snapshotLocation));
+			return rv;
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not read model snapshot '%s'", this.snapshotLocation));
+			return null;
+		}
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			// Every implementation of the Java platform is required to support SHA-256
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * An immutable representation of a parsed model.
+	 *
+	 * @param hash the hash of the XML model and all of its imports
+	 * @param groups the groups of the model
+	 */
+	record Snapshot(String hash, List<GroupDefinition> groups) {
+
+		/**
+		 * Part of every written snapshot, to be changed when the format changes.
+		 */
+		private static final int FORMAT = 1;
+
+		static Snapshot of(String hash, WroModel model) {
+			final List<GroupDefinition> groups = new ArrayList<>();
+			for (Group group : model.getGroups()) {
+				groups.add(new GroupDefinition(group.getName(),
+						group.getResources()
+							.stream()
+							.map(r -> new ResourceDefinition(r.getUri(), r.getType(), r.isMinimize()))
+							.toList()));
+			}
+			return new Snapshot(hash, List.copyOf(groups));
+		}
+
+		/**
+		 * Creates a new model from this snapshot. The model is mutable and not shared.
+		 * @return a new model
+		 */
+		WroModel toModel() {
+			final WroModel rv = new WroModel();
+			for (GroupDefinition definition : this.groups) {
+				final Group group = new Group(definition.name());
+				for (ResourceDefinition resourceDefinition : definition.resources()) {
+					final Resource resource = Resource.create(resourceDefinition.uri(), resourceDefinition.type());
+					resource.setMinimize(resourceDefinition.minimize());
+					group.addResource(resource);
+				}
+				rv.addGroup(group);
+			}
+			return rv;
+		}
+
+		void write(OutputStream out) throws IOException {
+			final DataOutputStream data = new DataOutputStream(out);
+			data.writeInt(FORMAT);
+			data.writeUTF(this.hash);
+			data.writeInt(this.groups.size());
+			for (GroupDefinition group : this.groups) {
+				data.writeUTF(group.name());
+				data.writeInt(group.resources().size());
+				for (ResourceDefinition resource : group.resources()) {
+					data.writeUTF(resource.uri());
+					data.writeUTF(resource.type().name());
+					data.writeBoolean(resource.minimize());
+				}
+			}
+			data.flush();
+		}
+
+		static Snapshot read(InputStream in) throws IOException {
+			final DataInputStream data = new DataInputStream(in);
+			if (data.readInt() != FORMAT) {
+				throw new IOException("Unsupported snapshot format");
+			}
+			final String hash = data.readUTF();
+			final List<GroupDefinition> groups = new ArrayList<>();
+			for (int i = data.readInt(); i > 0; --i) {
+				final String name = data.readUTF();
+				final List<ResourceDefinition> resources = new ArrayList<>();
+				for (int j = data.readInt(); j > 0; --j) {
+					resources.add(new ResourceDefinition(data.readUTF(), ResourceType.valueOf(data.readUTF()),
+							data.readBoolean()));
+				}
+				groups.add(new GroupDefinition(name, List.copyOf(resources)));
+			}
+			return new Snapshot(hash, List.copyOf(groups));
+		}
+
+	}
+
+	record GroupDefinition(String name, List<ResourceDefinition> resources) {
+	}
+
+	record ResourceDefinition(String uri, ResourceType type, boolean minimize) {
+	}
+
+}
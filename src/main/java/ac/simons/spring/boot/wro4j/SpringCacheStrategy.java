@@ -15,29 +15,35 @@
  */
 package ac.simons.spring.boot.wro4j;
 
-import java.util.function.Function;
-
 import ro.isdc.wro.cache.CacheStrategy;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.Cache.ValueWrapper;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
 /**
  * A simple strategy based on Spring caches. Delegates the heavy lifting to the cache
  * configured by or through Spring.
+ * <p>
+ * The cache is resolved once through the cache manager and then held by the strategy. It
+ * is resolved again after the strategy has been destroyed or the application context has
+ * been refreshed, so that a cache recreated by the manager is picked up.
  *
  * @param <K> type of the keys
  * @param <V> type of the values
  * @author Michael J. Simons
  * @since 2016-01-18
  */
-class SpringCacheStrategy<K, V> implements CacheStrategy<K, V> {
+class SpringCacheStrategy<K, V> implements CacheStrategy<K, V>, ApplicationListener<ContextRefreshedEvent> {
 
 	private final CacheManager cacheManager;
 
 	private final String cacheName;
 
+	private volatile Cache cache;
+
 	SpringCacheStrategy(final CacheManager cacheManager, final String cacheName) {
 		this.cacheManager = cacheManager;
 		this.cacheName = cacheName;
@@ -45,42 +51,60 @@ class SpringCacheStrategy<K, V> implements CacheStrategy<K, V> {
 
 	@Override
 	public void put(final K key, final V value) {
-
-		doWithCache(cache -> {
-			cache.put(key, value);
-			return null;
-		});
+		final Cache resolvedCache = getCache();
+		if (resolvedCache == null) {
+			return;
+		}
+		if (value == null) {
+			resolvedCache.evict(key);
+		}
+		else {
+			resolvedCache.put(key, value);
+		}
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public V get(final K key) {
-		@SuppressWarnings("unchecked")
-		V result = (V) doWithCache(cache -> {
-			ValueWrapper w = cache.get(key);
-			return (w != null) ? w.get() : null;
-		});
-		return result;
+		final Cache resolvedCache = getCache();
+		if (resolvedCache == null) {
+			return null;
+		}
+		final ValueWrapper w = resolvedCache.get(key);
+		return (w != null) ? (V) w.get() : null;
 	}
 
 	@Override
 	public void clear() {
-		doWithCache(cache -> {
-			cache.clear();
-			return null;
-		});
-	}
-
-	private Object doWithCache(Function<Cache, Object> consumer) {
-		Cache cache = this.cacheManager.getCache(this.cacheName);
-		if (cache == null) {
-			return null;
+		final Cache resolvedCache = getCache();
+		if (resolvedCache != null) {
+			resolvedCache.clear();
 		}
-		return consumer.apply(cache);
 	}
 
 	@Override
 	public void destroy() {
 		this.clear();
+		this.cache = null;
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		this.cache = null;
+	}
+
+	/**
+	 * Returns the held cache or resolves it through the cache manager. A cache that
+	 * cannot be resolved is not held, so that the lookup is retried on the next call.
+	 * @return the cache or {@literal null} if the cache manager doesn't provide it
+	 */
+	private Cache getCache() {
+		Cache resolvedCache = this.cache;
+		if (resolvedCache == null) {
+			resolvedCache = this.cacheManager.getCache(this.cacheName);
+			this.cache = resolvedCache;
+		}
+		return resolvedCache;
 	}
 
 }
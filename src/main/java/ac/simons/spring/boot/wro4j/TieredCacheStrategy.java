@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+
+/**
+ * A cache strategy keeping a small local cache in front of another, usually remote, cache
+ * strategy. The local cache is filled on hits in the decorated strategy, so that
+ * subsequent requests neither go over the network nor deserialize the value again.
+ * <p>
+ * Clearing this strategy clears both caches. Values cleared in the decorated strategy
+ * through other means, for example by another instance of the application, stay in the
+ * local cache until they are evicted.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class TieredCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private final CacheStrategy<CacheKey, CacheValue> localCacheStrategy;
+
+	TieredCacheStrategy(CacheStrategy<CacheKey, CacheValue> localCacheStrategy,
+			CacheStrategy<CacheKey, CacheValue> cacheStrategy) {
+		super(cacheStrategy);
+		this.localCacheStrategy = localCacheStrategy;
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		CacheValue value = this.localCacheStrategy.get(key);
+		if (value == null) {
+			value = super.get(key);
+			if (value != null) {
+				this.localCacheStrategy.put(key, value);
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		super.put(key, value);
+		this.localCacheStrategy.put(key, value);
+	}
+
+	@Override
+	public void clear() {
+		this.localCacheStrategy.clear();
+		super.clear();
+	}
+
+	@Override
+	public void destroy() {
+		this.localCacheStrategy.destroy();
+		super.destroy();
+	}
+
+}
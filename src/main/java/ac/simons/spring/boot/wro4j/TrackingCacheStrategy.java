@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+
+/**
+ * A cache strategy keeping track of the size, the time of computation and the number of
+ * hits of every cached value. Keys evicted through {@code put(key, null)} are forgotten.
+ * <p>
+ * The time it took to compute a value is known when the value has been put by the same
+ * thread that missed it before.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class TrackingCacheStrategy extends CacheStrategyDecorator<CacheKey, CacheValue> {
+
+	private final boolean cacheGzippedContent;
+
+	private final ConcurrentMap<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+
+	private final ThreadLocal<Computation> computation = new ThreadLocal<>();
+
+	TrackingCacheStrategy(CacheStrategy<CacheKey, CacheValue> cacheStrategy, boolean cacheGzippedContent) {
+		super(cacheStrategy);
+		this.cacheGzippedContent = cacheGzippedContent;
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		final CacheValue value = super.get(key);
+		if (value != null) {
+			final Entry entry = this.entries.get(key);
+			if (entry != null) {
+				entry.hits().increment();
+			}
+			this.computation.remove();
+		}
+		else {
+			this.entries.remove(key);
+			startComputation(key);
+		}
+		return value;
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		super.put(key, value);
+		if (value == null) {
+			this.entries.remove(key);
+			return;
+		}
+
+		final Computation current = this.computation.get();
+		Duration duration = null;
+		if (current != null && current.key().equals(key)) {
+			this.computation.remove();
+			duration = Duration.ofNanos(System.nanoTime() - current.start());
+		}
+		final byte[] gzippedContent = this.cacheGzippedContent ? value.getGzippedContent() : null;
+		this.entries.put(key, new Entry((value.getRawContent() != null) ? value.getRawContent().length() : 0,
+				(gzippedContent != null) ? gzippedContent.length : null, Instant.now(), duration, new LongAdder()));
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.entries.clear();
+	}
+
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.entries.clear();
+	}
+
+	/**
+	 * Marks the given key as being computed by the current thread, so that the time until
+	 * its value is put is recorded.
+	 * @param key the key being computed
+	 */
+	void startComputation(CacheKey key) {
+		this.computation.set(new Computation(key, System.nanoTime()));
+	}
+
+	/**
+	 * Returns the entry describing the cached value of a key. The decorated strategy is
+	 * asked whether the value is still cached, but it is not counted as a hit.
+	 * @param key the key to look up
+	 * @return the entry or {@literal null} if there is no cached value
+	 */
+	Entry getEntry(CacheKey key) {
+		final Entry entry = this.entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (super.get(key) == null) {
+			this.entries.remove(key, entry);
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Describes a cached value.
+	 *
+	 * @param rawSize the number of characters of the raw content
+	 * @param gzippedSize the number of bytes of the gzipped content if it is cached
+	 * @param computedAt the time the value has been put
+	 * @param computeDuration the time it took to compute the value if known
+	 * @param hits the number of times the value has been served
+	 */
+	record Entry(int rawSize, Integer gzippedSize, Instant computedAt, Duration computeDuration, LongAdder hits) {
+	}
+
+	private record Computation(CacheKey key, long start) {
+	}
+
+}
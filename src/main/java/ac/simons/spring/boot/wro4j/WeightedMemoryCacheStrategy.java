@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+
+/**
+ * A memory cache strategy bounded by the size of the cached content instead of the number
+ * of entries. Eviction is frequency aware (Window TinyLFU), so that a single large,
+ * rarely requested group cannot push out groups that are requested often. Reads don't
+ * lock.
+ * <p>
+ * The weight of an entry is the number of characters of its raw content plus the size of
+ * its gzipped content, if the latter is kept in memory.
+ * <p>
+ * Decorators keeping additional data per entry can register a listener for evicted
+ * entries, so that their data doesn't outlive the entry.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class WeightedMemoryCacheStrategy implements CacheStrategy<CacheKey, CacheValue> {
+
+	private final Cache<CacheKey, CacheValue> cache;
+
+	private final List<BiConsumer<CacheKey, CacheValue>> evictionListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates a new cache strategy.
+	 * @param maxBytes the maximum total weight of all entries
+	 * @param cacheGzippedContent whether the gzipped content is kept with each value
+	 */
+	WeightedMemoryCacheStrategy(long maxBytes, boolean cacheGzippedContent) {
+		this.cache = Caffeine.newBuilder()
+			.maximumWeight(maxBytes)
+			.weigher((CacheKey key, CacheValue value) -> weigh(value, cacheGzippedContent))
+			.evictionListener((CacheKey key, CacheValue value, RemovalCause cause) -> this.evictionListeners
+				.forEach(listener -> listener.accept(key, value)))
+			.build();
+	}
+
+	/**
+	 * Registers a listener that is called with every entry evicted because of its size.
+	 * Entries removed through {@link #put(CacheKey, CacheValue)} or {@link #clear()} are
+	 * not reported.
+	 * @param listener the listener to register
+	 */
+	void addEvictionListener(BiConsumer<CacheKey, CacheValue> listener) {
+		this.evictionListeners.add(listener);
+	}
+
+	/**
+	 * Computes the weight of a cache value. The gzipped content is only taken into
+	 * account if it is cached, otherwise it would be computed just for weighing.
+	 * @param value the value to weigh
+	 * @param cacheGzippedContent whether the gzipped content is part of the value
+	 * @return the weight of the value
+	 */
+	static int weigh(CacheValue value, boolean cacheGzippedContent) {
+		long weight = (value.getRawContent() != null) ? value.getRawContent().length() : 0;
+		if (cacheGzippedContent) {
+			final byte[] gzippedContent = value.getGzippedContent();
+			weight += (gzippedContent != null) ? gzippedContent.length : 0;
+		}
+		return (int) Math.min(Integer.MAX_VALUE, weight);
+	}
+
+	@Override
+	public void put(CacheKey key, CacheValue value) {
+		if (value == null) {
+			this.cache.invalidate(key);
+		}
+		else {
+			this.cache.put(key, value);
+		}
+	}
+
+	@Override
+	public CacheValue get(CacheKey key) {
+		return this.cache.getIfPresent(key);
+	}
+
+	@Override
+	public void clear() {
+		this.cache.invalidateAll();
+	}
+
+	@Override
+	public void destroy() {
+		this.cache.invalidateAll();
+		this.cache.cleanUp();
+	}
+
+	/**
+	 * Returns the current total weight of all entries after pending evictions.
+	 * @return the current weight
+	 */
+	long getWeightedSize() {
+		this.cache.cleanUp();
+		return this.cache.policy().eviction().orElseThrow().weightedSize().orElseThrow();
+	}
+
+}
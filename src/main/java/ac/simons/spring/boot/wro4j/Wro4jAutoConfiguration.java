@@ -15,16 +15,30 @@
  */
 package ac.simons.spring.boot.wro4j;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.logging.LogFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import ro.isdc.wro.cache.CacheKey;
 import ro.isdc.wro.cache.CacheStrategy;
 import ro.isdc.wro.cache.CacheValue;
 import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.factory.PropertyWroConfigurationFactory;
+import ro.isdc.wro.config.jmx.WroConfiguration;
 import ro.isdc.wro.config.support.ConfigConstants;
 import ro.isdc.wro.http.ConfigurableWroFilter;
 import ro.isdc.wro.http.WroFilter;
@@ -41,23 +55,40 @@ import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
 
 import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.cache.autoconfigure.CacheAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.log.LogAccessor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.WebFilter;
 
 /**
- * Configures a Wro4j filter.
+ * Configures a Wro4j filter, or a {@link WebFilter} serving the groups in reactive web
+ * applications.
  *
  * @author Michael J. Simons
  * @author Christophe Levesque
@@ -67,12 +98,29 @@ import org.springframework.core.log.LogAccessor;
 @ConditionalOnClass(WroFilter.class)
 @ConditionalOnMissingBean(WroFilter.class)
 @EnableConfigurationProperties(Wro4jProperties.class)
-@AutoConfigureAfter(CacheAutoConfiguration.class)
+@AutoConfigureAfter(value = { CacheAutoConfiguration.class, TaskExecutionAutoConfiguration.class }, name = {
+		"org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration",
+		"org.springframework.boot.micrometer.metrics.autoconfigure.export.simple.SimpleMetricsExportAutoConfiguration" })
 public class Wro4jAutoConfiguration {
 
 	private static final LogAccessor LOGGER = new LogAccessor(
 			LogFactory.getLog(Wro4jAutoConfiguration.class.getName()));
 
+	/**
+	 * Name of the executor used for parallel pre-processing.
+	 */
+	static final String PREPROCESSING_EXECUTOR = "wro4jPreprocessingExecutor";
+
+	/**
+	 * Name of the scheduler groups are processed on in reactive web applications.
+	 */
+	static final String PROCESSING_SCHEDULER = "wro4jProcessingScheduler";
+
+	/**
+	 * Entry point of Caffeine, which is an optional dependency.
+	 */
+	private static final String CAFFEINE = "com.github.benmanes.caffeine.cache.Caffeine";
+
 	/**
 	 * We use this to access possible processor beans inside the appplication context.
 	 */
@@ -97,6 +145,15 @@ public class Wro4jAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean(WroModelFactory.class)
 	WroModelFactory wroModelFactory(final Wro4jProperties wro4jProperties) {
+		if (wro4jProperties.getModelSnapshot().isEnabled()) {
+			final String precompiledLocation = wro4jProperties.getPrecompiledLocation();
+			return new SnapshottingXmlModelFactory(wro4jProperties.getModel(),
+					StringUtils.hasText(precompiledLocation)
+							? StringUtils.trimTrailingCharacter(precompiledLocation, '/') + "/"
+									+ SnapshottingXmlModelFactory.SNAPSHOT_FILE_NAME
+							: null,
+					this.applicationContext);
+		}
 		return new ConfigurableXmlModelFactory(wro4jProperties.getModel());
 	}
 
@@ -192,17 +249,31 @@ public class Wro4jAutoConfiguration {
 	}
 
 	/**
-	 * This is the default "Least recently used memory cache" strategy of Wro4j which will
-	 * be configured per default.
-	 * @param <K> type of the cache keys
-	 * @param <V> type of the cache values
+	 * This is the default memory cache strategy which will be configured per default. It
+	 * is bounded by the size of the cached content.
+	 * @param wro4jProperties the properties used to setup this starter
 	 * @return a default Wro4j cache strategy
 	 */
 	@Bean
+	@ConditionalOnClass(name = CAFFEINE)
 	@ConditionalOnMissingBean(CacheStrategy.class)
 	@Order(-90)
-	<K, V> CacheStrategy<K, V> defaultCacheStrategy() {
-		LOGGER.debug("Creating cache strategy 'LruMemoryCacheStrategy'");
+	CacheStrategy<CacheKey, CacheValue> defaultCacheStrategy(Wro4jProperties wro4jProperties) {
+		LOGGER.debug("Creating cache strategy 'WeightedMemoryCacheStrategy'");
+		return new WeightedMemoryCacheStrategy(wro4jProperties.getCache().getMaxBytes().toBytes(),
+				wro4jProperties.isCacheGzippedContent());
+	}
+
+	/**
+	 * This is the memory cache strategy of Wro4j, which is configured when Caffeine is
+	 * not available. It is bounded by the number of cached groups.
+	 * @return the least recently used cache strategy of Wro4j
+	 */
+	@Bean
+	@ConditionalOnMissingBean(CacheStrategy.class)
+	@Order(-80)
+	CacheStrategy<CacheKey, CacheValue> lruCacheStrategy() {
+		LOGGER.debug("Creating cache strategy 'LruMemoryCacheStrategy', Caffeine is not available");
 		return new LruMemoryCacheStrategy<>();
 	}
 
@@ -212,31 +283,271 @@ public class Wro4jAutoConfiguration {
 	 * @param wroModelFactory the model factory to use for the manager factory
 	 * @param processorsFactory the processors factory to use for the manager
 	 * @param cacheStrategy the cache strategy to use
+	 * @param wro4jProperties the properties used to setup this starter
+	 * @param wro4jMetrics instruments the cache strategy and the processors if available
+	 * @param wro4jEndpoint tracks the cache strategy if available
+	 * @param contentEncodings encodes the cached content if available
+	 * @param wro4jUrls remembers the hashes of the cached content if available
+	 * @param eTags computes the entity tags of the cached content if available
+	 * @param offHeapContents copies large cached content into direct buffers if available
+	 * @param preprocessingExecutor runs the parallel pre-processing if available
+	 * @param modelReloader reloads the model in the background if available
 	 * @return a new WroManagerFactory
 	 */
 	@Bean
 	@ConditionalOnMissingBean(WroManagerFactory.class)
 	WroManagerFactory wroManagerFactory(final WroModelFactory wroModelFactory,
-			final ProcessorsFactory processorsFactory, final CacheStrategy<CacheKey, CacheValue> cacheStrategy) {
-		return new BaseWroManagerFactory().setModelFactory(wroModelFactory)
-			.setProcessorsFactory(processorsFactory)
-			.setCacheStrategy(cacheStrategy)
+			final ProcessorsFactory processorsFactory, final CacheStrategy<CacheKey, CacheValue> cacheStrategy,
+			final Wro4jProperties wro4jProperties, final ObjectProvider<Wro4jMetrics> wro4jMetrics,
+			final ObjectProvider<Wro4jEndpoint> wro4jEndpoint, final ObjectProvider<ContentEncodings> contentEncodings,
+			final ObjectProvider<Wro4jUrls> wro4jUrls, final ObjectProvider<ETags> eTags,
+			final ObjectProvider<OffHeapContents> offHeapContents,
+			@Qualifier(PREPROCESSING_EXECUTOR) final ObjectProvider<TaskExecutor> preprocessingExecutor,
+			final ObjectProvider<ModelReloader> modelReloader) {
+		final Wro4jMetrics metrics = wro4jMetrics.getIfAvailable();
+		final BaseWroManagerFactory rv = new BaseWroManagerFactory();
+		CacheStrategy<CacheKey, CacheValue> decoratedCacheStrategy = decorateCacheStrategy(cacheStrategy,
+				wro4jProperties, rv, metrics, wro4jEndpoint.getIfAvailable(), contentEncodings.getIfAvailable(),
+				wro4jUrls.getIfAvailable(), eTags.getIfAvailable(), offHeapContents.getIfAvailable());
+		final TaskExecutor taskExecutor = preprocessingExecutor.getIfAvailable();
+		if (taskExecutor != null) {
+			decoratedCacheStrategy = new PreprocessingExecutorService(taskExecutor).decorate(decoratedCacheStrategy);
+		}
+		final ModelReloader reloader = modelReloader.getIfAvailable();
+		return rv.setModelFactory((reloader != null) ? reloader.decorate(wroModelFactory) : wroModelFactory)
+			.setProcessorsFactory(decorateProcessorsFactory(processorsFactory, wro4jProperties, metrics))
+			.setCacheStrategy(decoratedCacheStrategy)
 			.setResourceAuthorizationManager(this.resourceAuthorizationManager);
 	}
 
 	/**
-	 * The final step in configuring the Wro4j filter based on the existing or previously
-	 * configured {@code WroManagerFactory} and the additional properties.
-	 * @param wroManagerFactory an existing or the newly configured manager
+	 * Decorates the processors factory with the additional features of this starter as
+	 * configured.
+	 * @param processorsFactory the processors factory to decorate
 	 * @param wro4jProperties the properties used to setup this starter
-	 * @return a servlet filter which later is registered through Spring means
+	 * @param metrics optional metrics to instrument the processors with
+	 * @return the decorated processors factory
 	 */
-	@Bean
-	ConfigurableWroFilter wroFilter(WroManagerFactory wroManagerFactory, Wro4jProperties wro4jProperties) {
-		ConfigurableWroFilter wroFilter = new ConfigurableWroFilter();
-		wroFilter.setProperties(wroFilterProperties(wro4jProperties));
-		wroFilter.setWroManagerFactory(wroManagerFactory);
-		return wroFilter;
+	ProcessorsFactory decorateProcessorsFactory(final ProcessorsFactory processorsFactory,
+			final Wro4jProperties wro4jProperties, final Wro4jMetrics metrics) {
+		ProcessorsFactory rv = processorsFactory;
+		if (wro4jProperties.getMemoization().isEnabled() && !isCaffeinePresent()) {
+			LOGGER.warn("Memoizing the output of pre-processors is not available without Caffeine");
+		}
+		else if (wro4jProperties.getMemoization().isEnabled()) {
+			rv = new MemoizingProcessorsFactory(rv, wro4jProperties.getMemoization().getMaxBytes().toBytes(),
+					wro4jProperties.getMemoization().getExcludedProcessors());
+		}
+		// Outside the memoizing factory, so that the timers show the effect of memoizing
+		if (metrics != null) {
+			rv = metrics.instrument(rv);
+		}
+		return rv;
+	}
+
+	/**
+	 * Decorates the cache strategy with the additional features of this starter as
+	 * configured.
+	 * @param cacheStrategy the cache strategy to decorate
+	 * @param wro4jProperties the properties used to setup this starter
+	 * @param wroManagerFactory the manager factory the cache strategy is used by
+	 * @param metrics optional metrics to instrument the cache strategy with
+	 * @param endpoint optional endpoint to track the cache strategy with
+	 * @param contentEncodings optional content encodings to encode the cached values with
+	 * @param urls optional urls to remember the hashes of the cached values with
+	 * @param eTags optional entity tags to compute for the cached values
+	 * @param offHeapContents optional direct buffers to copy large cached values into
+	 * @return the decorated cache strategy
+	 */
+	CacheStrategy<CacheKey, CacheValue> decorateCacheStrategy(final CacheStrategy<CacheKey, CacheValue> cacheStrategy,
+			final Wro4jProperties wro4jProperties, final WroManagerFactory wroManagerFactory,
+			final Wro4jMetrics metrics, final Wro4jEndpoint endpoint, final ContentEncodings contentEncodings,
+			final Wro4jUrls urls, final ETags eTags, final OffHeapContents offHeapContents) {
+		CacheStrategy<CacheKey, CacheValue> rv = cacheStrategy;
+		// The store in memory, whose evictions are followed by all decorators keeping
+		// additional data per entry
+		WeightedMemoryCacheStrategy store = (rv instanceof WeightedMemoryCacheStrategy weighted) ? weighted : null;
+		if (rv instanceof SpringCacheStrategy && wro4jProperties.getCache().getLocal().isEnabled()) {
+			if (!isCaffeinePresent()) {
+				LOGGER.warn("A local cache in front of the Spring cache is not available without Caffeine");
+			}
+			else {
+				LOGGER.debug("Using a local cache in front of the Spring cache");
+				store = new WeightedMemoryCacheStrategy(wro4jProperties.getCache().getLocal().getMaxBytes().toBytes(),
+						wro4jProperties.isCacheGzippedContent());
+				rv = new TieredCacheStrategy(store, rv);
+			}
+		}
+		if (wro4jProperties.getCache().getDeduplication().isEnabled()) {
+			// Inside the gzip only strategy, so that compact values are deduplicated as
+			// well
+			final DeduplicatingCacheStrategy deduplicatingCacheStrategy = new DeduplicatingCacheStrategy(rv,
+					wro4jProperties.isCacheGzippedContent());
+			if (metrics != null) {
+				metrics.monitor(deduplicatingCacheStrategy);
+			}
+			if (endpoint != null) {
+				endpoint.monitor(deduplicatingCacheStrategy);
+			}
+			rv = deduplicatingCacheStrategy;
+		}
+		if (wro4jProperties.getCache().getGzipOnly().isEnabled()) {
+			if (!wro4jProperties.isCacheGzippedContent()) {
+				LOGGER.warn("Storing only the gzipped content is not available without caching the gzipped content");
+			}
+			else {
+				// Around the store, so that all tiers keep the gzipped content only
+				rv = new GzipOnlyCacheStrategy(rv);
+			}
+		}
+		if (StringUtils.hasText(wro4jProperties.getCache().getDiskDirectory())) {
+			LOGGER.debug(() -> String.format("Keeping processed groups in '%s'",
+					wro4jProperties.getCache().getDiskDirectory()));
+			rv = new DiskCacheStrategy(rv, Path.of(wro4jProperties.getCache().getDiskDirectory()), wroManagerFactory,
+					getProcessorSettings(wro4jProperties));
+		}
+		if (isRevalidating(wro4jProperties)) {
+			rv = new RevalidatingCacheStrategy(rv, wroManagerFactory, groupRequests(wro4jProperties),
+					Duration.ofSeconds(wro4jProperties.getCacheUpdatePeriod()),
+					wro4jProperties.getCache().getRevalidation().getMaxStaleness(), Clock.systemUTC());
+		}
+		if (endpoint != null) {
+			rv = endpoint.track(rv, wro4jProperties.isCacheGzippedContent());
+		}
+		if (metrics != null) {
+			// Inside the precompiled and coalescing strategies, so that a miss is
+			// followed by a put of the processed value in the same thread
+			final MeteredCacheStrategy meteredCacheStrategy = metrics.instrument(rv,
+					wro4jProperties.isCacheGzippedContent());
+			if (store != null) {
+				store.addEvictionListener(meteredCacheStrategy::evicted);
+			}
+			rv = meteredCacheStrategy;
+		}
+		if (StringUtils.hasText(wro4jProperties.getPrecompiledLocation())) {
+			LOGGER.debug(() -> String.format("Serving precompiled groups from '%s'",
+					wro4jProperties.getPrecompiledLocation()));
+			rv = new PrecompiledCacheStrategy(rv, wro4jProperties.getPrecompiledLocation(), this.applicationContext);
+		}
+		if (wro4jProperties.getAdmission().isEnabled()) {
+			if (isWatchingResources(wro4jProperties)) {
+				// Loading through Wro4j is needed to start the resource watcher
+				LOGGER.warn("Limiting the processing of groups is not available together with a resource watcher");
+			}
+			else {
+				// Inside the coalescing strategy, so that only one request per group asks
+				// for a permit
+				final Wro4jProperties.Admission admission = wro4jProperties.getAdmission();
+				final AdmissionCacheStrategy admissionCacheStrategy = new AdmissionCacheStrategy(rv,
+						admission.getMaxConcurrency(), admission.getMaxQueued(), admission.getMaxWait(),
+						admission.getRetryAfter());
+				if (metrics != null) {
+					metrics.monitor(admissionCacheStrategy);
+				}
+				if (store != null) {
+					store.addEvictionListener(admissionCacheStrategy::evicted);
+				}
+				rv = admissionCacheStrategy;
+			}
+		}
+		if (wro4jProperties.getCoalescing().isEnabled()) {
+			if (isWatchingResources(wro4jProperties)) {
+				// Loading through Wro4j is needed to start the resource watcher
+				LOGGER.warn("Coalescing of requests is not available together with a resource watcher");
+			}
+			else {
+				final CoalescingCacheStrategy coalescingCacheStrategy = new CoalescingCacheStrategy(rv,
+						wro4jProperties.getCoalescing().getTimeout());
+				if (metrics != null) {
+					metrics.monitor(coalescingCacheStrategy);
+				}
+				if (endpoint != null) {
+					endpoint.monitor(coalescingCacheStrategy);
+				}
+				rv = coalescingCacheStrategy;
+			}
+		}
+		// Outermost, so that values put by the coalescing strategy are seen as well
+		if (contentEncodings != null) {
+			rv = contentEncodings.decorate(rv);
+			if (store != null) {
+				store.addEvictionListener(contentEncodings::evicted);
+			}
+		}
+		if (offHeapContents != null) {
+			rv = offHeapContents.decorate(rv);
+			if (store != null) {
+				store.addEvictionListener(offHeapContents::evicted);
+			}
+		}
+		// Outside the encoding strategy, so that the tags of encoded content are known
+		if (eTags != null) {
+			rv = eTags.decorate(rv);
+			if (store != null) {
+				store.addEvictionListener(eTags::evicted);
+			}
+		}
+		if (urls != null) {
+			rv = urls.decorate(rv);
+		}
+		return rv;
+	}
+
+	/**
+	 * Creates requests for groups as the Wro4j filter receives them, for processing
+	 * groups outside a request. The context path is taken from the servlet context if
+	 * available, otherwise from the base path of a reactive application or the configured
+	 * servlet context path, for example while precompiling.
+	 * @param wro4jProperties the properties used to setup this starter
+	 * @return requests for the groups under the filter url
+	 */
+	GroupRequests groupRequests(Wro4jProperties wro4jProperties) {
+		return new GroupRequests(wro4jProperties.getFilterUrl(),
+				() -> this.applicationContext.getBeanProvider(ServletContext.class).getIfAvailable(),
+				this.applicationContext.getEnvironment()
+					.getProperty("spring.webflux.base-path",
+							this.applicationContext.getEnvironment().getProperty("server.servlet.context-path")));
+	}
+
+	/**
+	 * Collects the configuration of the processors, which is not visible through the
+	 * processors themselves, for example the extensions processors configured by alias
+	 * are restricted to.
+	 * @param wro4jProperties the properties used to setup this starter
+	 * @return the configuration of the processors
+	 */
+	static Map<String, String> getProcessorSettings(Wro4jProperties wro4jProperties) {
+		final Map<String, String> rv = new HashMap<>();
+		final Wro4jProperties.WroManagerFactoryProperties managerFactory = wro4jProperties.getManagerFactory();
+		if (managerFactory != null) {
+			rv.put("managerFactory.preProcessors", String.valueOf(managerFactory.getPreProcessors()));
+			rv.put("managerFactory.postProcessors", String.valueOf(managerFactory.getPostProcessors()));
+		}
+		return rv;
+	}
+
+	/**
+	 * Returns whether Caffeine, which backs the in memory stores bounded by size, is
+	 * available.
+	 * @return {@literal true} if Caffeine is on the classpath
+	 */
+	boolean isCaffeinePresent() {
+		return ClassUtils.isPresent(CAFFEINE, this.applicationContext.getClassLoader());
+	}
+
+	private static boolean isRevalidating(Wro4jProperties wro4jProperties) {
+		return wro4jProperties.getCache().getRevalidation().isEnabled()
+				&& wro4jProperties.getCacheUpdatePeriod() != null && wro4jProperties.getCacheUpdatePeriod() > 0;
+	}
+
+	private static boolean isWatchingResources(Wro4jProperties wro4jProperties) {
+		return wro4jProperties.getResourceWatcherUpdatePeriod() != null
+				&& wro4jProperties.getResourceWatcherUpdatePeriod() > 0;
+	}
+
+	private static boolean isReloadingModel(Wro4jProperties wro4jProperties) {
+		return wro4jProperties.getModelReload().isEnabled() && wro4jProperties.getModelUpdatePeriod() != null
+				&& wro4jProperties.getModelUpdatePeriod() > 0;
 	}
 
 	@SuppressWarnings({ "squid:MethodCyclomaticComplexity" })
@@ -254,12 +565,14 @@ public class Wro4jAutoConfiguration {
 		properties.setProperty(ConfigConstants.resourceWatcherAsync.name(),
 				String.valueOf(wro4jProperties.isResourceWatcherAsync()));
 		if (wro4jProperties.getCacheUpdatePeriod() != null) {
+			// Groups are refreshed one by one instead of clearing the whole cache
 			properties.setProperty(ConfigConstants.cacheUpdatePeriod.name(),
-					String.valueOf(wro4jProperties.getCacheUpdatePeriod()));
+					isRevalidating(wro4jProperties) ? "0" : String.valueOf(wro4jProperties.getCacheUpdatePeriod()));
 		}
 		if (wro4jProperties.getModelUpdatePeriod() != null) {
+			// The model is reloaded in the background instead of being discarded
 			properties.setProperty(ConfigConstants.modelUpdatePeriod.name(),
-					String.valueOf(wro4jProperties.getModelUpdatePeriod()));
+					isReloadingModel(wro4jProperties) ? "0" : String.valueOf(wro4jProperties.getModelUpdatePeriod()));
 		}
 		if (!(wro4jProperties.getHeader() == null || wro4jProperties.getHeader().trim().isEmpty())) {
 			properties.setProperty(ConfigConstants.header.name(), wro4jProperties.getHeader());
@@ -290,20 +603,401 @@ public class Wro4jAutoConfiguration {
 	}
 
 	/**
-	 * Registers the {@code wroFilter} through a Spring {@link FilterRegistrationBean}.
-	 * @param wroFilter the configured {@code wroFilter}
-	 * @param wro4jProperties needed for the url pattern to which the filter should be
-	 * registered
-	 * @return the Spring {@code FilterRegistrationBean}
+	 * Processes all groups of the model on startup if {@code wro4j.warmup.enabled} is
+	 * set, so that the first requests are served from the cache.
+	 * @param wroManagerFactory the manager factory whose cache should be warmed up
+	 * @param wro4jProperties the properties used to setup this starter
+	 * @return the cache warmer listening for the application to be ready
 	 */
 	@Bean
-	@ConditionalOnMissingBean
-	FilterRegistrationBean<ConfigurableWroFilter> wro4jFilterRegistration(ConfigurableWroFilter wroFilter,
-			Wro4jProperties wro4jProperties) {
-		final FilterRegistrationBean<ConfigurableWroFilter> filterRegistrationBean = new FilterRegistrationBean<>(
-				wroFilter);
-		filterRegistrationBean.addUrlPatterns(wro4jProperties.getFilterUrl() + "/*");
-		return filterRegistrationBean;
+	@ConditionalOnProperty(prefix = "wro4j.warmup", name = "enabled", havingValue = "true")
+	CacheWarmer cacheWarmer(WroManagerFactory wroManagerFactory, Wro4jProperties wro4jProperties) {
+		return new CacheWarmer(wroManagerFactory, wroConfiguration(wro4jProperties), groupRequests(wro4jProperties),
+				wro4jProperties.getWarmup().getParallelism());
+	}
+
+	/**
+	 * Creates the executor resources are pre-processed on if
+	 * {@code wro4j.parallelPreprocessing} is set: virtual threads on Java 21 or later,
+	 * otherwise a bounded pool of platform threads. The executors are built through the
+	 * builders of Spring Boot if available, so that their customizations apply.
+	 * @param wro4jProperties the properties used to setup this starter
+	 * @param simpleAsyncTaskExecutorBuilder builds executors running on virtual threads
+	 * @param threadPoolTaskExecutorBuilder builds executors running on platform threads
+	 * @return the executor for parallel pre-processing
+	 */
+	@Bean(PREPROCESSING_EXECUTOR)
+	@ConditionalOnMissingBean(name = PREPROCESSING_EXECUTOR)
+	@ConditionalOnProperty(prefix = "wro4j", name = "parallel-preprocessing", havingValue = "true")
+	AsyncTaskExecutor wro4jPreprocessingExecutor(Wro4jProperties wro4jProperties,
+			ObjectProvider<SimpleAsyncTaskExecutorBuilder> simpleAsyncTaskExecutorBuilder,
+			ObjectProvider<ThreadPoolTaskExecutorBuilder> threadPoolTaskExecutorBuilder) {
+		final Wro4jProperties.PreprocessingExecutor properties = wro4jProperties.getPreprocessingExecutor();
+		if (properties.isVirtualThreads() && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+			return simpleAsyncTaskExecutorBuilder.getIfAvailable(SimpleAsyncTaskExecutorBuilder::new)
+				.threadNamePrefix("wro4j-preprocessing-")
+				.virtualThreads(true)
+				.build();
+		}
+		return threadPoolTaskExecutorBuilder.getIfAvailable(ThreadPoolTaskExecutorBuilder::new)
+			.threadNamePrefix("wro4j-preprocessing-")
+			.corePoolSize(properties.getMaxThreads())
+			.maxPoolSize(properties.getMaxThreads())
+			.allowCoreThreadTimeOut(true)
+			.build();
+	}
+
+	/**
+	 * Creates the same Wro4j configuration as used by the filter, for processing groups
+	 * outside a request.
+	 * @param wro4jProperties the properties used to setup this starter
+	 * @return a new Wro4j configuration
+	 */
+	WroConfiguration wroConfiguration(Wro4jProperties wro4jProperties) {
+		return new PropertyWroConfigurationFactory(wroFilterProperties(wro4jProperties)).create();
+	}
+
+	/**
+	 * Instruments Wro4j with Micrometer when a {@link MeterRegistry} is available.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterRegistry.class)
+	@ConditionalOnBean(MeterRegistry.class)
+	static class MetricsConfiguration {
+
+		@Bean
+		Wro4jMetrics wro4jMetrics(MeterRegistry meterRegistry) {
+			return new Wro4jMetrics(meterRegistry);
+		}
+
+	}
+
+	/**
+	 * Provides the {@link Wro4jEndpoint} when Spring Boot Actuator is available.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass({ Endpoint.class, ConditionalOnAvailableEndpoint.class })
+	@ConditionalOnAvailableEndpoint(Wro4jEndpoint.class)
+	static class EndpointConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		Wro4jEndpoint wro4jEndpoint(ObjectProvider<WroManagerFactory> wroManagerFactory,
+				Wro4jAutoConfiguration wro4jAutoConfiguration, Wro4jProperties wro4jProperties) {
+			return new Wro4jEndpoint(wroManagerFactory, wro4jAutoConfiguration.wroConfiguration(wro4jProperties),
+					wro4jAutoConfiguration.groupRequests(wro4jProperties));
+		}
+
+	}
+
+	/**
+	 * Keeps cached groups with additional content encodings when
+	 * {@code wro4j.content-encoding.enabled} is set.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "wro4j.content-encoding", name = "enabled", havingValue = "true")
+	static class ContentEncodingConfiguration {
+
+		@Bean
+		@ConditionalOnClass(name = "com.aayushatharva.brotli4j.Brotli4jLoader")
+		ContentEncoder brotliContentEncoder(Wro4jProperties wro4jProperties) {
+			return new BrotliContentEncoder(wro4jProperties.getContentEncoding().getBrotliQuality());
+		}
+
+		@Bean
+		@ConditionalOnClass(name = "com.github.luben.zstd.Zstd")
+		ContentEncoder zstdContentEncoder(Wro4jProperties wro4jProperties) {
+			return new ZstdContentEncoder(wro4jProperties.getContentEncoding().getZstdLevel());
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		ContentEncodings contentEncodings(ObjectProvider<ContentEncoder> contentEncoders,
+				Wro4jProperties wro4jProperties) {
+			final Map<String, ContentEncoder> available = new HashMap<>();
+			contentEncoders.orderedStream().forEach(encoder -> available.putIfAbsent(encoder.getName(), encoder));
+			final List<ContentEncoder> encoders = new ArrayList<>();
+			for (String name : wro4jProperties.getContentEncoding().getEncodings()) {
+				final ContentEncoder encoder = available.get(name);
+				if (encoder == null) {
+					LOGGER.warn(() -> String.format("No encoder available for content encoding '%s'", name));
+				}
+				else {
+					encoders.add(encoder);
+				}
+			}
+			return new ContentEncodings(encoders);
+		}
+
+	}
+
+	/**
+	 * Renders urls containing the hash of a group when {@code wro4j.fingerprint.enabled}
+	 * is set.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "wro4j.fingerprint", name = "enabled", havingValue = "true")
+	static class FingerprintConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		Wro4jUrls wro4jUrls(ObjectProvider<WroManagerFactory> wroManagerFactory,
+				Wro4jAutoConfiguration wro4jAutoConfiguration, Wro4jProperties wro4jProperties) {
+			return new Wro4jUrls(wroManagerFactory, wro4jAutoConfiguration.wroConfiguration(wro4jProperties),
+					wro4jProperties.getFilterUrl(), wro4jAutoConfiguration.groupRequests(wro4jProperties),
+					Clock.systemUTC());
+		}
+
+	}
+
+	/**
+	 * Keeps the entity tags of cached groups when {@code wro4j.not-modified.enabled} is
+	 * set.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "wro4j.not-modified", name = "enabled", havingValue = "true")
+	static class NotModifiedConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		ETags eTags(ObjectProvider<ContentEncodings> contentEncodings) {
+			return new ETags(contentEncodings.getIfAvailable());
+		}
+
+	}
+
+	/**
+	 * Evicts groups as soon as the files backing their resources change when
+	 * {@code wro4j.file-watcher.enabled} is set.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "wro4j.file-watcher", name = "enabled", havingValue = "true")
+	static class FileWatcherConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		ResourceFileWatcher resourceFileWatcher(ObjectProvider<WroManagerFactory> wroManagerFactory,
+				Wro4jAutoConfiguration wro4jAutoConfiguration, Wro4jProperties wro4jProperties,
+				ResourceLoader resourceLoader) {
+			return new ResourceFileWatcher(wroManagerFactory, wro4jAutoConfiguration.wroConfiguration(wro4jProperties),
+					resourceLoader, ResourceFileWatcher.DEFAULT_MODEL_CHECK_INTERVAL);
+		}
+
+	}
+
+	/**
+	 * Copies large cached groups into direct buffers when {@code wro4j.off-heap.enabled}
+	 * is set.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "wro4j.off-heap", name = "enabled", havingValue = "true")
+	static class OffHeapConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		OffHeapContents offHeapContents(Wro4jProperties wro4jProperties) {
+			return new OffHeapContents(wro4jProperties.getOffHeap().getThreshold().toBytes());
+		}
+
+	}
+
+	/**
+	 * Reloads the model in the background when {@code wro4j.model-reload.enabled} is set.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "wro4j.model-reload", name = "enabled", havingValue = "true")
+	static class ModelReloadConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		ModelReloader wro4jModelReloader(ObjectProvider<WroManagerFactory> wroManagerFactory,
+				Wro4jAutoConfiguration wro4jAutoConfiguration, Wro4jProperties wro4jProperties) {
+			return new ModelReloader(wroManagerFactory, wro4jAutoConfiguration.wroConfiguration(wro4jProperties),
+					isReloadingModel(wro4jProperties) ? Duration.ofSeconds(wro4jProperties.getModelUpdatePeriod())
+							: Duration.ZERO);
+		}
+
+	}
+
+	/**
+	 * Registers the Wro4j filter and the filters in front of it in servlet based web
+	 * applications.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+	static class ServletConfiguration {
+
+		/**
+		 * The final step in configuring the Wro4j filter based on the existing or
+		 * previously configured {@code WroManagerFactory} and the additional properties.
+		 * @param wroManagerFactory an existing or the newly configured manager
+		 * @param wro4jAutoConfiguration provides the properties of the filter
+		 * @param wro4jProperties the properties used to setup this starter
+		 * @return a servlet filter which later is registered through Spring means
+		 */
+		@Bean
+		ConfigurableWroFilter wroFilter(WroManagerFactory wroManagerFactory,
+				Wro4jAutoConfiguration wro4jAutoConfiguration, Wro4jProperties wro4jProperties) {
+			ConfigurableWroFilter wroFilter = new ConfigurableWroFilter() {
+				@Override
+				protected void onException(Exception ex, HttpServletResponse response, FilterChain chain) {
+					// Rejected requests are answered by the ProcessingRejectedFilter
+					if (ex instanceof ProcessingRejectedException processingRejectedException) {
+						throw processingRejectedException;
+					}
+					super.onException(ex, response, chain);
+				}
+			};
+			wroFilter.setProperties(wro4jAutoConfiguration.wroFilterProperties(wro4jProperties));
+			wroFilter.setWroManagerFactory(wroManagerFactory);
+			return wroFilter;
+		}
+
+		/**
+		 * Registers the {@code wroFilter} through a Spring
+		 * {@link FilterRegistrationBean}.
+		 * @param wroFilter the configured {@code wroFilter}
+		 * @param wro4jProperties needed for the url pattern to which the filter should be
+		 * registered
+		 * @return the Spring {@code FilterRegistrationBean}
+		 */
+		@Bean
+		@ConditionalOnMissingBean
+		FilterRegistrationBean<ConfigurableWroFilter> wro4jFilterRegistration(ConfigurableWroFilter wroFilter,
+				Wro4jProperties wro4jProperties) {
+			final FilterRegistrationBean<ConfigurableWroFilter> filterRegistrationBean = new FilterRegistrationBean<>(
+					wroFilter);
+			filterRegistrationBean.addUrlPatterns(wro4jProperties.getFilterUrl() + "/*");
+			return filterRegistrationBean;
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "wro4j.content-encoding", name = "enabled", havingValue = "true")
+		FilterRegistrationBean<CachedContentFilter> cachedContentFilterRegistration(
+				ObjectProvider<WroManagerFactory> wroManagerFactory, ContentEncodings contentEncodings,
+				ObjectProvider<FilterRegistrationBean<ConfigurableWroFilter>> wro4jFilterRegistration,
+				Wro4jAutoConfiguration wro4jAutoConfiguration, Wro4jProperties wro4jProperties) {
+			return registerInFrontOfWroFilter(new CachedContentFilter(wroManagerFactory,
+					wro4jAutoConfiguration.wroConfiguration(wro4jProperties), contentEncodings), 3,
+					wro4jFilterRegistration, wro4jProperties);
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "wro4j.fingerprint", name = "enabled", havingValue = "true")
+		FilterRegistrationBean<FingerprintFilter> fingerprintFilterRegistration(Wro4jUrls wro4jUrls,
+				ObjectProvider<FilterRegistrationBean<ConfigurableWroFilter>> wro4jFilterRegistration,
+				Wro4jProperties wro4jProperties) {
+			// In front of the not modified and cached content filters as well
+			return registerInFrontOfWroFilter(
+					new FingerprintFilter(wro4jUrls, wro4jProperties.getFingerprint().getMaxAge(),
+							wro4jProperties.getFingerprint().getGracePeriod()),
+					5, wro4jFilterRegistration, wro4jProperties);
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "wro4j.not-modified", name = "enabled", havingValue = "true")
+		FilterRegistrationBean<NotModifiedFilter> notModifiedFilterRegistration(
+				ObjectProvider<WroManagerFactory> wroManagerFactory, ETags eTags,
+				ObjectProvider<FilterRegistrationBean<ConfigurableWroFilter>> wro4jFilterRegistration,
+				Wro4jAutoConfiguration wro4jAutoConfiguration, Wro4jProperties wro4jProperties) {
+			// In front of the cached content filter
+			return registerInFrontOfWroFilter(new NotModifiedFilter(wroManagerFactory,
+					wro4jAutoConfiguration.wroConfiguration(wro4jProperties), eTags), 4, wro4jFilterRegistration,
+					wro4jProperties);
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "wro4j.off-heap", name = "enabled", havingValue = "true")
+		FilterRegistrationBean<OffHeapContentFilter> offHeapContentFilterRegistration(
+				ObjectProvider<WroManagerFactory> wroManagerFactory, OffHeapContents offHeapContents,
+				ObjectProvider<FilterRegistrationBean<ConfigurableWroFilter>> wro4jFilterRegistration,
+				Wro4jAutoConfiguration wro4jAutoConfiguration, Wro4jProperties wro4jProperties) {
+			// Behind the cached content filter, which serves the additional encodings
+			return registerInFrontOfWroFilter(
+					new OffHeapContentFilter(wroManagerFactory,
+							wro4jAutoConfiguration.wroConfiguration(wro4jProperties), offHeapContents),
+					2, wro4jFilterRegistration, wro4jProperties);
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "wro4j.cache.gzip-only", name = "enabled", havingValue = "true")
+		FilterRegistrationBean<GzipOnlyContentFilter> gzipOnlyContentFilterRegistration(
+				ObjectProvider<WroManagerFactory> wroManagerFactory,
+				ObjectProvider<FilterRegistrationBean<ConfigurableWroFilter>> wro4jFilterRegistration,
+				Wro4jAutoConfiguration wro4jAutoConfiguration, Wro4jProperties wro4jProperties) {
+			// Directly in front of the Wro4j filter, which cannot serve those groups
+			return registerInFrontOfWroFilter(
+					new GzipOnlyContentFilter(wroManagerFactory,
+							wro4jAutoConfiguration.wroConfiguration(wro4jProperties),
+							wro4jAutoConfiguration.isCaffeinePresent()
+									? wro4jProperties.getCache().getGzipOnly().getInflatedCopies() : 0),
+					1, wro4jFilterRegistration, wro4jProperties);
+		}
+
+		@Bean
+		@ConditionalOnProperty(prefix = "wro4j.admission", name = "enabled", havingValue = "true")
+		FilterRegistrationBean<ProcessingRejectedFilter> processingRejectedFilterRegistration(
+				ObjectProvider<FilterRegistrationBean<ConfigurableWroFilter>> wro4jFilterRegistration,
+				Wro4jProperties wro4jProperties) {
+			// In front of all other filters, which ask the cache for missing groups as
+			// well
+			return registerInFrontOfWroFilter(new ProcessingRejectedFilter(), 6, wro4jFilterRegistration,
+					wro4jProperties);
+		}
+
+		/**
+		 * Registers a filter for the same urls as the Wro4j filter, right in front of it.
+		 * @param <T> the type of the filter
+		 * @param filter the filter to register
+		 * @param distance the distance to the Wro4j filter, filters with a greater
+		 * distance are applied first
+		 * @param wro4jFilterRegistration the registration of the Wro4j filter
+		 * @param wro4jProperties needed for the url pattern if the Wro4j filter has not
+		 * been registered as expected
+		 * @return the Spring {@code FilterRegistrationBean}
+		 */
+		private static <T extends Filter> FilterRegistrationBean<T> registerInFrontOfWroFilter(T filter, int distance,
+				ObjectProvider<FilterRegistrationBean<ConfigurableWroFilter>> wro4jFilterRegistration,
+				Wro4jProperties wro4jProperties) {
+			final FilterRegistrationBean<T> filterRegistrationBean = new FilterRegistrationBean<>(filter);
+			final FilterRegistrationBean<ConfigurableWroFilter> wroFilterRegistration = wro4jFilterRegistration
+				.getIfUnique();
+			if (wroFilterRegistration != null) {
+				filterRegistrationBean.setUrlPatterns(wroFilterRegistration.getUrlPatterns());
+				filterRegistrationBean.setOrder(wroFilterRegistration.getOrder() - distance);
+			}
+			else {
+				filterRegistrationBean.addUrlPatterns(wro4jProperties.getFilterUrl() + "/*");
+			}
+			return filterRegistrationBean;
+		}
+
+	}
+
+	/**
+	 * Serves groups through a {@link WebFilter} in reactive web applications.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+	@ConditionalOnClass({ WebFilter.class, Schedulers.class })
+	static class ReactiveConfiguration {
+
+		@Bean(name = PROCESSING_SCHEDULER, destroyMethod = "dispose")
+		@ConditionalOnMissingBean(name = PROCESSING_SCHEDULER)
+		Scheduler wro4jProcessingScheduler(Wro4jProperties wro4jProperties) {
+			return Schedulers.newBoundedElastic(wro4jProperties.getReactive().getMaxThreads(),
+					wro4jProperties.getReactive().getMaxQueuedTasks(), "wro4j-processing");
+		}
+
+		@Bean
+		@ConditionalOnMissingBean
+		Wro4jWebFilter wro4jWebFilter(ObjectProvider<WroManagerFactory> wroManagerFactory,
+				@Qualifier(PROCESSING_SCHEDULER) Scheduler scheduler, Wro4jAutoConfiguration wro4jAutoConfiguration,
+				Wro4jProperties wro4jProperties) {
+			return new Wro4jWebFilter(wroManagerFactory, wro4jAutoConfiguration.wroConfiguration(wro4jProperties),
+					wro4jProperties.getFilterUrl(), scheduler);
+		}
+
 	}
 
 }
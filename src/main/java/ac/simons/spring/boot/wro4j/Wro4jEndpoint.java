@@ -0,0 +1,329 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * An endpoint listing the groups of the model together with their cached values. Single
+ * groups can be evicted or recomputed in the background, while the current values are
+ * still served. Groups are recomputed inside a context bound to a request for the group,
+ * like the {@link CacheWarmer} does.
+ * <p>
+ * Groups are evicted through the cache strategy of the manager, the same way the
+ * {@link ResourceFileWatcher} does, so that all decorators and the underlying store drop
+ * them. Statistics are only available for the cache strategy of the auto-configured
+ * manager factory.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+@Endpoint(id = "wro4j")
+public class Wro4jEndpoint implements DisposableBean {
+
+	private static final LogAccessor LOGGER = new LogAccessor(LogFactory.getLog(Wro4jEndpoint.class.getName()));
+
+	private final ObjectProvider<WroManagerFactory> wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final GroupRequests groupRequests;
+
+	private final ExecutorService executor;
+
+	private volatile TrackingCacheStrategy trackingCacheStrategy;
+
+	private volatile DeduplicatingCacheStrategy deduplicatingCacheStrategy;
+
+	private volatile CoalescingCacheStrategy coalescingCacheStrategy;
+
+	Wro4jEndpoint(ObjectProvider<WroManagerFactory> wroManagerFactory, WroConfiguration wroConfiguration,
+			GroupRequests groupRequests) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.groupRequests = groupRequests;
+		final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("wro4j-endpoint-");
+		threadFactory.setDaemon(true);
+		this.executor = Executors.newSingleThreadExecutor(threadFactory);
+	}
+
+	/**
+	 * Decorates a cache strategy so that its values can be inspected and evicted through
+	 * this endpoint.
+	 * @param cacheStrategy the cache strategy to track
+	 * @param cacheGzippedContent whether the gzipped content is kept with each value
+	 * @return the decorated cache strategy
+	 */
+	CacheStrategy<CacheKey, CacheValue> track(CacheStrategy<CacheKey, CacheValue> cacheStrategy,
+			boolean cacheGzippedContent) {
+		this.trackingCacheStrategy = new TrackingCacheStrategy(cacheStrategy, cacheGzippedContent);
+		return this.trackingCacheStrategy;
+	}
+
+	/**
+	 * Reports the statistics of the given cache strategy together with the groups.
+	 * @param cacheStrategy the cache strategy deduplicating the cached values
+	 */
+	void monitor(DeduplicatingCacheStrategy cacheStrategy) {
+		this.deduplicatingCacheStrategy = cacheStrategy;
+	}
+
+	/**
+	 * Reports the statistics of the given cache strategy together with the groups.
+	 * @param cacheStrategy the cache strategy coalescing concurrent requests
+	 */
+	void monitor(CoalescingCacheStrategy cacheStrategy) {
+		this.coalescingCacheStrategy = cacheStrategy;
+	}
+
+	/**
+	 * Lists all groups of the model.
+	 * @return all groups
+	 */
+	@ReadOperation
+	public GroupsDescriptor groups() {
+		final Map<String, GroupDescriptor> groups = new LinkedHashMap<>();
+		for (Map.Entry<String, List<CacheKey>> group : getCacheKeys().entrySet()) {
+			groups.put(group.getKey(), describe(group.getValue()));
+		}
+		final DeduplicatingCacheStrategy cacheStrategy = this.deduplicatingCacheStrategy;
+		final CoalescingCacheStrategy coalescing = this.coalescingCacheStrategy;
+		return new GroupsDescriptor(groups, (cacheStrategy != null) ? describe(cacheStrategy.getStatistics()) : null,
+				(coalescing != null) ? new CoalescingDescriptor(coalescing.getLoadCount(),
+						coalescing.getCoalescedCount(), coalescing.getTimeoutCount()) : null);
+	}
+
+	/**
+	 * Describes a single group.
+	 * @param name the name of the group
+	 * @return the group or {@literal null} if there is no such group
+	 */
+	@ReadOperation
+	public GroupDescriptor group(@Selector String name) {
+		final List<CacheKey> cacheKeys = getCacheKeys().get(name);
+		return (cacheKeys != null) ? describe(cacheKeys) : null;
+	}
+
+	/**
+	 * Evicts all cached values of a group, which are then computed on their next request.
+	 * @param name the name of the group
+	 * @return the group or {@literal null} if there is no such group
+	 */
+	@DeleteOperation
+	public GroupDescriptor evict(@Selector String name) {
+		final List<CacheKey> cacheKeys = getCacheKeys().get(name);
+		if (cacheKeys == null) {
+			return null;
+		}
+		CacheWarmer.withContext(this.wroConfiguration, () -> {
+			CacheWarmer.evict(this.wroManagerFactory.getObject().create().getCacheStrategy(), List.of(name));
+			return null;
+		});
+		return describe(cacheKeys);
+	}
+
+	/**
+	 * Recomputes all values of a group in the background. Values are replaced once they
+	 * have been computed, until then the current values are served.
+	 * @param name the name of the group
+	 * @return the group as it is before recomputing or {@literal null} if there is no
+	 * such group
+	 */
+	@WriteOperation
+	public GroupDescriptor warm(@Selector String name) {
+		final List<CacheKey> cacheKeys = getCacheKeys().get(name);
+		if (cacheKeys == null) {
+			return null;
+		}
+		warmInBackground(cacheKeys);
+		return describe(cacheKeys);
+	}
+
+	/**
+	 * Recomputes the values of the given keys in the background. Keys not matching the
+	 * configured minimize flag are evicted instead.
+	 * @param cacheKeys the keys to recompute
+	 * @return a future completed when all keys have been recomputed
+	 */
+	CompletableFuture<Void> warmInBackground(List<CacheKey> cacheKeys) {
+		return CompletableFuture.runAsync(() -> {
+			final WroManagerFactory managerFactory = this.wroManagerFactory.getObject();
+			for (CacheKey cacheKey : cacheKeys) {
+				this.groupRequests.withContext(this.wroConfiguration, cacheKey, () -> warm(managerFactory, cacheKey));
+			}
+		}, this.executor);
+	}
+
+	/**
+	 * Recomputes the value of a single key inside a context bound to a request for its
+	 * group.
+	 * @param managerFactory the manager factory to recompute the value with
+	 * @param cacheKey the key to recompute
+	 * @return always {@literal null}
+	 */
+	private Void warm(WroManagerFactory managerFactory, CacheKey cacheKey) {
+		if (cacheKey.isMinimize() != this.wroConfiguration.isMinimizeEnabled()) {
+			managerFactory.create().getCacheStrategy().put(cacheKey, null);
+			return null;
+		}
+		try {
+			final TrackingCacheStrategy cacheStrategy = this.trackingCacheStrategy;
+			if (cacheStrategy != null) {
+				cacheStrategy.startComputation(cacheKey);
+			}
+			CacheWarmer.recompute(managerFactory, cacheKey);
+			LOGGER.info(() -> String.format("Recomputed group '%s' (%s)", cacheKey.getGroupName(), cacheKey.getType()));
+		}
+		catch (RuntimeException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not recompute group '%s' (%s)", cacheKey.getGroupName(),
+					cacheKey.getType()));
+		}
+		return null;
+	}
+
+	/**
+	 * Computes all cache keys a group can be cached under, which includes the keys of
+	 * unminimized content when minimizing is enabled.
+	 * @return the cache keys by group
+	 */
+	private Map<String, List<CacheKey>> getCacheKeys() {
+		final List<CacheKey> cacheKeys = CacheWarmer.withContext(this.wroConfiguration, () -> {
+			final List<CacheKey> rv = new ArrayList<>();
+			final WroManager wroManager = this.wroManagerFactory.getObject().create();
+			rv.addAll(CacheWarmer.getCacheKeys(wroManager.getModelFactory().create(),
+					this.wroConfiguration.isMinimizeEnabled()));
+			if (this.wroConfiguration.isMinimizeEnabled()) {
+				rv.addAll(CacheWarmer.getCacheKeys(wroManager.getModelFactory().create(), false));
+			}
+			return rv;
+		});
+		final Map<String, List<CacheKey>> rv = new LinkedHashMap<>();
+		for (CacheKey cacheKey : cacheKeys) {
+			rv.computeIfAbsent(cacheKey.getGroupName(), k -> new ArrayList<>()).add(cacheKey);
+		}
+		return rv;
+	}
+
+	private GroupDescriptor describe(List<CacheKey> cacheKeys) {
+		final TrackingCacheStrategy cacheStrategy = this.trackingCacheStrategy;
+		final List<CacheEntryDescriptor> entries = new ArrayList<>();
+		for (CacheKey cacheKey : cacheKeys) {
+			final TrackingCacheStrategy.Entry entry = (cacheStrategy != null) ? cacheStrategy.getEntry(cacheKey) : null;
+			if (entry == null) {
+				entries.add(new CacheEntryDescriptor(cacheKey.getType(), cacheKey.isMinimize(), false, null, null, null,
+						null, null));
+			}
+			else {
+				entries.add(new CacheEntryDescriptor(cacheKey.getType(), cacheKey.isMinimize(), true, entry.rawSize(),
+						entry.gzippedSize(), entry.computedAt(), entry.computeDuration(), entry.hits().sum()));
+			}
+		}
+		return new GroupDescriptor(entries);
+	}
+
+	private static DeduplicationDescriptor describe(DeduplicatingCacheStrategy.Statistics statistics) {
+		return new DeduplicationDescriptor(statistics.contents(), statistics.keys(), statistics.savedBytes());
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * All groups of the model.
+	 *
+	 * @param groups the groups by name
+	 * @param deduplication the statistics of deduplicated values if enabled
+	 * @param coalescing the statistics of coalesced requests if enabled
+	 */
+	public record GroupsDescriptor(Map<String, GroupDescriptor> groups, DeduplicationDescriptor deduplication,
+			CoalescingDescriptor coalescing) implements OperationResponseBody {
+	}
+
+	/**
+	 * Statistics of concurrent requests for the same group.
+	 *
+	 * @param loads the number of times a group has been processed
+	 * @param coalesced the number of requests served by waiting for another request
+	 * @param timeouts the number of requests that gave up waiting for another request
+	 */
+	public record CoalescingDescriptor(long loads, long coalesced, long timeouts) {
+	}
+
+	/**
+	 * Statistics of cached values stored once for several entries.
+	 *
+	 * @param contents the number of distinct contents stored
+	 * @param entries the number of cache entries referring to those contents
+	 * @param savedBytes the size of the contents not stored again for further entries
+	 */
+	public record DeduplicationDescriptor(int contents, int entries, long savedBytes) {
+	}
+
+	/**
+	 * A single group.
+	 *
+	 * @param entries the cache entries of the group
+	 */
+	public record GroupDescriptor(List<CacheEntryDescriptor> entries) implements OperationResponseBody {
+	}
+
+	/**
+	 * A cache entry of a group.
+	 *
+	 * @param type the resource type of the entry
+	 * @param minimize whether the entry contains minimized content
+	 * @param cached whether there is a cached value
+	 * @param rawSize the number of characters of the raw content
+	 * @param gzippedSize the number of bytes of the gzipped content if it is cached
+	 * @param computedAt the time the value has been put into the cache
+	 * @param computeDuration the time it took to compute the value if known
+	 * @param hits the number of times the value has been served from the cache
+	 */
+	public record CacheEntryDescriptor(ResourceType type, boolean minimize, boolean cached, Integer rawSize,
+			Integer gzippedSize, Instant computedAt, Duration computeDuration, Long hits) {
+	}
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.Objects;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.model.resource.processor.factory.ProcessorsFactory;
+
+/**
+ * Instruments the cache strategy and the processors used by Wro4j with Micrometer.
+ * <p>
+ * Meters are tagged with the name of a group only if the group is part of the model, so
+ * that requests for arbitrary group names cannot create new meters. Processors are timed
+ * together with the group processed by the current thread, processors running in other
+ * threads through {@code wro4j.parallelPreprocessing} are tagged with an unknown group.
+ * <p>
+ * The group being processed is bound to the Wro4j context of the request that missed it.
+ * Wro4j loads a missing group outside of the cache strategy, so a group whose processing
+ * failed is never put. Its processing is discarded by the next request of the same thread
+ * instead of being timed or tagging further processors.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class Wro4jMetrics {
+
+	/**
+	 * Tag value used for groups that are not part of the model or not known.
+	 */
+	static final String UNKNOWN_GROUP = "unknown";
+
+	private final MeterRegistry meterRegistry;
+
+	private final ThreadLocal<Processing> processing = new ThreadLocal<>();
+
+	Wro4jMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Decorates a cache strategy with hit and miss counters, a summary of the served
+	 * content, a gauge of the cached content and a timer for processing missing groups.
+	 * @param cacheStrategy the cache strategy to instrument
+	 * @param cacheGzippedContent whether the gzipped content is kept with each value
+	 * @return the instrumented cache strategy
+	 */
+	MeteredCacheStrategy instrument(CacheStrategy<CacheKey, CacheValue> cacheStrategy, boolean cacheGzippedContent) {
+		return new MeteredCacheStrategy(cacheStrategy, this, cacheGzippedContent);
+	}
+
+	/**
+	 * Registers gauges of the contents stored once for several keys and the size saved by
+	 * doing so.
+	 * @param cacheStrategy the cache strategy deduplicating the cached values
+	 */
+	void monitor(DeduplicatingCacheStrategy cacheStrategy) {
+		Gauge.builder("wro4j.cache.deduplication.contents", cacheStrategy, v -> v.getStatistics().contents())
+			.description("Number of distinct contents stored for all cached groups")
+			.register(this.meterRegistry);
+		Gauge.builder("wro4j.cache.deduplication.keys", cacheStrategy, v -> v.getStatistics().keys())
+			.description("Number of cached groups referring to those contents")
+			.register(this.meterRegistry);
+		Gauge.builder("wro4j.cache.deduplication.saved", cacheStrategy, v -> v.getStatistics().savedBytes())
+			.description("Size of the raw and gzipped content not stored again for further groups")
+			.baseUnit(BaseUnits.BYTES)
+			.register(this.meterRegistry);
+	}
+
+	/**
+	 * Registers gauges of the groups being processed and the requests waiting for a
+	 * permit, and counters of the requests rejected or served with a stale value.
+	 * @param cacheStrategy the cache strategy limiting the processing of groups
+	 */
+	void monitor(AdmissionCacheStrategy cacheStrategy) {
+		Gauge.builder("wro4j.processing.active", cacheStrategy, AdmissionCacheStrategy::getActiveCount)
+			.description("Number of groups being processed")
+			.register(this.meterRegistry);
+		Gauge.builder("wro4j.processing.queued", cacheStrategy, AdmissionCacheStrategy::getQueuedCount)
+			.description("Number of requests waiting for the processing of a group")
+			.register(this.meterRegistry);
+		FunctionCounter.builder("wro4j.processing.rejected", cacheStrategy, AdmissionCacheStrategy::getRejectedCount)
+			.description("Number of requests rejected because too many groups are being processed")
+			.register(this.meterRegistry);
+		FunctionCounter.builder("wro4j.processing.stale", cacheStrategy, AdmissionCacheStrategy::getStaleCount)
+			.description("Number of requests served a stale value because too many groups are being processed")
+			.register(this.meterRegistry);
+	}
+
+	/**
+	 * Registers counters of the groups processed, the requests served by waiting for
+	 * another thread and the requests that gave up waiting.
+	 * @param cacheStrategy the cache strategy coalescing concurrent requests
+	 */
+	void monitor(CoalescingCacheStrategy cacheStrategy) {
+		FunctionCounter.builder("wro4j.coalescing.loads", cacheStrategy, CoalescingCacheStrategy::getLoadCount)
+			.description("Number of groups processed by the coalescing cache strategy")
+			.register(this.meterRegistry);
+		FunctionCounter.builder("wro4j.coalescing.coalesced", cacheStrategy, CoalescingCacheStrategy::getCoalescedCount)
+			.description("Number of requests served by waiting for another request processing the same group")
+			.register(this.meterRegistry);
+		FunctionCounter.builder("wro4j.coalescing.timeouts", cacheStrategy, CoalescingCacheStrategy::getTimeoutCount)
+			.description("Number of requests that gave up waiting for another request processing the same group")
+			.register(this.meterRegistry);
+	}
+
+	/**
+	 * Decorates all processors created by the given factory with a timer.
+	 * @param processorsFactory the factory to instrument
+	 * @return the instrumented factory
+	 */
+	ProcessorsFactory instrument(ProcessorsFactory processorsFactory) {
+		return new MeteredProcessorsFactory(processorsFactory, this);
+	}
+
+	MeterRegistry getMeterRegistry() {
+		return this.meterRegistry;
+	}
+
+	/**
+	 * Marks the given key as being processed by the current thread, which usually happens
+	 * right after it has been missed in the cache.
+	 * @param key the key being processed
+	 * @param group the tag value of the group
+	 */
+	void startProcessing(CacheKey key, String group) {
+		this.processing.set(new Processing(getCorrelationId(), key, group, Timer.start(this.meterRegistry)));
+	}
+
+	/**
+	 * Returns whether the current thread has missed the given key and not yet processed
+	 * it.
+	 * @param key the key to check
+	 * @return {@literal true} if the key is being processed by the current thread
+	 */
+	boolean isProcessing(CacheKey key) {
+		final Processing current = getProcessing();
+		return current != null && current.key().equals(key);
+	}
+
+	/**
+	 * Records the time it took to process the given key, if the current thread started
+	 * processing it.
+	 * @param key the key that has been processed
+	 */
+	void stopProcessing(CacheKey key) {
+		final Processing current = getProcessing();
+		if (current == null || !current.key().equals(key)) {
+			return;
+		}
+		this.processing.remove();
+		current.sample()
+			.stop(Timer.builder("wro4j.group.processing")
+				.description("Time spent processing groups missing in the cache")
+				.tag("group", current.group())
+				.tag("type", key.getType().name())
+				.register(this.meterRegistry));
+	}
+
+	/**
+	 * Discards whatever the current thread has been processing.
+	 */
+	void cancelProcessing() {
+		this.processing.remove();
+	}
+
+	/**
+	 * Returns a timer for a processor, tagged with the group currently processed by the
+	 * calling thread.
+	 * @param processor the name of the processor
+	 * @param phase either {@literal pre} or {@literal post}
+	 * @return the timer
+	 */
+	Timer getProcessorTimer(String processor, String phase) {
+		final Processing current = getProcessing();
+		return Timer.builder("wro4j.processor")
+			.description("Time spent in processors")
+			.tag("processor", processor)
+			.tag("phase", phase)
+			.tag("group", (current != null) ? current.group() : UNKNOWN_GROUP)
+			.register(this.meterRegistry);
+	}
+
+	/**
+	 * Returns what the current thread is processing for the current request, processing
+	 * left over from an earlier request is discarded.
+	 * @return the current processing or {@literal null}
+	 */
+	private Processing getProcessing() {
+		final Processing current = this.processing.get();
+		if (current != null && !Objects.equals(current.correlationId(), getCorrelationId())) {
+			this.processing.remove();
+			return null;
+		}
+		return current;
+	}
+
+	private static String getCorrelationId() {
+		return Context.isContextSet() ? Context.getCorrelationId() : null;
+	}
+
+	private record Processing(String correlationId, CacheKey key, String group, Timer.Sample sample) {
+	}
+
+}
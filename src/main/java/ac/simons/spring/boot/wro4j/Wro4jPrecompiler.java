@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.util.AbstractDecorator;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Processes all groups of the model at build time and writes the result into a directory,
+ * which can than be packaged onto the classpath and configured through
+ * {@code wro4j.precompiledLocation}. The precompiler is meant to be called from a build,
+ * for example through the {@code exec-maven-plugin}, with the output directory as first
+ * argument and optionally the application class as second argument. All further arguments
+ * are passed on to Spring Boot, so that the same {@code wro4j.*} properties, beans and
+ * thus processors as at runtime are used.
+ * <p>
+ * Groups are processed in a context bound to a request for the group, so that urls in
+ * stylesheets are rewritten to the same proxy urls as at runtime. The context path is
+ * taken from {@code server.servlet.context-path} or {@code spring.webflux.base-path}, as
+ * there is no servlet context at build time.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+public final class Wro4jPrecompiler {
+
+	private static final LogAccessor LOGGER = new LogAccessor(LogFactory.getLog(Wro4jPrecompiler.class.getName()));
+
+	private final WroManagerFactory wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final GroupRequests groupRequests;
+
+	Wro4jPrecompiler(WroManagerFactory wroManagerFactory, WroConfiguration wroConfiguration,
+			GroupRequests groupRequests) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.groupRequests = groupRequests;
+	}
+
+	/**
+	 * Precompiles all groups into the directory given as first argument. The optional
+	 * second argument is the fully qualified name of the application class, which is used
+	 * as primary source instead of the auto-configuration alone, so that processors,
+	 * model factories and cache managers defined by the application are used as well.
+	 * @param args the output directory, optionally followed by the application class and
+	 * Spring Boot arguments
+	 * @throws IOException if the output cannot be written
+	 */
+	public static void main(String... args) throws IOException {
+		if (args.length < 1) {
+			throw new IllegalArgumentException(
+					"Usage: Wro4jPrecompiler <outputDirectory> [<application class>] [<Spring Boot arguments>]");
+		}
+
+		final boolean hasPrimarySource = args.length > 1 && !args[1].startsWith("--");
+		final Class<?> primarySource = hasPrimarySource ? getPrimarySource(args[1]) : Wro4jAutoConfiguration.class;
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(primarySource)
+			.web(WebApplicationType.NONE)
+			.logStartupInfo(false)
+			.run(Arrays.copyOfRange(args, hasPrimarySource ? 2 : 1, args.length))) {
+			final Wro4jAutoConfiguration wro4jAutoConfiguration = context.getBean(Wro4jAutoConfiguration.class);
+			final Wro4jProperties wro4jProperties = context.getBean(Wro4jProperties.class);
+			new Wro4jPrecompiler(context.getBean(WroManagerFactory.class),
+					wro4jAutoConfiguration.wroConfiguration(wro4jProperties),
+					wro4jAutoConfiguration.groupRequests(wro4jProperties))
+				.precompile(Path.of(args[0]));
+		}
+	}
+
+	private static Class<?> getPrimarySource(String className) {
+		try {
+			return ClassUtils.forName(className, Wro4jPrecompiler.class.getClassLoader());
+		}
+		catch (ClassNotFoundException ex) {
+			throw new IllegalArgumentException("Application class " + className + " not found", ex);
+		}
+	}
+
+	/**
+	 * Processes all groups of the model and writes them into the given directory,
+	 * together with a snapshot of the model if snapshots are enabled.
+	 * @param outputDirectory the target directory
+	 * @return the list of written files
+	 * @throws IOException if the output cannot be written
+	 */
+	List<Path> precompile(Path outputDirectory) throws IOException {
+
+		final List<CacheKey> cacheKeys = CacheWarmer.withContext(this.wroConfiguration,
+				() -> CacheWarmer.getCacheKeys(this.wroManagerFactory.create().getModelFactory().create(),
+						this.wroConfiguration.isMinimizeEnabled()));
+		final Map<CacheKey, CacheValue> values = new LinkedHashMap<>();
+		for (CacheKey cacheKey : cacheKeys) {
+			values.put(cacheKey, this.groupRequests.withContext(this.wroConfiguration, cacheKey,
+					() -> this.wroManagerFactory.create().getCacheStrategy().get(cacheKey)));
+		}
+
+		Files.createDirectories(outputDirectory);
+		final Charset charset = Charset.forName(this.wroConfiguration.getEncoding());
+		final List<Path> files = new ArrayList<>();
+		for (Map.Entry<CacheKey, CacheValue> entry : values.entrySet()) {
+			if (entry.getValue() == null) {
+				LOGGER.info(() -> String.format("Group '%s' (%s) has no content, not precompiling it",
+						entry.getKey().getGroupName(), entry.getKey().getType()));
+				continue;
+			}
+			final Path file = outputDirectory.resolve(PrecompiledCacheStrategy.getFileName(entry.getKey()));
+			try (InputStream in = GzipOnlyCacheStrategy.getRawContent(entry.getValue(), charset)) {
+				Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+			LOGGER.info(() -> String.format("Precompiled group '%s' (%s) into %s", entry.getKey().getGroupName(),
+					entry.getKey().getType(), file));
+			files.add(file);
+		}
+
+		final SnapshottingXmlModelFactory.Snapshot snapshot = CacheWarmer.withContext(this.wroConfiguration,
+				() -> (AbstractDecorator.getOriginalDecoratedObject(this.wroManagerFactory.create()
+					.getModelFactory()) instanceof SnapshottingXmlModelFactory modelFactory)
+							? modelFactory.getSnapshot() : null);
+		if (snapshot != null) {
+			final Path file = outputDirectory.resolve(SnapshottingXmlModelFactory.SNAPSHOT_FILE_NAME);
+			try (OutputStream out = Files.newOutputStream(file)) {
+				snapshot.write(out);
+			}
+			LOGGER.info(() -> String.format("Wrote snapshot of the model into %s", file));
+			files.add(file);
+		}
+		return files;
+	}
+
+}
@@ -15,15 +15,21 @@
  */
 package ac.simons.spring.boot.wro4j;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 import ro.isdc.wro.cache.CacheStrategy;
 import ro.isdc.wro.model.resource.processor.ResourcePostProcessor;
 import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.PlaceholderProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssDataUriPreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssUrlRewritingProcessor;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Represents the
@@ -92,6 +98,16 @@ public class Wro4jProperties {
 	 */
 	private boolean parallelPreprocessing = false;
 
+	/**
+	 * Configures the executor used for {@code parallelPreprocessing}.
+	 */
+	private PreprocessingExecutor preprocessingExecutor = new PreprocessingExecutor();
+
+	/**
+	 * Serving groups in reactive web applications.
+	 */
+	private Reactive reactive = new Reactive();
+
 	/**
 	 * Timeout (milliseconds) of the url connection for external resources. This is used
 	 * to ensure that locator doesn't spend too much time on slow end-point.
@@ -176,6 +192,73 @@ public class Wro4jProperties {
 	 */
 	private String cacheName;
 
+	/**
+	 * Location of groups precompiled through {@code Wro4jPrecompiler}, for example
+	 * "classpath:/wro4j/". Groups found in this location are served as is, all other
+	 * groups are processed at runtime.
+	 */
+	private String precompiledLocation;
+
+	/**
+	 * Configures the default in-memory cache, which is used when no cache name is given.
+	 */
+	private Cache cache = new Cache();
+
+	/**
+	 * Configures the coalescing of concurrent requests for groups missing in the cache.
+	 */
+	private Coalescing coalescing = new Coalescing();
+
+	/**
+	 * Configures the limit of groups processed at the same time.
+	 */
+	private Admission admission = new Admission();
+
+	/**
+	 * Configures the reloading of the model in the background.
+	 */
+	private ModelReload modelReload = new ModelReload();
+
+	/**
+	 * Configures the snapshot of the parsed model.
+	 */
+	private ModelSnapshot modelSnapshot = new ModelSnapshot();
+
+	/**
+	 * Configures the warm-up of the cache on application startup.
+	 */
+	private Warmup warmup = new Warmup();
+
+	/**
+	 * Configures content encodings served in addition to gzip.
+	 */
+	private ContentEncoding contentEncoding = new ContentEncoding();
+
+	/**
+	 * Configures urls of groups containing the hash of their content.
+	 */
+	private Fingerprint fingerprint = new Fingerprint();
+
+	/**
+	 * Configures answering conditional requests in front of the Wro4j filter.
+	 */
+	private NotModified notModified = new NotModified();
+
+	/**
+	 * Configures watching the files backing the resources of the model.
+	 */
+	private FileWatcher fileWatcher = new FileWatcher();
+
+	/**
+	 * Configures the memoization of the output of pre-processors.
+	 */
+	private Memoization memoization = new Memoization();
+
+	/**
+	 * Configures serving large groups from direct buffers.
+	 */
+	private OffHeap offHeap = new OffHeap();
+
 	public boolean isDebug() {
 		return this.debug;
 	}
@@ -248,6 +331,22 @@ public class Wro4jProperties {
 		this.parallelPreprocessing = parallelPreprocessing;
 	}
 
+	public PreprocessingExecutor getPreprocessingExecutor() {
+		return this.preprocessingExecutor;
+	}
+
+	public void setPreprocessingExecutor(PreprocessingExecutor preprocessingExecutor) {
+		this.preprocessingExecutor = preprocessingExecutor;
+	}
+
+	public Reactive getReactive() {
+		return this.reactive;
+	}
+
+	public void setReactive(Reactive reactive) {
+		this.reactive = reactive;
+	}
+
 	public Long getConnectionTimeout() {
 		return this.connectionTimeout;
 	}
@@ -360,6 +459,110 @@ public class Wro4jProperties {
 		this.cacheName = cacheName;
 	}
 
+	public String getPrecompiledLocation() {
+		return this.precompiledLocation;
+	}
+
+	public void setPrecompiledLocation(String precompiledLocation) {
+		this.precompiledLocation = precompiledLocation;
+	}
+
+	public Cache getCache() {
+		return this.cache;
+	}
+
+	public void setCache(Cache cache) {
+		this.cache = cache;
+	}
+
+	public Coalescing getCoalescing() {
+		return this.coalescing;
+	}
+
+	public void setCoalescing(Coalescing coalescing) {
+		this.coalescing = coalescing;
+	}
+
+	public Admission getAdmission() {
+		return this.admission;
+	}
+
+	public void setAdmission(Admission admission) {
+		this.admission = admission;
+	}
+
+	public ModelReload getModelReload() {
+		return this.modelReload;
+	}
+
+	public void setModelReload(ModelReload modelReload) {
+		this.modelReload = modelReload;
+	}
+
+	public ModelSnapshot getModelSnapshot() {
+		return this.modelSnapshot;
+	}
+
+	public void setModelSnapshot(ModelSnapshot modelSnapshot) {
+		this.modelSnapshot = modelSnapshot;
+	}
+
+	public Warmup getWarmup() {
+		return this.warmup;
+	}
+
+	public void setWarmup(Warmup warmup) {
+		this.warmup = warmup;
+	}
+
+	public ContentEncoding getContentEncoding() {
+		return this.contentEncoding;
+	}
+
+	public void setContentEncoding(ContentEncoding contentEncoding) {
+		this.contentEncoding = contentEncoding;
+	}
+
+	public Fingerprint getFingerprint() {
+		return this.fingerprint;
+	}
+
+	public void setFingerprint(Fingerprint fingerprint) {
+		this.fingerprint = fingerprint;
+	}
+
+	public NotModified getNotModified() {
+		return this.notModified;
+	}
+
+	public void setNotModified(NotModified notModified) {
+		this.notModified = notModified;
+	}
+
+	public FileWatcher getFileWatcher() {
+		return this.fileWatcher;
+	}
+
+	public void setFileWatcher(FileWatcher fileWatcher) {
+		this.fileWatcher = fileWatcher;
+	}
+
+	public Memoization getMemoization() {
+		return this.memoization;
+	}
+
+	public void setMemoization(Memoization memoization) {
+		this.memoization = memoization;
+	}
+
+	public OffHeap getOffHeap() {
+		return this.offHeap;
+	}
+
+	public void setOffHeap(OffHeap offHeap) {
+		this.offHeap = offHeap;
+	}
+
 	/**
 	 * Encapsulates all properties for a {@code ConfigurableWroManagerFactory}.
 	 */
@@ -387,4 +590,717 @@ public class Wro4jProperties {
 
 	}
 
+	/**
+	 * Encapsulates all properties for warming up the cache before the application reports
+	 * itself ready.
+	 */
+	public static class Warmup {
+
+		/**
+		 * Flag whether all groups of the model should be processed on startup.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum number of groups processed in parallel during warm-up. Defaults to the
+		 * number of available processors.
+		 */
+		private int parallelism = Runtime.getRuntime().availableProcessors();
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getParallelism() {
+			return this.parallelism;
+		}
+
+		public void setParallelism(int parallelism) {
+			this.parallelism = parallelism;
+		}
+
+	}
+
+	/**
+	 * Configuration of the default in-memory cache.
+	 */
+	public static class Cache {
+
+		/**
+		 * Maximum size of the raw and gzipped content of all cached groups. Groups
+		 * requested less frequently are evicted first.
+		 */
+		private DataSize maxBytes = DataSize.ofMegabytes(64);
+
+		/**
+		 * Configures a local cache in front of the Spring cache named by
+		 * {@code wro4j.cacheName}.
+		 */
+		private Local local = new Local();
+
+		/**
+		 * Directory in which processed groups are kept in addition, so that they survive
+		 * a restart. Groups are only read from this directory as long as their resources
+		 * and the processors didn't change.
+		 */
+		private String diskDirectory;
+
+		/**
+		 * Configures storing only the gzipped content of cached groups.
+		 */
+		private GzipOnly gzipOnly = new GzipOnly();
+
+		/**
+		 * Configures storing groups with identical content only once.
+		 */
+		private Deduplication deduplication = new Deduplication();
+
+		/**
+		 * Configures refreshing groups in the background after {@code cacheUpdatePeriod}.
+		 */
+		private Revalidation revalidation = new Revalidation();
+
+		public DataSize getMaxBytes() {
+			return this.maxBytes;
+		}
+
+		public void setMaxBytes(DataSize maxBytes) {
+			this.maxBytes = maxBytes;
+		}
+
+		public Local getLocal() {
+			return this.local;
+		}
+
+		public void setLocal(Local local) {
+			this.local = local;
+		}
+
+		public String getDiskDirectory() {
+			return this.diskDirectory;
+		}
+
+		public void setDiskDirectory(String diskDirectory) {
+			this.diskDirectory = diskDirectory;
+		}
+
+		public GzipOnly getGzipOnly() {
+			return this.gzipOnly;
+		}
+
+		public void setGzipOnly(GzipOnly gzipOnly) {
+			this.gzipOnly = gzipOnly;
+		}
+
+		public Deduplication getDeduplication() {
+			return this.deduplication;
+		}
+
+		public void setDeduplication(Deduplication deduplication) {
+			this.deduplication = deduplication;
+		}
+
+		public Revalidation getRevalidation() {
+			return this.revalidation;
+		}
+
+		public void setRevalidation(Revalidation revalidation) {
+			this.revalidation = revalidation;
+		}
+
+		/**
+		 * Configuration of the local cache in front of a Spring cache.
+		 */
+		public static class Local {
+
+			/**
+			 * Flag whether groups read from the Spring cache are kept in a local cache as
+			 * well.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * Maximum size of the raw and gzipped content of all groups in the local
+			 * cache.
+			 */
+			private DataSize maxBytes = DataSize.ofMegabytes(16);
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public DataSize getMaxBytes() {
+				return this.maxBytes;
+			}
+
+			public void setMaxBytes(DataSize maxBytes) {
+				this.maxBytes = maxBytes;
+			}
+
+		}
+
+		/**
+		 * Configuration of storing only the gzipped content of cached groups.
+		 */
+		public static class GzipOnly {
+
+			/**
+			 * Flag whether cached groups are stored without their raw content and
+			 * inflated for requests not accepting gzip. Requires gzipped content to be
+			 * cached.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * Number of inflated groups kept for requests not accepting gzip, 0 to
+			 * inflate groups on every request.
+			 */
+			private int inflatedCopies = 0;
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public int getInflatedCopies() {
+				return this.inflatedCopies;
+			}
+
+			public void setInflatedCopies(int inflatedCopies) {
+				this.inflatedCopies = inflatedCopies;
+			}
+
+		}
+
+		/**
+		 * Configuration of storing groups with identical content only once.
+		 */
+		public static class Deduplication {
+
+			/**
+			 * Flag whether all cached groups with identical content refer to the same
+			 * cached value.
+			 */
+			private boolean enabled = false;
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+		}
+
+		/**
+		 * Configuration of refreshing groups in the background.
+		 */
+		public static class Revalidation {
+
+			/**
+			 * Flag whether groups older than {@code cacheUpdatePeriod} are still served
+			 * while they are processed again in the background, instead of clearing the
+			 * whole cache periodically.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * Time groups older than {@code cacheUpdatePeriod} are still served. Older
+			 * groups are processed again while the request waits.
+			 */
+			private Duration maxStaleness = Duration.ofMinutes(5);
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public Duration getMaxStaleness() {
+				return this.maxStaleness;
+			}
+
+			public void setMaxStaleness(Duration maxStaleness) {
+				this.maxStaleness = maxStaleness;
+			}
+
+		}
+
+	}
+
+	/**
+	 * Configuration of the request coalescing.
+	 */
+	public static class Coalescing {
+
+		/**
+		 * Flag whether only one request processes a group missing in the cache, while all
+		 * other requests for the same group wait for the result.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum time a request waits for another request processing the same group,
+		 * before it processes the group itself.
+		 */
+		private Duration timeout = Duration.ofSeconds(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+	}
+
+	/**
+	 * Configuration of reloading the model in the background.
+	 */
+	public static class ModelReload {
+
+		/**
+		 * Flag whether the model is reloaded in the background every
+		 * {@code modelUpdatePeriod}, evicting only the groups whose definition changed,
+		 * instead of Wro4j discarding the model and the next request creating it again.
+		 */
+		private boolean enabled = false;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration of the snapshot of the parsed model.
+	 */
+	public static class ModelSnapshot {
+
+		/**
+		 * Flag whether an immutable snapshot of the parsed XML model is kept and used as
+		 * long as the content of the model and its imports doesn't change. A snapshot
+		 * written by the precompiler is read from the {@code precompiledLocation}.
+		 */
+		private boolean enabled = false;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration of the limit of groups processed at the same time.
+	 */
+	public static class Admission {
+
+		/**
+		 * Flag whether the number of groups processed at the same time is limited.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum number of groups processed at the same time.
+		 */
+		private int maxConcurrency = Runtime.getRuntime().availableProcessors();
+
+		/**
+		 * Maximum number of requests waiting for the processing of a group, requests
+		 * beyond are rejected.
+		 */
+		private int maxQueued = 100;
+
+		/**
+		 * Maximum time a request waits for the processing of a group before it is
+		 * rejected.
+		 */
+		private Duration maxWait = Duration.ofSeconds(10);
+
+		/**
+		 * Time after which clients should retry rejected requests, sent as
+		 * {@code Retry-After} header.
+		 */
+		private Duration retryAfter = Duration.ofSeconds(5);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxConcurrency() {
+			return this.maxConcurrency;
+		}
+
+		public void setMaxConcurrency(int maxConcurrency) {
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		public int getMaxQueued() {
+			return this.maxQueued;
+		}
+
+		public void setMaxQueued(int maxQueued) {
+			this.maxQueued = maxQueued;
+		}
+
+		public Duration getMaxWait() {
+			return this.maxWait;
+		}
+
+		public void setMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+		}
+
+		public Duration getRetryAfter() {
+			return this.retryAfter;
+		}
+
+		public void setRetryAfter(Duration retryAfter) {
+			this.retryAfter = retryAfter;
+		}
+
+	}
+
+	/**
+	 * Configuration of content encodings served in addition to gzip.
+	 */
+	public static class ContentEncoding {
+
+		/**
+		 * Flag whether the content of cached groups is encoded with the configured
+		 * encodings and served to clients accepting them.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Names of the encodings to use, in order of preference. Encodings without an
+		 * encoder are ignored.
+		 */
+		private List<String> encodings = new ArrayList<>(List.of("br", "zstd"));
+
+		/**
+		 * Quality of the Brotli compression between 0 and 11.
+		 */
+		private int brotliQuality = 11;
+
+		/**
+		 * Level of the Zstandard compression between 1 and 22.
+		 */
+		private int zstdLevel = 19;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public List<String> getEncodings() {
+			return this.encodings;
+		}
+
+		public void setEncodings(List<String> encodings) {
+			this.encodings = encodings;
+		}
+
+		public int getBrotliQuality() {
+			return this.brotliQuality;
+		}
+
+		public void setBrotliQuality(int brotliQuality) {
+			this.brotliQuality = brotliQuality;
+		}
+
+		public int getZstdLevel() {
+			return this.zstdLevel;
+		}
+
+		public void setZstdLevel(int zstdLevel) {
+			this.zstdLevel = zstdLevel;
+		}
+
+	}
+
+	/**
+	 * Configuration of urls containing the hash of the content of a group.
+	 */
+	public static class Fingerprint {
+
+		/**
+		 * Flag whether urls containing the hash of a group are rendered and served with
+		 * an immutable Cache-Control header.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum time clients cache a group requested through the url containing its
+		 * current hash.
+		 */
+		private Duration maxAge = Duration.ofDays(365);
+
+		/**
+		 * Time after a new hash has been seen first, during which urls with any other
+		 * hash are still served with the current content.
+		 */
+		private Duration gracePeriod = Duration.ofMinutes(10);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getMaxAge() {
+			return this.maxAge;
+		}
+
+		public void setMaxAge(Duration maxAge) {
+			this.maxAge = maxAge;
+		}
+
+		public Duration getGracePeriod() {
+			return this.gracePeriod;
+		}
+
+		public void setGracePeriod(Duration gracePeriod) {
+			this.gracePeriod = gracePeriod;
+		}
+
+	}
+
+	/**
+	 * Configuration of conditional requests answered in front of the Wro4j filter.
+	 */
+	public static class NotModified {
+
+		/**
+		 * Flag whether requests with an If-None-Match header matching the entity tag of a
+		 * cached group are answered with 304 before they reach Wro4j.
+		 */
+		private boolean enabled = false;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration of the watcher for files backing the resources of the model.
+	 */
+	public static class FileWatcher {
+
+		/**
+		 * Flag whether the files backing the resources of the model are watched and the
+		 * groups containing them are evicted from the cache as soon as they change.
+		 */
+		private boolean enabled = false;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration of the memoization of pre-processor output.
+	 */
+	public static class Memoization {
+
+		/**
+		 * Flag whether the output of pre-processors is kept per resource and reused as
+		 * long as the content of the resource doesn't change, so that processing a group
+		 * again only processes its changed resources.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Pre processors that are never memoized, including their subclasses. Defaults to
+		 * processors whose output depends on more than the processed resource, such as
+		 * inlined images or placeholder values, or which have side effects.
+		 */
+		private List<Class<? extends ResourcePreProcessor>> excludedProcessors = new ArrayList<>(
+				List.of(CssDataUriPreProcessor.class, CssUrlRewritingProcessor.class, PlaceholderProcessor.class));
+
+		/**
+		 * Maximum size of all memoized output. Output used less frequently is evicted
+		 * first.
+		 */
+		private DataSize maxBytes = DataSize.ofMegabytes(16);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public List<Class<? extends ResourcePreProcessor>> getExcludedProcessors() {
+			return this.excludedProcessors;
+		}
+
+		public void setExcludedProcessors(List<Class<? extends ResourcePreProcessor>> excludedProcessors) {
+			this.excludedProcessors = excludedProcessors;
+		}
+
+		public DataSize getMaxBytes() {
+			return this.maxBytes;
+		}
+
+		public void setMaxBytes(DataSize maxBytes) {
+			this.maxBytes = maxBytes;
+		}
+
+	}
+
+	/**
+	 * Configuration of serving large groups from direct buffers.
+	 */
+	public static class OffHeap {
+
+		/**
+		 * Flag whether groups reaching the threshold are kept in direct buffers and
+		 * served from there in front of the Wro4j filter.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Minimum size of the raw content of a group to be kept in direct buffers.
+		 */
+		private DataSize threshold = DataSize.ofKilobytes(256);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public DataSize getThreshold() {
+			return this.threshold;
+		}
+
+		public void setThreshold(DataSize threshold) {
+			this.threshold = threshold;
+		}
+
+	}
+
+	/**
+	 * Configuration of the executor used for parallel pre-processing.
+	 */
+	public static class PreprocessingExecutor {
+
+		/**
+		 * Flag whether resources are pre-processed on virtual threads when running on
+		 * Java 21 or later.
+		 */
+		private boolean virtualThreads = true;
+
+		/**
+		 * Maximum number of platform threads pre-processing resources. Defaults to the
+		 * number of available processors. Virtual threads are not limited.
+		 */
+		private int maxThreads = Runtime.getRuntime().availableProcessors();
+
+		public boolean isVirtualThreads() {
+			return this.virtualThreads;
+		}
+
+		public void setVirtualThreads(boolean virtualThreads) {
+			this.virtualThreads = virtualThreads;
+		}
+
+		public int getMaxThreads() {
+			return this.maxThreads;
+		}
+
+		public void setMaxThreads(int maxThreads) {
+			this.maxThreads = maxThreads;
+		}
+
+	}
+
+	/**
+	 * Configuration of serving groups in reactive web applications.
+	 */
+	public static class Reactive {
+
+		/**
+		 * Maximum number of threads groups are processed and encoded on, off the event
+		 * loop. Defaults to the number of available processors.
+		 */
+		private int maxThreads = Runtime.getRuntime().availableProcessors();
+
+		/**
+		 * Maximum number of requests waiting for a thread to process their group.
+		 */
+		private int maxQueuedTasks = 100_000;
+
+		public int getMaxThreads() {
+			return this.maxThreads;
+		}
+
+		public void setMaxThreads(int maxThreads) {
+			this.maxThreads = maxThreads;
+		}
+
+		public int getMaxQueuedTasks() {
+			return this.maxQueuedTasks;
+		}
+
+		public void setMaxQueuedTasks(int maxQueuedTasks) {
+			this.maxQueuedTasks = maxQueuedTasks;
+		}
+
+	}
+
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Clock;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.LogFactory;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.WroModelInspector;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.log.LogAccessor;
+
+/**
+ * Renders urls of groups containing the hash of their content, for example
+ * {@code /wro4j/all.<hash>.js}. Those urls change whenever the content changes and are
+ * therefore served with an immutable {@code Cache-Control} header. The bean is named
+ * {@code wro4jUrls}, so that it can be used in templates, for example in Thymeleaf
+ * through {@code th:src="@{${@wro4jUrls.js('all')}}"}.
+ * <p>
+ * Groups are processed when their url is rendered for the first time. Urls without a hash
+ * are rendered for groups that cannot be processed and when the {@code WroManagerFactory}
+ * is not auto-configured.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+public class Wro4jUrls {
+
+	private static final LogAccessor LOGGER = new LogAccessor(LogFactory.getLog(Wro4jUrls.class.getName()));
+
+	private final ObjectProvider<WroManagerFactory> wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final String filterUrl;
+
+	private final GroupRequests groupRequests;
+
+	private final Clock clock;
+
+	private final Set<String> groupNames = ConcurrentHashMap.newKeySet();
+
+	private volatile FingerprintCacheStrategy fingerprintCacheStrategy;
+
+	Wro4jUrls(ObjectProvider<WroManagerFactory> wroManagerFactory, WroConfiguration wroConfiguration, String filterUrl,
+			GroupRequests groupRequests, Clock clock) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.filterUrl = filterUrl;
+		this.groupRequests = groupRequests;
+		this.clock = clock;
+	}
+
+	/**
+	 * Decorates a cache strategy so that the hashes of all of its values are known.
+	 * @param cacheStrategy the cache strategy to decorate
+	 * @return the decorated cache strategy
+	 */
+	CacheStrategy<CacheKey, CacheValue> decorate(CacheStrategy<CacheKey, CacheValue> cacheStrategy) {
+		this.fingerprintCacheStrategy = new FingerprintCacheStrategy(cacheStrategy, this.clock);
+		return this.fingerprintCacheStrategy;
+	}
+
+	/**
+	 * Renders the url of the JavaScript of a group.
+	 * @param group the name of the group
+	 * @return the url of the group, relative to the context path
+	 */
+	public String js(String group) {
+		return url(group, ResourceType.JS);
+	}
+
+	/**
+	 * Renders the url of the stylesheets of a group.
+	 * @param group the name of the group
+	 * @return the url of the group, relative to the context path
+	 */
+	public String css(String group) {
+		return url(group, ResourceType.CSS);
+	}
+
+	/**
+	 * Renders the url of a group.
+	 * @param group the name of the group
+	 * @param type the type of the resources
+	 * @return the url of the group, relative to the context path
+	 */
+	public String url(String group, ResourceType type) {
+		final FingerprintCacheStrategy.Fingerprint fingerprint = getFingerprint(group, type);
+		final String extension = type.name().toLowerCase(Locale.ROOT);
+		return (fingerprint != null)
+				? String.format("%s/%s.%s.%s", this.filterUrl, group, fingerprint.hash(), extension)
+				: String.format("%s/%s.%s", this.filterUrl, group, extension);
+	}
+
+	/**
+	 * Returns the fingerprint of the content of a group, processing the group if needed.
+	 * @param group the name of the group
+	 * @param type the type of the resources
+	 * @return the fingerprint or {@literal null} if the group cannot be processed
+	 */
+	FingerprintCacheStrategy.Fingerprint getFingerprint(String group, ResourceType type) {
+		final FingerprintCacheStrategy cacheStrategy = this.fingerprintCacheStrategy;
+		if (cacheStrategy == null) {
+			return null;
+		}
+		final CacheKey cacheKey = new CacheKey(group, type, this.wroConfiguration.isMinimizeEnabled());
+		final FingerprintCacheStrategy.Fingerprint fingerprint = cacheStrategy.getFingerprint(cacheKey);
+		if (fingerprint != null || !isGroup(group)) {
+			return fingerprint;
+		}
+		try {
+			// Reading through the manager processes missing groups, in a context bound to
+			// a request for the group like the ones of the Wro4j filter
+			this.groupRequests.withContext(this.wroConfiguration, cacheKey,
+					() -> this.wroManagerFactory.getObject().create().getCacheStrategy().get(cacheKey));
+		}
+		catch (RuntimeException ex) {
+			LOGGER.warn(ex, () -> String.format("Could not process group '%s' (%s)", group, type));
+		}
+		return cacheStrategy.getFingerprint(cacheKey);
+	}
+
+	/**
+	 * Checks whether a group is part of the model.
+	 * @param name the name of the group
+	 * @return {@literal true} if there is a group with the given name
+	 */
+	boolean isGroup(String name) {
+		if (this.groupNames.contains(name)) {
+			return true;
+		}
+		// Groups might have been added by reloading the model
+		this.groupNames.addAll(CacheWarmer.withContext(this.wroConfiguration,
+				() -> new WroModelInspector(this.wroManagerFactory.getObject().create().getModelFactory().create())
+					.getGroupNames()));
+		return this.groupNames.contains(name);
+	}
+
+	Clock getClock() {
+		return this.clock;
+	}
+
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import jakarta.servlet.http.HttpServletResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.handler.RequestHandlerSupport;
+import ro.isdc.wro.http.handler.ResourceProxyRequestHandler;
+import ro.isdc.wro.http.support.ContentTypeResolver;
+import ro.isdc.wro.http.support.ResponseHeadersConfigurer;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.WroModelInspector;
+import ro.isdc.wro.model.group.DefaultGroupExtractor;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * Serves groups in reactive web applications with the same headers as the Wro4j filter.
+ * Groups are looked up through the cache strategy of the manager factory, which processes
+ * missing groups. Lookup, processing and encoding happen on a bounded scheduler, so that
+ * neither CPU heavy processors nor the locks of the cache strategy block the event loop.
+ * The content is written as is, wrapped into a single buffer.
+ * <p>
+ * Groups are processed in a Wro4j context bound to the request, so that urls in
+ * stylesheets are rewritten to proxy urls relative to it. Those urls are served as well,
+ * as long as the resource has been authorized by processing a stylesheet referring to it,
+ * all other proxy urls are answered with {@code 403 Forbidden}. Resources that can only
+ * be resolved through a servlet request are not available. Requests for groups that are
+ * not part of the model are passed on, requests rejected because of the limit of groups
+ * processed at the same time are answered with {@code 503 Service Unavailable}.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class Wro4jWebFilter implements WebFilter {
+
+	private final ObjectProvider<WroManagerFactory> wroManagerFactory;
+
+	private final WroConfiguration wroConfiguration;
+
+	private final String prefix;
+
+	private final Scheduler scheduler;
+
+	Wro4jWebFilter(ObjectProvider<WroManagerFactory> wroManagerFactory, WroConfiguration wroConfiguration,
+			String filterUrl, Scheduler scheduler) {
+		this.wroManagerFactory = wroManagerFactory;
+		this.wroConfiguration = wroConfiguration;
+		this.prefix = filterUrl + "/";
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		final ServerHttpRequest request = exchange.getRequest();
+		if (!(HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod()))) {
+			return chain.filter(exchange);
+		}
+		final String resourceId = getProxiedResourceId(request);
+		if (resourceId != null) {
+			return serveProxiedResource(exchange, resourceId);
+		}
+		final CacheKey cacheKey = getCacheKey(request);
+		if (cacheKey == null) {
+			return chain.filter(exchange);
+		}
+		final boolean gzip = this.wroConfiguration.isGzipEnabled() && isGzipSupported(request);
+		return Mono.fromCallable(() -> withContext(request, () -> getContent(cacheKey, gzip)))
+			.subscribeOn(this.scheduler)
+			.flatMap(content -> content.isPresent() ? serve(exchange, content.get()) : chain.filter(exchange))
+			.onErrorResume(ProcessingRejectedException.class, ex -> reject(exchange, ex));
+	}
+
+	/**
+	 * Runs the given supplier inside a Wro4j context bound to the given request.
+	 * @param <T> type of the result
+	 * @param request the current request
+	 * @param supplier the supplier to run
+	 * @return the result of the supplier
+	 */
+	private <T> T withContext(ServerHttpRequest request, Supplier<T> supplier) {
+		return GroupRequests.withContext(this.wroConfiguration, null, request.getPath().contextPath().value(),
+				request.getPath().value(), request.getHeaders()::getFirst, supplier);
+	}
+
+	/**
+	 * Extracts the id of the resource requested through a proxy url the same way Wro4j
+	 * does.
+	 * @param request the current request
+	 * @return the id of the resource or {@literal null} if the request is not for a
+	 * proxied resource
+	 * @see ResourceProxyRequestHandler
+	 */
+	private String getProxiedResourceId(ServerHttpRequest request) {
+		if (!request.getPath().pathWithinApplication().value().startsWith(this.prefix)
+				|| !ResourceProxyRequestHandler.PATH_RESOURCES
+					.equals(request.getQueryParams().getFirst(RequestHandlerSupport.PATH_API))) {
+			return null;
+		}
+		return request.getQueryParams().getFirst(ResourceProxyRequestHandler.PARAM_RESOURCE_ID);
+	}
+
+	private Mono<Void> serveProxiedResource(ServerWebExchange exchange, String resourceId) {
+		final ServerHttpResponse response = exchange.getResponse();
+		return Mono.fromCallable(() -> withContext(exchange.getRequest(), () -> locate(resourceId)))
+			.subscribeOn(this.scheduler)
+			.flatMap(content -> {
+				if (content.isEmpty()) {
+					response.setStatusCode(HttpStatus.FORBIDDEN);
+					return response.setComplete();
+				}
+				final HttpHeaders headers = response.getHeaders();
+				setHeaders(this.wroConfiguration, headers);
+				headers.set(HttpHeaders.CONTENT_TYPE,
+						ContentTypeResolver.get(resourceId, this.wroConfiguration.getEncoding()));
+				headers.setContentLength(content.get().length);
+				return response.writeWith(Mono.just(response.bufferFactory().wrap(content.get())));
+			})
+			.onErrorResume(UncheckedIOException.class, ex -> {
+				response.setStatusCode(HttpStatus.NOT_FOUND);
+				return response.setComplete();
+			});
+	}
+
+	/**
+	 * Reads a resource requested through a proxy url. Must be called inside a context.
+	 * @param resourceId the id of the resource
+	 * @return the content of the resource or an empty optional if the resource has not
+	 * been authorized
+	 */
+	private Optional<byte[]> locate(String resourceId) {
+		final WroManager wroManager = this.wroManagerFactory.getObject().create();
+		if (!wroManager.getResourceAuthorizationManager().isAuthorized(resourceId)) {
+			return Optional.empty();
+		}
+		try (InputStream in = wroManager.getUriLocatorFactory().locate(resourceId)) {
+			return Optional.of(in.readAllBytes());
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Computes the cache key of a request the same way Wro4j does.
+	 * @param request the current request
+	 * @return the cache key or {@literal null} if the request is not for a group
+	 * @see DefaultGroupExtractor
+	 */
+	private CacheKey getCacheKey(ServerHttpRequest request) {
+		final String path = request.getPath().pathWithinApplication().value();
+		if (!path.startsWith(this.prefix)) {
+			return null;
+		}
+		final String filename = StringUtils.getFilename(path);
+		final ResourceType type = getResourceType(StringUtils.getFilenameExtension(filename));
+		final String groupName = StringUtils.stripFilenameExtension(filename);
+		if (type == null || groupName.isEmpty()) {
+			return null;
+		}
+		final boolean minimize = !(this.wroConfiguration.isDebug()
+				&& "false".equalsIgnoreCase(request.getQueryParams().getFirst(DefaultGroupExtractor.PARAM_MINIMIZE)));
+		return new CacheKey(groupName, type, this.wroConfiguration.isMinimizeEnabled() && minimize);
+	}
+
+	/**
+	 * Looks up or processes a group and encodes it. Must be called inside a context.
+	 * @param cacheKey the key of the group
+	 * @param gzip whether the gzipped content should be served
+	 * @return the content to serve or an empty optional if the group is not part of the
+	 * model
+	 */
+	private Optional<Content> getContent(CacheKey cacheKey, boolean gzip) {
+		final WroManager wroManager = this.wroManagerFactory.getObject().create();
+		if (new WroModelInspector(wroManager.getModelFactory().create())
+			.getGroupByName(cacheKey.getGroupName()) == null) {
+			return Optional.empty();
+		}
+		final CacheValue value = wroManager.getCacheStrategy().get(cacheKey);
+		if (gzip) {
+			return Optional.of(new Content(cacheKey.getType(), value.getHash(), value.getGzippedContent(), true));
+		}
+		try (InputStream in = GzipOnlyCacheStrategy.getRawContent(value,
+				Charset.forName(this.wroConfiguration.getEncoding()))) {
+			return Optional.of(new Content(cacheKey.getType(), value.getHash(), in.readAllBytes(), false));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private Mono<Void> serve(ServerWebExchange exchange, Content content) {
+		final ServerHttpResponse response = exchange.getResponse();
+		final HttpHeaders headers = response.getHeaders();
+		setHeaders(this.wroConfiguration, headers);
+		headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		final String etag = String.format("\"%s\"", content.hash());
+		headers.set(HttpHeaders.ETAG, etag);
+		if (etag.equals(exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))) {
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			return response.setComplete();
+		}
+		headers.set(HttpHeaders.CONTENT_TYPE,
+				content.type().getContentType() + ";charset=" + this.wroConfiguration.getEncoding());
+		if (content.gzipped()) {
+			headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		headers.setContentLength(content.bytes().length);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(content.bytes())));
+	}
+
+	private static Mono<Void> reject(ServerWebExchange exchange, ProcessingRejectedException ex) {
+		final ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+		response.getHeaders().set(HttpHeaders.RETRY_AFTER, ex.getRetryAfterHeaderValue());
+		return response.setComplete();
+	}
+
+	/**
+	 * Sets the headers Wro4j configures for its responses. Wro4j only sets them on
+	 * servlet responses, so they are collected through a proxy.
+	 * @param wroConfiguration the configuration of the headers
+	 * @param headers the headers to set
+	 */
+	static void setHeaders(WroConfiguration wroConfiguration, HttpHeaders headers) {
+		final HttpServletResponse response = (HttpServletResponse) Proxy.newProxyInstance(
+				Wro4jWebFilter.class.getClassLoader(), new Class<?>[] { HttpServletResponse.class },
+				(proxy, method, args) -> {
+					if ("setHeader".equals(method.getName())) {
+						headers.set((String) args[0], (String) args[1]);
+					}
+					return null;
+				});
+		ResponseHeadersConfigurer.fromConfig(wroConfiguration).setHeaders(response);
+	}
+
+	private static ResourceType getResourceType(String extension) {
+		for (ResourceType type : ResourceType.values()) {
+			if (type.name().equalsIgnoreCase(extension)) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isGzipSupported(ServerHttpRequest request) {
+		return request.getHeaders()
+			.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)
+			.stream()
+			.anyMatch(value -> value.toLowerCase(Locale.ROOT).contains("gzip"));
+	}
+
+	private record Content(ResourceType type, String hash, byte[] bytes, boolean gzipped) {
+	}
+
+}
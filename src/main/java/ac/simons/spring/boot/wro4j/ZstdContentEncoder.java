@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import com.github.luben.zstd.Zstd;
+
+/**
+ * Encodes content with Zstandard through zstd-jni.
+ *
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ZstdContentEncoder implements ContentEncoder {
+
+	private final int level;
+
+	/**
+	 * Creates a new encoder.
+	 * @param level the compression level between 1 and 22
+	 */
+	ZstdContentEncoder(int level) {
+		this.level = level;
+	}
+
+	@Override
+	public String getName() {
+		return "zstd";
+	}
+
+	@Override
+	public byte[] encode(byte[] content) {
+		return Zstd.compress(content, this.level);
+	}
+
+}
@@ -15,11 +15,10 @@
  */
 package ac.simons.spring.boot.wro4j.processors;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
 import ro.isdc.wro.model.resource.Resource;
@@ -29,6 +28,10 @@ import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
  * Entfernt {@code SourceMappingURLs} aus zu minimierenden Dateien (siehe
  * <a href="https://blog.mayflower.de/4491-Source-Maps-in-JavaScript.html">Komprimiertes
  * JavaScript unter Kontrolle: Source Maps</a>.
+ * <p>
+ * The content is scanned in blocks and copied unchanged, including its line endings,
+ * except for lines matching {@link #SOURCE_MAP_PATTERN}. Only lines starting with a
+ * {@code /} are inspected further.
  *
  * @author Michael J. Simons
  * @since 2016-01-18
@@ -41,21 +44,232 @@ public class RemoveSourceMapsProcessor implements ResourcePreProcessor {
 	public static final Pattern SOURCE_MAP_PATTERN = Pattern
 		.compile("^/[*/]?[#@] sourceMappingURL=[\\S]++(?:\\s++\\*/)?$");
 
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final String SOURCE_MAPPING_URL = " sourceMappingURL=";
+
+	/**
+	 * Returned by {@link Scanner#match(int)} when the line does not contain a source map.
+	 */
+	private static final int NO_MATCH = -1;
+
+	/**
+	 * Returned by {@link Scanner#match(int)} when more content is needed to decide.
+	 */
+	private static final int MORE = -2;
+
 	@Override
 	public void process(Resource resource, Reader reader, Writer writer) throws IOException {
 
-		try (BufferedReader bufferedReader = new BufferedReader(reader);
-				BufferedWriter bufferedWriter = new BufferedWriter(writer)) {
+		try (reader; writer) {
+			new Scanner(reader, writer).run();
+			writer.flush();
+		}
+	}
+
+	/**
+	 * Holds the state of processing one resource.
+	 */
+	private static final class Scanner {
+
+		private final Reader reader;
+
+		private final Writer writer;
+
+		private char[] buffer = new char[BUFFER_SIZE];
+
+		/**
+		 * Number of valid chars in the buffer.
+		 */
+		private int length;
+
+		/**
+		 * Current position of the scanner.
+		 */
+		private int position;
+
+		/**
+		 * Start of the content not yet written.
+		 */
+		private int flushed;
+
+		/**
+		 * The char before the first char in the buffer, the start of the content is the
+		 * start of a line.
+		 */
+		private char previous = '\n';
+
+		private boolean eof;
+
+		Scanner(Reader reader, Writer writer) {
+			this.reader = reader;
+			this.writer = writer;
+		}
+
+		/**
+		 * Copies the content from the reader to the writer, dropping all source maps.
+		 * @throws IOException if reading or writing fails
+		 */
+		void run() throws IOException {
+			while (true) {
+				scan();
+				this.writer.write(this.buffer, this.flushed, this.position - this.flushed);
+				this.flushed = this.position;
+				if (this.eof) {
+					return;
+				}
+				fill();
+			}
+		}
+
+		/**
+		 * Scans the buffer until its end or until a line is found that can only be
+		 * decided with more content.
+		 * @throws IOException if writing fails
+		 */
+		private void scan() throws IOException {
+			while (this.position < this.length) {
+				if (this.buffer[this.position] == '/' && isLineStart()) {
+					final int end = match(this.position);
+					if (end == MORE) {
+						return;
+					}
+					if (end != NO_MATCH) {
+						this.writer.write(this.buffer, this.flushed, this.position - this.flushed);
+						this.flushed = end;
+						this.position = end;
+						continue;
+					}
+				}
+				skipLine();
+			}
+		}
+
+		/**
+		 * Moves the position behind the next line terminator or to the end of the buffer.
+		 */
+		private void skipLine() {
+			int i = this.position;
+			while (i < this.length && !isLineTerminator(this.buffer[i])) {
+				++i;
+			}
+			this.position = (i < this.length) ? i + 1 : i;
+		}
+
+		private boolean isLineStart() {
+			final char before = (this.position > 0) ? this.buffer[this.position - 1] : this.previous;
+			return before == '\n' || (before == '\r' && this.buffer[this.position] != '\n');
+		}
+
+		/**
+		 * Checks whether the line starting at {@code start} matches
+		 * {@link #SOURCE_MAP_PATTERN}.
+		 * @param start the start of the line, pointing to a {@code /}
+		 * @return the end of the line including its terminator, {@link #NO_MATCH} or
+		 * {@link #MORE}
+		 */
+		private int match(int start) {
+			int i = start + 1;
+			if (i < this.length && (this.buffer[i] == '*' || this.buffer[i] == '/')) {
+				++i;
+			}
+			if (i >= this.length) {
+				return this.eof ? NO_MATCH : MORE;
+			}
+			if (this.buffer[i] != '#' && this.buffer[i] != '@') {
+				return NO_MATCH;
+			}
+			++i;
+			for (int j = 0; j < SOURCE_MAPPING_URL.length(); ++j, ++i) {
+				if (i >= this.length) {
+					return this.eof ? NO_MATCH : MORE;
+				}
+				if (this.buffer[i] != SOURCE_MAPPING_URL.charAt(j)) {
+					return NO_MATCH;
+				}
+			}
+
+			final int urlStart = i;
+			while (i < this.length && !isWhitespace(this.buffer[i])) {
+				++i;
+			}
+			if (i == urlStart) {
+				return (i < this.length || this.eof) ? NO_MATCH : MORE;
+			}
+			if (i < this.length && !isLineTerminator(this.buffer[i])) {
+				while (i < this.length && isWhitespace(this.buffer[i]) && !isLineTerminator(this.buffer[i])) {
+					++i;
+				}
+				if (i + 1 >= this.length) {
+					return this.eof ? NO_MATCH : MORE;
+				}
+				if (this.buffer[i] != '*' || this.buffer[i + 1] != '/') {
+					return NO_MATCH;
+				}
+				i += 2;
+				if (i < this.length && !isLineTerminator(this.buffer[i])) {
+					return NO_MATCH;
+				}
+			}
+			return endOfLine(i);
+		}
 
-			String line;
-			while ((line = bufferedReader.readLine()) != null) {
-				if (!SOURCE_MAP_PATTERN.matcher(line).matches()) {
-					bufferedWriter.write(line);
-					bufferedWriter.newLine();
+		/**
+		 * Computes the end of a matching line.
+		 * @param i the position of the line terminator or the end of the buffer
+		 * @return the position behind the line terminator or {@link #MORE}
+		 */
+		private int endOfLine(int i) {
+			if (i >= this.length) {
+				return this.eof ? i : MORE;
+			}
+			if (this.buffer[i] == '\r') {
+				if (i + 1 >= this.length) {
+					return this.eof ? i + 1 : MORE;
 				}
+				return (this.buffer[i + 1] == '\n') ? i + 2 : i + 1;
+			}
+			return i + 1;
+		}
+
+		/**
+		 * Moves the content not yet written to the start of the buffer, grows the buffer
+		 * if it is still full and reads more content.
+		 * @throws IOException if reading fails
+		 */
+		private void fill() throws IOException {
+			if (this.flushed > 0) {
+				this.previous = this.buffer[this.flushed - 1];
+				this.length -= this.flushed;
+				System.arraycopy(this.buffer, this.flushed, this.buffer, 0, this.length);
+				this.position -= this.flushed;
+				this.flushed = 0;
 			}
-			bufferedWriter.flush();
+			if (this.length == this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+			}
+			final int read = this.reader.read(this.buffer, this.length, this.buffer.length - this.length);
+			if (read < 0) {
+				this.eof = true;
+			}
+			else {
+				this.length += read;
+			}
+		}
+
+		private static boolean isLineTerminator(char c) {
+			return c == '\n' || c == '\r';
+		}
+
+		/**
+		 * Same as {@code \s} in {@link Pattern}.
+		 * @param c the char to check
+		 * @return true if the char is whitespace
+		 */
+		private static boolean isWhitespace(char c) {
+			return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
 		}
+
 	}
 
 }
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.lang.ref.Reference;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.ConfigurableWroFilter;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.group.processor.GroupsProcessor;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.support.hash.SHA1HashStrategy;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class AdmissionCacheStrategyTests {
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS, true);
+
+	private static final CacheKey OTHER_KEY = new CacheKey("b", ResourceType.JS, true);
+
+	private final WebApplicationContextRunner applicationContextRunner = new WebApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withPropertyValues("wro4j.model = /groups.xml", "wro4j.admission.enabled = true");
+
+	@Test
+	void shouldNotBeConfiguredByDefault() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> {
+				assertThat(ctx).doesNotHaveBean("processingRejectedFilterRegistration");
+				assertThat(ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "cacheStrategy"))
+					.isNotInstanceOf(AdmissionCacheStrategy.class);
+			});
+	}
+
+	@Test
+	void shouldBeConfiguredAndRegisteredInFrontOfAllFilters() {
+		this.applicationContextRunner.withPropertyValues("wro4j.fingerprint.enabled = true").run(ctx -> {
+			assertThat(ctx).hasNotFailed();
+			final FilterRegistrationBean<?> registration = ctx.getBean("processingRejectedFilterRegistration",
+					FilterRegistrationBean.class);
+			assertThat(registration.getUrlPatterns()).containsExactly("/wro4j/*");
+			assertThat(registration.getOrder())
+				.isLessThan(ctx.getBean("fingerprintFilterRegistration", FilterRegistrationBean.class).getOrder());
+		});
+		this.applicationContextRunner.run(ctx -> assertThat(
+				ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "cacheStrategy"))
+			.isInstanceOf(AdmissionCacheStrategy.class));
+	}
+
+	@Test
+	void shouldNotBeConfiguredWithResourceWatcher() {
+		this.applicationContextRunner.withPropertyValues("wro4j.resourceWatcherUpdatePeriod = 10")
+			.run(ctx -> assertThat(
+					ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "cacheStrategy"))
+				.isNotInstanceOf(AdmissionCacheStrategy.class));
+	}
+
+	@Test
+	void shouldBeInjectedAndLoadThroughWro4j() {
+		final AdmissionCacheStrategy cacheStrategy = new AdmissionCacheStrategy(new LruMemoryCacheStrategy<>(), 1, 1,
+				Duration.ofSeconds(1), Duration.ofSeconds(1));
+		final WroManager wroManager = CacheWarmer.withContext(new WroConfiguration(), CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("a", "classpath:assets/app.js"), cacheStrategy)::create);
+
+		final CacheValue value = inContext(() -> wroManager.getCacheStrategy().get(KEY));
+		assertThat(value.getRawContent()).contains("function hello");
+		assertThat(inContext(() -> wroManager.getCacheStrategy().get(KEY))).isSameAs(value);
+		assertThat(cacheStrategy.getActiveCount()).isZero();
+	}
+
+	@Test
+	void shouldLeaveLoadingToWro4jWhenNotInjected() {
+		final AdmissionCacheStrategy cacheStrategy = new AdmissionCacheStrategy(new LruMemoryCacheStrategy<>(), 1, 1,
+				Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+		assertThat(cacheStrategy.get(KEY)).isNull();
+	}
+
+	@Test
+	void staleValuesShouldBeServedWhileAllPermitsAreTaken() throws Exception {
+		final CountDownLatch processing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AdmissionCacheStrategy cacheStrategy = cacheStrategy(1, 0, Duration.ofSeconds(10), key -> {
+			if (key.equals(OTHER_KEY)) {
+				processing.countDown();
+				await(release);
+			}
+			return "var " + key.getGroupName() + ";";
+		});
+		final CacheValue stale = inContext(() -> CacheValue.valueOf("var a = 1;", "hash"));
+		cacheStrategy.put(KEY, stale);
+		cacheStrategy.clear();
+
+		final CompletableFuture<CacheValue> other = CompletableFuture
+			.supplyAsync(() -> inContext(() -> cacheStrategy.get(OTHER_KEY)));
+		processing.await();
+		try {
+			assertThat(cacheStrategy.getActiveCount()).isOne();
+			assertThat(cacheStrategy.get(KEY)).isSameAs(stale);
+			assertThat(cacheStrategy.getStaleCount()).isOne();
+		}
+		finally {
+			release.countDown();
+		}
+
+		assertThat(other.get().getRawContent()).isEqualTo("var b;");
+		assertThat(inContext(() -> cacheStrategy.get(KEY)).getRawContent()).isEqualTo("var a;");
+	}
+
+	@Test
+	void requestsShouldWaitForPermits() throws Exception {
+		final CountDownLatch processing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AdmissionCacheStrategy cacheStrategy = cacheStrategy(1, 1, Duration.ofSeconds(10), key -> {
+			if (key.equals(OTHER_KEY)) {
+				processing.countDown();
+				await(release);
+			}
+			return "var " + key.getGroupName() + ";";
+		});
+
+		final CompletableFuture<CacheValue> other = CompletableFuture
+			.supplyAsync(() -> inContext(() -> cacheStrategy.get(OTHER_KEY)));
+		processing.await();
+		final CompletableFuture<CacheValue> waiting = CompletableFuture
+			.supplyAsync(() -> inContext(() -> cacheStrategy.get(KEY)));
+		while (cacheStrategy.getQueuedCount() == 0) {
+			Thread.onSpinWait();
+		}
+		assertThatExceptionOfType(ProcessingRejectedException.class).isThrownBy(() -> cacheStrategy.get(KEY));
+		release.countDown();
+
+		assertThat(waiting.get().getRawContent()).isEqualTo("var a;");
+		assertThat(other.get().getRawContent()).isEqualTo("var b;");
+		assertThat(cacheStrategy.getQueuedCount()).isZero();
+		assertThat(cacheStrategy.getRejectedCount()).isOne();
+	}
+
+	@Test
+	void valuesProcessedWhileWaitingShouldNotBeProcessedAgain() throws Exception {
+		final CountDownLatch processing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AdmissionCacheStrategy cacheStrategy = cacheStrategy(1, 1, Duration.ofSeconds(10), key -> {
+			processing.countDown();
+			await(release);
+			return "var a;";
+		});
+
+		final CompletableFuture<CacheValue> first = CompletableFuture
+			.supplyAsync(() -> inContext(() -> cacheStrategy.get(KEY)));
+		processing.await();
+		final CompletableFuture<CacheValue> second = CompletableFuture.supplyAsync(() -> cacheStrategy.get(KEY));
+		while (cacheStrategy.getQueuedCount() == 0) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+
+		assertThat(second.get()).isSameAs(first.get());
+	}
+
+	@Test
+	void requestsShouldBeRejectedAfterMaxWait() {
+		final AdmissionCacheStrategy cacheStrategy = cacheStrategy(0, 1, Duration.ofMillis(10), key -> "var a;");
+
+		assertThatExceptionOfType(ProcessingRejectedException.class).isThrownBy(() -> cacheStrategy.get(KEY))
+			.satisfies(ex -> assertThat(ex.getRetryAfterHeaderValue()).isEqualTo("2"));
+		assertThat(cacheStrategy.getRejectedCount()).isOne();
+		assertThat(cacheStrategy.getQueuedCount()).isZero();
+	}
+
+	@Test
+	void interruptedRequestsShouldBeRejected() {
+		final AdmissionCacheStrategy cacheStrategy = cacheStrategy(0, 1, Duration.ofSeconds(10), key -> "var a;");
+
+		Thread.currentThread().interrupt();
+		try {
+			assertThatExceptionOfType(ProcessingRejectedException.class).isThrownBy(() -> cacheStrategy.get(KEY));
+			assertThat(Thread.interrupted()).isTrue();
+		}
+		finally {
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	void destroyShouldForgetStaleValues() {
+		final AdmissionCacheStrategy cacheStrategy = cacheStrategy(0, 0, Duration.ofSeconds(10), key -> "var a;");
+		cacheStrategy.put(KEY, inContext(() -> CacheValue.valueOf("var a;", "hash")));
+		cacheStrategy.put(KEY, null);
+		assertThat(cacheStrategy.get(KEY)).isNotNull();
+
+		cacheStrategy.destroy();
+		assertThatExceptionOfType(ProcessingRejectedException.class).isThrownBy(() -> cacheStrategy.get(KEY));
+	}
+
+	@Test
+	void evictedValuesShouldNotBeServedStale() {
+		final AdmissionCacheStrategy cacheStrategy = cacheStrategy(0, 0, Duration.ofSeconds(10), key -> "var a;");
+		final CacheValue value = inContext(() -> CacheValue.valueOf("var a;", "hash"));
+		cacheStrategy.put(KEY, value);
+		cacheStrategy.put(OTHER_KEY, inContext(() -> CacheValue.valueOf("var b;", "other")));
+		cacheStrategy.evicted(OTHER_KEY, value);
+		cacheStrategy.evicted(new CacheKey("c", ResourceType.JS, true), value);
+		cacheStrategy.clear();
+		assertThat(cacheStrategy.get(OTHER_KEY)).isNotNull();
+
+		cacheStrategy.evicted(KEY, value);
+		assertThatExceptionOfType(ProcessingRejectedException.class).isThrownBy(() -> cacheStrategy.get(KEY));
+	}
+
+	@Test
+	void collectedValuesShouldBeForgotten() {
+		final AdmissionCacheStrategy cacheStrategy = cacheStrategy(0, 0, Duration.ofSeconds(10), key -> "var a;");
+		cacheStrategy.put(KEY, inContext(() -> CacheValue.valueOf("var a;", "hash")));
+		final Map<?, ?> staleValues = (Map<?, ?>) ReflectionTestUtils.getField(cacheStrategy, "staleValues");
+		((Reference<?>) staleValues.get(KEY)).enqueue();
+
+		cacheStrategy.put(OTHER_KEY, inContext(() -> CacheValue.valueOf("var b;", "other")));
+		assertThat(staleValues).hasSize(1);
+		assertThat(staleValues.containsKey(OTHER_KEY)).isTrue();
+
+		((Reference<?>) staleValues.get(OTHER_KEY)).clear();
+		cacheStrategy.evicted(OTHER_KEY, inContext(() -> CacheValue.valueOf("var c;", "evicted")));
+		assertThat(staleValues).isEmpty();
+	}
+
+	@Test
+	void rejectedRequestsShouldBeAnsweredWithServiceUnavailable() {
+		this.applicationContextRunner
+			.withPropertyValues("wro4j.admission.maxConcurrency = 0", "wro4j.admission.maxQueued = 0",
+					"wro4j.admission.retryAfter = 30s")
+			.run(ctx -> {
+				final MockHttpServletResponse response = filter(ctx, "/wro4j/app.js", new MockHttpServletResponse());
+				assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+				assertThat(response.getHeader(ProcessingRejectedFilter.RETRY_AFTER)).isEqualTo("30");
+
+				final MockHttpServletResponse committed = new MockHttpServletResponse();
+				committed.setCommitted(true);
+				assertThatExceptionOfType(ProcessingRejectedException.class)
+					.isThrownBy(() -> filter(ctx, "/wro4j/app.js", committed));
+			});
+		// Other failures are handled by Wro4j
+		this.applicationContextRunner
+			.run(ctx -> assertThat(filter(ctx, "/wro4j/unknown.js", new MockHttpServletResponse()).getStatus())
+				.isEqualTo(HttpServletResponse.SC_OK));
+	}
+
+	@Test
+	void shouldBeMonitored() {
+		this.applicationContextRunner.withBean(SimpleMeterRegistry.class)
+			.withPropertyValues("wro4j.admission.maxConcurrency = 0", "wro4j.admission.maxQueued = 0")
+			.run(ctx -> {
+				final BaseWroManagerFactory wroManagerFactory = ctx.getBean(BaseWroManagerFactory.class);
+				assertThatExceptionOfType(ProcessingRejectedException.class)
+					.isThrownBy(() -> inContext(() -> wroManagerFactory.create()
+						.getCacheStrategy()
+						.get(new CacheKey("app", ResourceType.JS, true))));
+
+				final MeterRegistry meterRegistry = ctx.getBean(MeterRegistry.class);
+				assertThat(meterRegistry.get("wro4j.processing.active").gauge().value()).isZero();
+				assertThat(meterRegistry.get("wro4j.processing.queued").gauge().value()).isZero();
+				assertThat(meterRegistry.get("wro4j.processing.rejected").functionCounter().count()).isOne();
+				assertThat(meterRegistry.get("wro4j.processing.stale").functionCounter().count()).isZero();
+			});
+	}
+
+	private static MockHttpServletResponse filter(ApplicationContext ctx, String uri, MockHttpServletResponse response)
+			throws Exception {
+		final ConfigurableWroFilter wroFilter = ctx.getBean(ConfigurableWroFilter.class);
+		wroFilter.init(new MockFilterConfig());
+		final ProcessingRejectedFilter rejectedFilter = (ProcessingRejectedFilter) ctx
+			.getBean("processingRejectedFilterRegistration", FilterRegistrationBean.class)
+			.getFilter();
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		new MockFilterChain(mock(Servlet.class), rejectedFilter, wroFilter).doFilter(request, response);
+		return response;
+	}
+
+	private static AdmissionCacheStrategy cacheStrategy(int maxConcurrency, int maxQueued, Duration maxWait,
+			Function<CacheKey, String> content) {
+		final GroupsProcessor groupsProcessor = mock(GroupsProcessor.class);
+		given(groupsProcessor.process(any())).willAnswer(invocation -> content.apply(invocation.getArgument(0)));
+		final AdmissionCacheStrategy cacheStrategy = new AdmissionCacheStrategy(new LruMemoryCacheStrategy<>(),
+				maxConcurrency, maxQueued, maxWait, Duration.ofSeconds(2));
+		ReflectionTestUtils.setField(cacheStrategy, "groupsProcessor", groupsProcessor);
+		ReflectionTestUtils.setField(cacheStrategy, "hashStrategy", new SHA1HashStrategy());
+		return cacheStrategy;
+	}
+
+	private static <T> T inContext(Supplier<T> supplier) {
+		return CacheWarmer.withContext(new WroConfiguration(), supplier);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.factory.WroModelFactory;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class CacheWarmerTests {
+
+	static final GroupRequests GROUP_REQUESTS = new GroupRequests("/wro4j", () -> null, "/ctx");
+
+	private final ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withPropertyValues("wro4j.model = /groups.xml");
+
+	@Test
+	void shouldNotBeConfiguredByDefault() {
+		this.applicationContextRunner.run(ctx -> assertThat(ctx).doesNotHaveBean(CacheWarmer.class));
+	}
+
+	@Test
+	void shouldWarmUpAllGroups() {
+		this.applicationContextRunner.withPropertyValues("wro4j.warmup.enabled = true").run(ctx -> {
+			assertThat(ctx).hasSingleBean(CacheWarmer.class);
+
+			final Map<CacheKey, Duration> result = ctx.getBean(CacheWarmer.class).warmUp();
+			assertThat(result).containsOnlyKeys(new CacheKey("app", ResourceType.JS),
+					new CacheKey("app", ResourceType.CSS), new CacheKey("vendor", ResourceType.JS));
+
+			@SuppressWarnings("unchecked")
+			final CacheStrategy<CacheKey, CacheValue> cacheStrategy = ctx.getBean(CacheStrategy.class);
+			final CacheValue vendor = cacheStrategy.get(new CacheKey("vendor", ResourceType.JS));
+			assertThat(vendor).isNotNull();
+			assertThat(vendor.getRawContent()).contains("var vendor");
+			assertThat(vendor.getGzippedContent()).isNotEmpty();
+		});
+	}
+
+	@Test
+	void shouldWarmUpWhenApplicationIsReady() {
+		final LruMemoryCacheStrategy<CacheKey, CacheValue> cacheStrategy = new LruMemoryCacheStrategy<>();
+		final CacheWarmer cacheWarmer = new CacheWarmer(
+				managerFactory(model("a", "classpath:assets/app.js"), cacheStrategy), new WroConfiguration(),
+				GROUP_REQUESTS, 0);
+		cacheWarmer.onApplicationEvent(mock(ApplicationReadyEvent.class));
+
+		assertThat(cacheStrategy.get(new CacheKey("a", ResourceType.JS))).isNotNull();
+	}
+
+	@Test
+	void shouldRewriteUrlsInStylesheets() {
+		final LruMemoryCacheStrategy<CacheKey, CacheValue> cacheStrategy = new LruMemoryCacheStrategy<>();
+		final CacheWarmer cacheWarmer = new CacheWarmer(
+				managerFactory(model("a", "classpath:assets/images.css"), cacheStrategy), new WroConfiguration(),
+				GROUP_REQUESTS, 1);
+
+		assertThat(cacheWarmer.warmUp()).containsOnlyKeys(new CacheKey("a", ResourceType.CSS));
+		assertThat(cacheStrategy.get(new CacheKey("a", ResourceType.CSS)).getRawContent())
+			.contains("url(/ctx/wro4j/a.css?wroAPI=wroResources&id=classpath:assets/img/x.png)");
+	}
+
+	@Test
+	void shouldContinueOnFailingGroups() {
+		final WroConfiguration wroConfiguration = new WroConfiguration();
+		wroConfiguration.setIgnoreMissingResources(false);
+		final WroModel model = model("a", "classpath:assets/app.js");
+		model.addGroup(new Group("b").addResource(Resource.create("classpath:assets/missing.js")));
+		final CacheWarmer cacheWarmer = new CacheWarmer(managerFactory(model, new LruMemoryCacheStrategy<>()),
+				wroConfiguration, GROUP_REQUESTS, 2);
+
+		assertThat(cacheWarmer.warmUp()).containsOnlyKeys(new CacheKey("a", ResourceType.JS));
+	}
+
+	@Test
+	void recomputedValuesShouldBeHashedLikeWro4j() {
+		final LruMemoryCacheStrategy<CacheKey, CacheValue> cacheStrategy = new LruMemoryCacheStrategy<>();
+		final BaseWroManagerFactory managerFactory = managerFactory(model("a", "classpath:assets/app.js"),
+				cacheStrategy);
+		final CacheKey key = new CacheKey("a", ResourceType.JS, true);
+
+		final CacheValue loaded = CacheWarmer.withContext(new WroConfiguration(),
+				() -> managerFactory.create().getCacheStrategy().get(key));
+		cacheStrategy.clear();
+		CacheWarmer.withContext(new WroConfiguration(), () -> {
+			CacheWarmer.recompute(managerFactory, key);
+			return null;
+		});
+
+		assertThat(cacheStrategy.get(key).getRawContent()).isEqualTo(loaded.getRawContent());
+		assertThat(cacheStrategy.get(key).getHash()).isEqualTo(loaded.getHash());
+	}
+
+	@Test
+	void shouldDealWithEmptyModels() {
+		final CacheWarmer cacheWarmer = new CacheWarmer(managerFactory(new WroModel(), new LruMemoryCacheStrategy<>()),
+				new WroConfiguration(), GROUP_REQUESTS, 1);
+
+		assertThat(cacheWarmer.warmUp()).isEmpty();
+	}
+
+	static WroModel model(String groupName, String uri) {
+		return new WroModel().addGroup(new Group(groupName).addResource(Resource.create(uri)));
+	}
+
+	static BaseWroManagerFactory managerFactory(WroModel model, CacheStrategy<CacheKey, CacheValue> cacheStrategy) {
+		return new BaseWroManagerFactory().setModelFactory(new WroModelFactory() {
+			@Override
+			public WroModel create() {
+				return model;
+			}
+
+			@Override
+			public void destroy() {
+			}
+		}).setCacheStrategy(cacheStrategy);
+	}
+
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.github.luben.zstd.Zstd;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.ConfigurableWroFilter;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.ResolvableType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class CachedContentFilterTests {
+
+	private final WebApplicationContextRunner applicationContextRunner = new WebApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withPropertyValues("wro4j.model = /groups.xml", "wro4j.contentEncoding.enabled = true");
+
+	@Test
+	void shouldNotBeConfiguredByDefault() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> assertThat(ctx).hasNotFailed()
+				.doesNotHaveBean(ContentEncodings.class)
+				.doesNotHaveBean(ContentEncoder.class));
+	}
+
+	@Test
+	void shouldUseConfiguredEncodingsInOrder() {
+		this.applicationContextRunner.withPropertyValues("wro4j.content-encoding.encodings = zstd, br, deflate")
+			.run(ctx -> {
+				assertThat(ctx.getBeansOfType(ContentEncoder.class)).hasSize(2);
+				assertThat(ctx.getBean(ContentEncodings.class).getEncoders()).extracting(ContentEncoder::getName)
+					.containsExactly("zstd", "br");
+
+				final FilterRegistrationBean<?> registration = getRegistration(ctx);
+				assertThat(registration.getUrlPatterns()).containsExactly("/wro4j/*");
+				assertThat(registration.getOrder())
+					.isLessThan(ctx.getBean("wro4jFilterRegistration", FilterRegistrationBean.class).getOrder());
+			});
+	}
+
+	@Test
+	void encodersShouldBeOptional() {
+		this.applicationContextRunner
+			.withClassLoader(new FilteredClassLoader("com.github.luben.zstd", "com.aayushatharva.brotli4j"))
+			.run(ctx -> assertThat(ctx).hasNotFailed().doesNotHaveBean(ContentEncoder.class));
+	}
+
+	@Test
+	void encodersShouldRoundTrip() throws Exception {
+		final byte[] content = EncodingCacheStrategyTests.CONTENT.getBytes(StandardCharsets.UTF_8);
+
+		final byte[] brotli = new BrotliContentEncoder(5).encode(content);
+		assertThat(brotli).hasSizeLessThan(content.length);
+		assertThat(Decoder.decompress(brotli).getDecompressedData()).isEqualTo(content);
+
+		final byte[] zstd = new ZstdContentEncoder(3).encode(content);
+		assertThat(zstd).hasSizeLessThan(content.length);
+		assertThat(Zstd.decompress(zstd, content.length)).isEqualTo(content);
+	}
+
+	@Test
+	void shouldServeBestEncoding() {
+		this.applicationContextRunner.withBean(EncodingCacheStrategyTests.DeflateContentEncoder.class)
+			.withPropertyValues("wro4j.content-encoding.encodings = deflate")
+			.run(ctx -> {
+				put(ctx, new CacheKey("app", ResourceType.JS, true));
+
+				final MockHttpServletResponse response = filter(ctx, "gzip, deflate", null);
+				assertThat(response.getHeader("Content-Encoding")).isEqualTo("deflate");
+				assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+				assertThat(response.getHeader("ETag")).isEqualTo("\"hash-deflate\"");
+				assertThat(response.getContentType()).isEqualTo("text/javascript;charset=UTF-8");
+				assertThat(EncodingCacheStrategyTests.DeflateContentEncoder.decode(response.getContentAsByteArray()))
+					.isEqualTo(EncodingCacheStrategyTests.CONTENT);
+
+				final MockHttpServletResponse notModified = filter(ctx, "deflate", "\"hash-deflate\"");
+				assertThat(notModified.getStatus()).isEqualTo(304);
+				assertThat(notModified.getContentAsByteArray()).isEmpty();
+
+				assertThat(filter(ctx, "gzip", null).getHeader("Content-Encoding")).isNull();
+				assertThat(filter(ctx, null, null).getHeader("Content-Encoding")).isNull();
+			});
+	}
+
+	@Test
+	void shouldPassOnRequestsForGroupsNotEncoded() {
+		this.applicationContextRunner.withBean(EncodingCacheStrategyTests.DeflateContentEncoder.class)
+			.withPropertyValues("wro4j.content-encoding.encodings = deflate")
+			.run(ctx -> {
+				final MockHttpServletResponse response = filter(ctx, "deflate", null);
+				assertThat(response.getHeader("Content-Encoding")).isNull();
+				assertThat(response.getContentAsByteArray()).isEmpty();
+			});
+	}
+
+	@Test
+	void shouldServeNewVersionsAndPassOnOtherMethods() {
+		this.applicationContextRunner.withBean(EncodingCacheStrategyTests.DeflateContentEncoder.class)
+			.withPropertyValues("wro4j.content-encoding.encodings = deflate")
+			.run(ctx -> {
+				put(ctx, new CacheKey("app", ResourceType.JS, true));
+				@SuppressWarnings("unchecked")
+				final CacheStrategy<CacheKey, CacheValue> store = ctx.getBean(CacheStrategy.class);
+				CacheWarmer.withContext(new WroConfiguration(), () -> {
+					store.put(new CacheKey("app", ResourceType.JS, true),
+							CacheValue.valueOf(EncodingCacheStrategyTests.CONTENT, "newHash"));
+					return null;
+				});
+
+				// Encoded again when read, before it is served
+				assertThat(filter(ctx, "deflate", null).getHeader("ETag")).isEqualTo("\"newHash-deflate\"");
+
+				store.clear();
+				assertThat(filter(ctx, "deflate", null).getHeader("Content-Encoding")).isNull();
+
+				for (MockHttpServletRequest request : List.of(new MockHttpServletRequest("HEAD", "/wro4j/app.js"),
+						new MockHttpServletRequest("GET", "/wro4j/app"))) {
+					request.addHeader("Accept-Encoding", "deflate");
+					final MockHttpServletResponse response = new MockHttpServletResponse();
+					getRegistration(ctx).getFilter().doFilter(request, response, new MockFilterChain());
+					assertThat(response.getHeader("Content-Encoding")).isNull();
+				}
+			});
+	}
+
+	@Test
+	void encodedContentShouldBeBoundByTheStore() {
+		this.applicationContextRunner
+			.withPropertyValues("wro4j.content-encoding.encodings = deflate", "wro4j.cache.maxBytes = 2KB")
+			.run(ctx -> {
+				final List<CacheKey> cacheKeys = List.of(new CacheKey("app", ResourceType.JS, true),
+						new CacheKey("vendor", ResourceType.JS, true));
+				cacheKeys.forEach(cacheKey -> put(ctx, cacheKey));
+
+				final WeightedMemoryCacheStrategy store = ctx.getBean(WeightedMemoryCacheStrategy.class);
+				assertThat(store.getWeightedSize()).isLessThanOrEqualTo(2048);
+				final ContentEncodings contentEncodings = ctx.getBean(ContentEncodings.class);
+				assertThat(cacheKeys).filteredOn(cacheKey -> contentEncodings.getEncodedContent(cacheKey) != null)
+					.hasSize(1)
+					.allMatch(cacheKey -> store.get(cacheKey) != null);
+			});
+	}
+
+	@Test
+	void shouldFollowTheWro4jFilterRegistration() {
+		this.applicationContextRunner.withUserConfiguration(CustomFilterRegistration.class).run(ctx -> {
+			final FilterRegistrationBean<?> registration = getRegistration(ctx);
+			assertThat(registration.getUrlPatterns()).containsExactly("/whatever");
+			assertThat(registration.getOrder()).isEqualTo(4708);
+		});
+	}
+
+	@Test
+	void shouldPassOnRequestsWithCustomManagerFactories() {
+		this.applicationContextRunner.withBean(EncodingCacheStrategyTests.DeflateContentEncoder.class)
+			.withPropertyValues("wro4j.content-encoding.encodings = deflate")
+			.withBean(WroManagerFactory.class,
+					() -> CacheWarmerTests.managerFactory(CacheWarmerTests.model("app", "classpath:assets/app.js"),
+							new LruMemoryCacheStrategy<>()))
+			.run(ctx -> {
+				put(ctx, new CacheKey("app", ResourceType.JS, true));
+				assertThat(filter(ctx, "deflate", null).getHeader("Content-Encoding")).isNull();
+			});
+	}
+
+	@Test
+	void negotiationShouldHonorQualityValues() {
+		final Set<String> available = Set.of("br");
+		assertThat(CachedContentFilter.negotiate("gzip, deflate, br, zstd", available)).isEqualTo("br");
+		assertThat(CachedContentFilter.negotiate("BR;q=0.5", available)).isEqualTo("br");
+		assertThat(CachedContentFilter.negotiate("br;foo=bar", available)).isEqualTo("br");
+		assertThat(CachedContentFilter.negotiate("br;q=0", available)).isNull();
+		assertThat(CachedContentFilter.negotiate("br;q=foo", available)).isNull();
+		assertThat(CachedContentFilter.negotiate("gzip;q=1.0, br;q=0.5", available)).isNull();
+		assertThat(CachedContentFilter.negotiate("*", available)).isEqualTo("br");
+		assertThat(CachedContentFilter.negotiate("*;q=0.1, gzip;q=0.2", available)).isNull();
+		assertThat(CachedContentFilter.negotiate(", identity", available)).isNull();
+		assertThat(CachedContentFilter.negotiate("zstd, br", new LinkedHashSet<>(List.of("zstd", "br"))))
+			.isEqualTo("zstd");
+	}
+
+	private static FilterRegistrationBean<?> getRegistration(ApplicationContext ctx) {
+		return (FilterRegistrationBean<?>) ctx
+			.getBeanProvider(
+					ResolvableType.forClassWithGenerics(FilterRegistrationBean.class, CachedContentFilter.class))
+			.getObject();
+	}
+
+	private static void put(ApplicationContext ctx, CacheKey cacheKey) {
+		final WroConfiguration wroConfiguration = ctx.getBean(Wro4jAutoConfiguration.class)
+			.wroConfiguration(ctx.getBean(Wro4jProperties.class));
+		CacheWarmer.withContext(wroConfiguration, () -> {
+			ctx.getBean(WroManagerFactory.class)
+				.create()
+				.getCacheStrategy()
+				.put(cacheKey, CacheValue.valueOf(EncodingCacheStrategyTests.CONTENT, "hash"));
+			return null;
+		});
+	}
+
+	private static MockHttpServletResponse filter(ApplicationContext ctx, String acceptEncoding, String ifNoneMatch)
+			throws Exception {
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/wro4j/app.js");
+		if (acceptEncoding != null) {
+			request.addHeader("Accept-Encoding", acceptEncoding);
+		}
+		if (ifNoneMatch != null) {
+			request.addHeader("If-None-Match", ifNoneMatch);
+		}
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+		getRegistration(ctx).getFilter().doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+
+	static class CustomFilterRegistration {
+
+		@Bean
+		FilterRegistrationBean<ConfigurableWroFilter> wro4jFilterRegistration(ConfigurableWroFilter wroFilter) {
+			final FilterRegistrationBean<ConfigurableWroFilter> filterRegistrationBean = new FilterRegistrationBean<>(
+					wroFilter);
+			filterRegistrationBean.addUrlPatterns("/whatever");
+			filterRegistrationBean.setOrder(4711);
+			return filterRegistrationBean;
+		}
+
+	}
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.group.processor.GroupsProcessor;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.support.hash.SHA1HashStrategy;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class CoalescingCacheStrategyTests {
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS, true);
+
+	@Test
+	void shouldBeInjectedAndLoadThroughWro4j() {
+		final CoalescingCacheStrategy cacheStrategy = new CoalescingCacheStrategy(new LruMemoryCacheStrategy<>(),
+				Duration.ofSeconds(1));
+		final WroManager wroManager = CacheWarmer.withContext(new WroConfiguration(), CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("a", "classpath:assets/app.js"), cacheStrategy)::create);
+
+		final CacheValue value = inContext(() -> wroManager.getCacheStrategy().get(KEY));
+		assertThat(value.getRawContent()).contains("function hello");
+		assertThat(inContext(() -> wroManager.getCacheStrategy().get(KEY))).isSameAs(value);
+		assertThat(cacheStrategy.getLoadCount()).isOne();
+	}
+
+	@Test
+	void shouldLeaveLoadingToWro4jWhenNotInjected() {
+		final CoalescingCacheStrategy cacheStrategy = new CoalescingCacheStrategy(new LruMemoryCacheStrategy<>(),
+				Duration.ofSeconds(1));
+
+		assertThat(cacheStrategy.get(KEY)).isNull();
+		assertThat(cacheStrategy.getLoadCount()).isZero();
+	}
+
+	@Test
+	void statisticsShouldBeReported() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withBean(SimpleMeterRegistry.class)
+			.withPropertyValues("wro4j.model = /groups.xml", "management.endpoints.web.exposure.include = wro4j",
+					"wro4j.coalescing.enabled = true")
+			.run(ctx -> {
+				final CacheKey key = new CacheKey("app", ResourceType.JS, true);
+				final WroManager wroManager = CacheWarmer.withContext(new WroConfiguration(),
+						ctx.getBean(WroManagerFactory.class)::create);
+				inContext(() -> wroManager.getCacheStrategy().get(key));
+				inContext(() -> wroManager.getCacheStrategy().get(key));
+
+				final MeterRegistry meterRegistry = ctx.getBean(MeterRegistry.class);
+				assertThat(meterRegistry.get("wro4j.coalescing.loads").functionCounter().count()).isOne();
+				assertThat(meterRegistry.get("wro4j.coalescing.coalesced").functionCounter().count()).isZero();
+				assertThat(meterRegistry.get("wro4j.coalescing.timeouts").functionCounter().count()).isZero();
+				assertThat(ctx.getBean(Wro4jEndpoint.class).groups().coalescing())
+					.isEqualTo(new Wro4jEndpoint.CoalescingDescriptor(1, 0, 0));
+			});
+	}
+
+	@Test
+	void concurrentRequestsShouldBeCoalesced() throws Exception {
+		final CountDownLatch processing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CoalescingCacheStrategy cacheStrategy = cacheStrategy(Duration.ofSeconds(10), () -> {
+			processing.countDown();
+			await(release);
+			return "var a;";
+		});
+
+		final CompletableFuture<CacheValue> leader = CompletableFuture
+			.supplyAsync(() -> inContext(() -> cacheStrategy.get(KEY)));
+		processing.await();
+		final CompletableFuture<CacheValue> follower = CompletableFuture.supplyAsync(() -> cacheStrategy.get(KEY));
+		while (!hasQueuedThread(cacheStrategy)) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+
+		assertThat(follower.get()).isSameAs(leader.get());
+		assertThat(leader.get().getRawContent()).isEqualTo("var a;");
+		assertThat(cacheStrategy.getLoadCount()).isOne();
+		assertThat(cacheStrategy.getCoalescedCount()).isOne();
+		assertThat(cacheStrategy.getTimeoutCount()).isZero();
+	}
+
+	@Test
+	void requestsShouldStopWaitingAfterTimeout() throws Exception {
+		final AtomicInteger calls = new AtomicInteger();
+		final CountDownLatch processing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CoalescingCacheStrategy cacheStrategy = cacheStrategy(Duration.ofMillis(50), () -> {
+			if (calls.getAndIncrement() == 0) {
+				processing.countDown();
+				await(release);
+			}
+			return "var a;";
+		});
+
+		final CompletableFuture<CacheValue> leader = CompletableFuture
+			.supplyAsync(() -> inContext(() -> cacheStrategy.get(KEY)));
+		processing.await();
+		final CacheValue value = inContext(() -> cacheStrategy.get(KEY));
+		release.countDown();
+
+		assertThat(value.getRawContent()).isEqualTo("var a;");
+		assertThat(leader.get()).isNotNull();
+		assertThat(cacheStrategy.getLoadCount()).isEqualTo(2);
+		assertThat(cacheStrategy.getCoalescedCount()).isZero();
+		assertThat(cacheStrategy.getTimeoutCount()).isOne();
+	}
+
+	@Test
+	void failuresShouldBePropagatedToWaitingRequests() throws Exception {
+		final RuntimeException failure = new WroRuntimeException("boom");
+		assertThat(failedFollower(failure)).isSameAs(failure);
+	}
+
+	@Test
+	void errorsShouldBeWrappedForWaitingRequests() throws Exception {
+		final Error failure = new Error("boom");
+		assertThat(failedFollower(failure)).isInstanceOf(WroRuntimeException.class).hasCause(failure);
+	}
+
+	@Test
+	void interruptedRequestsShouldGiveUp() throws Exception {
+		final CountDownLatch processing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CoalescingCacheStrategy cacheStrategy = cacheStrategy(Duration.ofSeconds(10), () -> {
+			processing.countDown();
+			await(release);
+			return "var a;";
+		});
+
+		final CompletableFuture<CacheValue> leader = CompletableFuture
+			.supplyAsync(() -> inContext(() -> cacheStrategy.get(KEY)));
+		processing.await();
+		Thread.currentThread().interrupt();
+		try {
+			assertThat(cacheStrategy.get(KEY)).isNull();
+			assertThat(Thread.interrupted()).isTrue();
+		}
+		finally {
+			release.countDown();
+		}
+		assertThat(leader.get()).isNotNull();
+	}
+
+	private static Throwable failedFollower(Throwable failure) throws Exception {
+		final CountDownLatch processing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CoalescingCacheStrategy cacheStrategy = cacheStrategy(Duration.ofSeconds(10), () -> {
+			processing.countDown();
+			await(release);
+			if (failure instanceof Error error) {
+				throw error;
+			}
+			throw (RuntimeException) failure;
+		});
+
+		final CompletableFuture<CacheValue> leader = CompletableFuture
+			.supplyAsync(() -> inContext(() -> cacheStrategy.get(KEY)));
+		processing.await();
+		final CompletableFuture<CacheValue> follower = CompletableFuture.supplyAsync(() -> cacheStrategy.get(KEY));
+		while (!hasQueuedThread(cacheStrategy)) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+
+		assertThatExceptionOfType(Exception.class).isThrownBy(leader::join);
+		try {
+			follower.join();
+		}
+		catch (Exception ex) {
+			return ex.getCause();
+		}
+		throw new AssertionError("Follower did not fail");
+	}
+
+	private static CoalescingCacheStrategy cacheStrategy(Duration timeout, Supplier<String> content) {
+		final GroupsProcessor groupsProcessor = mock(GroupsProcessor.class);
+		given(groupsProcessor.process(any())).willAnswer(invocation -> content.get());
+		final CoalescingCacheStrategy cacheStrategy = new CoalescingCacheStrategy(new LruMemoryCacheStrategy<>(),
+				timeout);
+		ReflectionTestUtils.setField(cacheStrategy, "groupsProcessor", groupsProcessor);
+		ReflectionTestUtils.setField(cacheStrategy, "hashStrategy", new SHA1HashStrategy());
+		return cacheStrategy;
+	}
+
+	private static boolean hasQueuedThread(CoalescingCacheStrategy cacheStrategy) {
+		final Object inFlight = ReflectionTestUtils.getField(cacheStrategy, "inFlight");
+		final CompletableFuture<?> flight = (CompletableFuture<?>) ((Map<?, ?>) inFlight).get(KEY);
+		return flight != null && flight.getNumberOfDependents() > 0;
+	}
+
+	private static <T> T inContext(Supplier<T> supplier) {
+		return CacheWarmer.withContext(new WroConfiguration(), supplier);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class DeduplicatingCacheStrategyTests {
+
+	private static final CacheKey A = new CacheKey("a", ResourceType.JS);
+
+	private static final CacheKey B = new CacheKey("b", ResourceType.JS);
+
+	private static final CacheKey C = new CacheKey("c", ResourceType.JS);
+
+	private final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+
+	private final DeduplicatingCacheStrategy cacheStrategy = new DeduplicatingCacheStrategy(this.store, false);
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void identicalContentShouldBeStoredOnce() {
+		setContext(false);
+		final CacheValue value = CacheValue.valueOf("var a;", "hash");
+		this.cacheStrategy.put(A, value);
+		this.cacheStrategy.put(B, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.put(C, CacheValue.valueOf("var c;", "otherHash"));
+
+		assertThat(this.cacheStrategy.get(A)).isSameAs(value);
+		assertThat(this.cacheStrategy.get(B)).isSameAs(value);
+		assertThat(this.store.get(C)).isNotSameAs(value);
+		assertThat(this.cacheStrategy.getStatistics())
+			.isEqualTo(new DeduplicatingCacheStrategy.Statistics(2, 3, "var a;".length()));
+	}
+
+	@Test
+	void differentContentShouldNotBeDeduplicated() {
+		setContext(false);
+		this.cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+		final CacheValue collision = CacheValue.valueOf("var b;", "hash");
+		this.cacheStrategy.put(B, collision);
+		final CacheValue withoutHash = CacheValue.valueOf("var a;", null);
+		this.cacheStrategy.put(C, withoutHash);
+
+		assertThat(this.store.get(B)).isSameAs(collision);
+		assertThat(this.store.get(C)).isSameAs(withoutHash);
+		assertThat(this.cacheStrategy.getStatistics()).isEqualTo(new DeduplicatingCacheStrategy.Statistics(1, 1, 0));
+	}
+
+	@Test
+	void removedKeysShouldBeReleased() {
+		setContext(false);
+		this.cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.put(B, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.put(C, CacheValue.valueOf("var a;", "hash"));
+
+		this.cacheStrategy.put(A, null);
+		assertThat(this.cacheStrategy.get(A)).isNull();
+		assertThat(this.cacheStrategy.getStatistics()).isEqualTo(new DeduplicatingCacheStrategy.Statistics(1, 2, 6));
+
+		// Evicted by the decorated strategy
+		this.store.put(B, null);
+		assertThat(this.cacheStrategy.get(B)).isNull();
+		assertThat(this.cacheStrategy.getStatistics()).isEqualTo(new DeduplicatingCacheStrategy.Statistics(1, 1, 0));
+
+		this.cacheStrategy.put(C, CacheValue.valueOf("var c;", "otherHash"));
+		assertThat(this.cacheStrategy.getStatistics()).isEqualTo(new DeduplicatingCacheStrategy.Statistics(1, 1, 0));
+		this.cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+		assertThat(this.cacheStrategy.getStatistics()).isEqualTo(new DeduplicatingCacheStrategy.Statistics(2, 2, 0));
+
+		this.cacheStrategy.clear();
+		assertThat(this.cacheStrategy.get(C)).isNull();
+		assertThat(this.cacheStrategy.getStatistics()).isEqualTo(new DeduplicatingCacheStrategy.Statistics(0, 0, 0));
+
+		this.cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.destroy();
+		assertThat(this.cacheStrategy.getStatistics()).isEqualTo(new DeduplicatingCacheStrategy.Statistics(0, 0, 0));
+	}
+
+	@Test
+	void valuesWithoutRawContentShouldBeComparedByGzippedContent() {
+		setContext(true);
+		final DeduplicatingCacheStrategy gzipped = new DeduplicatingCacheStrategy(this.store, true);
+		final CacheValue value = compact("var a;");
+		gzipped.put(A, value);
+		gzipped.put(B, compact("var a;"));
+		gzipped.put(C, compact("var c;"));
+
+		assertThat(this.store.get(B)).isSameAs(value);
+		assertThat(this.store.get(C)).isNotSameAs(value);
+		assertThat(gzipped.getStatistics().savedBytes()).isEqualTo(value.getGzippedContent().length);
+
+		gzipped.put(C, CacheValue.valueOf("var a;", "hash"));
+		assertThat(this.store.get(C)).isNotSameAs(value);
+	}
+
+	@Test
+	void savingsShouldBeReported() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withBean(SimpleMeterRegistry.class)
+			.withPropertyValues("wro4j.model = /groups.xml", "management.endpoints.web.exposure.include = wro4j",
+					"wro4j.cache.deduplication.enabled = true")
+			.run(ctx -> {
+				CacheWarmer.withContext(new WroConfiguration(), () -> {
+					final CacheStrategy<CacheKey, CacheValue> cacheStrategy = ctx.getBean(WroManagerFactory.class)
+						.create()
+						.getCacheStrategy();
+					cacheStrategy.put(new CacheKey("app", ResourceType.JS), CacheValue.valueOf("var a;", "hash"));
+					cacheStrategy.put(new CacheKey("vendor", ResourceType.JS), CacheValue.valueOf("var a;", "hash"));
+					return null;
+				});
+
+				final MeterRegistry meterRegistry = ctx.getBean(MeterRegistry.class);
+				assertThat(meterRegistry.get("wro4j.cache.deduplication.contents").gauge().value()).isOne();
+				assertThat(meterRegistry.get("wro4j.cache.deduplication.keys").gauge().value()).isEqualTo(2);
+				assertThat(meterRegistry.get("wro4j.cache.deduplication.saved").gauge().value()).isPositive();
+				assertThat(ctx.getBean(Wro4jEndpoint.class).groups().deduplication())
+					.isEqualTo(new Wro4jEndpoint.DeduplicationDescriptor(1, 2,
+							(long) meterRegistry.get("wro4j.cache.deduplication.saved").gauge().value()));
+			});
+	}
+
+	private static CacheValue compact(String content) {
+		final CacheValue rv = CacheValue.valueOf(content, "hash");
+		rv.setRawContent(null);
+		return rv;
+	}
+
+	private static void setContext(boolean cacheGzippedContent) {
+		final WroConfiguration wroConfiguration = new WroConfiguration();
+		wroConfiguration.setCacheGzippedContent(cacheGzippedContent);
+		Context.set(Context.standaloneContext(), wroConfiguration);
+	}
+
+}
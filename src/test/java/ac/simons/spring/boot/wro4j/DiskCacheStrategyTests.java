@@ -0,0 +1,421 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.locator.UriLocator;
+import ro.isdc.wro.model.resource.locator.UrlUriLocator;
+import ro.isdc.wro.model.resource.locator.factory.SimpleUriLocatorFactory;
+import ro.isdc.wro.model.resource.processor.factory.SimpleProcessorsFactory;
+import ro.isdc.wro.model.resource.processor.impl.js.JSMinProcessor;
+import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class DiskCacheStrategyTests {
+
+	private static final CacheKey A = new CacheKey("a", ResourceType.JS, true);
+
+	private static final CacheKey B = new CacheKey("b", ResourceType.JS, true);
+
+	@TempDir
+	Path directory;
+
+	private BaseWroManagerFactory wroManagerFactory;
+
+	@BeforeEach
+	void createResources() throws IOException {
+		Files.writeString(this.directory.resolve("a.js"), "var a;");
+		Files.writeString(this.directory.resolve("b.js"), "var b;");
+		this.wroManagerFactory = CacheWarmerTests.managerFactory(new WroModel().addGroup(group("a", uri("a.js")))
+			.addGroup(group("b", uri("b.js")))
+			.addGroup(group("missing", uri("missing.js"))), new LruMemoryCacheStrategy<>());
+	}
+
+	@Test
+	void shouldBeConfiguredWithDirectory() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withPropertyValues("wro4j.cache.diskDirectory = " + this.directory.resolve("cache"))
+			.run(ctx -> assertThat(
+					ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "cacheStrategy"))
+				.isInstanceOf(DiskCacheStrategy.class));
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> assertThat(
+					ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "cacheStrategy"))
+				.isInstanceOf(WeightedMemoryCacheStrategy.class));
+	}
+
+	@Test
+	void storedGroupsShouldSurviveRestarts() {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		withContext(() -> {
+			assertThat(cacheStrategy.get(A)).isNull();
+			cacheStrategy.put(A, CacheValue.valueOf("var a=1;", "hash"));
+			return null;
+		});
+
+		final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+		final DiskCacheStrategy restarted = new DiskCacheStrategy(store, this.directory.resolve("cache"),
+				this.wroManagerFactory, Map.of());
+		final CacheValue value = withContext(() -> restarted.get(A));
+		assertThat(value.getRawContent()).isEqualTo("var a=1;");
+		assertThat(value.getHash()).isEqualTo("hash");
+		assertThat(store.get(A)).isSameAs(value);
+		assertThat(withContext(() -> restarted.get(B))).isNull();
+	}
+
+	@Test
+	void proxyUrlsInStoredStylesheetsShouldBeAuthorizedAfterRestarts() throws IOException {
+		final CacheKey c = new CacheKey("c", ResourceType.CSS, true);
+		Files.writeString(this.directory.resolve("c.css"), "c{background:url(img/c.png)}");
+		final WroModel model = new WroModel()
+			.addGroup(new Group("c").addResource(Resource.create(uri("c.css"), ResourceType.CSS)));
+		withContext(() -> {
+			final DiskCacheStrategy cacheStrategy = new DiskCacheStrategy(new LruMemoryCacheStrategy<>(),
+					this.directory.resolve("cache"), CacheWarmerTests.managerFactory(model, null), Map.of());
+			assertThat(cacheStrategy.get(c)).isNull();
+			cacheStrategy.put(c,
+					CacheValue.valueOf("c{background:url(/wro4j/c.css?wroAPI=wroResources&id=/img/c.png)}", "hash"));
+			return null;
+		});
+
+		final BaseWroManagerFactory restartedManagerFactory = CacheWarmerTests.managerFactory(model, null);
+		final DiskCacheStrategy restarted = new DiskCacheStrategy(new LruMemoryCacheStrategy<>(),
+				this.directory.resolve("cache"), restartedManagerFactory, Map.of());
+		withContext(() -> {
+			final ResourceAuthorizationManager authorizationManager = restartedManagerFactory.create()
+				.getResourceAuthorizationManager();
+			assertThat(authorizationManager.isAuthorized("/img/c.png")).isFalse();
+			assertThat(restarted.get(c)).isNotNull();
+			assertThat(authorizationManager.isAuthorized("/img/c.png")).isTrue();
+			return null;
+		});
+	}
+
+	@Test
+	void valuesPutWithoutMissShouldBeStored() {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		withContext(() -> {
+			assertThat(cacheStrategy.get(B)).isNull();
+			cacheStrategy.put(A, CacheValue.valueOf("var a=1;", "hash"));
+			return null;
+		});
+
+		assertThat(withContext(() -> newCacheStrategy().get(A))).isNotNull();
+	}
+
+	@Test
+	void changedResourcesShouldNotBeServed() throws IOException {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		withContext(() -> {
+			cacheStrategy.put(A, CacheValue.valueOf("var a=1;", "hash"));
+			return null;
+		});
+		Files.writeString(this.directory.resolve("a.js"), "var a = 2;");
+
+		assertThat(withContext(() -> newCacheStrategy().get(A))).isNull();
+	}
+
+	@Test
+	void fingerprintsShouldDependOnProcessors() {
+		final String fingerprint = withContext(() -> newCacheStrategy().computeFingerprint(A));
+		assertThat(fingerprint).isNotNull().isEqualTo(withContext(() -> newCacheStrategy().computeFingerprint(A)));
+
+		final SimpleProcessorsFactory processorsFactory = new SimpleProcessorsFactory();
+		processorsFactory.addPostProcessor(new JSMinProcessor());
+		final DiskCacheStrategy otherProcessors = new DiskCacheStrategy(new LruMemoryCacheStrategy<>(),
+				this.directory.resolve("cache"),
+				CacheWarmerTests
+					.managerFactory(new WroModel().addGroup(group("a", uri("a.js"))), new LruMemoryCacheStrategy<>())
+					.setProcessorsFactory(processorsFactory),
+				Map.of());
+		assertThat(withContext(() -> otherProcessors.computeFingerprint(A))).isNotEqualTo(fingerprint);
+		final DiskCacheStrategy otherSettings = new DiskCacheStrategy(new LruMemoryCacheStrategy<>(),
+				this.directory.resolve("cache"), this.wroManagerFactory,
+				Map.of("managerFactory.preProcessors", "cssMin"));
+		assertThat(withContext(() -> otherSettings.computeFingerprint(A))).isNotEqualTo(fingerprint);
+		final WroConfiguration ignoreFailingProcessor = new WroConfiguration();
+		ignoreFailingProcessor.setIgnoreFailingProcessor(true);
+		assertThat(CacheWarmer.withContext(ignoreFailingProcessor, () -> newCacheStrategy().computeFingerprint(A)))
+			.isNotEqualTo(fingerprint);
+		assertThat(withContext(() -> newCacheStrategy().computeFingerprint(new CacheKey("a", ResourceType.JS, false))))
+			.isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	void processorSettingsShouldBeCollected() {
+		final Wro4jProperties properties = new Wro4jProperties();
+		assertThat(Wro4jAutoConfiguration.getProcessorSettings(properties)).isEmpty();
+
+		properties.setManagerFactory(new Wro4jProperties.WroManagerFactoryProperties());
+		properties.getManagerFactory().setPreProcessors("cssMin.css");
+		assertThat(Wro4jAutoConfiguration.getProcessorSettings(properties))
+			.containsEntry("managerFactory.preProcessors", "cssMin.css")
+			.containsEntry("managerFactory.postProcessors", "null");
+	}
+
+	@Test
+	void fingerprintsShouldBeComputedOncePerRequest() {
+		final AtomicInteger located = new AtomicInteger();
+		final UrlUriLocator urlUriLocator = new UrlUriLocator();
+		this.wroManagerFactory.setUriLocatorFactory(new SimpleUriLocatorFactory().addLocator(new UriLocator() {
+			@Override
+			public InputStream locate(String uri) throws IOException {
+				located.incrementAndGet();
+				return urlUriLocator.locate(uri);
+			}
+
+			@Override
+			public boolean accept(String uri) {
+				return true;
+			}
+		}));
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+
+		withContext(() -> {
+			assertThat(cacheStrategy.get(A)).isNull();
+			assertThat(cacheStrategy.get(A)).isNull();
+			cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+			return null;
+		});
+		assertThat(located).hasValue(1);
+
+		withContext(() -> {
+			assertThat(cacheStrategy.get(B)).isNull();
+			return null;
+		});
+		withContext(() -> {
+			assertThat(cacheStrategy.get(B)).isNull();
+			return null;
+		});
+		assertThat(located).hasValue(3);
+		assertThat(withContext(() -> newCacheStrategy().get(A))).isNotNull();
+	}
+
+	@Test
+	void groupsWithoutFingerprintShouldNotBeStored() throws IOException {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		withContext(() -> {
+			final CacheKey missing = new CacheKey("missing", ResourceType.JS, true);
+			assertThat(cacheStrategy.get(missing)).isNull();
+			cacheStrategy.put(missing, CacheValue.valueOf("var a;", "hash"));
+			assertThat(cacheStrategy.get(new CacheKey("unknown", ResourceType.JS, true))).isNull();
+			return null;
+		});
+		cacheStrategy.put(A, null);
+
+		assertThat(list("index")).isEmpty();
+	}
+
+	@Test
+	void valuesShouldOnlyBeStoredWithinContext() throws IOException {
+		final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+		final DiskCacheStrategy cacheStrategy = new DiskCacheStrategy(store, this.directory.resolve("cache"),
+				this.wroManagerFactory, Map.of());
+		final CacheValue value = withContext(() -> CacheValue.valueOf("var a;", "hash"));
+		cacheStrategy.put(A, value);
+
+		assertThat(cacheStrategy.get(A)).isSameAs(value);
+		assertThat(cacheStrategy.get(B)).isNull();
+		assertThat(withContext(() -> cacheStrategy.get(B))).isNull();
+		cacheStrategy.put(B, value);
+		assertThat(list("index")).isEmpty();
+	}
+
+	@Test
+	void equalContentShouldBeStoredOnce() throws IOException {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		withContext(() -> {
+			cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+			cacheStrategy.put(B, CacheValue.valueOf("var a;", "hash"));
+			return null;
+		});
+
+		assertThat(list("index")).hasSize(2);
+		assertThat(list("content")).hasSize(1);
+	}
+
+	@Test
+	void evictedValuesShouldNotBeServed() throws IOException {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		withContext(() -> {
+			cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+			cacheStrategy.put(A, null);
+			return null;
+		});
+
+		assertThat(withContext(() -> newCacheStrategy().get(A))).isNull();
+		assertThat(list("index")).isEmpty();
+	}
+
+	@Test
+	void contentsShouldBeDeletedWhenNoLongerReferenced() throws IOException {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		withContext(() -> {
+			cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+			cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+			cacheStrategy.put(B, CacheValue.valueOf("var a;", "hash"));
+			cacheStrategy.put(A, CacheValue.valueOf("var a=2;", "hash2"));
+			return null;
+		});
+		assertThat(list("content")).hasSize(2);
+
+		cacheStrategy.put(B, null);
+		assertThat(list("content")).hasSize(1);
+		cacheStrategy.put(A, null);
+		assertThat(list("content")).isEmpty();
+	}
+
+	@Test
+	void unreferencedContentsShouldBeDeletedOnStartup() throws IOException {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		withContext(() -> {
+			cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+			return null;
+		});
+		final Path content = this.directory.resolve("cache/content");
+		Files.writeString(content.resolve("orphan"), "var b;");
+		Files.writeString(content.resolve("written.tmp"), "var c;");
+		Files.writeString(this.directory.resolve("cache/index/written.tmp"), "broken");
+		Files.writeString(this.directory.resolve("cache/index/broken"), "broken");
+
+		newCacheStrategy();
+		assertThat(list("content")).hasSize(2).doesNotContain(content.resolve("orphan"));
+		assertThat(withContext(() -> newCacheStrategy().get(A))).isNotNull();
+	}
+
+	@Test
+	void clearShouldDeleteAllFiles() throws IOException {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		withContext(() -> {
+			cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+			return null;
+		});
+		cacheStrategy.clear();
+
+		assertThat(list("index")).isEmpty();
+		assertThat(list("content")).isEmpty();
+
+		Files.createDirectories(this.directory.resolve("cache/index/undeletable/file"));
+		cacheStrategy.clear();
+		assertThat(list("index")).hasSize(1);
+
+		FileSystemUtils.deleteRecursively(this.directory.resolve("cache/index"));
+		cacheStrategy.clear();
+	}
+
+	@Test
+	void brokenFilesShouldNotBeServed() throws IOException {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		withContext(() -> {
+			cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+			cacheStrategy.put(B, CacheValue.valueOf("var b;", "hash"));
+			return null;
+		});
+		try (Stream<Path> files = Files.list(this.directory.resolve("cache/content"))) {
+			files.forEach(file -> {
+				try {
+					Files.delete(file);
+					Files.createDirectory(file);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+		}
+		final DiskCacheStrategy restarted = newCacheStrategy();
+		assertThat(withContext(() -> restarted.get(A))).isNull();
+
+		for (Path index : list("index")) {
+			Files.writeString(index, "broken");
+		}
+		assertThat(withContext(() -> restarted.get(B))).isNull();
+	}
+
+	@Test
+	void unwritableDirectoriesShouldNotFail() throws IOException {
+		final DiskCacheStrategy cacheStrategy = newCacheStrategy();
+		Files.delete(this.directory.resolve("cache/content"));
+		Files.writeString(this.directory.resolve("cache/content"), "");
+
+		final CacheValue value = withContext(() -> {
+			cacheStrategy.put(A, CacheValue.valueOf("var a;", "hash"));
+			return cacheStrategy.get(A);
+		});
+		assertThat(value).isNotNull();
+		assertThat(list("index")).isEmpty();
+
+		assertThatExceptionOfType(UncheckedIOException.class)
+			.isThrownBy(() -> new DiskCacheStrategy(new LruMemoryCacheStrategy<>(), this.directory.resolve("a.js"),
+					this.wroManagerFactory, Map.of()));
+	}
+
+	private DiskCacheStrategy newCacheStrategy() {
+		return new DiskCacheStrategy(new LruMemoryCacheStrategy<>(), this.directory.resolve("cache"),
+				this.wroManagerFactory, Map.of());
+	}
+
+	private List<Path> list(String subdirectory) throws IOException {
+		try (Stream<Path> files = Files.list(this.directory.resolve("cache").resolve(subdirectory))) {
+			return files.toList();
+		}
+	}
+
+	private String uri(String path) {
+		return this.directory.toUri() + path;
+	}
+
+	private static Group group(String name, String uri) {
+		return new Group(name).addResource(Resource.create(uri, ResourceType.JS));
+	}
+
+	private static <T> T withContext(Supplier<T> supplier) {
+		return CacheWarmer.withContext(new WroConfiguration(), supplier);
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ETagCacheStrategyTests {
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS);
+
+	private final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+
+	@BeforeEach
+	void setupContext() {
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+	}
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void tagsShouldBeDerivedFromTheHash() {
+		final ETagCacheStrategy cacheStrategy = new ETagCacheStrategy(this.store, null);
+		assertThat(cacheStrategy.getETags(KEY)).isNull();
+
+		cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		assertThat(cacheStrategy.getETags(KEY)).containsExactly("\"hash\"");
+
+		this.store.put(KEY, CacheValue.valueOf("var b;", "newHash"));
+		assertThat(cacheStrategy.getETags(KEY)).containsExactly("\"hash\"");
+		cacheStrategy.get(KEY);
+		assertThat(cacheStrategy.getETags(KEY)).containsExactly("\"newHash\"");
+	}
+
+	@Test
+	void encodedContentShouldBeTagged() {
+		final ContentEncodings contentEncodings = new ContentEncodings(
+				List.of(new EncodingCacheStrategyTests.DeflateContentEncoder()));
+		final ETagCacheStrategy cacheStrategy = new ETagCacheStrategy(contentEncodings.decorate(this.store),
+				contentEncodings);
+
+		cacheStrategy.put(KEY, CacheValue.valueOf(EncodingCacheStrategyTests.CONTENT, "hash"));
+		assertThat(cacheStrategy.getETags(KEY)).containsExactly("\"hash\"", "\"hash-deflate\"");
+		cacheStrategy.get(KEY);
+		assertThat(cacheStrategy.getETags(KEY)).containsExactly("\"hash\"", "\"hash-deflate\"");
+
+		// Encodings not shrinking the content are not kept and therefore not tagged
+		cacheStrategy.put(KEY, CacheValue.valueOf("a", "small"));
+		assertThat(cacheStrategy.getETags(KEY)).containsExactly("\"small\"");
+	}
+
+	@Test
+	void tagsOfEncodedContentShouldBeAddedLater() {
+		final ContentEncodings contentEncodings = new ContentEncodings(
+				List.of(new EncodingCacheStrategyTests.DeflateContentEncoder()));
+		final ETagCacheStrategy cacheStrategy = new ETagCacheStrategy(this.store, contentEncodings);
+		this.store.put(KEY, CacheValue.valueOf(EncodingCacheStrategyTests.CONTENT, "hash"));
+		cacheStrategy.get(KEY);
+		assertThat(cacheStrategy.getETags(KEY)).containsExactly("\"hash\"");
+
+		contentEncodings.decorate(this.store).get(KEY);
+		cacheStrategy.get(KEY);
+		assertThat(cacheStrategy.getETags(KEY)).containsExactly("\"hash\"", "\"hash-deflate\"");
+	}
+
+	@Test
+	void tagsShouldBeForgottenWhenEvictedFromTheStore() {
+		final ETagCacheStrategy cacheStrategy = new ETagCacheStrategy(this.store, null);
+		final CacheValue value = CacheValue.valueOf("var a;", "hash");
+		cacheStrategy.put(KEY, value);
+
+		cacheStrategy.evicted(KEY, CacheValue.valueOf("var a;", "previous"));
+		assertThat(cacheStrategy.getETags(KEY)).containsExactly("\"hash\"");
+		cacheStrategy.evicted(KEY, value);
+		assertThat(cacheStrategy.getETags(KEY)).isNull();
+	}
+
+	@Test
+	void tagsOfValuesEvictedWhilePuttingShouldNotBeUpdated() {
+		final ContentEncodings contentEncodings = new ContentEncodings(
+				List.of(new EncodingCacheStrategyTests.DeflateContentEncoder()));
+		final AtomicReference<ETagCacheStrategy> cacheStrategy = new AtomicReference<>();
+		cacheStrategy.set(new ETagCacheStrategy(new CacheStrategyDecorator<>(contentEncodings.decorate(this.store)) {
+			@Override
+			public void put(CacheKey key, CacheValue value) {
+				super.put(key, value);
+				cacheStrategy.get().evicted(key, value);
+			}
+		}, contentEncodings));
+
+		cacheStrategy.get().put(KEY, CacheValue.valueOf(EncodingCacheStrategyTests.CONTENT, "hash"));
+		assertThat(cacheStrategy.get().getETags(KEY)).isNull();
+	}
+
+	@Test
+	void tagsShouldBeForgotten() {
+		final ETagCacheStrategy cacheStrategy = new ETagCacheStrategy(this.store, null);
+		cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		cacheStrategy.put(KEY, CacheValue.valueOf("var a;", null));
+		assertThat(cacheStrategy.getETags(KEY)).isNull();
+
+		cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		cacheStrategy.put(KEY, null);
+		assertThat(cacheStrategy.getETags(KEY)).isNull();
+
+		cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.store.clear();
+		assertThat(cacheStrategy.get(KEY)).isNull();
+		assertThat(cacheStrategy.getETags(KEY)).isNull();
+
+		cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		cacheStrategy.clear();
+		assertThat(cacheStrategy.getETags(KEY)).isNull();
+
+		cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		cacheStrategy.destroy();
+		assertThat(cacheStrategy.getETags(KEY)).isNull();
+	}
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class EncodingCacheStrategyTests {
+
+	static final String CONTENT = "var a = 'a';\n".repeat(100);
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS);
+
+	private final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+
+	private final DeflateContentEncoder encoder = new DeflateContentEncoder();
+
+	private final EncodingCacheStrategy cacheStrategy = new EncodingCacheStrategy(this.store, List.of(this.encoder));
+
+	@BeforeEach
+	void setupContext() {
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+	}
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void valuesShouldBeEncodedWhenPut() throws IOException {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		this.cacheStrategy.get(KEY);
+
+		final EncodingCacheStrategy.EncodedContent encodedContent = this.cacheStrategy.getEncodedContent(KEY);
+		assertThat(encodedContent.hash()).isEqualTo("hash");
+		assertThat(encodedContent.variants()).containsOnlyKeys("deflate");
+		assertThat(DeflateContentEncoder.decode(encodedContent.variants().get("deflate"))).isEqualTo(CONTENT);
+		assertThat(this.encoder.invocations.get()).isOne();
+	}
+
+	@Test
+	void valuesPutByDecoratedStrategyShouldBeEncodedOnceWhenRead() {
+		this.store.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		assertThat(this.cacheStrategy.getEncodedContent(KEY)).isNull();
+
+		this.cacheStrategy.get(KEY);
+		this.cacheStrategy.get(KEY);
+		assertThat(this.cacheStrategy.getEncodedContent(KEY).hash()).isEqualTo("hash");
+
+		this.store.put(KEY, CacheValue.valueOf(CONTENT + "var b;", "newHash"));
+		this.cacheStrategy.get(KEY);
+		assertThat(this.cacheStrategy.getEncodedContent(KEY).hash()).isEqualTo("newHash");
+		assertThat(this.encoder.invocations.get()).isEqualTo(2);
+	}
+
+	@Test
+	void missesShouldRemoveEncodedContent() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		this.store.clear();
+
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		assertThat(this.cacheStrategy.getEncodedContent(KEY)).isNull();
+	}
+
+	@Test
+	void evictionShouldRemoveEncodedContent() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		this.cacheStrategy.put(KEY, null);
+
+		assertThat(this.cacheStrategy.getEncodedContent(KEY)).isNull();
+		assertThat(this.store.get(KEY)).isNull();
+	}
+
+	@Test
+	void evictionFromTheStoreShouldRemoveEncodedContent() {
+		final CacheValue value = CacheValue.valueOf(CONTENT, "hash");
+		this.cacheStrategy.put(KEY, value);
+
+		this.cacheStrategy.evicted(KEY, CacheValue.valueOf(CONTENT, "previous"));
+		assertThat(this.cacheStrategy.getEncodedContent(KEY)).isNotNull();
+		this.cacheStrategy.evicted(KEY, value);
+		assertThat(this.cacheStrategy.getEncodedContent(KEY)).isNull();
+	}
+
+	@Test
+	void clearAndDestroyShouldRemoveEncodedContent() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		this.cacheStrategy.clear();
+		assertThat(this.cacheStrategy.getEncodedContent(KEY)).isNull();
+
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		this.cacheStrategy.destroy();
+		assertThat(this.cacheStrategy.getEncodedContent(KEY)).isNull();
+	}
+
+	@Test
+	void failingAndIneffectiveEncodingsShouldBeSkipped() {
+		final ContentEncoder failing = new ContentEncoder() {
+			@Override
+			public String getName() {
+				return "failing";
+			}
+
+			@Override
+			public byte[] encode(byte[] content) throws IOException {
+				throw new IOException("Nope");
+			}
+		};
+		final ContentEncoder identity = new ContentEncoder() {
+			@Override
+			public String getName() {
+				return "identity";
+			}
+
+			@Override
+			public byte[] encode(byte[] content) {
+				return content;
+			}
+		};
+		final EncodingCacheStrategy encodingCacheStrategy = new EncodingCacheStrategy(this.store,
+				List.of(failing, identity, this.encoder));
+		encodingCacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+
+		assertThat(encodingCacheStrategy.getEncodedContent(KEY).variants()).containsOnlyKeys("deflate");
+	}
+
+	@Test
+	void keysShouldBeEncodedByOneThreadAtATime() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final ContentEncoder blocking = new ContentEncoder() {
+			@Override
+			public String getName() {
+				return "blocking";
+			}
+
+			@Override
+			public byte[] encode(byte[] content) {
+				started.countDown();
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return new byte[0];
+			}
+		};
+		final EncodingCacheStrategy encodingCacheStrategy = new EncodingCacheStrategy(this.store,
+				List.of(blocking, this.encoder));
+		this.store.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		final CompletableFuture<Void> read = CompletableFuture.runAsync(() -> {
+			Context.set(Context.standaloneContext(), new WroConfiguration());
+			try {
+				encodingCacheStrategy.get(KEY);
+			}
+			finally {
+				Context.unset();
+			}
+		});
+		assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(encodingCacheStrategy.get(KEY)).isNotNull();
+		assertThat(encodingCacheStrategy.getEncodedContent(KEY)).isNull();
+
+		release.countDown();
+		read.get(10, TimeUnit.SECONDS);
+		assertThat(encodingCacheStrategy.getEncodedContent(KEY).variants()).containsOnlyKeys("blocking", "deflate");
+		assertThat(this.encoder.invocations.get()).isOne();
+	}
+
+	/**
+	 * A pure Java encoder, standing in for the native ones.
+	 */
+	static class DeflateContentEncoder implements ContentEncoder {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public String getName() {
+			return "deflate";
+		}
+
+		@Override
+		public byte[] encode(byte[] content) throws IOException {
+			this.invocations.incrementAndGet();
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+				deflater.write(content);
+			}
+			return out.toByteArray();
+		}
+
+		static String decode(byte[] content) throws IOException {
+			try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(content))) {
+				return new String(inflater.readAllBytes(), StandardCharsets.UTF_8);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class FingerprintCacheStrategyTests {
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS);
+
+	private final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+
+	private final MutableClock clock = new MutableClock();
+
+	private final FingerprintCacheStrategy cacheStrategy = new FingerprintCacheStrategy(this.store, this.clock);
+
+	@BeforeEach
+	void setupContext() {
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+	}
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void hashesShouldBeRememberedWithTheTimeTheyHaveBeenSeenFirst() {
+		final Instant first = this.clock.instant();
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.clock.advance(60);
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.get(KEY);
+		assertThat(this.cacheStrategy.getFingerprint(KEY))
+			.isEqualTo(new FingerprintCacheStrategy.Fingerprint("hash", first));
+
+		this.store.put(KEY, CacheValue.valueOf("var b;", "newHash"));
+		this.cacheStrategy.get(KEY);
+		assertThat(this.cacheStrategy.getFingerprint(KEY))
+			.isEqualTo(new FingerprintCacheStrategy.Fingerprint("newHash", this.clock.instant()));
+	}
+
+	@Test
+	void valuesWithoutHashShouldBeIgnored() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", null));
+		assertThat(this.cacheStrategy.getFingerprint(KEY)).isNull();
+	}
+
+	@Test
+	void missesShouldForgetHashes() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.store.clear();
+
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		assertThat(this.cacheStrategy.getFingerprint(KEY)).isNull();
+	}
+
+	@Test
+	void evictionShouldForgetHashes() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.put(KEY, null);
+
+		assertThat(this.cacheStrategy.getFingerprint(KEY)).isNull();
+		assertThat(this.store.get(KEY)).isNull();
+	}
+
+	@Test
+	void clearAndDestroyShouldForgetHashes() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.clear();
+		assertThat(this.cacheStrategy.getFingerprint(KEY)).isNull();
+
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.destroy();
+		assertThat(this.cacheStrategy.getFingerprint(KEY)).isNull();
+	}
+
+	/**
+	 * A clock that only moves when told so.
+	 */
+	static class MutableClock extends Clock {
+
+		private volatile Instant instant = Instant.parse("2026-10-17T12:00:00Z");
+
+		void advance(long seconds) {
+			this.instant = this.instant.plusSeconds(seconds);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
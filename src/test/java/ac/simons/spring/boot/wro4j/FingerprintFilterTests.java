@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.ResolvableType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class FingerprintFilterTests {
+
+	private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+	private final WebApplicationContextRunner applicationContextRunner = new WebApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withPropertyValues("wro4j.model = /groups.xml", "wro4j.fingerprint.enabled = true");
+
+	@Test
+	void shouldNotBeConfiguredByDefault() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> assertThat(ctx).hasNotFailed().doesNotHaveBean(Wro4jUrls.class));
+	}
+
+	@Test
+	void shouldRenderUrlsWithHashes() {
+		this.applicationContextRunner.run(ctx -> {
+			final Wro4jUrls wro4jUrls = ctx.getBean("wro4jUrls", Wro4jUrls.class);
+			final String hash = get(ctx, new CacheKey("app", ResourceType.JS, true)).getHash();
+
+			assertThat(wro4jUrls.js("app")).isEqualTo("/wro4j/app." + hash + ".js");
+			assertThat(wro4jUrls.css("app")).matches("/wro4j/app\\.[^.]+\\.css");
+			assertThat(wro4jUrls.js("missing")).isEqualTo("/wro4j/missing.js");
+
+			final FilterRegistrationBean<?> registration = getRegistration(ctx);
+			assertThat(registration.getUrlPatterns()).containsExactly("/wro4j/*");
+			assertThat(registration.getOrder())
+				.isLessThan(ctx.getBean("wro4jFilterRegistration", FilterRegistrationBean.class).getOrder());
+		});
+	}
+
+	@Test
+	void shouldRenderUrlsWithoutHashesForCustomManagerFactories() {
+		this.applicationContextRunner
+			.withBean(WroManagerFactory.class,
+					() -> CacheWarmerTests.managerFactory(CacheWarmerTests.model("app", "classpath:assets/app.js"),
+							new LruMemoryCacheStrategy<>()))
+			.run(ctx -> assertThat(ctx.getBean(Wro4jUrls.class).js("app")).isEqualTo("/wro4j/app.js"));
+	}
+
+	@Test
+	void shouldRenderUrlsWithoutHashesForFailingGroups() {
+		final LruMemoryCacheStrategy<CacheKey, CacheValue> cacheStrategy = new LruMemoryCacheStrategy<>();
+		final WroConfiguration wroConfiguration = new WroConfiguration();
+		wroConfiguration.setIgnoreMissingResources(false);
+		final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		final Wro4jUrls wro4jUrls = new Wro4jUrls(beanFactory.getBeanProvider(WroManagerFactory.class),
+				wroConfiguration, "/wro4j", CacheWarmerTests.GROUP_REQUESTS, Clock.systemUTC());
+		beanFactory.addBean("wroManagerFactory", CacheWarmerTests.managerFactory(
+				CacheWarmerTests.model("broken", "classpath:missing.js"), wro4jUrls.decorate(cacheStrategy)));
+
+		assertThat(wro4jUrls.js("broken")).isEqualTo("/wro4j/broken.js");
+	}
+
+	@Test
+	void shouldRenderUrlsWithHashesForStylesheetsWithUrls() {
+		final LruMemoryCacheStrategy<CacheKey, CacheValue> cacheStrategy = new LruMemoryCacheStrategy<>();
+		final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		final Wro4jUrls wro4jUrls = new Wro4jUrls(beanFactory.getBeanProvider(WroManagerFactory.class),
+				new WroConfiguration(), "/wro4j", CacheWarmerTests.GROUP_REQUESTS, Clock.systemUTC());
+		beanFactory.addBean("wroManagerFactory", CacheWarmerTests.managerFactory(
+				CacheWarmerTests.model("images", "classpath:assets/images.css"), wro4jUrls.decorate(cacheStrategy)));
+
+		assertThat(wro4jUrls.css("images")).matches("/wro4j/images\\.[0-9a-f]+\\.css");
+		assertThat(cacheStrategy.get(new CacheKey("images", ResourceType.CSS, true)).getRawContent())
+			.contains("url(/ctx/wro4j/images.css?wroAPI=wroResources&id=classpath:assets/img/x.png)");
+	}
+
+	@Test
+	void currentHashesShouldBeImmutable() {
+		this.applicationContextRunner.run(ctx -> {
+			final String url = ctx.getBean(Wro4jUrls.class).js("app");
+
+			final AtomicReference<HttpServletRequest> forwarded = new AtomicReference<>();
+			final MockHttpServletResponse response = filter(ctx, url, forwarded);
+			assertThat(forwarded.get().getRequestURI()).isEqualTo("/wro4j/app.js");
+			assertThat(forwarded.get().getRequestURL().toString()).isEqualTo("http://localhost/wro4j/app.js");
+			assertThat(response.getHeader("Cache-Control")).isEqualTo(IMMUTABLE);
+			assertThat(response.getHeader("Expires")).isNull();
+			assertThat(response.getHeader("Pragma")).isNull();
+			assertThat(response.getHeader("ETag")).isEqualTo("\"etag\"");
+			assertThat(response.getHeaderNames()).contains("X-Test", "Last-Modified", "X-Date");
+		});
+	}
+
+	@Test
+	void otherHashesShouldOnlyBeServedDuringGracePeriod() {
+		this.applicationContextRunner.withBean(FingerprintCacheStrategyTests.MutableClock.class)
+			.withUserConfiguration(ClockedUrls.class)
+			.run(ctx -> {
+				ctx.getBean(Wro4jUrls.class).js("app");
+
+				final AtomicReference<HttpServletRequest> forwarded = new AtomicReference<>();
+				MockHttpServletResponse response = filter(ctx, "/wro4j/app.0815.js", forwarded);
+				assertThat(forwarded.get().getRequestURI()).isEqualTo("/wro4j/app.js");
+				assertThat(response.getHeader("Cache-Control")).isEqualTo("no-cache");
+
+				ctx.getBean(FingerprintCacheStrategyTests.MutableClock.class).advance(601);
+				forwarded.set(null);
+				response = filter(ctx, "/wro4j/app.0815.js", forwarded);
+				assertThat(forwarded.get()).isNull();
+				assertThat(response.getStatus()).isEqualTo(404);
+			});
+	}
+
+	@Test
+	void otherUrlsShouldBePassedOn() {
+		this.applicationContextRunner.run(ctx -> {
+			for (String url : new String[] { "/wro4j/app.js", "/wro4j/missing.0815.js", "/wro4j/app.0815.txt",
+					"/wro4j/app" }) {
+				final AtomicReference<HttpServletRequest> forwarded = new AtomicReference<>();
+				final MockHttpServletResponse response = filter(ctx, url, forwarded);
+				assertThat(forwarded.get().getRequestURI()).isEqualTo(url);
+				assertThat(response.getHeader("Cache-Control")).isEqualTo("max-age=0");
+			}
+		});
+	}
+
+	private static FilterRegistrationBean<?> getRegistration(ApplicationContext ctx) {
+		return (FilterRegistrationBean<?>) ctx
+			.getBeanProvider(ResolvableType.forClassWithGenerics(FilterRegistrationBean.class, FingerprintFilter.class))
+			.getObject();
+	}
+
+	private static CacheValue get(ApplicationContext ctx, CacheKey cacheKey) {
+		final WroConfiguration wroConfiguration = ctx.getBean(Wro4jAutoConfiguration.class)
+			.wroConfiguration(ctx.getBean(Wro4jProperties.class));
+		final CacheStrategy<CacheKey, CacheValue> cacheStrategy = CacheWarmer.withContext(wroConfiguration,
+				() -> ctx.getBean(WroManagerFactory.class).create().getCacheStrategy());
+		return CacheWarmer.withContext(wroConfiguration, () -> cacheStrategy.get(cacheKey));
+	}
+
+	private static MockHttpServletResponse filter(ApplicationContext ctx, String url,
+			AtomicReference<HttpServletRequest> forwarded) throws Exception {
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+		final FilterChain chain = (request, res) -> {
+			forwarded.set((HttpServletRequest) request);
+			final HttpServletResponse httpServletResponse = (HttpServletResponse) res;
+			httpServletResponse.setHeader("Cache-Control", "max-age=0");
+			httpServletResponse.addHeader("Cache-Control", "no-store");
+			httpServletResponse.setDateHeader("Expires", 0);
+			httpServletResponse.addDateHeader("Expires", 0);
+			httpServletResponse.setHeader("Pragma", "no-cache");
+			httpServletResponse.setHeader("ETag", "\"etag\"");
+			httpServletResponse.addHeader("X-Test", "test");
+			httpServletResponse.setDateHeader("Last-Modified", 0);
+			httpServletResponse.addDateHeader("X-Date", 0);
+		};
+		getRegistration(ctx).getFilter().doFilter(new MockHttpServletRequest("GET", url), response, chain);
+		return response;
+	}
+
+	static class ClockedUrls {
+
+		@Bean
+		Wro4jUrls wro4jUrls(ObjectProvider<WroManagerFactory> wroManagerFactory,
+				Wro4jAutoConfiguration wro4jAutoConfiguration, Wro4jProperties wro4jProperties,
+				FingerprintCacheStrategyTests.MutableClock clock) {
+			return new Wro4jUrls(wroManagerFactory, wro4jAutoConfiguration.wroConfiguration(wro4jProperties), "/wro4j",
+					wro4jAutoConfiguration.groupRequests(wro4jProperties), clock);
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.mock.web.MockServletContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class GroupRequestsTests {
+
+	private static final CacheKey KEY = new CacheKey("app", ResourceType.CSS, true);
+
+	@Test
+	void requestUriShouldIncludeTheContextPath() {
+		final MockServletContext servletContext = new MockServletContext();
+		servletContext.setContextPath("/app");
+		assertThat(new GroupRequests("/wro4j", () -> servletContext, "/ignored").getRequestUri(KEY))
+			.isEqualTo("/app/wro4j/app.css");
+		assertThat(new GroupRequests("/wro4j", () -> null, "/base").getRequestUri(KEY))
+			.isEqualTo("/base/wro4j/app.css");
+		assertThat(new GroupRequests("/wro4j", () -> null, null)
+			.getRequestUri(new CacheKey("vendor", ResourceType.JS, true))).isEqualTo("/wro4j/vendor.js");
+	}
+
+	@Test
+	void contextShouldBeBoundToTheRequest() {
+		final MockServletContext servletContext = new MockServletContext();
+		servletContext.setContextPath("/app");
+		final WroConfiguration wroConfiguration = new WroConfiguration();
+
+		new GroupRequests("/wro4j", () -> servletContext, "").withContext(wroConfiguration, KEY, () -> {
+			final Context context = Context.get();
+			assertThat(context.getConfig()).isSameAs(wroConfiguration);
+			assertThat(context.getServletContext()).isSameAs(servletContext);
+			assertThat(context.getFilterConfig().getInitParameter("a")).isNull();
+			assertThat(context.getResponse().getStatus()).isZero();
+			assertThat(context.getAggregatedFolderPath()).isEqualTo("/wro4j/");
+
+			final HttpServletRequest request = context.getRequest();
+			assertThat(request.getMethod()).isEqualTo("GET");
+			assertThat(request.getRequestURI()).isEqualTo("/app/wro4j/app.css");
+			assertThat(request.getRequestURL()).hasToString("/app/wro4j/app.css");
+			assertThat(request.getContextPath()).isEqualTo("/app");
+			assertThat(request.getServletPath()).isEqualTo("/wro4j/app.css");
+			assertThat(request.getServletContext()).isSameAs(servletContext);
+			assertThat(request.getHeader("Accept")).isNull();
+			assertThat(request.getContentLength()).isZero();
+			assertThat(request.isSecure()).isFalse();
+			request.setAttribute("a", "b");
+			assertThat(request).isEqualTo(request)
+				.isNotEqualTo(context.getResponse())
+				.hasToString("HttpServletRequest for a group");
+			assertThat(request.hashCode()).isEqualTo(System.identityHashCode(request));
+			return null;
+		});
+		assertThat(Context.isContextSet()).isFalse();
+	}
+
+	@Test
+	void filterConfigShouldBeOmittedWithoutServletContext() {
+		new GroupRequests("/wro4j", () -> null, "").withContext(new WroConfiguration(), KEY, () -> {
+			assertThat(Context.get().getFilterConfig()).isNull();
+			assertThat(Context.get().getRequest().getContextPath()).isEmpty();
+			return null;
+		});
+	}
+
+}
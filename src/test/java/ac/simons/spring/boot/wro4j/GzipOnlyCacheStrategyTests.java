@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class GzipOnlyCacheStrategyTests {
+
+	private static final String CONTENT = EncodingCacheStrategyTests.CONTENT;
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS);
+
+	private final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+
+	private final GzipOnlyCacheStrategy cacheStrategy = new GzipOnlyCacheStrategy(this.store);
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void valuesShouldBeStoredWithoutRawContent() throws IOException {
+		setContext(true);
+		final CacheValue value = CacheValue.valueOf(CONTENT, "hash");
+		this.cacheStrategy.put(KEY, value);
+
+		final CacheValue stored = this.cacheStrategy.get(KEY);
+		assertThat(stored).isSameAs(this.store.get(KEY));
+		assertThat(GzipOnlyCacheStrategy.isCompact(stored)).isTrue();
+		assertThat(stored.getHash()).isEqualTo("hash");
+		assertThat(stored.getGzippedContent()).isEqualTo(value.getGzippedContent());
+		assertThat(read(stored)).isEqualTo(CONTENT);
+
+		// The value put is still served as is
+		assertThat(value.getRawContent()).isEqualTo(CONTENT);
+		assertThat(GzipOnlyCacheStrategy.isCompact(value)).isFalse();
+		assertThat(read(value)).isEqualTo(CONTENT);
+
+		this.cacheStrategy.put(KEY, stored);
+		assertThat(this.store.get(KEY)).isSameAs(stored);
+	}
+
+	@Test
+	void valuesShouldBeStoredAsIsWithoutCachedGzippedContent() {
+		setContext(false);
+		final CacheValue value = CacheValue.valueOf(CONTENT, "hash");
+		this.cacheStrategy.put(KEY, value);
+		assertThat(this.store.get(KEY)).isSameAs(value);
+
+		setContext(true);
+		final CacheValue otherValue = CacheValue.valueOf(CONTENT, "otherHash");
+		Context.unset();
+		this.cacheStrategy.put(KEY, otherValue);
+		assertThat(this.store.get(KEY)).isSameAs(otherValue);
+
+		this.cacheStrategy.put(KEY, null);
+		assertThat(this.store.get(KEY)).isNull();
+		assertThat(GzipOnlyCacheStrategy.isCompact(null)).isFalse();
+	}
+
+	private static void setContext(boolean cacheGzippedContent) {
+		final WroConfiguration wroConfiguration = new WroConfiguration();
+		wroConfiguration.setCacheGzippedContent(cacheGzippedContent);
+		Context.set(Context.standaloneContext(), wroConfiguration);
+	}
+
+	private static String read(CacheValue value) throws IOException {
+		try (InputStream in = GzipOnlyCacheStrategy.getRawContent(value, StandardCharsets.UTF_8)) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class GzipOnlyContentFilterTests {
+
+	private static final String CONTENT = EncodingCacheStrategyTests.CONTENT;
+
+	private final WebApplicationContextRunner applicationContextRunner = new WebApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withPropertyValues("wro4j.model = /groups.xml", "wro4j.cache.gzipOnly.enabled = true");
+
+	@Test
+	void shouldNotBeConfiguredByDefault() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> assertThat(ctx).hasNotFailed().doesNotHaveBean("gzipOnlyContentFilterRegistration"));
+	}
+
+	@Test
+	void shouldBeRegisteredDirectlyInFrontOfWro4j() {
+		this.applicationContextRunner.withPropertyValues("wro4j.offHeap.enabled = true").run(ctx -> {
+			final FilterRegistrationBean<?> registration = getRegistration(ctx);
+			assertThat(registration.getUrlPatterns()).containsExactly("/wro4j/*");
+			assertThat(registration.getOrder())
+				.isLessThan(ctx.getBean("wro4jFilterRegistration", FilterRegistrationBean.class).getOrder())
+				.isGreaterThan(
+						ctx.getBean("offHeapContentFilterRegistration", FilterRegistrationBean.class).getOrder());
+		});
+	}
+
+	@Test
+	void shouldServeGzippedAndInflatedContent() {
+		this.applicationContextRunner.run(ctx -> {
+			put(ctx, "hash");
+			@SuppressWarnings("unchecked")
+			final CacheStrategy<CacheKey, CacheValue> store = ctx.getBean(CacheStrategy.class);
+			assertThat(store.get(new CacheKey("app", ResourceType.JS, true)).getRawContent()).isNull();
+
+			final MockHttpServletResponse gzipped = filter(ctx, "gzip", null);
+			assertThat(gzipped.getHeader("Content-Encoding")).isEqualTo("gzip");
+			assertThat(gzipped.getHeader("Vary")).isEqualTo("Accept-Encoding");
+			assertThat(gzipped.getHeader("ETag")).isEqualTo("\"hash\"");
+			assertThat(gzipped.getContentType()).isEqualTo("text/javascript;charset=UTF-8");
+			assertThat(gzipped.getContentLength()).isEqualTo(gzipped.getContentAsByteArray().length);
+			assertThat(gunzip(gzipped.getContentAsByteArray())).isEqualTo(CONTENT);
+
+			final MockHttpServletResponse inflated = filter(ctx, null, null);
+			assertThat(inflated.getHeader("Content-Encoding")).isNull();
+			assertThat(inflated.getHeader("ETag")).isEqualTo("\"hash\"");
+			assertThat(inflated.getContentAsString()).isEqualTo(CONTENT);
+
+			final MockHttpServletResponse notModified = filter(ctx, "gzip", "\"hash\"");
+			assertThat(notModified.getStatus()).isEqualTo(304);
+			assertThat(notModified.getContentAsByteArray()).isEmpty();
+		});
+	}
+
+	@Test
+	void springCachesShouldStoreGzippedContentOnly() {
+		this.applicationContextRunner.withBean(CacheManager.class, ConcurrentMapCacheManager::new)
+			.withPropertyValues("wro4j.cacheName = wro4j", "wro4j.cache.local.enabled = true")
+			.run(ctx -> {
+				put(ctx, "hash");
+				final CacheValue stored = ctx.getBean(CacheManager.class)
+					.getCache("wro4j")
+					.get(new CacheKey("app", ResourceType.JS, true), CacheValue.class);
+				assertThat(stored.getRawContent()).isNull();
+				assertThat(filter(ctx, null, null).getContentAsString()).isEqualTo(CONTENT);
+			});
+	}
+
+	@Test
+	void inflatedCopiesShouldBeKept() {
+		this.applicationContextRunner
+			.withPropertyValues("wro4j.cache.gzipOnly.inflatedCopies = 1", "wro4j.gzipResources = false")
+			.run(ctx -> {
+				put(ctx, "hash");
+				final MockHttpServletResponse inflated = filter(ctx, "gzip", null);
+				assertThat(inflated.getHeader("Content-Encoding")).isNull();
+				assertThat(inflated.getContentLength()).isEqualTo(CONTENT.length());
+				assertThat(inflated.getContentAsString()).isEqualTo(CONTENT);
+				assertThat(filter(ctx, null, null).getContentAsString()).isEqualTo(CONTENT);
+
+				put(ctx, "newHash");
+				final MockHttpServletResponse newVersion = filter(ctx, null, null);
+				assertThat(newVersion.getHeader("ETag")).isEqualTo("\"newHash\"");
+				assertThat(newVersion.getContentAsString()).isEqualTo(CONTENT);
+			});
+	}
+
+	@Test
+	void shouldPassOnGroupsWithRawContentAndOtherRequests() {
+		this.applicationContextRunner.run(ctx -> {
+			@SuppressWarnings("unchecked")
+			final CacheStrategy<CacheKey, CacheValue> store = ctx.getBean(CacheStrategy.class);
+			assertThat(filter(ctx, "gzip", null).getContentAsByteArray()).isEmpty();
+			assertThat(store.get(new CacheKey("app", ResourceType.JS, true))).isNull();
+
+			put(ctx, "hash");
+			for (MockHttpServletRequest request : List.of(new MockHttpServletRequest("HEAD", "/wro4j/app.js"),
+					new MockHttpServletRequest("GET", "/wro4j/app"))) {
+				final MockHttpServletResponse response = new MockHttpServletResponse();
+				getRegistration(ctx).getFilter().doFilter(request, response, new MockFilterChain());
+				assertThat(response.getContentAsByteArray()).isEmpty();
+			}
+		});
+		this.applicationContextRunner.withPropertyValues("wro4j.cacheGzippedContent = false").run(ctx -> {
+			put(ctx, "hash");
+			assertThat(filter(ctx, "gzip", null).getContentAsByteArray()).isEmpty();
+		});
+	}
+
+	@Test
+	void missingGroupsShouldBeLeftToWro4j() {
+		this.applicationContextRunner.withPropertyValues("wro4j.model = /images.xml").run(ctx -> {
+			final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/wro4j/images.css");
+			final MockFilterChain chain = new MockFilterChain();
+			getRegistration(ctx).getFilter().doFilter(request, new MockHttpServletResponse(), chain);
+			assertThat(chain.getRequest()).isSameAs(request);
+			@SuppressWarnings("unchecked")
+			final CacheStrategy<CacheKey, CacheValue> store = ctx.getBean(CacheStrategy.class);
+			assertThat(store.get(new CacheKey("images", ResourceType.CSS, true))).isNull();
+		});
+	}
+
+	private static FilterRegistrationBean<?> getRegistration(ApplicationContext ctx) {
+		return (FilterRegistrationBean<?>) ctx
+			.getBeanProvider(
+					ResolvableType.forClassWithGenerics(FilterRegistrationBean.class, GzipOnlyContentFilter.class))
+			.getObject();
+	}
+
+	private static void put(ApplicationContext ctx, String hash) {
+		final WroConfiguration wroConfiguration = ctx.getBean(Wro4jAutoConfiguration.class)
+			.wroConfiguration(ctx.getBean(Wro4jProperties.class));
+		CacheWarmer.withContext(wroConfiguration, () -> {
+			ctx.getBean(WroManagerFactory.class)
+				.create()
+				.getCacheStrategy()
+				.put(new CacheKey("app", ResourceType.JS, true), CacheValue.valueOf(CONTENT, hash));
+			return null;
+		});
+	}
+
+	private static MockHttpServletResponse filter(ApplicationContext ctx, String acceptEncoding, String ifNoneMatch)
+			throws Exception {
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/wro4j/app.js");
+		if (acceptEncoding != null) {
+			request.addHeader("Accept-Encoding", acceptEncoding);
+		}
+		if (ifNoneMatch != null) {
+			request.addHeader("If-None-Match", ifNoneMatch);
+		}
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+		getRegistration(ctx).getFilter().doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+
+	private static String gunzip(byte[] content) throws IOException {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
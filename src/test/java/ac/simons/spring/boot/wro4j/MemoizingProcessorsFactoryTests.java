@@ -0,0 +1,190 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.decorator.ProcessorDecorator;
+import ro.isdc.wro.model.resource.processor.factory.DefaultProcessorsFactory;
+import ro.isdc.wro.model.resource.processor.factory.SimpleProcessorsFactory;
+import ro.isdc.wro.model.resource.processor.impl.PlaceholderProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssImportPreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssMinProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.FallbackCssDataUriProcessor;
+import ro.isdc.wro.model.resource.processor.impl.js.JSMinProcessor;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class MemoizingProcessorsFactoryTests {
+
+	private final AtomicInteger invocations = new AtomicInteger();
+
+	private final ResourcePreProcessor countingProcessor = (resource, reader, writer) -> {
+		this.invocations.incrementAndGet();
+		writer.write("/* " + this.invocations.get() + " */");
+		reader.transferTo(writer);
+	};
+
+	@Test
+	void shouldBeDisabledByDefault() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> assertThat(
+					ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "processorsFactory"))
+				.isInstanceOf(DefaultProcessorsFactory.class));
+	}
+
+	@Test
+	void shouldBeEnableable() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withPropertyValues("wro4j.memoization.enabled = true")
+			.run(ctx -> assertThat(
+					ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "processorsFactory"))
+				.isInstanceOf(MemoizingProcessorsFactory.class));
+	}
+
+	@Test
+	void unchangedResourcesShouldNotBeProcessedAgain() throws IOException {
+		final MemoizingProcessorsFactory processorsFactory = processorsFactory(this.countingProcessor);
+		final Resource a = Resource.create("/a.js", ResourceType.JS);
+
+		assertThat(process(processorsFactory, a, "var a;")).isEqualTo("/* 1 */var a;");
+		assertThat(process(processorsFactory, a, "var a;")).isEqualTo("/* 1 */var a;");
+		assertThat(this.invocations).hasValue(1);
+
+		assertThat(process(processorsFactory, a, "var b;")).isEqualTo("/* 2 */var b;");
+		assertThat(process(processorsFactory, Resource.create("/b.js", ResourceType.JS), "var b;"))
+			.isEqualTo("/* 3 */var b;");
+		assertThat(processorsFactory.size()).isEqualTo(3);
+	}
+
+	@Test
+	void outputShouldDependOnTheAggregatedFolderPath() throws IOException {
+		final MemoizingProcessorsFactory processorsFactory = processorsFactory(this.countingProcessor);
+		final Resource a = Resource.create("/a.css", ResourceType.CSS);
+		process(processorsFactory, a, "a {}");
+		try {
+			Context.set(Context.standaloneContext(), new WroConfiguration());
+			Context.get().setAggregatedFolderPath("wro4j/css");
+			process(processorsFactory, a, "a {}");
+			process(processorsFactory, a, "a {}");
+		}
+		finally {
+			Context.unset();
+		}
+		assertThat(this.invocations).hasValue(2);
+	}
+
+	@Test
+	void processingWithoutResourceShouldNotBeMemoized() throws IOException {
+		final ResourcePreProcessor processor = processorsFactory(this.countingProcessor).getPreProcessors()
+			.iterator()
+			.next();
+		for (int i = 0; i < 2; ++i) {
+			processor.process(null, new StringReader("var a;"), new StringWriter());
+		}
+		assertThat(this.invocations).hasValue(2);
+	}
+
+	@Test
+	void outputShouldBeBoundedBySize() throws IOException {
+		final MemoizingProcessorsFactory processorsFactory = new MemoizingProcessorsFactory(
+				simpleProcessorsFactory(this.countingProcessor), 1024, List.of());
+		for (int i = 0; i < 32; ++i) {
+			process(processorsFactory, Resource.create("/" + i + ".js", ResourceType.JS), "var a;".repeat(10));
+		}
+		assertThat(processorsFactory.size()).isLessThan(32);
+		assertThat(MemoizingProcessorsFactory
+			.weigh(new MemoizingProcessorsFactory.Key(this.countingProcessor, "/a.js", true, "hash", null), "var a;"))
+			.isEqualTo(2 * (5 + 4 + 6));
+	}
+
+	@Test
+	void importAwareProcessorsShouldNotBeMemoized() {
+		final CssImportPreProcessor cssImportPreProcessor = new CssImportPreProcessor();
+		final SimpleProcessorsFactory simpleProcessorsFactory = simpleProcessorsFactory(cssImportPreProcessor);
+		simpleProcessorsFactory.addPostProcessor(new JSMinProcessor());
+		final MemoizingProcessorsFactory processorsFactory = new MemoizingProcessorsFactory(simpleProcessorsFactory,
+				1024, List.of());
+
+		assertThat(processorsFactory.getPreProcessors()).containsExactly(cssImportPreProcessor);
+		assertThat(processorsFactory.getPostProcessors())
+			.containsExactlyElementsOf(simpleProcessorsFactory.getPostProcessors());
+	}
+
+	@Test
+	void excludedProcessorsShouldNotBeMemoized() {
+		final FallbackCssDataUriProcessor dataUriProcessor = new FallbackCssDataUriProcessor();
+		final PlaceholderProcessor placeholderProcessor = new PlaceholderProcessor();
+		final SimpleProcessorsFactory simpleProcessorsFactory = simpleProcessorsFactory(dataUriProcessor);
+		simpleProcessorsFactory.addPreProcessor(placeholderProcessor);
+		simpleProcessorsFactory.addPreProcessor(new CssMinProcessor());
+		final MemoizingProcessorsFactory processorsFactory = new MemoizingProcessorsFactory(simpleProcessorsFactory,
+				1024, new Wro4jProperties.Memoization().getExcludedProcessors());
+
+		final List<ResourcePreProcessor> preProcessors = List.copyOf(processorsFactory.getPreProcessors());
+		assertThat(preProcessors).hasSize(3);
+		assertThat(preProcessors.get(0)).isSameAs(dataUriProcessor);
+		assertThat(preProcessors.get(1)).isSameAs(placeholderProcessor);
+		assertThat(preProcessors.get(2)).isNotInstanceOf(CssMinProcessor.class);
+	}
+
+	@Test
+	void processorsShouldKeepTheirTraits() {
+		final List<ResourcePreProcessor> preProcessors = List
+			.copyOf(processorsFactory(new CssMinProcessor()).getPreProcessors());
+		assertThat(preProcessors).hasSize(1);
+		assertThat(new ProcessorDecorator(preProcessors.get(0)).isEligible(true, ResourceType.CSS)).isTrue();
+		assertThat(new ProcessorDecorator(preProcessors.get(0)).isEligible(true, ResourceType.JS)).isFalse();
+		assertThat(new ProcessorDecorator(preProcessors.get(0)).isEligible(false, ResourceType.CSS)).isFalse();
+	}
+
+	private static SimpleProcessorsFactory simpleProcessorsFactory(ResourcePreProcessor processor) {
+		final SimpleProcessorsFactory processorsFactory = new SimpleProcessorsFactory();
+		processorsFactory.addPreProcessor(processor);
+		return processorsFactory;
+	}
+
+	private static MemoizingProcessorsFactory processorsFactory(ResourcePreProcessor processor) {
+		return new MemoizingProcessorsFactory(simpleProcessorsFactory(processor), 1024 * 1024, List.of());
+	}
+
+	private static String process(MemoizingProcessorsFactory processorsFactory, Resource resource, String content)
+			throws IOException {
+		final StringWriter writer = new StringWriter();
+		processorsFactory.getPreProcessors().iterator().next().process(resource, new StringReader(content), writer);
+		return writer.toString();
+	}
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.factory.WroModelFactory;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class MeteredCacheStrategyTests {
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS);
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final MeteredCacheStrategy cacheStrategy = new MeteredCacheStrategy(new LruMemoryCacheStrategy<>(),
+			new Wro4jMetrics(this.meterRegistry), false);
+
+	@BeforeEach
+	void setupContext() {
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+	}
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void hitsAndMissesShouldBeCounted() {
+		injectModel(new WroModel().addGroup(new Group("a")));
+
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		assertThat(this.cacheStrategy.get(KEY)).isNotNull();
+		assertThat(this.cacheStrategy.get(KEY)).isNotNull();
+
+		assertThat(count("a", "miss")).isEqualTo(1.0);
+		assertThat(count("a", "hit")).isEqualTo(2.0);
+		assertThat(this.meterRegistry.get("wro4j.cache.served").tag("group", "a").summary().totalAmount())
+			.isEqualTo(12.0);
+		assertThat(this.meterRegistry.get("wro4j.group.processing").tag("group", "a").timer().count()).isOne();
+	}
+
+	@Test
+	void unknownGroupsShouldShareTheirMeters() {
+		final WroModelFactory modelFactory = injectModel(new WroModel().addGroup(new Group("a")));
+
+		for (int i = 0; i < 10; ++i) {
+			assertThat(this.cacheStrategy.get(new CacheKey("b" + i, ResourceType.JS))).isNull();
+		}
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+
+		assertThat(count(Wro4jMetrics.UNKNOWN_GROUP, "miss")).isEqualTo(10.0);
+		assertThat(count("a", "miss")).isEqualTo(1.0);
+		assertThat(this.meterRegistry.find("wro4j.cache.gets").counters()).hasSize(4);
+		then(modelFactory).should(times(10)).create();
+	}
+
+	@Test
+	void coldRequestsThroughWro4jShouldBeCountedOnce() {
+		final BaseWroManagerFactory managerFactory = CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("a", "classpath:assets/app.js"), this.cacheStrategy);
+		final CacheKey key = new CacheKey("a", ResourceType.JS, true);
+
+		for (int i = 0; i < 3; ++i) {
+			assertThat(CacheWarmer.withContext(new WroConfiguration(),
+					() -> managerFactory.create().getCacheStrategy().get(key)))
+				.isNotNull();
+		}
+
+		assertThat(count("a", "miss")).isEqualTo(1.0);
+		assertThat(count("a", "hit")).isEqualTo(2.0);
+		assertThat(this.meterRegistry.get("wro4j.group.processing").tag("group", "a").timer().count()).isOne();
+	}
+
+	@Test
+	void hitsAfterWaitingForAnotherThreadShouldNotBeCounted() {
+		injectModel(new WroModel().addGroup(new Group("a")));
+
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		this.cacheStrategy.getDecoratedObject().put(KEY, CacheValue.valueOf("var a;", "hash"));
+		assertThat(this.cacheStrategy.get(KEY)).isNotNull();
+
+		assertThat(count("a", "miss")).isEqualTo(1.0);
+		assertThat(count("a", "hit")).isZero();
+		assertThat(this.cacheStrategy.get(KEY)).isNotNull();
+		assertThat(count("a", "hit")).isEqualTo(1.0);
+	}
+
+	@Test
+	void groupsShouldBeUnknownWithoutModel() {
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+
+		assertThat(count(Wro4jMetrics.UNKNOWN_GROUP, "miss")).isEqualTo(1.0);
+	}
+
+	@Test
+	void sizeShouldFollowPutsMissesAndClear() {
+		final CacheValue value = CacheValue.valueOf("var a;", "hash");
+
+		this.cacheStrategy.put(KEY, value);
+		this.cacheStrategy.put(new CacheKey("b", ResourceType.JS), value);
+		assertThat(size()).isEqualTo(12.0);
+
+		assertThat(this.cacheStrategy.get(new CacheKey("c", ResourceType.JS))).isNull();
+		assertThat(size()).isEqualTo(12.0);
+		this.cacheStrategy.clear();
+		assertThat(size()).isZero();
+
+		this.cacheStrategy.put(KEY, value);
+		this.cacheStrategy.put(KEY, null);
+		assertThat(size()).isZero();
+
+		this.cacheStrategy.put(KEY, value);
+		this.cacheStrategy.put(new CacheKey("b", ResourceType.JS), value);
+		this.cacheStrategy.getDecoratedObject().clear();
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		assertThat(size()).isEqualTo(6.0);
+		this.cacheStrategy.destroy();
+		assertThat(size()).isZero();
+	}
+
+	@Test
+	void sizeShouldFollowEvictions() {
+		final CacheValue value = CacheValue.valueOf("var a;", "hash");
+
+		this.cacheStrategy.put(KEY, value);
+		this.cacheStrategy.put(new CacheKey("b", ResourceType.JS), value);
+		this.cacheStrategy.evicted(KEY, value);
+		assertThat(size()).isEqualTo(6.0);
+
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var b;", "other"));
+		this.cacheStrategy.evicted(KEY, value);
+		assertThat(size()).isEqualTo(12.0);
+		this.cacheStrategy.evicted(new CacheKey("c", ResourceType.JS), value);
+		assertThat(size()).isEqualTo(12.0);
+	}
+
+	@Test
+	void gzippedContentShouldBeRecordedWhenServed() {
+		final MeterRegistry gzippingMeterRegistry = new SimpleMeterRegistry();
+		final MeteredCacheStrategy gzippingCacheStrategy = new MeteredCacheStrategy(new LruMemoryCacheStrategy<>(),
+				new Wro4jMetrics(gzippingMeterRegistry), true);
+		final CacheValue value = CacheValue.valueOf("var a;", "hash");
+		final int gzippedLength = value.getGzippedContent().length;
+		gzippingCacheStrategy.put(KEY, value);
+		this.cacheStrategy.put(KEY, value);
+
+		for (String acceptEncoding : new String[] { "GZIP, deflate", "identity" }) {
+			GroupRequests.withContext(new WroConfiguration(), null, "", "/wro4j/a.js",
+					(name) -> "Accept-Encoding".equals(name) ? acceptEncoding : null, () -> {
+						assertThat(gzippingCacheStrategy.get(KEY)).isNotNull();
+						assertThat(this.cacheStrategy.get(KEY)).isNotNull();
+						return null;
+					});
+		}
+		final WroConfiguration gzipDisabled = new WroConfiguration();
+		gzipDisabled.setGzipEnabled(false);
+		GroupRequests.withContext(gzipDisabled, null, "", "/wro4j/a.js", (name) -> "gzip",
+				() -> gzippingCacheStrategy.get(KEY));
+
+		assertThat(gzippingMeterRegistry.get("wro4j.cache.served").summary().totalAmount())
+			.isEqualTo(12.0 + gzippedLength);
+		// Gzipped content that is not cached is not compressed again just for measuring
+		assertThat(this.meterRegistry.get("wro4j.cache.served").summary().count()).isOne();
+	}
+
+	@Test
+	void processingOfFailedRequestsShouldBeDiscarded() {
+		injectModel(new WroModel().addGroup(new Group("a")));
+
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		// Processing fails, the value is never put and the next request on this thread
+		// misses the key again
+		Context.unset();
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+
+		assertThat(count("a", "miss")).isEqualTo(2.0);
+		assertThat(this.meterRegistry.get("wro4j.group.processing").tag("group", "a").timer().count()).isOne();
+	}
+
+	@Test
+	void processingShouldBeStoppedWhenPutFails() {
+		injectModel(new WroModel().addGroup(new Group("a")));
+		final MeteredCacheStrategy meteredCacheStrategy = new MeteredCacheStrategy(
+				new LruMemoryCacheStrategy<CacheKey, CacheValue>() {
+					@Override
+					public void put(CacheKey key, CacheValue value) {
+						throw new IllegalStateException();
+					}
+				}, new Wro4jMetrics(this.meterRegistry), false);
+		ReflectionTestUtils.setField(meteredCacheStrategy, "modelFactory",
+				ReflectionTestUtils.getField(this.cacheStrategy, "modelFactory"));
+
+		assertThat(meteredCacheStrategy.get(KEY)).isNull();
+		assertThatIllegalStateException()
+			.isThrownBy(() -> meteredCacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash")));
+		assertThat(meteredCacheStrategy.get(KEY)).isNull();
+
+		assertThat(count("a", "miss")).isEqualTo(2.0);
+	}
+
+	@Test
+	void sizeShouldIncludeCachedGzippedContent() {
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+		try {
+			final MeterRegistry gzippingMeterRegistry = new SimpleMeterRegistry();
+			final MeteredCacheStrategy gzippingCacheStrategy = new MeteredCacheStrategy(new LruMemoryCacheStrategy<>(),
+					new Wro4jMetrics(gzippingMeterRegistry), true);
+			final CacheValue value = CacheValue.valueOf("var a;", "hash");
+
+			gzippingCacheStrategy.put(KEY, value);
+			assertThat(gzippingMeterRegistry.get("wro4j.cache.size").gauge().value())
+				.isEqualTo(6.0 + value.getGzippedContent().length);
+		}
+		finally {
+			Context.unset();
+		}
+	}
+
+	private WroModelFactory injectModel(WroModel model) {
+		final WroModelFactory modelFactory = mock(WroModelFactory.class);
+		given(modelFactory.create()).willReturn(model);
+		ReflectionTestUtils.setField(this.cacheStrategy, "modelFactory", modelFactory);
+		return modelFactory;
+	}
+
+	private double count(String group, String result) {
+		return this.meterRegistry.get("wro4j.cache.gets").tag("group", group).tag("result", result).counter().count();
+	}
+
+	private double size() {
+		return this.meterRegistry.get("wro4j.cache.size").gauge().value();
+	}
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.WroModelInspector;
+import ro.isdc.wro.model.factory.WroModelFactory;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ModelReloaderTests {
+
+	private static final CacheKey APP = new CacheKey("app", ResourceType.JS, true);
+
+	private static final CacheKey VENDOR = new CacheKey("vendor", ResourceType.JS, true);
+
+	private final MutableModelFactory modelFactory = new MutableModelFactory();
+
+	private final ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withBean(WroModelFactory.class, () -> this.modelFactory)
+		.withPropertyValues("wro4j.modelReload.enabled = true", "wro4j.modelUpdatePeriod = 3600");
+
+	@Test
+	void shouldNotBeConfiguredByDefault() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withPropertyValues("wro4j.modelUpdatePeriod = 3600")
+			.run(ctx -> {
+				assertThat(ctx).doesNotHaveBean(ModelReloader.class);
+				assertThat(ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "modelFactory"))
+					.isNotInstanceOf(ReloadingModelFactory.class);
+				assertThat(ctx.getBean(Wro4jAutoConfiguration.class)
+					.wroFilterProperties(ctx.getBean(Wro4jProperties.class))
+					.getProperty("modelUpdatePeriod")).isEqualTo("3600");
+			});
+	}
+
+	@Test
+	void shouldReplaceTheReloadingOfWro4j() {
+		this.applicationContextRunner.run(ctx -> {
+			assertThat(ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "modelFactory"))
+				.isInstanceOf(ReloadingModelFactory.class);
+			assertThat(ctx.getBean(ModelReloader.class).isRunning()).isTrue();
+			assertThat(ctx.getBean(Wro4jAutoConfiguration.class)
+				.wroFilterProperties(ctx.getBean(Wro4jProperties.class))
+				.getProperty("modelUpdatePeriod")).isEqualTo("0");
+		});
+		this.applicationContextRunner.withPropertyValues("wro4j.modelUpdatePeriod = 0")
+			.run(ctx -> assertThat(ctx.getBean(ModelReloader.class).isRunning()).isFalse());
+	}
+
+	@Test
+	void onlyChangedGroupsShouldBeEvicted() {
+		this.applicationContextRunner.run(ctx -> {
+			final WroManager wroManager = inContext(ctx.getBean(BaseWroManagerFactory.class)::create);
+			final WroModel model = inContext(() -> wroManager.getModelFactory().create());
+			inContext(() -> wroManager.getCacheStrategy().get(APP));
+			inContext(() -> wroManager.getCacheStrategy().get(VENDOR));
+			final ModelReloader modelReloader = ctx.getBean(ModelReloader.class);
+
+			assertThat(modelReloader.reload()).isEmpty();
+			assertThat(inContext(() -> wroManager.getModelFactory().create())).isSameAs(model);
+
+			this.modelFactory.vendorUri.set("classpath:assets/app.js");
+			assertThat(modelReloader.reload()).containsExactly("vendor");
+			assertThat(getStore(ctx).get(APP)).isNotNull();
+			assertThat(getStore(ctx).get(VENDOR)).isNull();
+			final WroModel reloaded = inContext(() -> wroManager.getModelFactory().create());
+			assertThat(new WroModelInspector(reloaded).getGroupByName("vendor").getResources())
+				.extracting(Resource::getUri)
+				.containsExactly("classpath:assets/app.js");
+			assertThat(inContext(() -> wroManager.getCacheStrategy().get(VENDOR)).getRawContent())
+				.contains("function hello");
+		});
+	}
+
+	@Test
+	void failingReloadsShouldKeepTheCurrentModel() {
+		this.applicationContextRunner.run(ctx -> {
+			final WroManager wroManager = inContext(ctx.getBean(BaseWroManagerFactory.class)::create);
+			final WroModel model = inContext(() -> wroManager.getModelFactory().create());
+
+			this.modelFactory.vendorUri.set(null);
+			assertThat(ctx.getBean(ModelReloader.class).reload()).isEmpty();
+			assertThat(inContext(() -> wroManager.getModelFactory().create())).isSameAs(model);
+		});
+	}
+
+	@Test
+	void modelsShouldOnlyBeReloadedOnceCreated() {
+		@SuppressWarnings("unchecked")
+		final ModelReloader modelReloader = new ModelReloader(mock(ObjectProvider.class), new WroConfiguration(),
+				Duration.ofHours(1));
+		assertThat(modelReloader.reload()).isEmpty();
+
+		modelReloader.decorate(this.modelFactory);
+		assertThat(modelReloader.reload()).isEmpty();
+	}
+
+	@Test
+	void modelsShouldBeReloadedPeriodically() {
+		this.applicationContextRunner.withPropertyValues("wro4j.modelUpdatePeriod = 1").run(ctx -> {
+			final WroManager wroManager = inContext(ctx.getBean(BaseWroManagerFactory.class)::create);
+			inContext(() -> wroManager.getModelFactory().create());
+			inContext(() -> wroManager.getCacheStrategy().get(VENDOR));
+			final ModelReloader modelReloader = ctx.getBean(ModelReloader.class);
+			modelReloader.start();
+
+			this.modelFactory.vendorUri.set("classpath:assets/app.js");
+			final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+			while (getStore(ctx).get(VENDOR) != null && System.nanoTime() < deadline) {
+				Thread.sleep(50);
+			}
+			assertThat(getStore(ctx).get(VENDOR)).isNull();
+
+			modelReloader.stop();
+			modelReloader.stop();
+			assertThat(modelReloader.isRunning()).isFalse();
+		});
+	}
+
+	@Test
+	void groupsShouldBeComparedByTheirResources() {
+		final WroModel model = new WroModel().addGroup(group("a", Resource.create("a.js", ResourceType.JS)))
+			.addGroup(group("b", Resource.create("b.js", ResourceType.JS)))
+			.addGroup(group("c", Resource.create("c.js", ResourceType.JS)))
+			.addGroup(group("d", Resource.create("d.js", ResourceType.JS)));
+		final Resource notMinimized = Resource.create("b.js", ResourceType.JS);
+		notMinimized.setMinimize(false);
+		final WroModel reloaded = new WroModel().addGroup(group("a", Resource.create("a.js", ResourceType.JS)))
+			.addGroup(group("b", notMinimized))
+			.addGroup(group("c", Resource.create("c.css", ResourceType.CSS)))
+			.addGroup(group("e", Resource.create("e.js", ResourceType.JS)));
+
+		assertThat(ReloadingModelFactory.getChangedGroups(model, reloaded)).containsExactly("b", "c", "d", "e");
+	}
+
+	private static Group group(String name, Resource resource) {
+		return new Group(name).addResource(resource);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static CacheStrategy<CacheKey, CacheValue> getStore(ApplicationContext ctx) {
+		return ctx.getBean(CacheStrategy.class);
+	}
+
+	private static <T> T inContext(Supplier<T> supplier) {
+		return CacheWarmer.withContext(new WroConfiguration(), supplier);
+	}
+
+	/**
+	 * Creates a new model on every call, with a configurable resource of the vendor
+	 * group.
+	 */
+	static class MutableModelFactory implements WroModelFactory {
+
+		final AtomicReference<String> vendorUri = new AtomicReference<>("classpath:assets/vendor.js");
+
+		@Override
+		public WroModel create() {
+			return new WroModel().addGroup(group("app", Resource.create("classpath:assets/app.js", ResourceType.JS)))
+				.addGroup(group("vendor", Resource.create(this.vendorUri.get(), ResourceType.JS)));
+		}
+
+		@Override
+		public void destroy() {
+			// Nothing to destroy
+		}
+
+	}
+
+}
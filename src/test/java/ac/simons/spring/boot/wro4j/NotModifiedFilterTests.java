@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class NotModifiedFilterTests {
+
+	private final WebApplicationContextRunner applicationContextRunner = new WebApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withPropertyValues("wro4j.model = /groups.xml", "wro4j.notModified.enabled = true");
+
+	@Test
+	void shouldNotBeConfiguredByDefault() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> assertThat(ctx).hasNotFailed().doesNotHaveBean(ETags.class));
+	}
+
+	@Test
+	void shouldAnswerMatchingRequests() {
+		this.applicationContextRunner.withPropertyValues("wro4j.header = X-Test: 1").run(ctx -> {
+			final String eTag = "\"" + get(ctx, new CacheKey("app", ResourceType.JS, true)).getHash() + "\"";
+
+			final FilterResult result = filter(ctx, "GET", "/wro4j/app.js", "\"other\", " + eTag);
+			assertThat(result.chain().getRequest()).isNull();
+			assertThat(result.response().getStatus()).isEqualTo(304);
+			assertThat(result.response().getHeader("ETag")).isEqualTo(eTag);
+			assertThat(result.response().getHeader("Vary")).isEqualTo("Accept-Encoding");
+			assertThat(result.response().getHeader("X-Test")).isEqualTo("1");
+			assertThat(result.response().getContentAsByteArray()).isEmpty();
+
+			assertThat(filter(ctx, "HEAD", "/wro4j/app.js", "W/" + eTag).response().getStatus()).isEqualTo(304);
+			assertThat(filter(ctx, "GET", "/wro4j/app.js", "*").response().getHeader("ETag")).isEqualTo(eTag);
+		});
+	}
+
+	@Test
+	void shouldPassOnOtherRequests() {
+		this.applicationContextRunner.run(ctx -> {
+			final String eTag = "\"" + get(ctx, new CacheKey("app", ResourceType.JS, true)).getHash() + "\"";
+
+			assertThat(filter(ctx, "GET", "/wro4j/app.js", "\"other\"").chain().getRequest()).isNotNull();
+			assertThat(filter(ctx, "GET", "/wro4j/app.js", null).chain().getRequest()).isNotNull();
+			assertThat(filter(ctx, "POST", "/wro4j/app.js", eTag).chain().getRequest()).isNotNull();
+			assertThat(filter(ctx, "GET", "/wro4j/app.css", eTag).chain().getRequest()).isNotNull();
+			assertThat(filter(ctx, "GET", "/wro4j/app", eTag).chain().getRequest()).isNotNull();
+		});
+	}
+
+	@Test
+	void shouldAnswerRequestsForEncodedContent() {
+		this.applicationContextRunner.withBean(EncodingCacheStrategyTests.DeflateContentEncoder.class)
+			.withPropertyValues("wro4j.content-encoding.enabled = true", "wro4j.content-encoding.encodings = deflate",
+					"wro4j.fingerprint.enabled = true")
+			.run(ctx -> {
+				final WroConfiguration wroConfiguration = ctx.getBean(Wro4jAutoConfiguration.class)
+					.wroConfiguration(ctx.getBean(Wro4jProperties.class));
+				CacheWarmer.withContext(wroConfiguration, () -> {
+					ctx.getBean(WroManagerFactory.class)
+						.create()
+						.getCacheStrategy()
+						.put(new CacheKey("app", ResourceType.JS, true),
+								CacheValue.valueOf(EncodingCacheStrategyTests.CONTENT, "hash"));
+					return null;
+				});
+
+				final FilterResult result = filter(ctx, "GET", "/wro4j/app.js", "\"hash-deflate\"");
+				assertThat(result.response().getStatus()).isEqualTo(304);
+				assertThat(result.response().getHeader("ETag")).isEqualTo("\"hash-deflate\"");
+
+				final int order = getRegistration(ctx, NotModifiedFilter.class).getOrder();
+				assertThat(getRegistration(ctx, FingerprintFilter.class).getOrder()).isLessThan(order);
+				assertThat(getRegistration(ctx, CachedContentFilter.class).getOrder()).isGreaterThan(order);
+			});
+	}
+
+	@Test
+	void tagsShouldBeBoundByTheStore() {
+		this.applicationContextRunner.withPropertyValues("wro4j.cache.maxBytes = 2KB").run(ctx -> {
+			final List<CacheKey> cacheKeys = List.of(new CacheKey("app", ResourceType.JS, true),
+					new CacheKey("vendor", ResourceType.JS, true));
+			final WroConfiguration wroConfiguration = ctx.getBean(Wro4jAutoConfiguration.class)
+				.wroConfiguration(ctx.getBean(Wro4jProperties.class));
+			CacheWarmer.withContext(wroConfiguration, () -> {
+				cacheKeys.forEach(cacheKey -> ctx.getBean(WroManagerFactory.class)
+					.create()
+					.getCacheStrategy()
+					.put(cacheKey, CacheValue.valueOf(EncodingCacheStrategyTests.CONTENT, cacheKey.getGroupName())));
+				return null;
+			});
+
+			final WeightedMemoryCacheStrategy store = ctx.getBean(WeightedMemoryCacheStrategy.class);
+			assertThat(store.getWeightedSize()).isLessThanOrEqualTo(2048);
+			final ETags eTags = ctx.getBean(ETags.class);
+			assertThat(cacheKeys).filteredOn(cacheKey -> eTags.getETags(cacheKey) != null)
+				.hasSize(1)
+				.allMatch(cacheKey -> store.get(cacheKey) != null);
+		});
+	}
+
+	@Test
+	void shouldPassOnRequestsWhileResourcesAreWatched() {
+		this.applicationContextRunner.withPropertyValues("wro4j.resourceWatcherUpdatePeriod = 60").run(ctx -> {
+			final String eTag = "\"" + get(ctx, new CacheKey("app", ResourceType.JS, true)).getHash() + "\"";
+			assertThat(filter(ctx, "GET", "/wro4j/app.js", eTag).chain().getRequest()).isNotNull();
+		});
+	}
+
+	@Test
+	void shouldPassOnRequestsWithCustomManagerFactories() {
+		this.applicationContextRunner.withBean(WroManagerFactory.class, () -> CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("app", "classpath:assets/app.js"), new LruMemoryCacheStrategy<>()))
+			.run(ctx -> {
+				final String eTag = "\"" + get(ctx, new CacheKey("app", ResourceType.JS, true)).getHash() + "\"";
+				assertThat(filter(ctx, "GET", "/wro4j/app.js", eTag).chain().getRequest()).isNotNull();
+			});
+	}
+
+	@Test
+	void matchingShouldUseWeakComparison() {
+		final Set<String> current = new LinkedHashSet<>(List.of("\"a\"", "\"a-br\""));
+		assertThat(NotModifiedFilter.match("\"a-br\"", current)).isEqualTo("\"a-br\"");
+		assertThat(NotModifiedFilter.match("W/\"a\"", current)).isEqualTo("\"a\"");
+		assertThat(NotModifiedFilter.match("\"b\" , \"a\"", current)).isEqualTo("\"a\"");
+		assertThat(NotModifiedFilter.match(" * ", current)).isEqualTo("\"a\"");
+		assertThat(NotModifiedFilter.match("*", Set.of())).isNull();
+		assertThat(NotModifiedFilter.match("a", current)).isNull();
+	}
+
+	private static FilterRegistrationBean<?> getRegistration(ApplicationContext ctx, Class<?> filterClass) {
+		return (FilterRegistrationBean<?>) ctx
+			.getBeanProvider(ResolvableType.forClassWithGenerics(FilterRegistrationBean.class, filterClass))
+			.getObject();
+	}
+
+	private static CacheValue get(ApplicationContext ctx, CacheKey cacheKey) {
+		final WroConfiguration wroConfiguration = ctx.getBean(Wro4jAutoConfiguration.class)
+			.wroConfiguration(ctx.getBean(Wro4jProperties.class));
+		return CacheWarmer.withContext(wroConfiguration,
+				() -> ctx.getBean(WroManagerFactory.class).create().getCacheStrategy().get(cacheKey));
+	}
+
+	private static FilterResult filter(ApplicationContext ctx, String method, String uri, String ifNoneMatch)
+			throws Exception {
+		final MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+		if (ifNoneMatch != null) {
+			request.addHeader("If-None-Match", ifNoneMatch);
+		}
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+		final MockFilterChain chain = new MockFilterChain();
+		getRegistration(ctx, NotModifiedFilter.class).getFilter().doFilter(request, response, chain);
+		return new FilterResult(response, chain);
+	}
+
+	private record FilterResult(MockHttpServletResponse response, MockFilterChain chain) {
+	}
+
+}
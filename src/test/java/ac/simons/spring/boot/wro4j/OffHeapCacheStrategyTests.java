@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class OffHeapCacheStrategyTests {
+
+	private static final String CONTENT = EncodingCacheStrategyTests.CONTENT;
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS);
+
+	private final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+
+	private final OffHeapCacheStrategy cacheStrategy = new OffHeapCacheStrategy(this.store, CONTENT.length());
+
+	@BeforeEach
+	void setupContext() {
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+	}
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void valuesShouldBeCopiedWhenPut() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+
+		final OffHeapCacheStrategy.OffHeapContent content = this.cacheStrategy.getContent(KEY);
+		assertThat(content.hash()).isEqualTo("hash");
+		assertThat(content.content().isDirect()).isTrue();
+		assertThat(content.content().isReadOnly()).isTrue();
+		final byte[] bytes = new byte[content.content().remaining()];
+		content.content().duplicate().get(bytes);
+		assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void valuesBelowThresholdShouldNotBeCopied() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		assertThat(this.cacheStrategy.get(KEY)).isNotNull();
+
+		assertThat(this.cacheStrategy.getContent(KEY)).isNull();
+	}
+
+	@Test
+	void valuesPutByDecoratedStrategyShouldBeCopiedWhenRead() {
+		this.store.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		assertThat(this.cacheStrategy.getContent(KEY)).isNull();
+
+		this.cacheStrategy.get(KEY);
+		final OffHeapCacheStrategy.OffHeapContent content = this.cacheStrategy.getContent(KEY);
+		assertThat(content.hash()).isEqualTo("hash");
+		this.cacheStrategy.get(KEY);
+		assertThat(this.cacheStrategy.getContent(KEY)).isSameAs(content);
+
+		this.store.put(KEY, CacheValue.valueOf(CONTENT + "var b;", "newHash"));
+		this.cacheStrategy.get(KEY);
+		assertThat(this.cacheStrategy.getContent(KEY).hash()).isEqualTo("newHash");
+	}
+
+	@Test
+	void missesAndEvictionShouldRemoveContent() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		this.store.clear();
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		assertThat(this.cacheStrategy.getContent(KEY)).isNull();
+
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		this.cacheStrategy.put(KEY, null);
+		assertThat(this.cacheStrategy.getContent(KEY)).isNull();
+		assertThat(this.store.get(KEY)).isNull();
+	}
+
+	@Test
+	void evictionFromTheStoreShouldRemoveContent() {
+		final CacheValue value = CacheValue.valueOf(CONTENT, "hash");
+		this.cacheStrategy.put(KEY, value);
+
+		this.cacheStrategy.evicted(KEY, CacheValue.valueOf(CONTENT, "previous"));
+		assertThat(this.cacheStrategy.getContent(KEY).hash()).isEqualTo("hash");
+		this.cacheStrategy.evicted(KEY, value);
+		assertThat(this.cacheStrategy.getContent(KEY)).isNull();
+	}
+
+	@Test
+	void clearAndDestroyShouldRemoveContent() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		this.cacheStrategy.clear();
+		assertThat(this.cacheStrategy.getContent(KEY)).isNull();
+
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		this.cacheStrategy.destroy();
+		assertThat(this.cacheStrategy.getContent(KEY)).isNull();
+
+		this.cacheStrategy.put(KEY, CacheValue.valueOf(null, "hash"));
+		assertThat(this.cacheStrategy.getContent(KEY)).isNull();
+	}
+
+	@Test
+	void keysShouldBeCopiedByOneThreadAtATime() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final WroConfiguration blocking = new WroConfiguration() {
+			@Override
+			public String getEncoding() {
+				started.countDown();
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return super.getEncoding();
+			}
+		};
+		this.store.put(KEY, CacheValue.valueOf(CONTENT, "hash"));
+		final CompletableFuture<Void> get = CompletableFuture.runAsync(() -> {
+			Context.set(Context.standaloneContext(), blocking);
+			try {
+				this.cacheStrategy.get(KEY);
+			}
+			finally {
+				Context.unset();
+			}
+		});
+		assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(this.cacheStrategy.get(KEY)).isNotNull();
+		assertThat(this.cacheStrategy.getContent(KEY)).isNull();
+
+		release.countDown();
+		get.get(10, TimeUnit.SECONDS);
+		assertThat(this.cacheStrategy.getContent(KEY).hash()).isEqualTo("hash");
+	}
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class OffHeapContentFilterTests {
+
+	private static final String CONTENT = EncodingCacheStrategyTests.CONTENT;
+
+	private final WebApplicationContextRunner applicationContextRunner = new WebApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withPropertyValues("wro4j.model = /groups.xml", "wro4j.offHeap.enabled = true",
+				"wro4j.offHeap.threshold = 1KB");
+
+	@Test
+	void shouldNotBeConfiguredByDefault() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> assertThat(ctx).hasNotFailed()
+				.doesNotHaveBean(OffHeapContents.class)
+				.doesNotHaveBean("offHeapContentFilterRegistration"));
+	}
+
+	@Test
+	void shouldBeRegisteredBehindOtherFilters() {
+		this.applicationContextRunner.withPropertyValues("wro4j.content-encoding.enabled = true").run(ctx -> {
+			final FilterRegistrationBean<?> registration = getRegistration(ctx);
+			assertThat(registration.getUrlPatterns()).containsExactly("/wro4j/*");
+			assertThat(registration.getOrder())
+				.isLessThan(ctx.getBean("wro4jFilterRegistration", FilterRegistrationBean.class).getOrder())
+				.isGreaterThan(ctx.getBean("cachedContentFilterRegistration", FilterRegistrationBean.class).getOrder());
+		});
+	}
+
+	@Test
+	void shouldServeRawContent() {
+		this.applicationContextRunner.run(ctx -> {
+			put(ctx, CONTENT);
+
+			final MockHttpServletResponse response = filter(ctx, null, null);
+			assertThat(response.getHeader("Content-Encoding")).isNull();
+			assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+			assertThat(response.getHeader("ETag")).isEqualTo("\"hash\"");
+			assertThat(response.getContentType()).isEqualTo("text/javascript;charset=UTF-8");
+			assertThat(response.getContentLength()).isEqualTo(CONTENT.length());
+			assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+
+			final MockHttpServletResponse notModified = filter(ctx, "br", "\"hash\"");
+			assertThat(notModified.getStatus()).isEqualTo(304);
+			assertThat(notModified.getContentAsByteArray()).isEmpty();
+		});
+	}
+
+	@Test
+	void shouldPassOnRequestsAcceptingGzip() {
+		this.applicationContextRunner.run(ctx -> {
+			put(ctx, CONTENT);
+			assertThat(filter(ctx, "gzip", null).getContentAsByteArray()).isEmpty();
+		});
+	}
+
+	@Test
+	void shouldServeRawContentWhenGzipIsDisabled() {
+		this.applicationContextRunner.withPropertyValues("wro4j.gzipResources = false").run(ctx -> {
+			put(ctx, CONTENT);
+			final MockHttpServletResponse response = filter(ctx, "gzip", null);
+			assertThat(response.getHeader("Content-Encoding")).isNull();
+			assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+		});
+	}
+
+	@Test
+	void shouldPassOnSmallOrMissingGroupsAndOtherMethods() {
+		this.applicationContextRunner.run(ctx -> {
+			assertThat(filter(ctx, null, null).getContentAsByteArray()).isEmpty();
+
+			put(ctx, "var a;");
+			assertThat(filter(ctx, null, null).getContentAsByteArray()).isEmpty();
+
+			put(ctx, CONTENT);
+			ctx.getBean(WroManagerFactory.class).create().getCacheStrategy().clear();
+			assertThat(filter(ctx, null, null).getContentAsByteArray()).isEmpty();
+
+			// Evicted from the store without the off-heap strategy knowing
+			put(ctx, CONTENT);
+			ctx.getBean(CacheStrategy.class).clear();
+			assertThat(filter(ctx, null, null).getContentAsByteArray()).isEmpty();
+
+			put(ctx, CONTENT);
+			for (MockHttpServletRequest request : List.of(new MockHttpServletRequest("HEAD", "/wro4j/app.js"),
+					new MockHttpServletRequest("GET", "/wro4j/app"))) {
+				final MockHttpServletResponse response = new MockHttpServletResponse();
+				getRegistration(ctx).getFilter().doFilter(request, response, new MockFilterChain());
+				assertThat(response.getContentAsByteArray()).isEmpty();
+			}
+		});
+	}
+
+	@Test
+	void shouldPassOnRequestsWithCustomManagerFactories() {
+		this.applicationContextRunner.withBean(WroManagerFactory.class, () -> CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("app", "classpath:assets/app.js"), new LruMemoryCacheStrategy<>()))
+			.run(ctx -> {
+				put(ctx, CONTENT);
+				assertThat(filter(ctx, null, null).getContentAsByteArray()).isEmpty();
+			});
+	}
+
+	@Test
+	void contentShouldBeBoundByTheStore() {
+		this.applicationContextRunner.withPropertyValues("wro4j.cache.maxBytes = 2KB").run(ctx -> {
+			final List<CacheKey> cacheKeys = List.of(new CacheKey("app", ResourceType.JS, true),
+					new CacheKey("vendor", ResourceType.JS, true));
+			final WroConfiguration wroConfiguration = ctx.getBean(Wro4jAutoConfiguration.class)
+				.wroConfiguration(ctx.getBean(Wro4jProperties.class));
+			CacheWarmer.withContext(wroConfiguration, () -> {
+				cacheKeys.forEach(cacheKey -> ctx.getBean(WroManagerFactory.class)
+					.create()
+					.getCacheStrategy()
+					.put(cacheKey, CacheValue.valueOf(CONTENT, cacheKey.getGroupName())));
+				return null;
+			});
+
+			final WeightedMemoryCacheStrategy store = ctx.getBean(WeightedMemoryCacheStrategy.class);
+			assertThat(store.getWeightedSize()).isLessThanOrEqualTo(2048);
+			final OffHeapContents offHeapContents = ctx.getBean(OffHeapContents.class);
+			assertThat(cacheKeys).filteredOn(cacheKey -> offHeapContents.getContent(cacheKey) != null)
+				.hasSize(1)
+				.allMatch(cacheKey -> store.get(cacheKey) != null);
+		});
+	}
+
+	@Test
+	void contentShouldBeKeptWithOtherStores() {
+		this.applicationContextRunner.withBean(LruMemoryCacheStrategy.class, LruMemoryCacheStrategy::new)
+			.withPropertyValues("wro4j.content-encoding.enabled = true", "wro4j.notModified.enabled = true")
+			.run(ctx -> {
+				put(ctx, CONTENT);
+				assertThat(filter(ctx, null, null).getContentAsString()).isEqualTo(CONTENT);
+			});
+	}
+
+	@Test
+	void buffersShouldBeWrittenWithTheLeastCopies() throws Exception {
+		final ByteBuffer content = ByteBuffer.wrap(CONTENT.getBytes(StandardCharsets.UTF_8));
+
+		final RecordingOutputStream chunked = new RecordingOutputStream();
+		OffHeapContentFilter.write(content.duplicate(), chunked);
+		assertThat(chunked.content.toString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+		assertThat(chunked.buffers).isZero();
+
+		final RecordingOutputStream direct = new RecordingOutputStream() {
+			@Override
+			public void write(ByteBuffer buffer) {
+				this.buffers++;
+				while (buffer.hasRemaining()) {
+					this.content.write(buffer.get());
+				}
+			}
+		};
+		OffHeapContentFilter.write(content.duplicate(), direct);
+		assertThat(direct.content.toString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+		assertThat(direct.buffers).isOne();
+	}
+
+	private static FilterRegistrationBean<?> getRegistration(ApplicationContext ctx) {
+		return (FilterRegistrationBean<?>) ctx
+			.getBeanProvider(
+					ResolvableType.forClassWithGenerics(FilterRegistrationBean.class, OffHeapContentFilter.class))
+			.getObject();
+	}
+
+	private static void put(ApplicationContext ctx, String content) {
+		final WroConfiguration wroConfiguration = ctx.getBean(Wro4jAutoConfiguration.class)
+			.wroConfiguration(ctx.getBean(Wro4jProperties.class));
+		CacheWarmer.withContext(wroConfiguration, () -> {
+			ctx.getBean(WroManagerFactory.class)
+				.create()
+				.getCacheStrategy()
+				.put(new CacheKey("app", ResourceType.JS, true), CacheValue.valueOf(content, "hash"));
+			return null;
+		});
+	}
+
+	private static MockHttpServletResponse filter(ApplicationContext ctx, String acceptEncoding, String ifNoneMatch)
+			throws Exception {
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/wro4j/app.js");
+		if (acceptEncoding != null) {
+			request.addHeader("Accept-Encoding", acceptEncoding);
+		}
+		if (ifNoneMatch != null) {
+			request.addHeader("If-None-Match", ifNoneMatch);
+		}
+		final MockHttpServletResponse response = new MockHttpServletResponse();
+		getRegistration(ctx).getFilter().doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+
+	static class RecordingOutputStream extends ServletOutputStream {
+
+		final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+		int buffers;
+
+		@Override
+		public void write(int b) {
+			this.content.write(b);
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+		}
+
+	}
+
+}
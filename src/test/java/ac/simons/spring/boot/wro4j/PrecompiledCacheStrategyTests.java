@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class PrecompiledCacheStrategyTests {
+
+	private final CacheStrategy<CacheKey, CacheValue> delegate = new LruMemoryCacheStrategy<>();
+
+	private final PrecompiledCacheStrategy cacheStrategy = new PrecompiledCacheStrategy(this.delegate,
+			"classpath:/precompiled", new DefaultResourceLoader());
+
+	@BeforeEach
+	void setupContext() {
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+	}
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void fileNamesShouldWork() {
+		assertThat(PrecompiledCacheStrategy.getFileName(new CacheKey("app", ResourceType.CSS))).isEqualTo("app.css");
+		assertThat(PrecompiledCacheStrategy.getFileName(new CacheKey("app", ResourceType.JS))).isEqualTo("app.js");
+	}
+
+	@Test
+	void shouldServePrecompiledContent() {
+		final CacheKey key = new CacheKey("app", ResourceType.JS, true);
+
+		final CacheValue value = this.cacheStrategy.get(key);
+		assertThat(value).isNotNull();
+		assertThat(value.getRawContent()).contains("function precompiled()");
+		assertThat(value.getHash()).isNotBlank();
+		assertThat(this.delegate.get(key)).isSameAs(value);
+		assertThat(this.cacheStrategy.get(key)).isSameAs(value);
+	}
+
+	@Test
+	void shouldPreferDecoratedStrategy() {
+		final CacheKey key = new CacheKey("app", ResourceType.JS, true);
+		final CacheValue value = CacheValue.valueOf("live", "hash");
+		this.delegate.put(key, value);
+
+		assertThat(this.cacheStrategy.get(key)).isSameAs(value);
+	}
+
+	@Test
+	void evictedGroupsShouldNotBeServedFromPrecompiledContent() {
+		final CacheKey key = new CacheKey("app", ResourceType.JS, true);
+		this.cacheStrategy.put(key, CacheValue.valueOf("live", "hash"));
+		assertThat(this.cacheStrategy.get(key).getRawContent()).isEqualTo("live");
+
+		CacheWarmer.evict(this.cacheStrategy, List.of("app"));
+		assertThat(this.cacheStrategy.get(key)).isNull();
+		assertThat(this.delegate.get(key)).isNull();
+	}
+
+	@Test
+	void shouldIgnoreMissingFiles() {
+		assertThat(this.cacheStrategy.get(new CacheKey("app", ResourceType.CSS, true))).isNull();
+	}
+
+	@Test
+	void shouldIgnoreNonMinimizedKeysWhenMinimizing() {
+		assertThat(this.cacheStrategy.get(new CacheKey("app", ResourceType.JS, false))).isNull();
+	}
+
+	@Test
+	void shouldFallbackOnUnreadableFiles() throws IOException {
+		final Resource resource = mock(Resource.class);
+		given(resource.isReadable()).willReturn(true);
+		given(resource.getFilename()).willReturn("app.js");
+		given(resource.getInputStream()).willThrow(new IOException("broken"));
+		final Resource directory = mock(Resource.class);
+		final ResourcePatternResolver resourceLoader = mock(ResourcePatternResolver.class);
+		given(resourceLoader.getResources(anyString())).willReturn(new Resource[] { directory, resource });
+
+		final PrecompiledCacheStrategy brokenCacheStrategy = new PrecompiledCacheStrategy(this.delegate,
+				"classpath:/precompiled/", resourceLoader);
+		assertThat(brokenCacheStrategy.get(new CacheKey("app", ResourceType.JS, true))).isNull();
+	}
+
+	@Test
+	void shouldIgnoreUnresolvableLocations() throws IOException {
+		final ResourcePatternResolver resourceLoader = mock(ResourcePatternResolver.class);
+		given(resourceLoader.getResources(anyString())).willThrow(new IOException("broken"));
+
+		final PrecompiledCacheStrategy brokenCacheStrategy = new PrecompiledCacheStrategy(this.delegate,
+				"classpath:/precompiled/", resourceLoader);
+		assertThat(brokenCacheStrategy.get(new CacheKey("app", ResourceType.JS, true))).isNull();
+	}
+
+	@Test
+	void shouldUseInjectedHashStrategy() {
+		final CacheKey key = new CacheKey("app", ResourceType.JS, true);
+		final WroManager wroManager = CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("app", "classpath:assets/app.js"), this.cacheStrategy)
+			.setHashStrategy((in) -> "custom")
+			.create();
+
+		assertThat(wroManager.getCacheStrategy().get(key).getHash()).isEqualTo("custom");
+	}
+
+	@Test
+	void proxyUrlsInStylesheetsShouldBeAuthorized() {
+		final CacheKey key = new CacheKey("images", ResourceType.CSS, true);
+		final WroManager wroManager = CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("images", "classpath:assets/images.css"), this.cacheStrategy)
+			.create();
+		final ResourceAuthorizationManager authorizationManager = wroManager.getResourceAuthorizationManager();
+		assertThat(authorizationManager.isAuthorized("classpath:assets/img/x.png")).isFalse();
+
+		assertThat(wroManager.getCacheStrategy().get(key).getRawContent()).contains("wroAPI=wroResources");
+		assertThat(authorizationManager.isAuthorized("classpath:assets/img/x.png")).isTrue();
+		assertThat(authorizationManager.isAuthorized("classpath:assets/images.css")).isFalse();
+	}
+
+}
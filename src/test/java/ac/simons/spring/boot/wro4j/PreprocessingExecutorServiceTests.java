@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.group.processor.GroupsProcessor;
+import ro.isdc.wro.model.group.processor.Injector;
+import ro.isdc.wro.model.group.processor.InjectorBuilder;
+import ro.isdc.wro.model.group.processor.PreProcessorExecutor;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class PreprocessingExecutorServiceTests {
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS);
+
+	private final ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class));
+
+	@Test
+	void shouldOnlyBeConfiguredForParallelPreprocessing() {
+		this.applicationContextRunner.run(ctx -> {
+			assertThat(ctx).doesNotHaveBean(Wro4jAutoConfiguration.PREPROCESSING_EXECUTOR);
+			assertThat(ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "cacheStrategy"))
+				.isInstanceOf(WeightedMemoryCacheStrategy.class);
+		});
+		this.applicationContextRunner
+			.withPropertyValues("wro4j.parallelPreprocessing = true", "wro4j.preprocessingExecutor.maxThreads = 3")
+			.run(ctx -> {
+				assertThat(ctx.getBean(Wro4jAutoConfiguration.PREPROCESSING_EXECUTOR))
+					.isInstanceOfSatisfying(ThreadPoolTaskExecutor.class, executor -> {
+						assertThat(executor.getMaxPoolSize()).isEqualTo(3);
+						assertThat(executor.getThreadNamePrefix()).isEqualTo("wro4j-preprocessing-");
+					});
+				assertThat(ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "cacheStrategy"))
+					.isNotInstanceOf(WeightedMemoryCacheStrategy.class);
+			});
+		this.applicationContextRunner.withPropertyValues("wro4j.parallelPreprocessing = true")
+			.withBean(Wro4jAutoConfiguration.PREPROCESSING_EXECUTOR, TaskExecutor.class, SyncTaskExecutor::new)
+			.run(ctx -> assertThat(ctx.getBean(Wro4jAutoConfiguration.PREPROCESSING_EXECUTOR))
+				.isInstanceOf(SyncTaskExecutor.class));
+	}
+
+	@Test
+	void managersShouldPreprocessOnTheExecutor() {
+		final PreprocessingExecutorService executorService = new PreprocessingExecutorService(new SyncTaskExecutor());
+		final CacheStrategy<CacheKey, CacheValue> cacheStrategy = executorService
+			.decorate(new LruMemoryCacheStrategy<>());
+		assertThat(cacheStrategy.get(KEY)).isNull();
+		final BaseWroManagerFactory wroManagerFactory = CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("a", "classpath:assets/app.js"), cacheStrategy);
+
+		final CacheValue value = withContext(() -> wroManagerFactory.create().getCacheStrategy().get(KEY));
+		assertThat(value).isNotNull();
+		assertThat(
+				getExecutor((PreProcessorExecutor) ReflectionTestUtils.getField(cacheStrategy, "preProcessorExecutor")))
+			.isSameAs(executorService);
+		assertThat(withContext(() -> wroManagerFactory.create().getCacheStrategy().get(KEY))).isSameAs(value);
+
+		final GroupsProcessor groupsProcessor = withContext(() -> {
+			final Injector injector = InjectorBuilder.create(wroManagerFactory).build();
+			PreprocessingExecutorService.apply(wroManagerFactory.create().getCacheStrategy(), injector);
+			return injector.inject(new GroupsProcessor());
+		});
+		assertThat(getExecutor(
+				(PreProcessorExecutor) ReflectionTestUtils.getField(groupsProcessor, "preProcessorExecutor")))
+			.isSameAs(executorService);
+	}
+
+	@Test
+	void undecoratedCacheStrategiesShouldBeIgnored() {
+		final BaseWroManagerFactory wroManagerFactory = CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("a", "classpath:assets/app.js"), new LruMemoryCacheStrategy<>());
+		final GroupsProcessor groupsProcessor = withContext(() -> {
+			final Injector injector = InjectorBuilder.create(wroManagerFactory).build();
+			PreprocessingExecutorService.apply(wroManagerFactory.create().getCacheStrategy(), injector);
+			return injector.inject(new GroupsProcessor());
+		});
+		assertThat(getExecutor(
+				(PreProcessorExecutor) ReflectionTestUtils.getField(groupsProcessor, "preProcessorExecutor")))
+			.isNull();
+	}
+
+	@Test
+	void poolsCreatedByWro4jShouldBeShutDown() {
+		final PreprocessingExecutorService executorService = new PreprocessingExecutorService(new SyncTaskExecutor());
+		final PreProcessorExecutor preProcessorExecutor = new PreProcessorExecutor();
+		final ExecutorService pool = Executors.newSingleThreadExecutor();
+		ReflectionTestUtils.setField(preProcessorExecutor, "executor", pool);
+
+		executorService.apply(preProcessorExecutor);
+		executorService.apply(preProcessorExecutor);
+		assertThat(pool.isShutdown()).isTrue();
+		assertThat(getExecutor(preProcessorExecutor)).isSameAs(executorService);
+	}
+
+	@Test
+	void missingExecutorFieldsShouldBeSkipped() {
+		final PreprocessingExecutorService executorService = new PreprocessingExecutorService(new SyncTaskExecutor(),
+				"missing");
+		final PreProcessorExecutor preProcessorExecutor = new PreProcessorExecutor();
+		final ExecutorService pool = Executors.newSingleThreadExecutor();
+		ReflectionTestUtils.setField(preProcessorExecutor, "executor", pool);
+
+		executorService.apply(preProcessorExecutor);
+		executorService.apply(preProcessorExecutor);
+		assertThat(pool.isShutdown()).isFalse();
+		assertThat(getExecutor(preProcessorExecutor)).isSameAs(pool);
+		pool.shutdown();
+	}
+
+	@Test
+	void tasksShouldRunOnTheTaskExecutorWhichIsNotShutDown() throws Exception {
+		final PreprocessingExecutorService executorService = new PreprocessingExecutorService(
+				new SimpleAsyncTaskExecutor("test-"));
+		assertThat(executorService.submit(() -> Thread.currentThread().getName()).get()).startsWith("test-");
+
+		executorService.shutdown();
+		assertThat(executorService.shutdownNow()).isEmpty();
+		assertThat(executorService.isShutdown()).isFalse();
+		assertThat(executorService.isTerminated()).isFalse();
+		assertThat(executorService.awaitTermination(1, TimeUnit.MILLISECONDS)).isFalse();
+	}
+
+	private static Object getExecutor(PreProcessorExecutor preProcessorExecutor) {
+		return ReflectionTestUtils.getField(preProcessorExecutor, "executor");
+	}
+
+	private static <T> T withContext(Supplier<T> supplier) {
+		return CacheWarmer.withContext(new WroConfiguration(), supplier);
+	}
+
+}
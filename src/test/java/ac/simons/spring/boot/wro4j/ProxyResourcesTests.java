@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.model.resource.support.DefaultResourceAuthorizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ProxyResourcesTests {
+
+	private static final String CONTENT = """
+			a{background:url(/wro4j/a.css?wroAPI=wroResources&id=classpath:img/a.png)}
+			b{background:url('/wro4j/a.css?wroAPI=wroResources&id=/img/b.png')}
+			c{background:url(/img/c.png)}
+			""";
+
+	@Test
+	void shouldAuthorizeProxiedResources() {
+		final DefaultResourceAuthorizationManager authorizationManager = new DefaultResourceAuthorizationManager();
+
+		assertThat(ProxyResources.authorize(authorizationManager, CONTENT)).isEqualTo(2);
+		assertThat(authorizationManager.isAuthorized("classpath:img/a.png")).isTrue();
+		assertThat(authorizationManager.isAuthorized("/img/b.png")).isTrue();
+		assertThat(authorizationManager.isAuthorized("/img/c.png")).isFalse();
+	}
+
+	@Test
+	void shouldIgnoreImmutableAuthorizationManagers() {
+		assertThat(ProxyResources.authorize((uri) -> false, CONTENT)).isZero();
+	}
+
+}
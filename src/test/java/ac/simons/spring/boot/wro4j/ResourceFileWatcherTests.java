@@ -0,0 +1,261 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.factory.WroModelFactory;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class ResourceFileWatcherTests {
+
+	@TempDir
+	Path directory;
+
+	private final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+
+	private final AtomicReference<WroModel> model = new AtomicReference<>();
+
+	private WroManagerFactory wroManagerFactory;
+
+	private ResourceFileWatcher watcher;
+
+	@BeforeEach
+	void createWatcher() throws IOException {
+		Files.createDirectories(this.directory.resolve("lib/sub"));
+		Files.createDirectories(this.directory.resolve("flat"));
+		Files.writeString(this.directory.resolve("a.js"), "var a;");
+		Files.writeString(this.directory.resolve("b.js"), "var b;");
+		this.model.set(new WroModel().addGroup(group("a", uri("a.js")))
+			.addGroup(group("b", uri("b.js")))
+			.addGroup(group("lib", uri("lib/**.js")))
+			.addGroup(group("flat", uri("flat/*.css")))
+			.addGroup(group("single", uri("flat/?*.js")))
+			.addGroup(group("missing", uri("missing/**.js")))
+			.addGroup(group("gone", uri("gone/x.js")))
+			.addGroup(group("remote", "http://localhost/remote.js")));
+		this.wroManagerFactory = new BaseWroManagerFactory().setModelFactory(new WroModelFactory() {
+			@Override
+			public WroModel create() {
+				return ResourceFileWatcherTests.this.model.get();
+			}
+
+			@Override
+			public void destroy() {
+			}
+		}).setCacheStrategy(this.store);
+		final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("wroManagerFactory", this.wroManagerFactory);
+		this.watcher = new ResourceFileWatcher(beanFactory.getBeanProvider(WroManagerFactory.class),
+				new WroConfiguration(), new DefaultResourceLoader(), Duration.ofMillis(50));
+	}
+
+	@AfterEach
+	void stopWatcher() {
+		this.watcher.stop();
+	}
+
+	@Test
+	void shouldNotBeConfiguredByDefault() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> assertThat(ctx).hasNotFailed().doesNotHaveBean(ResourceFileWatcher.class));
+	}
+
+	@Test
+	void shouldWatchClasspathResources() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withPropertyValues("wro4j.model = /groups.xml", "wro4j.fileWatcher.enabled = true")
+			.run(ctx -> {
+				final ResourceFileWatcher resourceFileWatcher = ctx.getBean(ResourceFileWatcher.class);
+				assertThat(resourceFileWatcher.isRunning()).isTrue();
+				await(() -> !resourceFileWatcher.getWatchedDirectories().isEmpty());
+				assertThat(resourceFileWatcher.getWatchedDirectories()).singleElement()
+					.satisfies(path -> assertThat(path).endsWith(Path.of("assets")));
+				assertThat(resourceFileWatcher.getUnwatchedResources()).isEmpty();
+			});
+	}
+
+	@Test
+	void shouldWatchDirectoriesOfFiles() {
+		this.watcher.start();
+		this.watcher.start();
+
+		assertThat(this.watcher.isRunning()).isTrue();
+		awaitWatching(real(""), real("lib"), real("lib/sub"), real("flat"));
+		assertThat(this.watcher.getUnwatchedResources()).containsExactly("http://localhost/remote.js");
+	}
+
+	@Test
+	void changedFilesShouldEvictTheirGroupsOnly() throws IOException {
+		this.watcher.start();
+		awaitWatching(real(""), real("lib"), real("lib/sub"), real("flat"));
+		put("a", "b");
+
+		Files.writeString(this.directory.resolve("a.js"), "var a = 1;");
+		await(() -> get("a") == null);
+		assertThat(get("b")).isNotNull();
+		assertThat(this.store.get(new CacheKey("a", ResourceType.JS, false))).isNull();
+	}
+
+	@Test
+	void changedFilesBelowWildcardsShouldEvictTheirGroups() throws IOException {
+		this.watcher.start();
+		awaitWatching(real(""), real("lib"), real("lib/sub"), real("flat"));
+		put("lib", "flat", "a");
+
+		Files.writeString(this.directory.resolve("flat/x.css"), "a {}");
+		await(() -> get("flat") == null);
+		assertThat(get("lib")).isNotNull();
+
+		Files.writeString(this.directory.resolve("lib/sub/x.js"), "var x;");
+		await(() -> get("lib") == null);
+
+		put("lib");
+		Files.createDirectories(this.directory.resolve("lib/new"));
+		await(() -> this.watcher.getWatchedDirectories().contains(real("lib/new")));
+		Files.writeString(this.directory.resolve("lib/new/y.js"), "var y;");
+		await(() -> get("lib") == null);
+		assertThat(get("a")).isNotNull();
+	}
+
+	@Test
+	void reloadedModelsShouldBeWatched() throws IOException {
+		this.watcher.start();
+		awaitWatching(real(""), real("lib"), real("lib/sub"), real("flat"));
+		Files.createDirectories(this.directory.resolve("other"));
+		Files.writeString(this.directory.resolve("other/c.js"), "var c;");
+
+		reload(new WroModel().addGroup(group("a", uri("a.js"))).addGroup(group("c", uri("other/c.js"))));
+		awaitWatching(real(""), real("other"));
+		assertThat(this.watcher.getUnwatchedResources()).isEmpty();
+
+		put("c");
+		Files.writeString(this.directory.resolve("other/c.js"), "var c = 1;");
+		await(() -> get("c") == null);
+	}
+
+	@Test
+	void brokenModelsShouldNotStopWatching() throws IOException {
+		this.watcher.start();
+		awaitWatching(real(""), real("lib"), real("lib/sub"), real("flat"));
+
+		reload(null);
+		reload(new WroModel().addGroup(group("a", uri("a.js"))));
+		awaitWatching(real(""));
+		put("a");
+		Files.writeString(this.directory.resolve("a.js"), "var a = 1;");
+		await(() -> get("a") == null);
+	}
+
+	@Test
+	void shouldBeRestartable() {
+		this.watcher.stop();
+		this.watcher.start();
+		awaitWatching(real(""), real("lib"), real("lib/sub"), real("flat"));
+		this.watcher.stop();
+
+		assertThat(this.watcher.isRunning()).isFalse();
+		assertThat(this.watcher.getWatchedDirectories()).isEmpty();
+		this.watcher.start();
+		awaitWatching(real(""), real("lib"), real("lib/sub"), real("flat"));
+	}
+
+	private void reload(WroModel newModel) {
+		this.model.set(newModel);
+		CacheWarmer.withContext(new WroConfiguration(), () -> {
+			this.wroManagerFactory.create().getModelFactory().destroy();
+			return null;
+		});
+	}
+
+	private void awaitWatching(Path... directories) {
+		await(() -> this.watcher.getWatchedDirectories().equals(Set.of(directories)));
+	}
+
+	private Path real(String path) {
+		try {
+			return this.directory.resolve(path).toRealPath();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private String uri(String path) {
+		return this.directory.toUri() + path;
+	}
+
+	private static Group group(String name, String uri) {
+		return new Group(name).addResource(Resource.create(uri));
+	}
+
+	private void put(String... groups) {
+		final CacheValue value = CacheWarmer.withContext(new WroConfiguration(),
+				() -> CacheValue.valueOf("var a;", "hash"));
+		for (String group : groups) {
+			this.store.put(new CacheKey(group, ResourceType.JS, true), value);
+		}
+	}
+
+	private CacheValue get(String group) {
+		return this.store.get(new CacheKey(group, ResourceType.JS, true));
+	}
+
+	static void await(BooleanSupplier condition) {
+		final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("Condition not met in time").isLessThan(deadline);
+			try {
+				Thread.sleep(20);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.config.support.ConfigConstants;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class RevalidatingCacheStrategyTests {
+
+	private static final CacheKey A = new CacheKey("a", ResourceType.JS);
+
+	private static final CacheKey B = new CacheKey("b", ResourceType.JS);
+
+	private static final CacheKey C = new CacheKey("c", ResourceType.CSS);
+
+	private final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+
+	private final FingerprintCacheStrategyTests.MutableClock clock = new FingerprintCacheStrategyTests.MutableClock();
+
+	private final WroConfiguration wroConfiguration = new WroConfiguration();
+
+	private RevalidatingCacheStrategy cacheStrategy;
+
+	@BeforeEach
+	void createCacheStrategy() {
+		this.wroConfiguration.setIgnoreMissingResources(false);
+		final WroModel model = CacheWarmerTests.model("a", "classpath:assets/app.js");
+		model.addGroup(new Group("b").addResource(Resource.create("classpath:assets/missing.js")));
+		model.addGroup(new Group("c").addResource(Resource.create("classpath:assets/images.css")));
+		final BaseWroManagerFactory wroManagerFactory = CacheWarmerTests.managerFactory(model, null);
+		this.cacheStrategy = new RevalidatingCacheStrategy(this.store, wroManagerFactory,
+				CacheWarmerTests.GROUP_REQUESTS, Duration.ofSeconds(60), Duration.ofSeconds(30), this.clock);
+		wroManagerFactory.setCacheStrategy(this.cacheStrategy);
+	}
+
+	@AfterEach
+	void destroyCacheStrategy() {
+		this.cacheStrategy.destroy();
+	}
+
+	@Test
+	void staleValuesShouldBeServedWhileRevalidating() {
+		final CacheValue stale = withContext(() -> CacheValue.valueOf("var stale;", "stale"));
+		this.cacheStrategy.put(A, stale);
+		this.cacheStrategy.put(B, stale);
+
+		this.clock.advance(59);
+		assertThat(withContext(() -> this.cacheStrategy.get(A))).isSameAs(stale);
+		this.clock.advance(1);
+		assertThat(withContext(() -> this.cacheStrategy.get(B))).isSameAs(stale);
+		assertThat(withContext(() -> this.cacheStrategy.get(A))).isSameAs(stale);
+		assertThat(withContext(() -> this.cacheStrategy.get(A))).isSameAs(stale);
+
+		// Groups are revalidated one after another, the failing group comes first
+		ResourceFileWatcherTests.await(() -> this.store.get(A) != stale);
+		assertThat(this.store.get(A).getRawContent()).doesNotContain("stale");
+		assertThat(this.store.get(B)).isSameAs(stale);
+		assertThat(withContext(() -> this.cacheStrategy.get(A))).isSameAs(this.store.get(A));
+	}
+
+	@Test
+	void urlsInStylesheetsShouldBeRewrittenWhileRevalidating() {
+		final CacheValue stale = withContext(() -> CacheValue.valueOf("body {}", "stale"));
+		this.cacheStrategy.put(C, stale);
+
+		this.clock.advance(60);
+		assertThat(withContext(() -> this.cacheStrategy.get(C))).isSameAs(stale);
+
+		ResourceFileWatcherTests.await(() -> this.store.get(C) != stale);
+		assertThat(this.store.get(C).getRawContent())
+			.contains("url(/ctx/wro4j/c.css?wroAPI=wroResources&id=classpath:assets/img/x.png)");
+	}
+
+	@Test
+	void valuesExceedingTheMaximumStalenessShouldBeMissed() {
+		this.cacheStrategy.put(A, withContext(() -> CacheValue.valueOf("var stale;", "stale")));
+
+		this.clock.advance(90);
+		assertThat(withContext(() -> this.cacheStrategy.get(A))).isNull();
+		assertThat(this.store.get(A)).isNotNull();
+
+		this.cacheStrategy.put(A, null);
+		assertThat(this.cacheStrategy.get(A)).isNull();
+	}
+
+	@Test
+	void valuesPutByInnerStrategiesShouldAgeFromTheirFirstRead() {
+		final CacheValue stale = withContext(() -> CacheValue.valueOf("var stale;", "stale"));
+		this.store.put(A, stale);
+
+		this.clock.advance(90);
+		assertThat(this.cacheStrategy.get(A)).isSameAs(stale);
+		this.clock.advance(60);
+		// Not revalidated without a context
+		assertThat(this.cacheStrategy.get(A)).isSameAs(stale);
+		assertThat(this.store.get(A)).isSameAs(stale);
+
+		this.cacheStrategy.clear();
+		assertThat(this.cacheStrategy.get(A)).isNull();
+	}
+
+	@Test
+	void destroyedStrategiesShouldNotRevalidate() {
+		final CacheValue stale = withContext(() -> CacheValue.valueOf("var stale;", "stale"));
+		this.cacheStrategy.put(A, stale);
+		this.cacheStrategy.destroy();
+		this.store.put(A, stale);
+		assertThat(this.cacheStrategy.get(A)).isSameAs(stale);
+
+		this.clock.advance(60);
+		assertThat(withContext(() -> this.cacheStrategy.get(A))).isSameAs(stale);
+		assertThat(withContext(() -> this.cacheStrategy.get(A))).isSameAs(stale);
+	}
+
+	@Test
+	void shouldReplacePeriodicClearing() {
+		final ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withPropertyValues("wro4j.cacheUpdatePeriod = 60");
+		applicationContextRunner.withPropertyValues("wro4j.cache.revalidation.enabled = true").run(ctx -> {
+			assertThat(cacheUpdatePeriod(ctx)).isEqualTo("0");
+			assertThat(ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "cacheStrategy"))
+				.isInstanceOf(RevalidatingCacheStrategy.class);
+		});
+		applicationContextRunner.run(ctx -> {
+			assertThat(cacheUpdatePeriod(ctx)).isEqualTo("60");
+			assertThat(ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "cacheStrategy"))
+				.isInstanceOf(WeightedMemoryCacheStrategy.class);
+		});
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withPropertyValues("wro4j.cache.revalidation.enabled = true")
+			.run(ctx -> assertThat(
+					ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "cacheStrategy"))
+				.isInstanceOf(WeightedMemoryCacheStrategy.class));
+	}
+
+	private static String cacheUpdatePeriod(ApplicationContext ctx) {
+		return ctx.getBean(Wro4jAutoConfiguration.class)
+			.wroFilterProperties(ctx.getBean(Wro4jProperties.class))
+			.getProperty(ConfigConstants.cacheUpdatePeriod.name());
+	}
+
+	private <T> T withContext(Supplier<T> supplier) {
+		return CacheWarmer.withContext(this.wroConfiguration, supplier);
+	}
+
+}
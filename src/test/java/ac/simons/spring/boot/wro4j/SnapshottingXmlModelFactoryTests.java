@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Element;
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.WroModelInspector;
+import ro.isdc.wro.model.factory.WroModelFactory;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.locator.UriLocator;
+import ro.isdc.wro.model.resource.locator.factory.SimpleUriLocatorFactory;
+import ro.isdc.wro.model.resource.locator.factory.UriLocatorFactory;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class SnapshottingXmlModelFactoryTests {
+
+	private final AtomicReference<String> vendorUri = new AtomicReference<>("classpath:assets/vendor.js");
+
+	private final UriLocatorFactory uriLocatorFactory = new SimpleUriLocatorFactory().addLocator(new UriLocator() {
+		@Override
+		public InputStream locate(String uri) throws IOException {
+			if (SnapshottingXmlModelFactoryTests.this.vendorUri.get() == null) {
+				throw new IOException("Gone");
+			}
+			return new ByteArrayInputStream(String
+				.format("<groups xmlns=\"http://www.isdc.ro/wro\"><group name=\"vendor\"><js>%s</js></group></groups>",
+						SnapshottingXmlModelFactoryTests.this.vendorUri.get())
+				.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public boolean accept(String uri) {
+			return uri.startsWith("model:");
+		}
+	});
+
+	@Test
+	void unchangedModelShouldNotBeParsedAgain() {
+		final CountingModelFactory modelFactory = new CountingModelFactory("/groups.xml", null);
+
+		final WroModel first = create(modelFactory);
+		final WroModel second = create(modelFactory);
+
+		assertThat(modelFactory.parsedGroups).hasValue(2);
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getGroups()).isEqualTo(first.getGroups());
+		assertThat(new WroModelInspector(second).getGroupByName("app").getResources())
+			.isEqualTo(new WroModelInspector(first).getGroupByName("app").getResources());
+	}
+
+	@Test
+	void changedImportsShouldBeParsedAgain() {
+		final CountingModelFactory modelFactory = new CountingModelFactory("/imports.xml", null);
+
+		assertThat(new WroModelInspector(create(modelFactory)).getGroupNames()).containsExactly("app", "vendor");
+		create(modelFactory);
+		assertThat(modelFactory.parsedGroups).hasValue(1);
+
+		this.vendorUri.set("classpath:assets/app.js");
+		final WroModel model = create(modelFactory);
+		assertThat(modelFactory.parsedGroups).hasValue(2);
+		assertThat(new WroModelInspector(model).getGroupByName("vendor").getResources()).singleElement()
+			.satisfies(resource -> assertThat(resource.getUri()).isEqualTo("classpath:assets/app.js"));
+	}
+
+	@Test
+	void unreadableImportsShouldBeLeftToWro4j() {
+		final CountingModelFactory modelFactory = new CountingModelFactory("/imports.xml", null);
+		this.vendorUri.set(null);
+
+		assertThatExceptionOfType(WroRuntimeException.class).isThrownBy(() -> create(modelFactory));
+		assertThat(modelFactory.getSnapshot()).isNull();
+	}
+
+	@Test
+	void missingModelShouldBeLeftToWro4j() {
+		final CountingModelFactory modelFactory = new CountingModelFactory("/missing.xml", null);
+
+		assertThatExceptionOfType(WroRuntimeException.class).isThrownBy(() -> create(modelFactory));
+	}
+
+	@Test
+	void precompiledSnapshotShouldBeUsed(@TempDir Path directory) throws IOException {
+		final CountingModelFactory modelFactory = new CountingModelFactory("/imports.xml", null);
+		final WroModel model = create(modelFactory);
+		final Path file = directory.resolve(SnapshottingXmlModelFactory.SNAPSHOT_FILE_NAME);
+		try (OutputStream out = Files.newOutputStream(file)) {
+			modelFactory.getSnapshot().write(out);
+		}
+
+		final CountingModelFactory restarted = new CountingModelFactory("/imports.xml", file.toUri().toString());
+		assertThat(create(restarted).getGroups()).isEqualTo(model.getGroups());
+		assertThat(restarted.parsedGroups).hasValue(0);
+		assertThat(restarted.getSnapshot()).isEqualTo(modelFactory.getSnapshot());
+	}
+
+	@Test
+	void outdatedSnapshotShouldBeIgnored(@TempDir Path directory) throws IOException {
+		final Path file = directory.resolve(SnapshottingXmlModelFactory.SNAPSHOT_FILE_NAME);
+		try (OutputStream out = Files.newOutputStream(file)) {
+			new SnapshottingXmlModelFactory.Snapshot("outdated", List.of()).write(out);
+		}
+
+		final CountingModelFactory modelFactory = new CountingModelFactory("/groups.xml", file.toUri().toString());
+		assertThat(new WroModelInspector(create(modelFactory)).getGroupNames()).containsExactly("app", "vendor");
+		assertThat(modelFactory.parsedGroups).hasValue(2);
+	}
+
+	@Test
+	void invalidOrMissingSnapshotsShouldBeIgnored(@TempDir Path directory) throws IOException {
+		final Path file = directory.resolve(SnapshottingXmlModelFactory.SNAPSHOT_FILE_NAME);
+		Files.writeString(file, "Not a snapshot");
+
+		for (Path location : List.of(file, directory.resolve("missing"))) {
+			final CountingModelFactory modelFactory = new CountingModelFactory("/groups.xml",
+					location.toUri().toString());
+			assertThat(new WroModelInspector(create(modelFactory)).getGroupNames()).containsExactly("app", "vendor");
+		}
+	}
+
+	@Test
+	void snapshotsShouldBeWrittenAndRead() throws IOException {
+		final CountingModelFactory modelFactory = new CountingModelFactory("/groups.xml", null);
+		create(modelFactory);
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		modelFactory.getSnapshot().write(out);
+		final SnapshottingXmlModelFactory.Snapshot snapshot = SnapshottingXmlModelFactory.Snapshot
+			.read(new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(snapshot).isEqualTo(modelFactory.getSnapshot());
+		assertThat(snapshot.toModel().getGroups()).extracting(Group::getName).containsExactly("app", "vendor");
+	}
+
+	@Test
+	void snapshotsShouldBeEnabledThroughProperties(@TempDir Path directory) throws IOException {
+		final CountingModelFactory modelFactory = new CountingModelFactory("/groups.xml", null);
+		create(modelFactory);
+		try (OutputStream out = Files
+			.newOutputStream(directory.resolve(SnapshottingXmlModelFactory.SNAPSHOT_FILE_NAME))) {
+			new SnapshottingXmlModelFactory.Snapshot(modelFactory.getSnapshot().hash(),
+					List.of(new SnapshottingXmlModelFactory.GroupDefinition("precompiled", List.of())))
+				.write(out);
+		}
+
+		final ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withPropertyValues("wro4j.model = /groups.xml", "wro4j.modelSnapshot.enabled = true");
+		applicationContextRunner.run(ctx -> {
+			assertThat(ctx).getBean(WroModelFactory.class).isExactlyInstanceOf(SnapshottingXmlModelFactory.class);
+			assertThat(new WroModelInspector(getModel(ctx)).getGroupNames()).containsExactly("app", "vendor");
+		});
+		applicationContextRunner.withPropertyValues("wro4j.precompiledLocation = " + directory.toUri())
+			.run(ctx -> assertThat(new WroModelInspector(getModel(ctx)).getGroupNames())
+				.containsExactly("precompiled"));
+	}
+
+	private static WroModel getModel(ApplicationContext applicationContext) {
+		return CacheWarmer.withContext(new WroConfiguration(),
+				() -> applicationContext.getBean(WroManagerFactory.class).create().getModelFactory().create());
+	}
+
+	private WroModel create(SnapshottingXmlModelFactory modelFactory) {
+		final BaseWroManagerFactory managerFactory = new BaseWroManagerFactory().setModelFactory(modelFactory)
+			.setUriLocatorFactory(this.uriLocatorFactory);
+		return CacheWarmer.withContext(new WroConfiguration(),
+				() -> managerFactory.create().getModelFactory().create());
+	}
+
+	static class CountingModelFactory extends SnapshottingXmlModelFactory {
+
+		private final AtomicInteger parsedGroups = new AtomicInteger();
+
+		CountingModelFactory(String xmlModelResource, String snapshotLocation) {
+			super(xmlModelResource, snapshotLocation, new DefaultResourceLoader());
+		}
+
+		@Override
+		protected Group createGroup(Element element) {
+			this.parsedGroups.incrementAndGet();
+			return super.createGroup(element);
+		}
+
+	}
+
+}
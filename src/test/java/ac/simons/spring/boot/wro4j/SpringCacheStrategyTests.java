@@ -25,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.event.ContextRefreshedEvent;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.times;
@@ -64,6 +65,16 @@ class SpringCacheStrategyTests {
 		Mockito.verify(this.cache, times(1)).put("foo", "bar");
 	}
 
+	@Test
+	void putOfNullShouldEvict() {
+		final SpringCacheStrategy<Object, Object> cacheStrategy = new SpringCacheStrategy<>(this.cacheManager,
+				CACHE_NAME);
+		cacheStrategy.put("foo", null);
+
+		Mockito.verify(this.cacheManager, times(1)).getCache(CACHE_NAME);
+		Mockito.verify(this.cache, times(1)).evict("foo");
+	}
+
 	@Test
 	void getShouldWork() {
 		Mockito.when(this.cache.get("foobar")).thenReturn(null);
@@ -75,7 +86,7 @@ class SpringCacheStrategyTests {
 		assertThat(cacheStrategy.get("foobar")).isNull();
 		assertThat(cacheStrategy.get("bazbar")).isEqualTo("bazbaz");
 
-		Mockito.verify(this.cacheManager, times(2)).getCache(CACHE_NAME);
+		Mockito.verify(this.cacheManager, times(1)).getCache(CACHE_NAME);
 		Mockito.verify(this.cache, times(1)).get("foobar");
 		Mockito.verify(this.cache, times(1)).get("bazbar");
 		Mockito.verifyNoMoreInteractions(this.cacheManager, this.cache);
@@ -88,8 +99,46 @@ class SpringCacheStrategyTests {
 		cacheStrategy.clear();
 		cacheStrategy.destroy();
 
-		Mockito.verify(this.cacheManager, times(2)).getCache(CACHE_NAME);
+		Mockito.verify(this.cacheManager, times(1)).getCache(CACHE_NAME);
 		Mockito.verify(this.cache, times(2)).clear();
 	}
 
+	@Test
+	void cacheShouldBeResolvedAgainAfterDestroy() {
+		final SpringCacheStrategy<Object, Object> cacheStrategy = new SpringCacheStrategy<>(this.cacheManager,
+				CACHE_NAME);
+		cacheStrategy.put("foo", "bar");
+		cacheStrategy.destroy();
+		cacheStrategy.put("foo", "bar");
+
+		Mockito.verify(this.cacheManager, times(2)).getCache(CACHE_NAME);
+		Mockito.verify(this.cache, times(2)).put("foo", "bar");
+		Mockito.verify(this.cache, times(1)).clear();
+	}
+
+	@Test
+	void cacheShouldBeResolvedAgainAfterRefresh() {
+		final SpringCacheStrategy<Object, Object> cacheStrategy = new SpringCacheStrategy<>(this.cacheManager,
+				CACHE_NAME);
+		cacheStrategy.put("foo", "bar");
+		cacheStrategy.onApplicationEvent(Mockito.mock(ContextRefreshedEvent.class));
+		cacheStrategy.put("foo", "bar");
+
+		Mockito.verify(this.cacheManager, times(2)).getCache(CACHE_NAME);
+		Mockito.verify(this.cache, times(2)).put("foo", "bar");
+	}
+
+	@Test
+	void missingCacheShouldBeResolvedAgain() {
+		Mockito.when(this.cacheManager.getCache(CACHE_NAME)).thenReturn(null);
+
+		final SpringCacheStrategy<Object, Object> cacheStrategy = new SpringCacheStrategy<>(this.cacheManager,
+				CACHE_NAME);
+		cacheStrategy.put("foo", "bar");
+		cacheStrategy.clear();
+		assertThat(cacheStrategy.get("foo")).isNull();
+
+		Mockito.verify(this.cacheManager, times(3)).getCache(CACHE_NAME);
+	}
+
 }
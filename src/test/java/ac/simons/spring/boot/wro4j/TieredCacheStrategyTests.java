@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class TieredCacheStrategyTests {
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS);
+
+	private final RemoteCacheManager cacheManager = new RemoteCacheManager();
+
+	private final TieredCacheStrategy cacheStrategy = new TieredCacheStrategy(
+			new WeightedMemoryCacheStrategy(1024, true), new SpringCacheStrategy<>(this.cacheManager, "wro4j"));
+
+	@BeforeEach
+	void setupContext() {
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+	}
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void localCacheShouldBeFilledOnRemoteHits() {
+		final CacheValue value = CacheValue.valueOf("var a;", "hash");
+		this.cacheManager.getCache("wro4j").put(KEY, value);
+
+		for (int i = 0; i < 10; ++i) {
+			assertThat(this.cacheStrategy.get(KEY)).isSameAs(value);
+		}
+		assertThat(this.cacheManager.gets).hasValue(1);
+	}
+
+	@Test
+	void missesShouldBeAnsweredRemote() {
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		assertThat(this.cacheManager.gets).hasValue(2);
+	}
+
+	@Test
+	void putShouldFillBothCaches() {
+		final CacheValue value = CacheValue.valueOf("var a;", "hash");
+		this.cacheStrategy.put(KEY, value);
+
+		assertThat(this.cacheStrategy.get(KEY)).isSameAs(value);
+		assertThat(this.cacheManager.gets).hasValue(0);
+		assertThat(this.cacheManager.getCache("wro4j").get(KEY)).isNotNull();
+	}
+
+	@Test
+	void clearAndDestroyShouldInvalidateBothCaches() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.clear();
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		assertThat(this.cacheManager.gets).hasValue(1);
+
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.destroy();
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		assertThat(this.cacheManager.gets).hasValue(2);
+	}
+
+	/**
+	 * Stands in for a remote cache by adding latency to and counting all reads.
+	 */
+	static class RemoteCacheManager extends ConcurrentMapCacheManager {
+
+		final AtomicInteger gets = new AtomicInteger();
+
+		@Override
+		protected Cache createConcurrentMapCache(String name) {
+			return new ConcurrentMapCache(name, new ConcurrentHashMap<>(), false) {
+				@Override
+				public ValueWrapper get(Object key) {
+					RemoteCacheManager.this.gets.incrementAndGet();
+					try {
+						Thread.sleep(5);
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					return super.get(key);
+				}
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class TrackingCacheStrategyTests {
+
+	private static final CacheKey KEY = new CacheKey("a", ResourceType.JS);
+
+	private final LruMemoryCacheStrategy<CacheKey, CacheValue> store = new LruMemoryCacheStrategy<>();
+
+	private final TrackingCacheStrategy cacheStrategy = new TrackingCacheStrategy(this.store, false);
+
+	@BeforeEach
+	void setupContext() {
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+	}
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void entriesShouldDescribeCachedValues() {
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.get(KEY);
+		this.cacheStrategy.get(KEY);
+
+		final TrackingCacheStrategy.Entry entry = this.cacheStrategy.getEntry(KEY);
+		assertThat(entry).isNotNull();
+		assertThat(entry.rawSize()).isEqualTo(6);
+		assertThat(entry.gzippedSize()).isNull();
+		assertThat(entry.computedAt()).isNotNull();
+		assertThat(entry.computeDuration()).isNotNull();
+		assertThat(entry.hits().sum()).isEqualTo(2);
+	}
+
+	@Test
+	void durationShouldOnlyBeKnownAfterMiss() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		assertThat(this.cacheStrategy.getEntry(KEY).computeDuration()).isNull();
+
+		assertThat(this.cacheStrategy.get(new CacheKey("b", ResourceType.JS))).isNull();
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		assertThat(this.cacheStrategy.getEntry(KEY).computeDuration()).isNull();
+	}
+
+	@Test
+	void gzippedSizeShouldBeTrackedIfCached() {
+		final TrackingCacheStrategy gzippingCacheStrategy = new TrackingCacheStrategy(this.store, true);
+		final CacheValue value = CacheValue.valueOf("var a;", "hash");
+		gzippingCacheStrategy.put(KEY, value);
+
+		assertThat(gzippingCacheStrategy.getEntry(KEY).gzippedSize()).isEqualTo(value.getGzippedContent().length);
+	}
+
+	@Test
+	void evictedValuesShouldNotBeDescribed() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.put(KEY, null);
+
+		assertThat(this.cacheStrategy.getEntry(KEY)).isNull();
+		assertThat(this.cacheStrategy.get(KEY)).isNull();
+		assertThat(this.store.get(KEY)).isNull();
+	}
+
+	@Test
+	void valuesMissingInTheDecoratedStrategyShouldNotBeDescribed() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.store.clear();
+
+		assertThat(this.cacheStrategy.getEntry(KEY)).isNull();
+		assertThat(this.cacheStrategy.getEntry(new CacheKey("b", ResourceType.JS))).isNull();
+	}
+
+	@Test
+	void clearAndDestroyShouldForgetEverything() {
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.clear();
+		assertThat(this.cacheStrategy.getEntry(KEY)).isNull();
+
+		this.cacheStrategy.put(KEY, CacheValue.valueOf("var a;", "hash"));
+		this.cacheStrategy.destroy();
+		assertThat(this.cacheStrategy.getEntry(KEY)).isNull();
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class WeightedMemoryCacheStrategyTests {
+
+	@BeforeEach
+	void setupContext() {
+		Context.set(Context.standaloneContext(), new WroConfiguration());
+	}
+
+	@AfterEach
+	void unsetContext() {
+		Context.unset();
+	}
+
+	@Test
+	void shouldBeConfiguredByDefault() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withPropertyValues("wro4j.cache.maxBytes = 1KB")
+			.run(ctx -> assertThat(ctx).getBean(CacheStrategy.class)
+				.isExactlyInstanceOf(WeightedMemoryCacheStrategy.class));
+	}
+
+	@Test
+	void shouldFallBackToWro4jsMemoryCacheWithoutCaffeine() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.withClassLoader(new FilteredClassLoader(Caffeine.class))
+			.withPropertyValues("wro4j.model = /groups.xml", "wro4j.memoization.enabled = true",
+					"wro4j.cache.gzipOnly.enabled = true", "wro4j.cache.gzipOnly.inflatedCopies = 1")
+			.run(ctx -> {
+				assertThat(ctx).hasNotFailed()
+					.getBean(CacheStrategy.class)
+					.isExactlyInstanceOf(LruMemoryCacheStrategy.class);
+				assertThat(ReflectionTestUtils.getField(ctx.getBean(BaseWroManagerFactory.class), "processorsFactory"))
+					.isNotInstanceOf(MemoizingProcessorsFactory.class);
+				assertThat(ReflectionTestUtils.getField(
+						ctx.getBean("gzipOnlyContentFilterRegistration", FilterRegistrationBean.class).getFilter(),
+						"inflatedCopies"))
+					.isNull();
+			});
+	}
+
+	@Test
+	void putGetAndClearShouldWork() {
+		final WeightedMemoryCacheStrategy cacheStrategy = new WeightedMemoryCacheStrategy(1024, true);
+		final CacheKey key = new CacheKey("a", ResourceType.JS);
+		final CacheValue value = CacheValue.valueOf("var a;", "hash");
+
+		assertThat(cacheStrategy.get(key)).isNull();
+		cacheStrategy.put(key, value);
+		assertThat(cacheStrategy.get(key)).isSameAs(value);
+		assertThat(cacheStrategy.getWeightedSize()).isEqualTo(WeightedMemoryCacheStrategy.weigh(value, true));
+		cacheStrategy.clear();
+		assertThat(cacheStrategy.get(key)).isNull();
+
+		cacheStrategy.put(key, value);
+		cacheStrategy.put(key, null);
+		assertThat(cacheStrategy.get(key)).isNull();
+
+		cacheStrategy.put(key, value);
+		cacheStrategy.destroy();
+		assertThat(cacheStrategy.getWeightedSize()).isZero();
+	}
+
+	@Test
+	void weightShouldIncludeGzippedContentOnlyIfCached() {
+		final CacheValue value = CacheValue.valueOf("body { margin: 0; }", "hash");
+
+		assertThat(WeightedMemoryCacheStrategy.weigh(value, false)).isEqualTo(19);
+		assertThat(WeightedMemoryCacheStrategy.weigh(value, true)).isEqualTo(19 + value.getGzippedContent().length);
+		assertThat(WeightedMemoryCacheStrategy.weigh(CacheValue.valueOf(null, null), false)).isZero();
+	}
+
+	@Test
+	void shouldBeBoundedByBytes() {
+		final WeightedMemoryCacheStrategy cacheStrategy = new WeightedMemoryCacheStrategy(1000, false);
+		for (int i = 0; i < 100; ++i) {
+			cacheStrategy.put(new CacheKey("g" + i, ResourceType.JS), CacheValue.valueOf("x".repeat(100), "hash"));
+		}
+		assertThat(cacheStrategy.getWeightedSize()).isLessThanOrEqualTo(1000);
+
+		final CacheKey large = new CacheKey("large", ResourceType.JS);
+		cacheStrategy.put(large, CacheValue.valueOf("x".repeat(1001), "hash"));
+		assertThat(cacheStrategy.getWeightedSize()).isLessThanOrEqualTo(1000);
+		assertThat(cacheStrategy.get(large)).isNull();
+	}
+
+}
@@ -21,7 +21,6 @@ import java.util.List;
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.Test;
 import ro.isdc.wro.cache.CacheStrategy;
-import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
 import ro.isdc.wro.cache.impl.NoCacheStrategy;
 import ro.isdc.wro.http.ConfigurableWroFilter;
 import ro.isdc.wro.http.WroFilter;
@@ -35,7 +34,7 @@ import ro.isdc.wro.model.resource.support.naming.DefaultHashEncoderNamingStrateg
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.cache.autoconfigure.CacheAutoConfiguration;
-import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -51,7 +50,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 class Wro4jAutoConfigurationIntegrationTests {
 
-	final ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+	final WebApplicationContextRunner applicationContextRunner = new WebApplicationContextRunner()
 		.withConfiguration(AutoConfigurations.of(CacheAutoConfiguration.class, Wro4jAutoConfiguration.class));
 
 	@Test
@@ -104,7 +103,7 @@ class Wro4jAutoConfigurationIntegrationTests {
 			.withPropertyValues("wro4j.preProcessors = ac.simons.spring.boot.wro4j.DefaultResourcePreProcessor")
 			.run(ctx -> {
 				assertThat(ctx).getBean(WroModelFactory.class).isExactlyInstanceOf(ConfigurableXmlModelFactory.class);
-				assertThat(ctx).getBean(CacheStrategy.class).isExactlyInstanceOf(LruMemoryCacheStrategy.class);
+				assertThat(ctx).getBean(CacheStrategy.class).isExactlyInstanceOf(WeightedMemoryCacheStrategy.class);
 				assertThat(ctx).getBean(WroManagerFactory.class).isExactlyInstanceOf(BaseWroManagerFactory.class);
 				assertThat(ctx).hasSingleBean(ConfigurableWroFilter.class)
 					.hasSingleBean(FilterRegistrationBean.class)
@@ -120,6 +119,71 @@ class Wro4jAutoConfigurationIntegrationTests {
 			.run(ctx -> assertThat(ctx).getBean(CacheStrategy.class).isExactlyInstanceOf(SpringCacheStrategy.class));
 	}
 
+	@Test
+	void localCacheShouldBeUsedInFrontOfSpringCache() {
+		this.applicationContextRunner.withUserConfiguration(ApplicationWithCacheManager.class)
+			.withPropertyValues("wro4j.cacheName = foobar", "wro4j.cache.local.enabled = true")
+			.run(ctx -> {
+				assertThat(ctx).getBean(CacheStrategy.class).isExactlyInstanceOf(SpringCacheStrategy.class);
+				Field cacheStrategyField = BaseWroManagerFactory.class.getDeclaredField("cacheStrategy");
+				cacheStrategyField.setAccessible(true);
+				Object cacheStrategy = ReflectionUtils.getField(cacheStrategyField,
+						ctx.getBean(WroManagerFactory.class));
+				assertThat(cacheStrategy).isInstanceOf(TieredCacheStrategy.class);
+			});
+	}
+
+	@Test
+	void localCacheShouldOnlyBeUsedInFrontOfSpringCache() {
+		this.applicationContextRunner.withPropertyValues("wro4j.cache.local.enabled = true").run(ctx -> {
+			Field cacheStrategyField = BaseWroManagerFactory.class.getDeclaredField("cacheStrategy");
+			cacheStrategyField.setAccessible(true);
+			Object cacheStrategy = ReflectionUtils.getField(cacheStrategyField, ctx.getBean(WroManagerFactory.class));
+			assertThat(cacheStrategy).isInstanceOf(WeightedMemoryCacheStrategy.class);
+		});
+	}
+
+	@Test
+	void precompiledLocationShouldDecorateCacheStrategy() {
+		this.applicationContextRunner.withPropertyValues("wro4j.precompiledLocation = classpath:/precompiled")
+			.run(ctx -> {
+				assertThat(ctx).getBean(CacheStrategy.class).isExactlyInstanceOf(WeightedMemoryCacheStrategy.class);
+				Field cacheStrategyField = BaseWroManagerFactory.class.getDeclaredField("cacheStrategy");
+				cacheStrategyField.setAccessible(true);
+				Object cacheStrategy = ReflectionUtils.getField(cacheStrategyField,
+						ctx.getBean(WroManagerFactory.class));
+				assertThat(cacheStrategy).isInstanceOf(PrecompiledCacheStrategy.class);
+			});
+	}
+
+	@Test
+	void coalescingShouldDecorateCacheStrategy() {
+		this.applicationContextRunner
+			.withPropertyValues("wro4j.precompiledLocation = classpath:/precompiled", "wro4j.coalescing.enabled = true")
+			.run(ctx -> {
+				Field cacheStrategyField = BaseWroManagerFactory.class.getDeclaredField("cacheStrategy");
+				cacheStrategyField.setAccessible(true);
+				Object cacheStrategy = ReflectionUtils.getField(cacheStrategyField,
+						ctx.getBean(WroManagerFactory.class));
+				assertThat(cacheStrategy).isInstanceOf(CoalescingCacheStrategy.class);
+				assertThat(((CoalescingCacheStrategy) cacheStrategy).getDecoratedObject())
+					.isInstanceOf(PrecompiledCacheStrategy.class);
+			});
+	}
+
+	@Test
+	void coalescingShouldNotBeUsedWithResourceWatcher() {
+		this.applicationContextRunner
+			.withPropertyValues("wro4j.coalescing.enabled = true", "wro4j.resourceWatcherUpdatePeriod = 1")
+			.run(ctx -> {
+				Field cacheStrategyField = BaseWroManagerFactory.class.getDeclaredField("cacheStrategy");
+				cacheStrategyField.setAccessible(true);
+				Object cacheStrategy = ReflectionUtils.getField(cacheStrategyField,
+						ctx.getBean(WroManagerFactory.class));
+				assertThat(cacheStrategy).isInstanceOf(WeightedMemoryCacheStrategy.class);
+			});
+	}
+
 	@Test
 	void shouldBeResourceAuthorizationManagerAware() {
 		this.applicationContextRunner.withUserConfiguration(ApplicationWithResourceAuthorizationManager.class)
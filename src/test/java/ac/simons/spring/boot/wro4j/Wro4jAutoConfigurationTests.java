@@ -21,10 +21,16 @@ import java.util.Optional;
 import java.util.Properties;
 
 import ac.simons.spring.boot.wro4j.Wro4jProperties.WroManagerFactoryProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
 import ro.isdc.wro.config.support.ConfigConstants;
 import ro.isdc.wro.http.ConfigurableWroFilter;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
 import ro.isdc.wro.manager.factory.WroManagerFactory;
 import ro.isdc.wro.model.resource.processor.decorator.ProcessorDecorator;
 import ro.isdc.wro.model.resource.processor.factory.ConfigurableProcessorsFactory;
@@ -35,7 +41,9 @@ import ro.isdc.wro.model.resource.processor.impl.js.JSMinProcessor;
 import ro.isdc.wro.model.resource.processor.impl.js.SemicolonAppenderPreProcessor;
 
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.ApplicationContext;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -105,8 +113,8 @@ class Wro4jAutoConfigurationTests {
 
 		final Wro4jAutoConfiguration wro4jAutoConfiguration = new Wro4jAutoConfiguration(this.applicationContext,
 				Optional.empty());
-		final ConfigurableWroFilter wroFilter = wro4jAutoConfiguration.wroFilter(wroManagerFactory,
-				new Wro4jProperties());
+		final ConfigurableWroFilter wroFilter = new Wro4jAutoConfiguration.ServletConfiguration()
+			.wroFilter(wroManagerFactory, wro4jAutoConfiguration, new Wro4jProperties());
 		assertThat(wroFilter.getWroManagerFactory()).isSameAs(wroManagerFactory);
 	}
 
@@ -165,12 +173,45 @@ class Wro4jAutoConfigurationTests {
 		assertThat(p.get(ConfigConstants.encoding.name())).isNull();
 	}
 
+	@Test
+	void cacheStrategyShouldBeDecoratedWithoutResourceWatcherPeriod() {
+		final Wro4jProperties wro4jProperties = new Wro4jProperties();
+		wro4jProperties.setResourceWatcherUpdatePeriod(null);
+		wro4jProperties.getAdmission().setEnabled(true);
+		wro4jProperties.getCoalescing().setEnabled(true);
+
+		final CacheStrategy<CacheKey, CacheValue> cacheStrategy = new Wro4jAutoConfiguration(this.applicationContext,
+				Optional.empty())
+			.decorateCacheStrategy(new LruMemoryCacheStrategy<>(), wro4jProperties, new BaseWroManagerFactory(), null,
+					null, null, null, null, null);
+		assertThat(cacheStrategy).isInstanceOf(CoalescingCacheStrategy.class);
+		assertThat(((CoalescingCacheStrategy) cacheStrategy).getDecoratedObject())
+			.isInstanceOf(AdmissionCacheStrategy.class);
+	}
+
+	@Test
+	void localCacheShouldNeedCaffeine() {
+		final Wro4jProperties wro4jProperties = new Wro4jProperties();
+		wro4jProperties.getCache().getLocal().setEnabled(true);
+		final SpringCacheStrategy<CacheKey, CacheValue> springCacheStrategy = new SpringCacheStrategy<>(
+				new ConcurrentMapCacheManager(), "wro4j");
+
+		given(this.applicationContext.getClassLoader()).willReturn(new FilteredClassLoader(Caffeine.class));
+		assertThat(new Wro4jAutoConfiguration(this.applicationContext, Optional.empty()).decorateCacheStrategy(
+				springCacheStrategy, wro4jProperties, new BaseWroManagerFactory(), null, null, null, null, null, null))
+			.isSameAs(springCacheStrategy);
+
+		given(this.applicationContext.getClassLoader()).willReturn(getClass().getClassLoader());
+		assertThat(new Wro4jAutoConfiguration(this.applicationContext, Optional.empty()).decorateCacheStrategy(
+				springCacheStrategy, wro4jProperties, new BaseWroManagerFactory(), null, null, null, null, null, null))
+			.isInstanceOf(TieredCacheStrategy.class);
+	}
+
 	@Test
 	void wro4jFilterRegistrationShouldWork() {
 		final ConfigurableWroFilter wroFilter = Mockito.mock(ConfigurableWroFilter.class);
 
-		final FilterRegistrationBean<?> filterRegistrationBean = new Wro4jAutoConfiguration(this.applicationContext,
-				Optional.empty())
+		final FilterRegistrationBean<?> filterRegistrationBean = new Wro4jAutoConfiguration.ServletConfiguration()
 			.wro4jFilterRegistration(wroFilter, new Wro4jProperties());
 		final Collection<String> urlPatterns = filterRegistrationBean.getUrlPatterns();
 		assertThat(urlPatterns).hasSize(1).first().isEqualTo("/wro4j/*");
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class Wro4jEndpointTests {
+
+	private final ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withPropertyValues("wro4j.model = /groups.xml", "management.endpoints.web.exposure.include = wro4j");
+
+	@Test
+	void shouldNotBeConfiguredIfNotExposed() {
+		new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> assertThat(ctx).hasNotFailed().doesNotHaveBean(Wro4jEndpoint.class));
+	}
+
+	@Test
+	void shouldNotBeConfiguredWithoutActuator() {
+		this.applicationContextRunner.withClassLoader(new FilteredClassLoader(Endpoint.class))
+			.run(ctx -> assertThat(ctx).hasNotFailed().doesNotHaveBean(Wro4jEndpoint.class));
+	}
+
+	@Test
+	void shouldListAllGroups() {
+		this.applicationContextRunner.run(ctx -> {
+			final Wro4jEndpoint endpoint = ctx.getBean(Wro4jEndpoint.class);
+			get(ctx, new CacheKey("app", ResourceType.JS, true));
+			get(ctx, new CacheKey("app", ResourceType.JS, true));
+
+			final Wro4jEndpoint.GroupsDescriptor groups = endpoint.groups();
+			assertThat(groups.groups()).containsOnlyKeys("app", "vendor");
+			assertThat(groups.deduplication()).isNull();
+			assertThat(groups.coalescing()).isNull();
+			assertThat(groups.groups().get("app").entries()).hasSize(4);
+			assertThat(groups.groups().get("vendor").entries()).hasSize(2)
+				.noneMatch(Wro4jEndpoint.CacheEntryDescriptor::cached);
+
+			final Wro4jEndpoint.CacheEntryDescriptor appJs = endpoint.group("app")
+				.entries()
+				.stream()
+				.filter(e -> e.type() == ResourceType.JS && e.minimize())
+				.findFirst()
+				.orElseThrow();
+			assertThat(appJs.cached()).isTrue();
+			assertThat(appJs.rawSize()).isPositive();
+			assertThat(appJs.gzippedSize()).isPositive();
+			assertThat(appJs.computedAt()).isNotNull();
+			assertThat(appJs.computeDuration()).isNotNull();
+			assertThat(appJs.hits()).isOne();
+
+			assertThat(endpoint.group("missing")).isNull();
+		});
+	}
+
+	@Test
+	void shouldEvictGroups() {
+		this.applicationContextRunner.run(ctx -> {
+			final Wro4jEndpoint endpoint = ctx.getBean(Wro4jEndpoint.class);
+			final CacheKey appJs = new CacheKey("app", ResourceType.JS, true);
+			final CacheValue value = get(ctx, appJs);
+			get(ctx, new CacheKey("vendor", ResourceType.JS, true));
+
+			assertThat(endpoint.evict("app").entries()).noneMatch(Wro4jEndpoint.CacheEntryDescriptor::cached);
+			assertThat(endpoint.group("vendor").entries().get(0).cached()).isTrue();
+			assertThat(get(ctx, appJs)).isNotSameAs(value);
+			assertThat(endpoint.evict("missing")).isNull();
+		});
+	}
+
+	@Test
+	void shouldWarmGroupsInTheBackground() {
+		this.applicationContextRunner.run(ctx -> {
+			final Wro4jEndpoint endpoint = ctx.getBean(Wro4jEndpoint.class);
+			final CacheKey appJs = new CacheKey("app", ResourceType.JS, true);
+			final CacheValue value = get(ctx, appJs);
+			get(ctx, new CacheKey("app", ResourceType.JS, false));
+
+			assertThat(endpoint.warm("app").entries()).hasSize(4);
+			endpoint.warmInBackground(List.of(appJs, new CacheKey("app", ResourceType.JS, false)))
+				.get(10, TimeUnit.SECONDS);
+
+			final List<Wro4jEndpoint.CacheEntryDescriptor> entries = endpoint.group("app").entries();
+			assertThat(entries).filteredOn(Wro4jEndpoint.CacheEntryDescriptor::minimize)
+				.allMatch(Wro4jEndpoint.CacheEntryDescriptor::cached);
+			assertThat(entries).filteredOn(e -> !e.minimize()).noneMatch(Wro4jEndpoint.CacheEntryDescriptor::cached);
+			final CacheValue recomputed = get(ctx, appJs);
+			assertThat(recomputed).isNotSameAs(value);
+			assertThat(recomputed.getRawContent()).isEqualTo(value.getRawContent());
+			assertThat(endpoint.warm("missing")).isNull();
+		});
+	}
+
+	@Test
+	void shouldWorkWithCustomManagerFactories() {
+		this.applicationContextRunner
+			.withBean(WroManagerFactory.class, () -> CacheWarmerTests
+				.managerFactory(CacheWarmerTests.model("a", "classpath:assets/app.js"), new LruMemoryCacheStrategy<>()))
+			.run(ctx -> {
+				final Wro4jEndpoint endpoint = ctx.getBean(Wro4jEndpoint.class);
+				final CacheKey a = new CacheKey("a", ResourceType.JS, true);
+				final CacheValue value = get(ctx, a);
+				assertThat(endpoint.groups().groups()).containsOnlyKeys("a");
+				assertThat(endpoint.evict("a").entries()).noneMatch(Wro4jEndpoint.CacheEntryDescriptor::cached);
+				assertThat(get(ctx, a)).isNotSameAs(value);
+				endpoint.warmInBackground(List.of(new CacheKey("a", ResourceType.JS, true))).get(10, TimeUnit.SECONDS);
+			});
+	}
+
+	@Test
+	void shouldRewriteUrlsInStylesheets() {
+		final LruMemoryCacheStrategy<CacheKey, CacheValue> cacheStrategy = new LruMemoryCacheStrategy<>();
+		this.applicationContextRunner
+			.withBean(WroManagerFactory.class,
+					() -> CacheWarmerTests.managerFactory(CacheWarmerTests.model("a", "classpath:assets/images.css"),
+							cacheStrategy))
+			.run(ctx -> {
+				final CacheKey a = new CacheKey("a", ResourceType.CSS, true);
+				ctx.getBean(Wro4jEndpoint.class).warmInBackground(List.of(a)).get(10, TimeUnit.SECONDS);
+				assertThat(cacheStrategy.get(a).getRawContent())
+					.contains("url(/wro4j/a.css?wroAPI=wroResources&id=classpath:assets/img/x.png)");
+			});
+	}
+
+	private static CacheValue get(ApplicationContext ctx, CacheKey cacheKey) {
+		final WroConfiguration wroConfiguration = ctx.getBean(Wro4jAutoConfiguration.class)
+			.wroConfiguration(ctx.getBean(Wro4jProperties.class));
+		final CacheStrategy<CacheKey, CacheValue> cacheStrategy = CacheWarmer.withContext(wroConfiguration,
+				() -> ctx.getBean(WroManagerFactory.class).create().getCacheStrategy());
+		return CacheWarmer.withContext(wroConfiguration, () -> cacheStrategy.get(cacheKey));
+	}
+
+}
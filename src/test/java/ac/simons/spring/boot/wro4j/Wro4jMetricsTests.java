@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.processor.ResourcePostProcessor;
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.decorator.ProcessorDecorator;
+import ro.isdc.wro.model.resource.processor.factory.SimpleProcessorsFactory;
+import ro.isdc.wro.model.resource.processor.impl.css.CssMinProcessor;
+import ro.isdc.wro.model.resource.processor.impl.js.JSMinProcessor;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class Wro4jMetricsTests {
+
+	private final ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withPropertyValues("wro4j.model = /groups.xml");
+
+	@Test
+	void shouldNotBeConfiguredWithoutMeterRegistry() {
+		this.applicationContextRunner.run(ctx -> assertThat(ctx).hasNotFailed().doesNotHaveBean(Wro4jMetrics.class));
+	}
+
+	@Test
+	void shouldNotBeConfiguredWithoutMicrometer() {
+		this.applicationContextRunner.withClassLoader(new FilteredClassLoader(MeterRegistry.class))
+			.run(ctx -> assertThat(ctx).hasNotFailed().doesNotHaveBean(Wro4jMetrics.class));
+	}
+
+	@Test
+	void shouldInstrumentCacheStrategyAndProcessors() {
+		this.applicationContextRunner.withBean(SimpleMeterRegistry.class)
+			.withPropertyValues("wro4j.warmup.enabled = true")
+			.run(ctx -> {
+				assertThat(ctx).hasSingleBean(Wro4jMetrics.class);
+				final WroManagerFactory wroManagerFactory = ctx.getBean(WroManagerFactory.class);
+				assertThat(ReflectionTestUtils.getField(wroManagerFactory, BaseWroManagerFactory.class,
+						"processorsFactory"))
+					.isInstanceOf(MeteredProcessorsFactory.class);
+				assertThat(
+						ReflectionTestUtils.getField(wroManagerFactory, BaseWroManagerFactory.class, "cacheStrategy"))
+					.isInstanceOf(MeteredCacheStrategy.class);
+
+				assertThat(ctx.getBean(CacheWarmer.class).warmUp()).hasSize(3);
+				CacheWarmer.withContext(new WroConfiguration(),
+						() -> wroManagerFactory.create().getCacheStrategy().get(new CacheKey("app", ResourceType.JS)));
+
+				final MeterRegistry meterRegistry = ctx.getBean(MeterRegistry.class);
+				assertThat(meterRegistry.get("wro4j.cache.gets")
+					.tags("group", "app", "type", "JS", "result", "hit")
+					.counter()
+					.count()).isOne();
+				assertThat(meterRegistry.get("wro4j.group.processing").timers()).hasSize(3);
+				assertThat(meterRegistry.get("wro4j.processor").tag("group", "vendor").timers()).isNotEmpty();
+				assertThat(meterRegistry.get("wro4j.cache.size").gauge().value()).isPositive();
+			});
+	}
+
+	@Test
+	void processorsShouldKeepTheirTraits() {
+		final SimpleProcessorsFactory processorsFactory = new SimpleProcessorsFactory();
+		processorsFactory.addPreProcessor(new CssMinProcessor());
+		processorsFactory.addPostProcessor(new JSMinProcessor());
+		final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		final MeteredProcessorsFactory meteredProcessorsFactory = new MeteredProcessorsFactory(processorsFactory,
+				new Wro4jMetrics(meterRegistry));
+
+		final List<ResourcePreProcessor> preProcessors = List.copyOf(meteredProcessorsFactory.getPreProcessors());
+		assertThat(preProcessors).hasSize(1);
+		assertThat(new ProcessorDecorator(preProcessors.get(0)).isEligible(true, ResourceType.CSS)).isTrue();
+		assertThat(new ProcessorDecorator(preProcessors.get(0)).isEligible(true, ResourceType.JS)).isFalse();
+
+		final List<ResourcePostProcessor> postProcessors = List.copyOf(meteredProcessorsFactory.getPostProcessors());
+		assertThat(postProcessors).hasSize(1);
+		assertThat(new ProcessorDecorator(postProcessors.get(0)).isEligible(false, ResourceType.JS)).isFalse();
+	}
+
+	@Test
+	void processorsShouldBeTimed() throws Exception {
+		final SimpleProcessorsFactory processorsFactory = new SimpleProcessorsFactory();
+		processorsFactory.addPostProcessor(new JSMinProcessor());
+		final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		final Wro4jMetrics metrics = new Wro4jMetrics(meterRegistry);
+
+		final StringWriter writer = new StringWriter();
+		metrics.startProcessing(new CacheKey("a", ResourceType.JS), "a");
+		new MeteredProcessorsFactory(processorsFactory, metrics).getPostProcessors()
+			.iterator()
+			.next()
+			.process(new StringReader("var  a = 1;"), writer);
+		metrics.cancelProcessing();
+
+		assertThat(writer.toString()).contains("var a=1;");
+		assertThat(meterRegistry.get("wro4j.processor")
+			.tags("processor", "JSMinProcessor", "phase", "post", "group", "a")
+			.timer()
+			.count()).isOne();
+	}
+
+	@Test
+	void processorNamesShouldNotBeEmpty() {
+		assertThat(MeteredProcessorsFactory.getName(new JSMinProcessor())).isEqualTo("JSMinProcessor");
+		assertThat(MeteredProcessorsFactory.getName(new ProcessorDecorator(new JSMinProcessor())))
+			.isEqualTo("JSMinProcessor");
+		assertThat(MeteredProcessorsFactory.getName(new ResourcePreProcessor() {
+			@Override
+			public void process(Resource resource, Reader reader, Writer writer) {
+			}
+		})).startsWith(Wro4jMetricsTests.class.getName() + "$");
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.cache.impl.NoCacheStrategy;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.factory.WroModelFactory;
+
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class Wro4jPrecompilerTests {
+
+	@Test
+	void shouldPrecompileAllGroups(@TempDir Path outputDirectory) throws IOException {
+		final Wro4jPrecompiler precompiler = new Wro4jPrecompiler(CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("a", "classpath:assets/app.css"), new LruMemoryCacheStrategy<>()),
+				new WroConfiguration(), CacheWarmerTests.GROUP_REQUESTS);
+
+		final Path target = outputDirectory.resolve("wro4j");
+		assertThat(precompiler.precompile(target)).containsExactly(target.resolve("a.css"));
+		assertThat(target.resolve("a.css")).content().contains("margin:0");
+	}
+
+	@Test
+	void shouldRewriteUrlsInStylesheets(@TempDir Path outputDirectory) throws IOException {
+		Wro4jPrecompiler.main(outputDirectory.toString(), "--wro4j.model=/images.xml",
+				"--server.servlet.context-path=/ctx");
+
+		assertThat(outputDirectory.resolve("images.css")).content()
+			.contains("url(/ctx/wro4j/images.css?wroAPI=wroResources&id=classpath:assets/img/x.png)");
+	}
+
+	@Test
+	void mainShouldUseTheApplicationConfiguration(@TempDir Path outputDirectory) throws IOException {
+		Wro4jPrecompiler.main(outputDirectory.toString(), "--wro4j.model=/groups.xml");
+
+		assertThat(outputDirectory.resolve("app.js")).content().contains("function hello");
+		assertThat(outputDirectory.resolve("app.css")).exists();
+		assertThat(outputDirectory.resolve("vendor.js")).content().contains("var vendor");
+		try (var files = Files.list(outputDirectory)) {
+			assertThat(files).hasSize(3);
+		}
+	}
+
+	@Test
+	void snapshotOfTheModelShouldBeWritten(@TempDir Path outputDirectory) throws IOException {
+		Wro4jPrecompiler.main(outputDirectory.toString(), "--wro4j.model=/groups.xml",
+				"--wro4j.model-snapshot.enabled=true");
+
+		try (InputStream in = Files
+			.newInputStream(outputDirectory.resolve(SnapshottingXmlModelFactory.SNAPSHOT_FILE_NAME))) {
+			assertThat(SnapshottingXmlModelFactory.Snapshot.read(in).groups())
+				.extracting(SnapshottingXmlModelFactory.GroupDefinition::name)
+				.containsExactly("app", "vendor");
+		}
+	}
+
+	@Test
+	void groupsStoredGzipOnlyShouldBeInflated(@TempDir Path outputDirectory) throws IOException {
+		Wro4jPrecompiler.main(outputDirectory.toString(), "--wro4j.model=/groups.xml",
+				"--wro4j.cache.gzip-only.enabled=true");
+
+		assertThat(outputDirectory.resolve("app.js")).content().contains("function hello");
+	}
+
+	@Test
+	void groupsWithoutContentShouldBeSkipped(@TempDir Path outputDirectory) throws IOException {
+		final WroManagerFactory wroManagerFactory = CacheWarmerTests
+			.managerFactory(CacheWarmerTests.model("a", "classpath:assets/app.css"), new LruMemoryCacheStrategy<>());
+		final WroManager wroManager = CacheWarmer.withContext(new WroConfiguration(),
+				() -> spy(wroManagerFactory.create()));
+		given(wroManager.getCacheStrategy()).willReturn(new NoCacheStrategy<>());
+		final WroManagerFactory emptyManagerFactory = mock(WroManagerFactory.class);
+		given(emptyManagerFactory.create()).willReturn(wroManager);
+
+		final Wro4jPrecompiler precompiler = new Wro4jPrecompiler(emptyManagerFactory, new WroConfiguration(),
+				CacheWarmerTests.GROUP_REQUESTS);
+		assertThat(precompiler.precompile(outputDirectory)).isEmpty();
+	}
+
+	@Test
+	void mainShouldUseTheApplicationClass(@TempDir Path outputDirectory) throws IOException {
+		Wro4jPrecompiler.main(outputDirectory.toString(), Application.class.getName());
+
+		assertThat(outputDirectory.resolve("custom.css")).content().contains("margin:0");
+		try (var files = Files.list(outputDirectory)) {
+			assertThat(files).hasSize(1);
+		}
+	}
+
+	@Test
+	void mainShouldRequireExistingApplicationClass(@TempDir Path outputDirectory) {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> Wro4jPrecompiler.main(outputDirectory.toString(), "com.example.Missing"))
+			.withMessage("Application class com.example.Missing not found");
+	}
+
+	@Test
+	void mainShouldRequireOutputDirectory() {
+		assertThatIllegalArgumentException().isThrownBy(Wro4jPrecompiler::main).withMessageStartingWith("Usage");
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableAutoConfiguration
+	static class Application {
+
+		@Bean
+		WroModelFactory wroModelFactory() {
+			final WroModel model = CacheWarmerTests.model("custom", "classpath:assets/app.css");
+			return new WroModelFactory() {
+				@Override
+				public WroModel create() {
+					return model;
+				}
+
+				@Override
+				public void destroy() {
+				}
+			};
+		}
+
+	}
+
+}
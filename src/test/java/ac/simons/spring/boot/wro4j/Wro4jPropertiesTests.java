@@ -15,13 +15,37 @@
  */
 package ac.simons.spring.boot.wro4j;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Admission;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Cache;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Cache.Deduplication;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Cache.GzipOnly;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Cache.Local;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Cache.Revalidation;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Coalescing;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.ContentEncoding;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.FileWatcher;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Fingerprint;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Memoization;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.ModelReload;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.ModelSnapshot;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.NotModified;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.OffHeap;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.PreprocessingExecutor;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Reactive;
+import ac.simons.spring.boot.wro4j.Wro4jProperties.Warmup;
 import ac.simons.spring.boot.wro4j.Wro4jProperties.WroManagerFactoryProperties;
 import org.junit.jupiter.api.Test;
 import ro.isdc.wro.model.resource.processor.ResourcePostProcessor;
 import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.PlaceholderProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssDataUriPreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssUrlRewritingProcessor;
+
+import org.springframework.util.unit.DataSize;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -57,6 +81,19 @@ class Wro4jPropertiesTests {
 		assertThat(properties.getPreProcessors()).isNull();
 		assertThat(properties.getPostProcessors()).isNull();
 		assertThat(properties.getCacheName()).isNull();
+		assertThat(properties.getPrecompiledLocation()).isNull();
+		assertThat(properties.getCache()).isNotNull();
+		assertThat(properties.getCoalescing()).isNotNull();
+		assertThat(properties.getAdmission()).isNotNull();
+		assertThat(properties.getModelReload()).isNotNull();
+		assertThat(properties.getModelSnapshot()).isNotNull();
+		assertThat(properties.getWarmup()).isNotNull();
+		assertThat(properties.getContentEncoding()).isNotNull();
+		assertThat(properties.getFingerprint()).isNotNull();
+		assertThat(properties.getNotModified()).isNotNull();
+		assertThat(properties.getFileWatcher()).isNotNull();
+		assertThat(properties.getMemoization()).isNotNull();
+		assertThat(properties.getOffHeap()).isNotNull();
 	}
 
 	@Test
@@ -89,6 +126,27 @@ class Wro4jPropertiesTests {
 		final List<Class<? extends ResourcePostProcessor>> postProcessors = new ArrayList<>();
 		properties.setPostProcessors(postProcessors);
 		properties.setCacheName("super-duper-cache");
+		properties.setPrecompiledLocation("classpath:/wro4j/");
+		final Cache cache = new Cache();
+		properties.setCache(cache);
+		final Coalescing coalescing = new Coalescing();
+		properties.setCoalescing(coalescing);
+		final Admission admission = new Admission();
+		properties.setAdmission(admission);
+		final ModelReload modelReload = new ModelReload();
+		properties.setModelReload(modelReload);
+		final ModelSnapshot modelSnapshot = new ModelSnapshot();
+		properties.setModelSnapshot(modelSnapshot);
+		final Warmup warmup = new Warmup();
+		properties.setWarmup(warmup);
+		final ContentEncoding contentEncoding = new ContentEncoding();
+		properties.setContentEncoding(contentEncoding);
+		final Fingerprint fingerprint = new Fingerprint();
+		properties.setFingerprint(fingerprint);
+		final NotModified notModified = new NotModified();
+		properties.setNotModified(notModified);
+		final FileWatcher fileWatcher = new FileWatcher();
+		properties.setFileWatcher(fileWatcher);
 
 		assertThat(properties.isDebug()).isFalse();
 		assertThat(properties.isMinimizeEnabled()).isFalse();
@@ -113,6 +171,26 @@ class Wro4jPropertiesTests {
 		assertThat(properties.getPreProcessors()).isEqualTo(preProcessors);
 		assertThat(properties.getPostProcessors()).isEqualTo(postProcessors);
 		assertThat(properties.getCacheName()).isEqualTo("super-duper-cache");
+		assertThat(properties.getPrecompiledLocation()).isEqualTo("classpath:/wro4j/");
+		assertThat(properties.getCache()).isEqualTo(cache);
+		assertThat(properties.getCoalescing()).isEqualTo(coalescing);
+		assertThat(properties.getAdmission()).isEqualTo(admission);
+		assertThat(properties.getModelReload()).isEqualTo(modelReload);
+		assertThat(properties.getModelSnapshot()).isEqualTo(modelSnapshot);
+		assertThat(properties.getWarmup()).isEqualTo(warmup);
+		assertThat(properties.getContentEncoding()).isEqualTo(contentEncoding);
+		assertThat(properties.getFingerprint()).isEqualTo(fingerprint);
+		assertThat(properties.getNotModified()).isEqualTo(notModified);
+		assertThat(properties.getFileWatcher()).isEqualTo(fileWatcher);
+		final Memoization memoization = new Memoization();
+		properties.setMemoization(memoization);
+		assertThat(properties.getMemoization()).isEqualTo(memoization);
+		final OffHeap offHeap = new OffHeap();
+		properties.setOffHeap(offHeap);
+		assertThat(properties.getOffHeap()).isEqualTo(offHeap);
+		final Reactive reactive = new Reactive();
+		properties.setReactive(reactive);
+		assertThat(properties.getReactive()).isEqualTo(reactive);
 	}
 
 	@Test
@@ -126,4 +204,222 @@ class Wro4jPropertiesTests {
 		assertThat(wroManagerFactoryProperties.getPostProcessors()).isEqualTo("postProcessors");
 	}
 
+	@Test
+	void warmupPropertiesBeanShouldWork() {
+		final Warmup warmup = new Warmup();
+		assertThat(warmup.isEnabled()).isFalse();
+		assertThat(warmup.getParallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+		warmup.setEnabled(true);
+		warmup.setParallelism(2);
+		assertThat(warmup.isEnabled()).isTrue();
+		assertThat(warmup.getParallelism()).isEqualTo(2);
+	}
+
+	@Test
+	void cachePropertiesBeanShouldWork() {
+		final Cache cache = new Cache();
+		assertThat(cache.getMaxBytes()).isEqualTo(DataSize.ofMegabytes(64));
+		assertThat(cache.getLocal()).isNotNull();
+		cache.setMaxBytes(DataSize.ofKilobytes(1));
+		final Local local = new Local();
+		cache.setLocal(local);
+		assertThat(cache.getMaxBytes()).isEqualTo(DataSize.ofKilobytes(1));
+		assertThat(cache.getLocal()).isEqualTo(local);
+		assertThat(cache.getGzipOnly()).isNotNull();
+		final GzipOnly gzipOnly = new GzipOnly();
+		cache.setGzipOnly(gzipOnly);
+		assertThat(cache.getGzipOnly()).isEqualTo(gzipOnly);
+		assertThat(cache.getDeduplication()).isNotNull();
+		final Deduplication deduplication = new Deduplication();
+		cache.setDeduplication(deduplication);
+		assertThat(cache.getDeduplication()).isEqualTo(deduplication);
+		assertThat(cache.getRevalidation()).isNotNull();
+		final Revalidation revalidation = new Revalidation();
+		cache.setRevalidation(revalidation);
+		assertThat(cache.getRevalidation()).isEqualTo(revalidation);
+	}
+
+	@Test
+	void gzipOnlyPropertiesBeanShouldWork() {
+		final GzipOnly gzipOnly = new GzipOnly();
+		assertThat(gzipOnly.isEnabled()).isFalse();
+		assertThat(gzipOnly.getInflatedCopies()).isZero();
+		gzipOnly.setEnabled(true);
+		gzipOnly.setInflatedCopies(4);
+		assertThat(gzipOnly.isEnabled()).isTrue();
+		assertThat(gzipOnly.getInflatedCopies()).isEqualTo(4);
+	}
+
+	@Test
+	void deduplicationPropertiesBeanShouldWork() {
+		final Deduplication deduplication = new Deduplication();
+		assertThat(deduplication.isEnabled()).isFalse();
+		deduplication.setEnabled(true);
+		assertThat(deduplication.isEnabled()).isTrue();
+	}
+
+	@Test
+	void revalidationPropertiesBeanShouldWork() {
+		final Revalidation revalidation = new Revalidation();
+		assertThat(revalidation.isEnabled()).isFalse();
+		assertThat(revalidation.getMaxStaleness()).isEqualTo(Duration.ofMinutes(5));
+		revalidation.setEnabled(true);
+		revalidation.setMaxStaleness(Duration.ofSeconds(1));
+		assertThat(revalidation.isEnabled()).isTrue();
+		assertThat(revalidation.getMaxStaleness()).isEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void reactivePropertiesBeanShouldWork() {
+		final Reactive reactive = new Reactive();
+		assertThat(reactive.getMaxThreads()).isEqualTo(Runtime.getRuntime().availableProcessors());
+		assertThat(reactive.getMaxQueuedTasks()).isEqualTo(100_000);
+		reactive.setMaxThreads(2);
+		reactive.setMaxQueuedTasks(10);
+		assertThat(reactive.getMaxThreads()).isEqualTo(2);
+		assertThat(reactive.getMaxQueuedTasks()).isEqualTo(10);
+	}
+
+	@Test
+	void preprocessingExecutorPropertiesBeanShouldWork() {
+		final PreprocessingExecutor preprocessingExecutor = new PreprocessingExecutor();
+		assertThat(preprocessingExecutor.isVirtualThreads()).isTrue();
+		assertThat(preprocessingExecutor.getMaxThreads()).isEqualTo(Runtime.getRuntime().availableProcessors());
+		preprocessingExecutor.setVirtualThreads(false);
+		preprocessingExecutor.setMaxThreads(2);
+		assertThat(preprocessingExecutor.isVirtualThreads()).isFalse();
+		assertThat(preprocessingExecutor.getMaxThreads()).isEqualTo(2);
+	}
+
+	@Test
+	void localCachePropertiesBeanShouldWork() {
+		final Local local = new Local();
+		assertThat(local.isEnabled()).isFalse();
+		assertThat(local.getMaxBytes()).isEqualTo(DataSize.ofMegabytes(16));
+		local.setEnabled(true);
+		local.setMaxBytes(DataSize.ofKilobytes(1));
+		assertThat(local.isEnabled()).isTrue();
+		assertThat(local.getMaxBytes()).isEqualTo(DataSize.ofKilobytes(1));
+	}
+
+	@Test
+	void coalescingPropertiesBeanShouldWork() {
+		final Coalescing coalescing = new Coalescing();
+		assertThat(coalescing.isEnabled()).isFalse();
+		assertThat(coalescing.getTimeout()).isEqualTo(Duration.ofSeconds(30));
+		coalescing.setEnabled(true);
+		coalescing.setTimeout(Duration.ofSeconds(5));
+		assertThat(coalescing.isEnabled()).isTrue();
+		assertThat(coalescing.getTimeout()).isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void admissionPropertiesBeanShouldWork() {
+		final Admission admission = new Admission();
+		assertThat(admission.isEnabled()).isFalse();
+		assertThat(admission.getMaxConcurrency()).isEqualTo(Runtime.getRuntime().availableProcessors());
+		assertThat(admission.getMaxQueued()).isEqualTo(100);
+		assertThat(admission.getMaxWait()).isEqualTo(Duration.ofSeconds(10));
+		assertThat(admission.getRetryAfter()).isEqualTo(Duration.ofSeconds(5));
+		admission.setEnabled(true);
+		admission.setMaxConcurrency(2);
+		admission.setMaxQueued(10);
+		admission.setMaxWait(Duration.ofSeconds(1));
+		admission.setRetryAfter(Duration.ofSeconds(2));
+		assertThat(admission.isEnabled()).isTrue();
+		assertThat(admission.getMaxConcurrency()).isEqualTo(2);
+		assertThat(admission.getMaxQueued()).isEqualTo(10);
+		assertThat(admission.getMaxWait()).isEqualTo(Duration.ofSeconds(1));
+		assertThat(admission.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+	}
+
+	@Test
+	void modelReloadPropertiesBeanShouldWork() {
+		final ModelReload modelReload = new ModelReload();
+		assertThat(modelReload.isEnabled()).isFalse();
+		modelReload.setEnabled(true);
+		assertThat(modelReload.isEnabled()).isTrue();
+	}
+
+	@Test
+	void modelSnapshotPropertiesBeanShouldWork() {
+		final ModelSnapshot modelSnapshot = new ModelSnapshot();
+		assertThat(modelSnapshot.isEnabled()).isFalse();
+		modelSnapshot.setEnabled(true);
+		assertThat(modelSnapshot.isEnabled()).isTrue();
+	}
+
+	@Test
+	void contentEncodingPropertiesBeanShouldWork() {
+		final ContentEncoding contentEncoding = new ContentEncoding();
+		assertThat(contentEncoding.isEnabled()).isFalse();
+		assertThat(contentEncoding.getEncodings()).containsExactly("br", "zstd");
+		assertThat(contentEncoding.getBrotliQuality()).isEqualTo(11);
+		assertThat(contentEncoding.getZstdLevel()).isEqualTo(19);
+		contentEncoding.setEnabled(true);
+		contentEncoding.setEncodings(List.of("zstd"));
+		contentEncoding.setBrotliQuality(4);
+		contentEncoding.setZstdLevel(3);
+		assertThat(contentEncoding.isEnabled()).isTrue();
+		assertThat(contentEncoding.getEncodings()).containsExactly("zstd");
+		assertThat(contentEncoding.getBrotliQuality()).isEqualTo(4);
+		assertThat(contentEncoding.getZstdLevel()).isEqualTo(3);
+	}
+
+	@Test
+	void fingerprintPropertiesBeanShouldWork() {
+		final Fingerprint fingerprint = new Fingerprint();
+		assertThat(fingerprint.isEnabled()).isFalse();
+		assertThat(fingerprint.getMaxAge()).isEqualTo(Duration.ofDays(365));
+		assertThat(fingerprint.getGracePeriod()).isEqualTo(Duration.ofMinutes(10));
+		fingerprint.setEnabled(true);
+		fingerprint.setMaxAge(Duration.ofDays(1));
+		fingerprint.setGracePeriod(Duration.ofMinutes(1));
+		assertThat(fingerprint.isEnabled()).isTrue();
+		assertThat(fingerprint.getMaxAge()).isEqualTo(Duration.ofDays(1));
+		assertThat(fingerprint.getGracePeriod()).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	@Test
+	void notModifiedPropertiesBeanShouldWork() {
+		final NotModified notModified = new NotModified();
+		assertThat(notModified.isEnabled()).isFalse();
+		notModified.setEnabled(true);
+		assertThat(notModified.isEnabled()).isTrue();
+	}
+
+	@Test
+	void fileWatcherPropertiesBeanShouldWork() {
+		final FileWatcher fileWatcher = new FileWatcher();
+		assertThat(fileWatcher.isEnabled()).isFalse();
+		fileWatcher.setEnabled(true);
+		assertThat(fileWatcher.isEnabled()).isTrue();
+	}
+
+	@Test
+	void memoizationPropertiesBeanShouldWork() {
+		final Memoization memoization = new Memoization();
+		assertThat(memoization.isEnabled()).isFalse();
+		assertThat(memoization.getExcludedProcessors()).containsExactly(CssDataUriPreProcessor.class,
+				CssUrlRewritingProcessor.class, PlaceholderProcessor.class);
+		assertThat(memoization.getMaxBytes()).isEqualTo(DataSize.ofMegabytes(16));
+		memoization.setEnabled(true);
+		memoization.setExcludedProcessors(List.of());
+		memoization.setMaxBytes(DataSize.ofKilobytes(1));
+		assertThat(memoization.isEnabled()).isTrue();
+		assertThat(memoization.getExcludedProcessors()).isEmpty();
+		assertThat(memoization.getMaxBytes()).isEqualTo(DataSize.ofKilobytes(1));
+	}
+
+	@Test
+	void offHeapPropertiesBeanShouldWork() {
+		final OffHeap offHeap = new OffHeap();
+		assertThat(offHeap.isEnabled()).isFalse();
+		assertThat(offHeap.getThreshold()).isEqualTo(DataSize.ofKilobytes(256));
+		offHeap.setEnabled(true);
+		offHeap.setThreshold(DataSize.ofMegabytes(1));
+		assertThat(offHeap.isEnabled()).isTrue();
+		assertThat(offHeap.getThreshold()).isEqualTo(DataSize.ofMegabytes(1));
+	}
+
 }
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ac.simons.spring.boot.wro4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.ConfigurableWroFilter;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.support.MutableResourceAuthorizationManager;
+import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ * @since 2026-10-17
+ */
+class Wro4jWebFilterTests {
+
+	private final ReactiveWebApplicationContextRunner applicationContextRunner = new ReactiveWebApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+		.withPropertyValues("wro4j.model = /groups.xml");
+
+	@Test
+	void shouldOnlyBeConfiguredInReactiveApplications() {
+		new WebApplicationContextRunner().withConfiguration(AutoConfigurations.of(Wro4jAutoConfiguration.class))
+			.run(ctx -> {
+				assertThat(ctx).doesNotHaveBean(Wro4jWebFilter.class);
+				assertThat(ctx).doesNotHaveBean(Wro4jAutoConfiguration.PROCESSING_SCHEDULER);
+				assertThat(ctx).hasSingleBean(ConfigurableWroFilter.class);
+			});
+		this.applicationContextRunner.run(ctx -> {
+			assertThat(ctx).hasSingleBean(Wro4jWebFilter.class);
+			assertThat(ctx).hasSingleBean(Scheduler.class);
+			assertThat(ctx).doesNotHaveBean(ConfigurableWroFilter.class);
+			assertThat(ctx).doesNotHaveBean(FilterRegistrationBean.class);
+		});
+		final Scheduler scheduler = Schedulers.newSingle("test");
+		this.applicationContextRunner
+			.withBean(Wro4jAutoConfiguration.PROCESSING_SCHEDULER, Scheduler.class, () -> scheduler)
+			.run(ctx -> assertThat(ctx.getBean(Scheduler.class)).isSameAs(scheduler));
+		scheduler.dispose();
+	}
+
+	@Test
+	void shouldServeGroups() {
+		this.applicationContextRunner.run(ctx -> {
+			final String body = client(ctx).get()
+				.uri("/wro4j/app.js")
+				.exchange()
+				.expectStatus()
+				.isOk()
+				.expectHeader()
+				.contentType("text/javascript;charset=UTF-8")
+				.expectHeader()
+				.valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+				.expectHeader()
+				.exists(HttpHeaders.ETAG)
+				.expectHeader()
+				.exists(HttpHeaders.CACHE_CONTROL)
+				.expectHeader()
+				.doesNotExist(HttpHeaders.CONTENT_ENCODING)
+				.expectBody(String.class)
+				.returnResult()
+				.getResponseBody();
+			assertThat(body).contains("Hello, ");
+
+			client(ctx).get()
+				.uri("/wro4j/app.css")
+				.exchange()
+				.expectStatus()
+				.isOk()
+				.expectHeader()
+				.contentType("text/css;charset=UTF-8");
+			client(ctx).head().uri("/wro4j/vendor.js").exchange().expectStatus().isOk();
+		});
+	}
+
+	@Test
+	void shouldRewriteUrlsInStylesheetsAndServeTheirResources() throws IOException {
+		final byte[] image;
+		try (InputStream in = new ClassPathResource("assets/img/x.png").getInputStream()) {
+			image = in.readAllBytes();
+		}
+		this.applicationContextRunner.withPropertyValues("wro4j.model = /images.xml").run(ctx -> {
+			client(ctx).get()
+				.uri("/wro4j/images.css?wroAPI=wroResources&id=classpath:assets/img/x.png")
+				.exchange()
+				.expectStatus()
+				.isForbidden();
+
+			final String proxyUrl = "/wro4j/images.css?wroAPI=wroResources&id=classpath:assets/img/x.png";
+			client(ctx).get()
+				.uri("/wro4j/images.css")
+				.exchange()
+				.expectStatus()
+				.isOk()
+				.expectBody(String.class)
+				.value(body -> assertThat(body).contains("url(" + proxyUrl + ")"));
+
+			final byte[] body = client(ctx).get()
+				.uri(proxyUrl)
+				.exchange()
+				.expectStatus()
+				.isOk()
+				.expectHeader()
+				.contentType("image/png")
+				.expectHeader()
+				.exists(HttpHeaders.CACHE_CONTROL)
+				.expectBody()
+				.returnResult()
+				.getResponseBody();
+			assertThat(body).isEqualTo(image);
+		});
+	}
+
+	@Test
+	void shouldAnswerMissingProxiedResourcesWithNotFound() {
+		this.applicationContextRunner.withPropertyValues("wro4j.model = /images.xml").run(ctx -> {
+			final ResourceAuthorizationManager authorizationManager = CacheWarmer.withContext(new WroConfiguration(),
+					() -> ctx.getBean(WroManagerFactory.class).create().getResourceAuthorizationManager());
+			((MutableResourceAuthorizationManager) authorizationManager).add("classpath:assets/img/missing.png");
+			client(ctx).get()
+				.uri("/wro4j/images.css?wroAPI=wroResources&id=classpath:assets/img/missing.png")
+				.exchange()
+				.expectStatus()
+				.isNotFound();
+		});
+	}
+
+	@Test
+	void shouldServeGzippedContent() {
+		this.applicationContextRunner.run(ctx -> {
+			final byte[] body = client(ctx).get()
+				.uri("/wro4j/app.js")
+				.header(HttpHeaders.ACCEPT_ENCODING, "deflate, GZIP")
+				.exchange()
+				.expectStatus()
+				.isOk()
+				.expectHeader()
+				.valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+				.expectBody()
+				.returnResult()
+				.getResponseBody();
+			assertThat(gunzip(body)).contains("Hello, ");
+		});
+		this.applicationContextRunner.withPropertyValues("wro4j.gzipResources = false")
+			.run(ctx -> client(ctx).get()
+				.uri("/wro4j/app.js")
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+				.exchange()
+				.expectHeader()
+				.doesNotExist(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	@Test
+	void shouldServeGroupsStoredWithoutRawContent() {
+		this.applicationContextRunner.withPropertyValues("wro4j.cache.gzipOnly.enabled = true").run(ctx -> {
+			client(ctx).get().uri("/wro4j/app.js").exchange().expectStatus().isOk();
+			client(ctx).get()
+				.uri("/wro4j/app.js")
+				.exchange()
+				.expectBody(String.class)
+				.value(body -> assertThat(body).contains("Hello, "));
+		});
+	}
+
+	@Test
+	void shouldAnswerConditionalRequests() {
+		this.applicationContextRunner.run(ctx -> {
+			final String etag = client(ctx).get()
+				.uri("/wro4j/app.js")
+				.exchange()
+				.returnResult(String.class)
+				.getResponseHeaders()
+				.getETag();
+			client(ctx).get()
+				.uri("/wro4j/app.js")
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.exchange()
+				.expectStatus()
+				.isNotModified()
+				.expectBody()
+				.isEmpty();
+			client(ctx).get()
+				.uri("/wro4j/app.js")
+				.header(HttpHeaders.IF_NONE_MATCH, "\"other\"")
+				.exchange()
+				.expectStatus()
+				.isOk();
+		});
+	}
+
+	@Test
+	void shouldMinimizeUnlessDisabledInDebugMode() {
+		this.applicationContextRunner
+			.withPropertyValues("wro4j.managerFactory.postProcessors = jsMin", "wro4j.debug = false")
+			.run(ctx -> client(ctx).get()
+				.uri("/wro4j/app.js?minimize=false")
+				.exchange()
+				.expectBody(String.class)
+				.value(body -> assertThat(body).doesNotContain("Copyright")));
+		this.applicationContextRunner.withPropertyValues("wro4j.managerFactory.postProcessors = jsMin").run(ctx -> {
+			client(ctx).get()
+				.uri("/wro4j/app.js?minimize=false")
+				.exchange()
+				.expectBody(String.class)
+				.value(body -> assertThat(body).contains("Copyright"));
+			client(ctx).get()
+				.uri("/wro4j/app.js")
+				.exchange()
+				.expectBody(String.class)
+				.value(body -> assertThat(body).doesNotContain("Copyright"));
+		});
+		this.applicationContextRunner
+			.withPropertyValues("wro4j.managerFactory.postProcessors = jsMin", "wro4j.minimizeEnabled = false")
+			.run(ctx -> client(ctx).get()
+				.uri("/wro4j/app.js")
+				.exchange()
+				.expectBody(String.class)
+				.value(body -> assertThat(body).contains("Copyright")));
+	}
+
+	@Test
+	void shouldPassOnOtherRequests() {
+		this.applicationContextRunner.run(ctx -> {
+			for (String uri : new String[] { "/wro4j/unknown.js", "/wro4j/app.txt", "/wro4j/app", "/wro4j/.js",
+					"/other/app.js" }) {
+				client(ctx).get().uri(uri).exchange().expectStatus().isEqualTo(HttpStatus.NO_CONTENT);
+			}
+			client(ctx).post().uri("/wro4j/app.js").exchange().expectStatus().isEqualTo(HttpStatus.NO_CONTENT);
+		});
+	}
+
+	@Test
+	void headersShouldBeTakenFromWro4j() {
+		final WroConfiguration wroConfiguration = new WroConfiguration();
+		wroConfiguration.setHeader("X-Test: a");
+		final HttpHeaders headers = new HttpHeaders();
+		Wro4jWebFilter.setHeaders(wroConfiguration, headers);
+		assertThat(headers.getFirst("X-Test")).isEqualTo("a");
+	}
+
+	@Test
+	void rejectedRequestsShouldBeAnsweredWithServiceUnavailable() {
+		this.applicationContextRunner
+			.withPropertyValues("wro4j.admission.enabled = true", "wro4j.admission.maxConcurrency = 0",
+					"wro4j.admission.maxQueued = 0", "wro4j.admission.retryAfter = 1m")
+			.run(ctx -> client(ctx).get()
+				.uri("/wro4j/app.js")
+				.exchange()
+				.expectStatus()
+				.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+				.expectHeader()
+				.valueEquals(HttpHeaders.RETRY_AFTER, "60"));
+	}
+
+	private static WebTestClient client(ApplicationContext ctx) {
+		return WebTestClient.bindToWebHandler(exchange -> {
+			exchange.getResponse().setStatusCode(HttpStatus.NO_CONTENT);
+			return exchange.getResponse().setComplete();
+		}).webFilter(ctx.getBean(Wro4jWebFilter.class)).build();
+	}
+
+	private static String gunzip(byte[] content) throws IOException {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
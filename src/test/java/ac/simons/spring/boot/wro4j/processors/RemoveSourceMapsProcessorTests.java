@@ -16,10 +16,16 @@
 package ac.simons.spring.boot.wro4j.processors;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -29,7 +35,17 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 class RemoveSourceMapsProcessorTests {
 
-	private final String lineSeparator = System.lineSeparator();
+	private static final Pattern LINE_PATTERN = Pattern.compile("([^\r\n]*)(\r\n|\r|\n|$)");
+
+	private static final List<String> LINES = List.of("normal", "", " blanks am anfang und ende ", "/", "//", "/*",
+			"/#", "/# sourceMappingURL=a.map", "//# sourceMappingURL=jquery.min.map", "//# sourceMappingURL=",
+			"//# sourceMappingURL=a.map ", "//# sourceMappingURL=a.map */", "//# sourceMappingURL=a.map*/",
+			"//# sourceMappingURL=a.map  *", "//# sourceMappingURL=a.map */ x",
+			"/*# sourceMappingURL=bootstrap.css.map */", "/*@ sourceMappingURL=bootstrap.css.map */",
+			"/*# sourceMappingURL=bootstrap.css.map\t*/", "//@ sourceMappingURL=jquery.min.map",
+			"//% sourceMappingURL=jquery.min.map", "//# sourceMappingUrl=jquery.min.map",
+			"/**/# sourceMappingURL=jquery.min.map", " //# sourceMappingURL=jquery.min.map",
+			"var a = 1; //# sourceMappingURL=jquery.min.map");
 
 	@Test
 	void processShouldWork() throws IOException {
@@ -47,14 +63,90 @@ class RemoveSourceMapsProcessorTests {
 				/*@ sourceMappingURL=bootstrap.css.map */
 				ende""";
 
-		final StringReader reader = new StringReader(input);
+		assertThat(process(new StringReader(input))).isEqualTo("""
+				normal
+				 blanks am anfang und ende\s
+				Javascript Single line
+				Javascript Multi line
+				CSS Multi line
+				Depecrated formats
+				ende""");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "\n", "\r\n", "\r" })
+	void lineEndingsShouldBePreserved(String lineSeparator) throws IOException {
+		final String input = String.join(lineSeparator, "a", "//# sourceMappingURL=a.map", "b", "") + "c";
+
+		assertThat(process(new StringReader(input))).isEqualTo("a" + lineSeparator + "b" + lineSeparator + "c");
+		assertThat(process(new SingleCharReader(input))).isEqualTo("a" + lineSeparator + "b" + lineSeparator + "c");
+	}
+
+	@Test
+	void lastLineShouldBeRemoved() throws IOException {
+		assertThat(process(new StringReader("a\n//# sourceMappingURL=a.map"))).isEqualTo("a\n");
+		assertThat(process(new StringReader("a\r//# sourceMappingURL=a.map\r"))).isEqualTo("a\r");
+		assertThat(process(new StringReader(""))).isEmpty();
+	}
+
+	@Test
+	void shouldBehaveLikePatternOnAllLines() throws IOException {
+		for (String separator : List.of("\n", "\r\n", "\r")) {
+			for (String line : LINES) {
+				for (String input : List.of(line, line + separator, "x" + separator + line + separator + "y")) {
+					final String expected = reference(input);
+					assertThat(process(new StringReader(input))).as("%s", input).isEqualTo(expected);
+					assertThat(process(new SingleCharReader(input))).as("%s", input).isEqualTo(expected);
+				}
+			}
+		}
+	}
+
+	@Test
+	void shouldHandleLinesLongerThanTheBuffer() throws IOException {
+		final String longUrl = "//# sourceMappingURL=" + "x".repeat(20_000);
+		final String longComment = "/*" + "x".repeat(20_000) + "*/";
+		final String code = "var a = 1;\n".repeat(2_000);
+		final String input = code + longUrl + "\n" + longComment + "\n" + code + longUrl;
+
+		assertThat(process(new StringReader(input))).isEqualTo(code + longComment + "\n" + code);
+	}
+
+	private static String process(Reader reader) throws IOException {
 		final StringWriter writer = new StringWriter();
-		final RemoveSourceMapsProcessor processor = new RemoveSourceMapsProcessor();
-		processor.process(null, reader, writer);
-		assertThat(writer).hasToString("normal" + this.lineSeparator + " blanks am anfang und ende "
-				+ this.lineSeparator + "Javascript Single line" + this.lineSeparator + "Javascript Multi line"
-				+ this.lineSeparator + "CSS Multi line" + this.lineSeparator + "Depecrated formats" + this.lineSeparator
-				+ "ende" + this.lineSeparator);
+		new RemoveSourceMapsProcessor().process(null, reader, writer);
+		return writer.toString();
+	}
+
+	/**
+	 * Removes all lines matching the pattern, keeping the original line endings.
+	 */
+	private static String reference(String input) {
+		final StringBuilder result = new StringBuilder();
+		final Matcher matcher = LINE_PATTERN.matcher(input);
+		while (matcher.find() && matcher.end() > matcher.start()) {
+			if (!RemoveSourceMapsProcessor.SOURCE_MAP_PATTERN.matcher(matcher.group(1)).matches()) {
+				result.append(matcher.group());
+			}
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Returns content one char at a time, so that every line crosses the buffer
+	 * boundaries.
+	 */
+	private static final class SingleCharReader extends StringReader {
+
+		SingleCharReader(String s) {
+			super(s);
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			return super.read(cbuf, off, Math.min(len, 1));
+		}
+
 	}
 
 }